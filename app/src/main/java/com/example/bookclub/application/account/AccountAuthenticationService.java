@@ -2,47 +2,64 @@ package com.example.bookclub.application.account;
 
 import com.example.bookclub.common.exception.account.AccountEmailNotFoundException;
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
+import com.example.bookclub.domain.account.AccountHeaderCache;
+import com.example.bookclub.domain.account.AccountHeaderChangedEvent;
+import com.example.bookclub.domain.account.role.AuthorityCache;
 import com.example.bookclub.domain.account.role.Role;
+import com.example.bookclub.domain.account.role.RoleChangedEvent;
 import com.example.bookclub.domain.account.role.RoleRepository;
 import com.example.bookclub.infrastructure.account.JpaAccountRepository;
 import com.example.bookclub.security.UserAccount;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * 사용자 조회, 시큐리티 인증, 권한을 반환한다
+ * 로그인할 때 비밀번호 비용 값이 바뀌었으면 다시 암호화한 비밀번호를 저장한다
  */
 @Service
-public class AccountAuthenticationService implements UserDetailsService {
+public class AccountAuthenticationService implements UserDetailsService, UserDetailsPasswordService {
     private final RoleRepository roleRepository;
     private final JpaAccountRepository accountRepository;
+    private final AccountHeaderCache accountHeaderCache;
+    private final AuthorityCache authorityCache;
 
     public AccountAuthenticationService(RoleRepository roleRepository,
-                                        JpaAccountRepository accountRepository) {
+                                        JpaAccountRepository accountRepository,
+                                        AccountHeaderCache accountHeaderCache,
+                                        AuthorityCache authorityCache) {
         this.roleRepository = roleRepository;
         this.accountRepository = accountRepository;
+        this.accountHeaderCache = accountHeaderCache;
+        this.authorityCache = authorityCache;
     }
 
     /**
      * 주어진 이메일로 시큐리티 계정을 반환한다
-     * 권한도 조회해서 사용자 정보에 넣어준다
+     * 인증에 필요한 컬럼만 조회하고, 권한은 캐시에서 꺼내 사용자 정보에 넣어준다
+     * 스터디, 업로드 파일은 들어있지 않으므로 필요하면 따로 조회한다
      *
      * @param email 사용자 이메일 식별자
      * @return 사용자
-     * @throws UsernameNotFoundException 주어진 이메일에 해당하는 사용자가 없는 경우
+     * @throws AccountEmailNotFoundException 주어진 이메일에 해당하는 사용자가 없는 경우
      */
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Account account = getAccountByEmail(email);
+        Account account = accountRepository.findAuthenticationAccountByEmail(email)
+                .orElseThrow(() -> new AccountEmailNotFoundException(email));
         List<GrantedAuthority> authorities = getAllAuthorities(email);
         return UserAccount.builder()
                 .account(account)
@@ -50,6 +67,32 @@ public class AccountAuthenticationService implements UserDetailsService {
                 .build();
     }
 
+    /**
+     * 로그인에 성공한 사용자의 비밀번호를 현재 비용 값으로 다시 암호화한 비밀번호로 바꾼다
+     * 시큐리티가 저장된 비밀번호의 비용 값이 현재와 다르다고 판단한 경우에만 호출한다
+     * 사용자를 다시 조회하지 않고 비밀번호 컬럼만 수정하며, 로그인할 때 만든 시큐리티 계정에 새 비밀번호를 넣어 반환한다
+     *
+     * @param user 시큐리티 계정
+     * @param newPassword 다시 암호화한 비밀번호
+     * @return 비밀번호가 바뀐 시큐리티 계정
+     * @throws AccountEmailNotFoundException 주어진 계정의 이메일에 해당하는 사용자가 없는 경우
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (accountRepository.updatePasswordByEmail(user.getUsername(), newPassword) == 0) {
+            throw new AccountEmailNotFoundException(user.getUsername());
+        }
+
+        if (user instanceof UserAccount) {
+            ((UserAccount) user).getAccount().updateEncodedPassword(newPassword);
+            return user;
+        }
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
     /**
      * 주어진 이메일로 사용자를 반환한다
      *
@@ -63,17 +106,53 @@ public class AccountAuthenticationService implements UserDetailsService {
                 .orElseThrow(() -> new AccountEmailNotFoundException(email));
     }
 
+    /**
+     * 주어진 이메일로 상단 메뉴에 필요한 사용자 정보를 반환한다
+     * 한 요청 안에서는 한 번만 조회하고, 요청 사이에는 짧게 캐시해 페이지마다 사용자를 다시 읽지 않는다
+     *
+     * @param email 사용자 이메일 식별자
+     * @return 사용자 상단 메뉴 정보
+     * @throws AccountEmailNotFoundException 주어진 이메일에 해당하는 사용자가 없는 경우
+     */
+    public AccountHeader getAccountHeader(String email) {
+        return accountHeaderCache.get(email, key -> accountRepository.findAccountHeaderByEmail(key)
+                .orElseThrow(() -> new AccountEmailNotFoundException(key)));
+    }
+
+    /**
+     * 커밋된 사용자 정보, 스터디 참여 변경에 해당하는 사용자 상단 메뉴 정보를 캐시에서 지운다
+     *
+     * @param event 사용자 상단 메뉴 정보 변경
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictAccountHeaders(AccountHeaderChangedEvent event) {
+        event.getEmails().forEach(accountHeaderCache::evict);
+    }
+
     /**
      * 주어진 이메일로 권한을 반환한다
+     * 권한은 거의 바뀌지 않으므로 캐시에 없을 때만 조회한다
      *
      * @param email 사용자 이메일 식별자
      * @return 권한
      */
     @Transactional(readOnly = true)
     public List<GrantedAuthority> getAllAuthorities(String email) {
-        List<Role> roles = roleRepository.findAllByEmail(email);
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.getName()))
+        List<String> roleNames = authorityCache.get(email, key -> roleRepository.findAllByEmail(key).stream()
+                .map(Role::getName)
+                .collect(Collectors.toList()));
+        return roleNames.stream()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 커밋된 권한 변경에 해당하는 사용자 권한을 캐시에서 지운다
+     *
+     * @param event 사용자 권한 변경
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictAuthorities(RoleChangedEvent event) {
+        authorityCache.evict(event.getEmail());
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.bookclub.application.account;
+
+import com.example.bookclub.domain.account.AccountExistenceFilter;
+import com.example.bookclub.domain.account.AccountIdentity;
+import com.example.bookclub.dto.AccountDto;
+import com.example.bookclub.infrastructure.account.JpaAccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 이메일, 닉네임 중복 검사 색인을 기동할 때 만들고 주기적으로 다시 만들며, 색인 통계를 반환한다.
+ */
+@Slf4j
+@Service
+public class AccountExistenceFilterService {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final AccountExistenceFilter accountExistenceFilter;
+    private final JpaAccountRepository accountRepository;
+
+    public AccountExistenceFilterService(AccountExistenceFilter accountExistenceFilter,
+                                         JpaAccountRepository accountRepository) {
+        this.accountExistenceFilter = accountExistenceFilter;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * 애플리케이션 기동이 끝나면 중복 검사 색인을 만든다. 만들기 전까지는 모든 중복 검사를 데이터베이스로 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("account existence filter not built on startup", e);
+        }
+    }
+
+    /**
+     * 모든 사용자의 이메일, 닉네임을 다시 읽어 중복 검사 색인을 바꾸고 넣은 사용자 수를 반환한다.
+     * 수정, 삭제로 남은 이전 값과 다른 서버에서 놓친 값도 여기서 맞춰지며, 기본 1시간마다 스케쥴러로 동작한다.
+     *
+     * @return 넣은 사용자 수
+     */
+    @Scheduled(fixedDelayString = "${account.existence-filter.rebuild-delay-millis:3600000}",
+            initialDelayString = "${account.existence-filter.rebuild-delay-millis:3600000}")
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        long startTime = System.currentTimeMillis();
+        int insertedCount = accountExistenceFilter.rebuild(consumer -> {
+            try (Stream<AccountIdentity> accountIdentities = accountRepository.streamAccountIdentities(STREAM_FETCH_SIZE)) {
+                accountIdentities.forEach(consumer);
+            }
+        });
+
+        log.info("account existence filter rebuild - accounts: {}, {} ms",
+                insertedCount, System.currentTimeMillis() - startTime);
+        return insertedCount;
+    }
+
+    /**
+     * 중복 검사 색인의 크기, 메모리, 예상 오탐률과 검사, 데이터베이스 조회, 오탐 횟수를 반환한다.
+     *
+     * @return 중복 검사 색인 통계
+     */
+    public AccountDto.AccountExistenceFilterStatsResultDto getStats() {
+        return accountExistenceFilter.stats();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.bookclub.application.account;
+
+import com.example.bookclub.domain.account.accounthistory.AccountChangedEvent;
+import com.example.bookclub.domain.account.accounthistory.AccountHistory;
+import com.example.bookclub.domain.account.accounthistory.AccountHistoryRepository;
+import com.example.bookclub.domain.account.accounthistory.AccountHistorySpool;
+import com.example.bookclub.dto.AccountDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋된 계정 변경을 크기가 제한된 큐에 모아두었다가 백그라운드에서 JDBC 배치로 계정 히스토리에 저장한다.
+ * 요청한 스레드는 계정 히스토리를 저장하지 않는다. 큐가 가득 차면 변경을 Redis 스풀에 보관하고,
+ * 배치 저장에 실패하면 하나씩 다시 저장한 뒤 그래도 저장하지 못한 변경을 스풀에 보관한다.
+ * 애플리케이션이 종료될 때 저장하지 못한 변경도 스풀에 보관하며, 스풀은 기동 후 첫 저장 주기부터 큐가 비면 다시 꺼내 저장한다.
+ * 스풀에도 보관하지 못한 변경만 내용을 로그로 남기고 버린다.
+ */
+@Slf4j
+@Service
+public class AccountHistoryService {
+    private static final int BATCH_SIZE = 100;
+
+    private final AccountHistoryRepository accountHistoryRepository;
+    private final AccountHistorySpool accountHistorySpool;
+    private final AccountService accountService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingDeque<AccountChangedEvent> queue;
+    private final int queueCapacity;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong failedBatchCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public AccountHistoryService(AccountHistoryRepository accountHistoryRepository,
+                                 AccountHistorySpool accountHistorySpool,
+                                 AccountService accountService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${account.history.queue-capacity:10000}") int queueCapacity) {
+        this.accountHistoryRepository = accountHistoryRepository;
+        this.accountHistorySpool = accountHistorySpool;
+        this.accountService = accountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new LinkedBlockingDeque<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 커밋된 계정 변경을 큐에 넣는다. 큐가 가득 차면 스풀에 보관한다.
+     *
+     * @param event 계정 변경
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void save(AccountChangedEvent event) {
+        if (queue.offerLast(event)) {
+            enqueuedCount.incrementAndGet();
+            return;
+        }
+
+        spill(List.of(event));
+    }
+
+    /**
+     * 큐에 모인 계정 변경을 배치 크기씩 꺼내 저장하고, 큐를 모두 저장하면 스풀에 보관된 계정 변경도 저장한 뒤 저장한 수를 반환한다.
+     * 배치 저장에 실패하면 하나씩 새 트랜잭션으로 저장하고, 처음 실패한 변경부터 남은 배치는 스풀에 보관한 뒤 다음 주기로 넘긴다.
+     * account.history.flush-delay-millis 마다 스케쥴러로 동작하며 기본값은 0.5초이다.
+     *
+     * @return 저장한 계정 히스토리 수
+     */
+    @Scheduled(fixedDelayString = "${account.history.flush-delay-millis:500}",
+            initialDelayString = "${account.history.flush-delay-millis:500}")
+    public synchronized int flush() {
+        int flushedCount = 0;
+        List<AccountChangedEvent> events = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(events, BATCH_SIZE) > 0) {
+            int written = writeBatch(events);
+            flushedCount += written;
+            if (written < events.size()) {
+                spill(events.subList(written, events.size()));
+                return flushedCount;
+            }
+            events.clear();
+        }
+        return flushedCount + replay();
+    }
+
+    /**
+     * 애플리케이션이 종료될 때 큐에 남은 계정 변경을 저장하고, 저장하지 못한 변경은 스풀에 보관한다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void flushOnShutdown() {
+        flush();
+
+        List<AccountChangedEvent> events = new ArrayList<>(queue.size());
+        queue.drainTo(events);
+        spill(events);
+    }
+
+    /**
+     * 계정 히스토리 큐 크기와 저장, 스풀 보관, 스풀 저장, 실패 횟수를 반환한다.
+     *
+     * @return 계정 히스토리 저장 통계
+     */
+    public AccountDto.AccountHistoryStatsResultDto getStats() {
+        return AccountDto.AccountHistoryStatsResultDto.builder()
+                .queueSize(queue.size())
+                .queueCapacity(queueCapacity)
+                .enqueuedCount(enqueuedCount.get())
+                .writtenCount(writtenCount.get())
+                .batchCount(batchCount.get())
+                .failedBatchCount(failedBatchCount.get())
+                .spilledCount(spilledCount.get())
+                .replayedCount(replayedCount.get())
+                .droppedCount(droppedCount.get())
+                .build();
+    }
+
+    /**
+     * 주어진 계정 변경을 새 트랜잭션 하나로 저장한다.
+     */
+    private void write(List<AccountChangedEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> accountHistoryRepository.saveAll(events.stream()
+                .map(this::toAccountHistory)
+                .collect(Collectors.toList())));
+        writtenCount.addAndGet(events.size());
+        batchCount.incrementAndGet();
+    }
+
+    /**
+     * 주어진 계정 변경을 한 배치로 저장하고, 실패하면 하나씩 저장해 처음 실패한 변경 앞까지 저장한 수를 반환한다.
+     */
+    private int writeBatch(List<AccountChangedEvent> events) {
+        try {
+            write(events);
+            return events.size();
+        } catch (RuntimeException e) {
+            failedBatchCount.incrementAndGet();
+            log.error("account history batch write failed - histories: {}", events.size(), e);
+            return writeOneByOne(events);
+        }
+    }
+
+    /**
+     * 주어진 계정 변경을 앞에서부터 하나씩 새 트랜잭션으로 저장하고, 처음 실패한 변경 앞까지 저장한 수를 반환한다.
+     */
+    private int writeOneByOne(List<AccountChangedEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                write(List.of(events.get(i)));
+            } catch (RuntimeException e) {
+                log.error("account history write failed - {}", events.get(i), e);
+                return i;
+            }
+        }
+        return events.size();
+    }
+
+    /**
+     * 스풀에 보관된 계정 변경을 배치 크기씩 꺼내 저장하고 저장한 수를 반환한다.
+     * 저장하지 못한 변경은 스풀 앞에 되돌리고 다음 주기로 넘긴다.
+     */
+    private int replay() {
+        int replayed = 0;
+        try {
+            List<AccountChangedEvent> events;
+            while (!(events = accountHistorySpool.pop(BATCH_SIZE)).isEmpty()) {
+                int written = writeBatch(events);
+                replayed += written;
+                replayedCount.addAndGet(written);
+                if (written < events.size()) {
+                    accountHistorySpool.pushFirst(events.subList(written, events.size()));
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("account history spool replay failed", e);
+        }
+        return replayed;
+    }
+
+    /**
+     * 계정은 조회하지 않고 참조만 연결한다.
+     */
+    private AccountHistory toAccountHistory(AccountChangedEvent event) {
+        return event.toAccountHistory(accountService.getAccountReference(event.getAccountId()));
+    }
+
+    /**
+     * 주어진 계정 변경을 스풀에 보관한다. 스풀에도 보관하지 못한 변경은 내용을 로그로 남기고 버린다.
+     */
+    private void spill(List<AccountChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            accountHistorySpool.push(events);
+            spilledCount.addAndGet(events.size());
+        } catch (RuntimeException e) {
+            droppedCount.addAndGet(events.size());
+            log.error("account history spool push failed - histories: {}", events.size(), e);
+            events.forEach(event -> log.error("account history dropped - {}", event));
+        }
+    }
+}
@@ -9,39 +9,54 @@ import com.example.bookclub.common.exception.account.AccountNotFoundException;
 import com.example.bookclub.common.exception.account.AccountPasswordBadRequestException;
 import com.example.bookclub.common.exception.account.emailauthentication.EmailNotAuthenticatedException;
 import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.account.emailauthentication.EmailAuthentication;
-import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationRepository;
+import com.example.bookclub.domain.account.AccountExistenceFilter;
+import com.example.bookclub.domain.account.AccountHeaderChangedEvent;
+import com.example.bookclub.domain.account.AccountIdentity;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore;
 import com.example.bookclub.domain.account.role.Role;
 import com.example.bookclub.domain.account.role.RoleRepository;
+import com.example.bookclub.domain.statistics.HomeStatisticsChangedEvent;
+import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.uplodfile.UploadFile;
 import com.example.bookclub.dto.AccountDto;
 import com.example.bookclub.infrastructure.account.JpaAccountRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 /**
- * 사용자 조회, 생성, 수정, 삭제, 인증번호 조회, 삭제, 닉네임 중복검사, 비밀번호 변경, 사용자 수 조회를 한다.
+ * 사용자 조회, 생성, 수정, 삭제, 인증번호 조회, 삭제, 닉네임 중복검사, 비밀번호 변경, 사용자 수 조회, 스터디 참여, 참여 취소를 한다.
  */
 @Service
 public class AccountService {
     private final JpaAccountRepository accountRepository;
-    private final EmailAuthenticationRepository emailAuthenticationRepository;
+    private final EmailAuthenticationCodeStore emailAuthenticationCodeStore;
     private final PasswordEncoder passwordEncoder;
     private final UploadFileService uploadFileService;
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AccountExistenceFilter accountExistenceFilter;
 
     public AccountService(JpaAccountRepository accountRepository,
-                          EmailAuthenticationRepository emailAuthenticationRepository,
+                          EmailAuthenticationCodeStore emailAuthenticationCodeStore,
                           PasswordEncoder passwordEncoder,
                           UploadFileService uploadFileService,
-                          RoleRepository roleRepository
+                          RoleRepository roleRepository,
+                          ApplicationEventPublisher applicationEventPublisher,
+                          AccountExistenceFilter accountExistenceFilter
     ) {
         this.accountRepository = accountRepository;
-        this.emailAuthenticationRepository = emailAuthenticationRepository;
+        this.emailAuthenticationCodeStore = emailAuthenticationCodeStore;
         this.passwordEncoder = passwordEncoder;
         this.uploadFileService = uploadFileService;
         this.roleRepository = roleRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.accountExistenceFilter = accountExistenceFilter;
     }
 
     /**
@@ -57,6 +72,17 @@ public class AccountService {
                 .orElseThrow(() -> new AccountNotFoundException(id));
     }
 
+    /**
+     * 주어진 사용자 식별자에 해당하는 사용자를 조회하지 않고 식별자만 가진 참조로 반환한다.
+     * 연관관계를 맺을 때만 사용하며, 사용자가 존재하는지는 확인하지 않는다.
+     *
+     * @param id 사용자 식별자
+     * @return 주어진 사용자 식별자에 해당하는 사용자 참조
+     */
+    public Account getAccountReference(Long id) {
+        return accountRepository.getOne(id);
+    }
+
     /**
      * 주어진 사용자 이메일에 해당하는 사용자을 반환한다.
      *
@@ -86,12 +112,12 @@ public class AccountService {
 
     /**
      * 주어진 사진 정보로 사용자를 생성하고 생성된 사용자 정보를 반환한다.
-     * 인증이 완료되면 인증번호를 삭제한다.
+     * 인증번호는 사용자 생성이 커밋된 뒤에 삭제되므로, 비밀번호 암호화나 저장에 실패해 롤백되면 같은 인증번호로 다시 가입할 수 있다.
      *
      * @param accountCreateDto 사용자 정보
      * @param uploadFile 사진 정보
      * @return 생성된 사용자 정보
-     * @throws EmailNotAuthenticatedException 주어진 이메일에 해당하는 인증번호가 없는 경우
+     * @throws EmailNotAuthenticatedException 주어진 이메일에 해당하는 인증번호가 없거나 일치하지 않는 경우
      * @throws AccountNicknameDuplicatedException 주어진 사용자 닉네임이 이미 존재하는 경우
      */
     @Transactional
@@ -104,18 +130,14 @@ public class AccountService {
             throw new AccountEmailDuplicatedException(email);
         }
 
-//        EmailAuthentication emailAuthentication = getAuthenticationNumber(email);
-//        String authenticationNumber = emailAuthentication.getAuthenticationNumber();
-//        if (!emailAuthentication.isSameWith(authenticationNumber)) {
-//            throw new EmailNotAuthenticatedException(authenticationNumber);
-//        }
-
         String nickname = accountCreateDto.getNickname();
         boolean nicknameDuplicated = accountRepository.existsByNickname(nickname);
         if (nicknameDuplicated) {
             throw new AccountNicknameDuplicatedException(nickname);
         }
 
+        verifyAuthenticationNumber(email, accountCreateDto.getAuthenticationNumber());
+
         Account account = accountCreateDto.toEntity();
         if(uploadFile != null) {
             account.addUploadFile(uploadFile);
@@ -123,14 +145,15 @@ public class AccountService {
 
         account.updatePassword(account.getPassword(), passwordEncoder);
         Account createdAccount = accountRepository.save(account);
+        accountExistenceFilter.put(AccountIdentity.of(createdAccount));
 
         Role role = Role.builder()
                 .email(account.getEmail())
                 .name("USER")
                 .build();
         roleRepository.save(role);
-
-        //deleteEmailAuthentication(emailAuthentication.getEmail());
+        applicationEventPublisher.publishEvent(HomeStatisticsChangedEvent.accountCreated());
+        consumeAuthenticationNumberAfterCommit(email, accountCreateDto.getAuthenticationNumber());
 
         return AccountDto.AccountCreateResultDto.of(createdAccount);
     }
@@ -159,15 +182,17 @@ public class AccountService {
         }
 
         String nickname = accountUpdateDto.getNickname();
-        if (isNicknameDuplicated(id, nickname)) {
+        if (accountRepository.existsByIdNotAndNickname(id, nickname)) {
             throw new AccountNicknameDuplicatedException(nickname);
         }
         account.updateNickname(nickname);
+        accountExistenceFilter.put(AccountIdentity.of(account));
 
         if(uploadFile != null) {
             uploadFileService.deleteUploadFile(accountUpdateDto.getSavedFileName());
             account.addUploadFile(uploadFile);
         }
+        applicationEventPublisher.publishEvent(AccountHeaderChangedEvent.of(account.getEmail()));
 
         return AccountDto.AccountUpdateResultDto.of(account);
     }
@@ -177,25 +202,59 @@ public class AccountService {
      *
      * @param email 사용자 이메일
      * @return 조회한 인증번호
-     * @throws EmailNotAuthenticatedException 주어진 사용자 이메일에 해당하는 인증번호가 없는 경우
+     * @throws EmailNotAuthenticatedException 주어진 사용자 이메일에 해당하는 인증번호가 없거나 만료된 경우
      */
-    @Transactional(readOnly = true)
-    public EmailAuthentication getAuthenticationNumber(String email) {
-        return emailAuthenticationRepository.findByEmail(email)
+    public String getAuthenticationNumber(String email) {
+        return emailAuthenticationCodeStore.find(email)
                 .orElseThrow(() -> new EmailNotAuthenticatedException(email));
     }
 
     /**
-     * 주어진 사용자 이메일에 해당하는 인증번호를 삭제하고 반환한다.
+     * 주어진 사용자 이메일과 인증번호를 저장된 인증번호와 비교한다. 일치해도 인증번호는 삭제하지 않는다.
+     * 틀린 횟수가 최대 시도 횟수에 이르면 인증번호가 삭제되므로 다시 받아야 한다.
      *
      * @param email 사용자 이메일
-     * @return 삭제한 인증번호
+     * @param authenticationNumber 인증번호
+     * @throws EmailNotAuthenticatedException 인증번호가 없거나 만료되었거나 일치하지 않는 경우
      */
-    @Transactional
-    public EmailAuthentication deleteEmailAuthentication(String email) {
-        EmailAuthentication emailAuthentication = getAuthenticationNumber(email);
-        emailAuthenticationRepository.delete(emailAuthentication);
-        return emailAuthentication;
+    public void verifyAuthenticationNumber(String email, String authenticationNumber) {
+        if (emailAuthenticationCodeStore.verify(email, authenticationNumber)
+                != EmailAuthenticationCodeStore.Verification.MATCHED) {
+            throw new EmailNotAuthenticatedException(email);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 사용한 인증번호를 삭제하고, 트랜잭션이 없으면 바로 삭제한다.
+     * 그사이 새로 받은 인증번호는 다른 값이므로 삭제하지 않는다.
+     *
+     * @param email 사용자 이메일
+     * @param authenticationNumber 사용한 인증번호
+     */
+    private void consumeAuthenticationNumberAfterCommit(String email, String authenticationNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emailAuthenticationCodeStore.consume(email, authenticationNumber);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                emailAuthenticationCodeStore.consume(email, authenticationNumber);
+            }
+        });
+    }
+
+    /**
+     * 주어진 사용자 이메일에 해당하는 인증번호를 삭제한다.
+     *
+     * @param email 사용자 이메일
+     * @throws EmailNotAuthenticatedException 주어진 사용자 이메일에 해당하는 인증번호가 없는 경우
+     */
+    public void deleteEmailAuthentication(String email) {
+        if (!emailAuthenticationCodeStore.delete(email)) {
+            throw new EmailNotAuthenticatedException(email);
+        }
     }
 
     /**
@@ -208,12 +267,50 @@ public class AccountService {
     public AccountDto.AccountDeleteResultDto deleteAccount(Long id) {
         Account account = findAccount(id);
         account.delete();
+        applicationEventPublisher.publishEvent(AccountHeaderChangedEvent.of(account.getEmail()));
 
         return AccountDto.AccountDeleteResultDto.of(account);
     }
 
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디에 참여중인 사용자 이메일을 반환한다.
+     *
+     * @param studyId 스터디 식별자
+     * @return 스터디에 참여중인 사용자 이메일
+     */
+    @Transactional(readOnly = true)
+    public List<String> findStudyMemberEmails(Long studyId) {
+        return accountRepository.findEmailsByStudyId(studyId);
+    }
+
+    /**
+     * 주어진 사용자 식별자에 해당하는 사용자가 참여중인 스터디가 없으면 주어진 스터디에 참여시킨다.
+     *
+     * @param id 사용자 식별자
+     * @param study 참여할 스터디
+     * @return 참여 여부
+     */
+    @Transactional
+    public boolean joinStudy(Long id, Study study) {
+        return accountRepository.updateStudyIfAbsent(id, study) == 1;
+    }
+
+    /**
+     * 주어진 사용자 식별자에 해당하는 사용자가 주어진 스터디에 참여중이면 참여를 취소시킨다.
+     *
+     * @param id 사용자 식별자
+     * @param study 취소할 스터디
+     * @return 취소 여부
+     */
+    @Transactional
+    public boolean leaveStudy(Long id, Study study) {
+        return accountRepository.deleteStudyIfPresent(id, study) == 1;
+    }
+
     /**
      * 주어진 사용자 식별자와 닉네임으로 닉네임 중복검사를 하고 여부를 반환한다.
+     * 입력 중 확인하는 용도이므로 가입된 닉네임 색인에 없는 것이 확실하면 데이터베이스를 조회하지 않는다.
+     * 색인은 다른 서버의 변경을 늦게 받을 수 있으므로, 사용자 생성과 수정은 이 결과를 믿지 않고 데이터베이스로 다시 확인한다.
      *
      * @param id 사용자 식별자
      * @param nickname 수정할 사용자 닉네임
@@ -221,7 +318,8 @@ public class AccountService {
      */
     @Transactional(readOnly = true)
     public boolean isNicknameDuplicated(Long id, String nickname) {
-        return accountRepository.existsByIdNotAndNickname(id, nickname);
+        return accountExistenceFilter.nicknameExists(nickname,
+                checkedNickname -> accountRepository.existsByIdNotAndNickname(id, checkedNickname));
     }
 
     /**
@@ -0,0 +1,90 @@
+package com.example.bookclub.application.account;
+
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthentication;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 데이터베이스에 남아 있는 이메일 인증을 테이블에서 지운다.
+ * 예전 테이블에는 발급 시각이 없어 언제 보낸 인증번호인지 알 수 없으므로, Redis 로 옮겨 새 만료 시간을 주지 않고 버린다.
+ * 인증을 마치지 못한 사용자는 인증번호를 다시 받아야 한다.
+ */
+@Slf4j
+@Service
+public class EmailAuthenticationMigrationService {
+    private final EmailAuthenticationRepository emailAuthenticationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public EmailAuthenticationMigrationService(EmailAuthenticationRepository emailAuthenticationRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               @Value("${account.email-authentication.migration-batch-size:500}") int batchSize) {
+        this.emailAuthenticationRepository = emailAuthenticationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 애플리케이션 기동이 끝나면 남아 있는 이메일 인증을 지운다.
+     * 지우지 못한 이메일 인증은 테이블에 남아 다음 기동에서 다시 지운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void drainOnStartup() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("email authentication migration stopped", e);
+        }
+    }
+
+    /**
+     * 이메일 인증을 배치 크기씩 읽어 테이블에서 지우고, 지운 수를 반환한다.
+     * 배치마다 트랜잭션을 나누므로 중간에 실패해도 이미 지운 배치는 되돌리지 않는다.
+     *
+     * @return 지운 이메일 인증 수
+     */
+    public int drain() {
+        long startTime = System.currentTimeMillis();
+        int drainedCount = 0;
+        while (true) {
+            Integer batchCount = transactionTemplate.execute(status -> drainBatch());
+            if (batchCount == null || batchCount == 0) {
+                break;
+            }
+
+            drainedCount += batchCount;
+            if (batchCount < batchSize) {
+                break;
+            }
+        }
+
+        if (drainedCount > 0) {
+            log.info("email authentication migration - rows: {}, {} ms",
+                    drainedCount, System.currentTimeMillis() - startTime);
+        }
+        return drainedCount;
+    }
+
+    private int drainBatch() {
+        List<EmailAuthentication> emailAuthentications =
+                emailAuthenticationRepository.findAllByOrderByIdDesc(PageRequest.of(0, batchSize));
+        if (emailAuthentications.isEmpty()) {
+            return 0;
+        }
+
+        emailAuthenticationRepository.deleteByIdIn(emailAuthentications.stream()
+                .map(EmailAuthentication::getId)
+                .collect(Collectors.toList()));
+        return emailAuthentications.size();
+    }
+}
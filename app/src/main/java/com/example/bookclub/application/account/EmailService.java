@@ -1,106 +1,75 @@
 package com.example.bookclub.application.account;
 
 import com.example.bookclub.common.exception.account.emailauthentication.EmailBadRequestException;
-import com.example.bookclub.common.exception.account.emailauthentication.MessageCreateBadRequestException;
-import com.example.bookclub.domain.account.emailauthentication.EmailAuthentication;
-import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationRepository;
+import com.example.bookclub.common.exception.account.emailauthentication.MailQueueUnavailableException;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore;
+import com.example.bookclub.domain.mail.MailPriority;
+import com.example.bookclub.domain.mail.MailQueue;
+import com.example.bookclub.domain.mail.QueuedMail;
 import com.example.bookclub.dto.EmailDto;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.Message;
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
+import javax.mail.internet.AddressException;
+import javax.mail.internet.InternetAddress;
 
 /**
- * 인증번호 전송, 메세지 생성, 인증번호 생성을 한다.
+ * 인증번호 메일을 메일 큐에 넣고, 인증번호를 생성한다.
  */
 @Service
 public class EmailService {
-    private final JavaMailSender javaMailSender;
-    private final EmailAuthenticationRepository emailAuthenticationRepository;
+    private static final String AUTHENTICATION_SUBJECT = "BookClub 인증번호";
 
-    public EmailService(JavaMailSender javaMailSender,
-                        EmailAuthenticationRepository emailAuthenticationRepository
+    private final MailQueue mailQueue;
+    private final EmailAuthenticationCodeStore emailAuthenticationCodeStore;
+
+    public EmailService(MailQueue mailQueue,
+                        EmailAuthenticationCodeStore emailAuthenticationCodeStore
     ) {
-        this.javaMailSender = javaMailSender;
-        this.emailAuthenticationRepository = emailAuthenticationRepository;
+        this.mailQueue = mailQueue;
+        this.emailAuthenticationCodeStore = emailAuthenticationCodeStore;
     }
 
     /**
-     * 주어진 이메일 정보로 인증번호를 전송하고 이메일을 반환한다.
+     * 주어진 이메일 정보로 인증번호를 만료 시간과 함께 저장하고, 인증번호 메일을 가장 높은 우선순위로 메일 큐에 넣은 뒤 이메일을 반환한다.
+     * 메일은 큐 소비자가 요청 스레드 밖에서 보내므로 SMTP 응답을 기다리지 않는다.
      *
      * @param emailRequestDto 이메일 정보
      * @return 인증번호를 전송한 이메일
-     * @throws EmailBadRequestException 메일 전송 요청이 잘못된 경우
+     * @throws EmailBadRequestException 이메일 주소 형식이 잘못된 경우
+     * @throws MailQueueUnavailableException 메일 큐에 넣지 못한 경우
      */
-    @Transactional
     public EmailDto.EmailSendResultDto sendAuthenticationNumber(EmailDto.EmailRequestDto emailRequestDto) {
-        String authenticationNumber = createAuthenticationNumber();
         String email = emailRequestDto.getEmail();
-        MimeMessage message = null;
-        message = createMessage(email, authenticationNumber);
+        validateAddress(email);
 
-        try {
-            javaMailSender.send(message);
-        } catch(MailException ex) {
-            System.out.println(ex.getMessage());
-            throw new EmailBadRequestException(email);
-        }
+        String authenticationNumber = createAuthenticationNumber();
+        emailAuthenticationCodeStore.save(email, authenticationNumber);
 
-        emailAuthenticationRepository.save(
-                EmailAuthentication.builder()
-                        .email(email)
-                        .authenticationNumber(authenticationNumber)
-                        .build()
-        );
+        mailQueue.enqueue(QueuedMail.of(email, AUTHENTICATION_SUBJECT, authenticationNumber, MailPriority.AUTHENTICATION));
 
         return EmailDto.EmailSendResultDto.of(email, authenticationNumber);
     }
 
-    /**
-     * 주어진 사용자 이메일과 인증번호로 전송할 메세지를 생성하고 반환한다.
-     *
-     * @param email 사용자 이메일
-     * @param authenticationNumber 인증번호
-     * @return 전송할 메세지
-     * @throws MessageCreateBadRequestException 전송할 메세지 만들기가 안되는 경우
-     */
-    @Transactional
-    public MimeMessage createMessage(String email, String authenticationNumber) {
-        MimeMessage  message = javaMailSender.createMimeMessage();
-
-        try {
-            message.addRecipients(Message.RecipientType.TO, email);
-            message.setSubject("BookClub 인증번호");
-            message.setText(authenticationNumber);
-            System.out.println("BookClub 인증번호=" + authenticationNumber);
-        } catch(MessagingException ex) {
-            System.out.println(ex.getMessage());
-            throw new MessageCreateBadRequestException();
-        }
-
-        return message;
-    }
-
-    @Transactional
     public EmailDto.EmailSendResultDto saveAuthenticationNumber(EmailDto.EmailRequestDto emailRequestDto) {
         String authenticationNumber = createAuthenticationNumber();
         String email = emailRequestDto.getEmail();
         System.out.println(authenticationNumber+"=authenticationNumber");
 
-        emailAuthenticationRepository.save(
-                EmailAuthentication.builder()
-                        .email(email)
-                        .authenticationNumber(authenticationNumber)
-                        .build()
-        );
+        emailAuthenticationCodeStore.save(email, authenticationNumber);
 
         return EmailDto.EmailSendResultDto.of(email, authenticationNumber);
     }
 
+    /**
+     * 메일 큐 깊이와 메일 전송 횟수, 걸린 시간을 반환한다.
+     *
+     * @return 메일 큐 통계
+     */
+    public EmailDto.MailQueueStatsResultDto getMailQueueStats() {
+        return mailQueue.stats();
+    }
+
     /**
      * 인증번호를 생성하고 반환한다.
      *
@@ -112,4 +81,16 @@ public class EmailService {
         int iValue = (int)(dValue * 100000);
         return Integer.toString(iValue);
     }
+
+    private void validateAddress(String email) {
+        if (email == null) {
+            throw new EmailBadRequestException(null);
+        }
+
+        try {
+            new InternetAddress(email, true).validate();
+        } catch (AddressException e) {
+            throw new EmailBadRequestException(email);
+        }
+    }
 }
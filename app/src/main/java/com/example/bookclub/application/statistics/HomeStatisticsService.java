@@ -0,0 +1,124 @@
+package com.example.bookclub.application.statistics;
+
+import com.example.bookclub.domain.statistics.HomeStatistics;
+import com.example.bookclub.domain.statistics.HomeStatisticsChangedEvent;
+import com.example.bookclub.domain.statistics.HomeStatisticsStore;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.infrastructure.account.JpaAccountRepository;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 홈 화면 통계를 조회하고, 사용자와 스터디 변경 이벤트로 통계를 갱신하며, 주기적으로 실제 개수와 맞춘다.
+ */
+@Slf4j
+@Service
+public class HomeStatisticsService {
+    private final HomeStatisticsStore homeStatisticsStore;
+    private final JpaAccountRepository accountRepository;
+    private final JpaStudyRepository studyRepository;
+
+    public HomeStatisticsService(HomeStatisticsStore homeStatisticsStore,
+                                 JpaAccountRepository accountRepository,
+                                 JpaStudyRepository studyRepository) {
+        this.homeStatisticsStore = homeStatisticsStore;
+        this.accountRepository = accountRepository;
+        this.studyRepository = studyRepository;
+    }
+
+    /**
+     * 저장된 홈 화면 통계를 반환한다.
+     * 저장된 통계가 없거나 갱신 시각이 없는 경우 실제 개수를 계산해 저장하고 반환한다.
+     * 통계 저장소에 접근하지 못하면 저장하지 않고 실제 개수를 계산해 반환한다.
+     *
+     * @return 홈 화면 통계
+     */
+    public HomeStatistics getHomeStatistics() {
+        Optional<HomeStatistics> storedHomeStatistics;
+        try {
+            storedHomeStatistics = homeStatisticsStore.find();
+        } catch (DataAccessException e) {
+            log.warn("home statistics not loaded, counting from database", e);
+            return count();
+        }
+
+        return storedHomeStatistics
+                .filter(homeStatistics -> homeStatistics.getUpdatedAt() != null)
+                .orElseGet(this::reconcile);
+    }
+
+    /**
+     * 커밋된 사용자, 스터디 변경의 변화량을 홈 화면 통계에 반영한다.
+     * 반영에 실패해도 원래 요청은 이미 커밋되었으므로 예외를 던지지 않고, 다음 보정에서 맞춘다.
+     *
+     * @param event 홈 화면 통계 변화량
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void applyChange(HomeStatisticsChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+
+        try {
+            homeStatisticsStore.add(event);
+        } catch (RuntimeException e) {
+            log.warn("home statistics change not applied - {}", event, e);
+        }
+    }
+
+    /**
+     * 애플리케이션 기동이 끝나면 홈 화면 통계를 실제 개수와 맞춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * 회원 수와 스터디 상태별 스터디 수를 다시 계산해 홈 화면 통계를 덮어쓴다.
+     * 10분마다 스케쥴러로 동작한다.
+     *
+     * @return 보정된 홈 화면 통계
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    @Transactional(readOnly = true)
+    public HomeStatistics reconcile() {
+        HomeStatistics homeStatistics = count();
+
+        try {
+            homeStatisticsStore.reset(homeStatistics);
+        } catch (RuntimeException e) {
+            log.warn("home statistics not stored", e);
+        }
+
+        log.info("home statistics reconcile - accounts: {}, studies: {}",
+                homeStatistics.getAllAccountsCount(), homeStatistics.getAllStudiesCount());
+        return homeStatistics;
+    }
+
+    private HomeStatistics count() {
+        long allAccountsCount = accountRepository.getAllAccountsCount();
+        Map<StudyState, Long> studiesCounts = studyRepository.getStudiesCountGroupByStudyState();
+
+        LocalDateTime now = LocalDateTime.now();
+        return HomeStatistics.builder()
+                .allAccountsCount(allAccountsCount)
+                .allStudiesCount(studiesCounts.values().stream().mapToLong(Long::longValue).sum())
+                .allCloseStudiesCount(studiesCounts.getOrDefault(StudyState.CLOSE, 0L))
+                .allEndStudiesCount(studiesCounts.getOrDefault(StudyState.END, 0L))
+                .updatedAt(now)
+                .reconciledAt(now)
+                .build();
+    }
+}
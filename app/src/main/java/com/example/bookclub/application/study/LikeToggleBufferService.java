@@ -0,0 +1,324 @@
+package com.example.bookclub.application.study;
+
+import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
+import com.example.bookclub.common.exception.study.studycomment.StudyCommentNotFoundException;
+import com.example.bookclub.common.exception.study.studylike.LikeToggleBufferFullException;
+import com.example.bookclub.domain.study.LikeTarget;
+import com.example.bookclub.domain.study.LikeToggle;
+import com.example.bookclub.domain.study.LikeToggleBuffer;
+import com.example.bookclub.domain.study.studycomment.StudyCommentRepository;
+import com.example.bookclub.domain.study.studycommentlike.StudyCommentLike;
+import com.example.bookclub.domain.study.studycommentlike.StudyCommentLikeRepository;
+import com.example.bookclub.domain.study.studylike.StudyLike;
+import com.example.bookclub.domain.study.studylike.StudyLikeRepository;
+import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 스터디 좋아요와 스터디 댓글 좋아요를 바로 저장하지 않고 모아두었다가 한 번에 반영한다.
+ * study.like.buffer.enabled 가 true 인 경우에만 사용하며, 사용자와 대상별로 마지막 상태만 반영하므로
+ * 좋아요 후 취소한 요청은 데이터베이스에 쓰지 않는다.
+ * 반영에 실패한 상태는 study.like.buffer.max-attempts 번까지 다시 반영하고, 그래도 실패하면 로그로 남기고 버린다.
+ */
+@Slf4j
+@Service
+public class LikeToggleBufferService {
+    private static final int FLUSH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    private final LikeToggleBuffer likeToggleBuffer;
+    private final JpaStudyRepository studyRepository;
+    private final StudyCommentRepository studyCommentRepository;
+    private final StudyLikeRepository studyLikeRepository;
+    private final StudyCommentLikeRepository studyCommentLikeRepository;
+    private final AccountService accountService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxAttempts;
+
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+
+    public LikeToggleBufferService(LikeToggleBuffer likeToggleBuffer,
+                                   JpaStudyRepository studyRepository,
+                                   StudyCommentRepository studyCommentRepository,
+                                   StudyLikeRepository studyLikeRepository,
+                                   StudyCommentLikeRepository studyCommentLikeRepository,
+                                   AccountService accountService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${study.like.buffer.enabled:false}") boolean enabled,
+                                   @Value("${study.like.buffer.max-attempts:5}") int maxAttempts) {
+        this.likeToggleBuffer = likeToggleBuffer;
+        this.studyRepository = studyRepository;
+        this.studyCommentRepository = studyCommentRepository;
+        this.studyLikeRepository = studyLikeRepository;
+        this.studyCommentLikeRepository = studyCommentLikeRepository;
+        this.accountService = accountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주어진 스터디 식별자와 사용자 식별자에 해당하는 스터디 좋아요 상태를 모아두고, 이미 그 상태인 경우 false 를 반환한다.
+     * 모아둔 상태가 없을 때만 좋아요가 있는지, 없으면 스터디가 있는지 조회한다.
+     *
+     * @param studyId 스터디 식별자
+     * @param accountId 사용자 식별자
+     * @param liked 바꿀 좋아요 상태
+     * @return 좋아요 상태를 바꾼 경우 true
+     * @throws StudyNotFoundException 주어진 스터디 식별자에 해당하는 스터디가 없는 경우
+     * @throws LikeToggleBufferFullException 모아둔 상태가 가득 찬 경우
+     */
+    public boolean toggleStudyLike(Long studyId, Long accountId, boolean liked) {
+        return likeToggleBuffer.toggle(LikeTarget.STUDY, studyId, accountId, liked, () -> {
+            if (studyLikeRepository.existsByStudyIdAndAccountId(studyId, accountId)) {
+                return true;
+            }
+            if (!studyRepository.existsById(studyId)) {
+                throw new StudyNotFoundException(studyId);
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 주어진 스터디 댓글 식별자와 사용자 식별자에 해당하는 스터디 댓글 좋아요 상태를 모아두고, 이미 그 상태인 경우 false 를 반환한다.
+     * 모아둔 상태가 없을 때만 좋아요가 있는지, 없으면 댓글이 있는지 조회한다.
+     *
+     * @param commentId 스터디 댓글 식별자
+     * @param accountId 사용자 식별자
+     * @param liked 바꿀 좋아요 상태
+     * @return 좋아요 상태를 바꾼 경우 true
+     * @throws StudyCommentNotFoundException 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글이 없는 경우
+     * @throws LikeToggleBufferFullException 모아둔 상태가 가득 찬 경우
+     */
+    public boolean toggleStudyCommentLike(Long commentId, Long accountId, boolean liked) {
+        return likeToggleBuffer.toggle(LikeTarget.STUDY_COMMENT, commentId, accountId, liked, () -> {
+            if (studyCommentLikeRepository.existsByStudyCommentIdAndAccountId(commentId, accountId)) {
+                return true;
+            }
+            if (!studyCommentRepository.existsById(commentId)) {
+                throw new StudyCommentNotFoundException(commentId);
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 주어진 사용자가 모아둔 좋아요 상태를 스터디 목록에 덮어써, 반영 전에도 자신의 좋아요 상태와 좋아요 수가 보이게 한다.
+     *
+     * @param accountId 사용자 식별자
+     * @param studyResultDtos 스터디 목록
+     */
+    public void applyStudyLiked(Long accountId, List<StudyApiDto.StudyResultDto> studyResultDtos) {
+        if (!enabled) {
+            return;
+        }
+
+        studyResultDtos.forEach(studyResultDto -> likeToggleBuffer
+                .findLiked(LikeTarget.STUDY, studyResultDto.getId(), accountId)
+                .ifPresent(studyResultDto::changeLiked));
+    }
+
+    /**
+     * 주어진 사용자가 모아둔 좋아요 상태를 스터디 댓글 목록에 덮어써, 반영 전에도 자신의 좋아요 상태와 좋아요 수가 보이게 한다.
+     *
+     * @param accountId 사용자 식별자
+     * @param studyCommentResultDtos 스터디 댓글 목록
+     */
+    public void applyStudyCommentLiked(Long accountId, List<StudyApiDto.StudyCommentResultDto> studyCommentResultDtos) {
+        if (!enabled) {
+            return;
+        }
+
+        studyCommentResultDtos.forEach(studyCommentResultDto -> likeToggleBuffer
+                .findLiked(LikeTarget.STUDY_COMMENT, studyCommentResultDto.getId(), accountId)
+                .ifPresent(studyCommentResultDto::changeLiked));
+    }
+
+    /**
+     * 모아둔 상태가 반영 크기 이상이거나 마지막 반영 후 반영 주기가 지난 경우 데이터베이스에 반영한다.
+     * study.like.buffer.poll-millis 마다 스케쥴러로 동작하며 기본값은 0.1초이다.
+     *
+     * @return 반영한 좋아요 상태 수
+     */
+    @Scheduled(fixedDelayString = "${study.like.buffer.poll-millis:100}",
+            initialDelayString = "${study.like.buffer.poll-millis:100}")
+    public int flushIfDue() {
+        if (!enabled) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        int size = likeToggleBuffer.size();
+        if (size == 0) {
+            lastFlushedAt = now;
+            return 0;
+        }
+
+        if (size < FLUSH_SIZE && now - lastFlushedAt < FLUSH_INTERVAL_MILLIS) {
+            return 0;
+        }
+
+        return flush();
+    }
+
+    /**
+     * 애플리케이션이 종료될 때 남은 상태를 반영한다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * 모아둔 좋아요 상태를 한 트랜잭션으로 반영한다.
+     * 대상마다 취소된 좋아요는 삭제 쿼리 한 번으로 지우고, 이미 저장된 좋아요를 뺀 나머지는 JDBC 배치로 저장하며,
+     * 좋아요 수는 실제로 지우고 저장한 개수만큼 한 번에 바꾼다. 대상이 삭제된 경우 그 대상의 좋아요는 버린다.
+     * 한 트랜잭션 반영에 실패하면 대상마다 트랜잭션을 나누어 다시 반영해, 실패한 대상의 상태만 되돌린다.
+     * 되돌린 상태는 다음 주기에 다시 반영하고, 최대 시도 횟수만큼 실패한 상태는 로그로 남기고 버린다.
+     *
+     * @return 반영한 좋아요 상태 수
+     */
+    public synchronized int flush() {
+        List<LikeToggle> likeToggles = likeToggleBuffer.drain();
+        lastFlushedAt = System.currentTimeMillis();
+        if (likeToggles.isEmpty()) {
+            likeToggleBuffer.complete(List.of(), List.of());
+            return 0;
+        }
+
+        List<LikeToggle> failedToggles = likeToggles;
+        try {
+            failedToggles = writeIsolated(likeToggles);
+        } finally {
+            complete(failedToggles);
+        }
+
+        log.debug("like toggle flush - toggles: {}, failed: {}", likeToggles.size(), failedToggles.size());
+        return likeToggles.size() - failedToggles.size();
+    }
+
+    private List<LikeToggle> writeIsolated(List<LikeToggle> likeToggles) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(likeToggles));
+            return List.of();
+        } catch (CannotCreateTransactionException e) {
+            log.error("like toggle flush failed - toggles: {}", likeToggles.size(), e);
+            return likeToggles;
+        } catch (RuntimeException e) {
+            log.warn("like toggle flush failed, retrying per target - toggles: {}", likeToggles.size(), e);
+        }
+
+        List<LikeToggle> failedToggles = new ArrayList<>();
+        groupByTarget(likeToggles).forEach((target, likeTogglesById) -> likeTogglesById.forEach((targetId, toggles) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(toggles));
+            } catch (RuntimeException e) {
+                log.error("like toggle flush failed - target: {}, targetId: {}, toggles: {}",
+                        target, targetId, toggles.size(), e);
+                failedToggles.addAll(toggles);
+            }
+        }));
+        return failedToggles;
+    }
+
+    private void complete(List<LikeToggle> failedToggles) {
+        List<LikeToggle> retried = new ArrayList<>();
+        List<LikeToggle> discarded = new ArrayList<>();
+        for (LikeToggle likeToggle : failedToggles) {
+            if (likeToggle.getFailures() + 1 < maxAttempts) {
+                retried.add(likeToggle);
+            } else {
+                log.error("like toggle discarded after {} attempts - {}", maxAttempts, likeToggle);
+                discarded.add(likeToggle);
+            }
+        }
+
+        likeToggleBuffer.complete(retried, discarded);
+    }
+
+    private void write(List<LikeToggle> likeToggles) {
+        Map<LikeTarget, Map<Long, List<LikeToggle>>> likeTogglesByTarget = groupByTarget(likeToggles);
+
+        List<StudyLike> studyLikes = new ArrayList<>();
+        likeTogglesByTarget.getOrDefault(LikeTarget.STUDY, Map.of()).forEach((studyId, toggles) -> {
+            List<Long> likedAccountIds = accountIdsOf(toggles, true);
+            List<Long> unlikedAccountIds = accountIdsOf(toggles, false);
+
+            int deleted = unlikedAccountIds.isEmpty() ? 0
+                    : studyLikeRepository.deleteByStudyIdAndAccountIdIn(studyId, unlikedAccountIds);
+            if (!likedAccountIds.isEmpty()) {
+                likedAccountIds.removeAll(studyLikeRepository.findAccountIdsByStudyIdAndAccountIdIn(studyId, likedAccountIds));
+            }
+
+            if (studyRepository.addLikesCount(studyId, likedAccountIds.size() - deleted) == 0) {
+                return;
+            }
+
+            likedAccountIds.forEach(accountId -> studyLikes.add(StudyLike.builder()
+                    .study(studyRepository.getOne(studyId))
+                    .account(accountService.getAccountReference(accountId))
+                    .build()));
+        });
+
+        List<StudyCommentLike> studyCommentLikes = new ArrayList<>();
+        likeTogglesByTarget.getOrDefault(LikeTarget.STUDY_COMMENT, Map.of()).forEach((commentId, toggles) -> {
+            List<Long> likedAccountIds = accountIdsOf(toggles, true);
+            List<Long> unlikedAccountIds = accountIdsOf(toggles, false);
+
+            int deleted = unlikedAccountIds.isEmpty() ? 0
+                    : studyCommentLikeRepository.deleteByStudyCommentIdAndAccountIdIn(commentId, unlikedAccountIds);
+            if (!likedAccountIds.isEmpty()) {
+                likedAccountIds.removeAll(studyCommentLikeRepository
+                        .findAccountIdsByStudyCommentIdAndAccountIdIn(commentId, likedAccountIds));
+            }
+
+            if (studyCommentRepository.addLikesCount(commentId, likedAccountIds.size() - deleted) == 0) {
+                return;
+            }
+
+            likedAccountIds.forEach(accountId -> studyCommentLikes.add(StudyCommentLike.builder()
+                    .studyComment(studyCommentRepository.getOne(commentId))
+                    .account(accountService.getAccountReference(accountId))
+                    .build()));
+        });
+
+        studyLikes.forEach(studyLikeRepository::save);
+        studyCommentLikes.forEach(studyCommentLikeRepository::save);
+    }
+
+    private Map<LikeTarget, Map<Long, List<LikeToggle>>> groupByTarget(List<LikeToggle> likeToggles) {
+        return likeToggles.stream()
+                .collect(Collectors.groupingBy(LikeToggle::getTarget,
+                        Collectors.groupingBy(LikeToggle::getTargetId)));
+    }
+
+    private List<Long> accountIdsOf(List<LikeToggle> likeToggles, boolean liked) {
+        return likeToggles.stream()
+                .filter(likeToggle -> likeToggle.isLiked() == liked)
+                .map(LikeToggle::getAccountId)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,14 +1,14 @@
 package com.example.bookclub.application.study;
 
 import com.example.bookclub.application.account.AccountService;
-import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.study.studycomment.StudyComment;
 import com.example.bookclub.domain.study.studycommentlike.StudyCommentLike;
 import com.example.bookclub.domain.study.studycommentlike.StudyCommentLikeRepository;
 import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.common.exception.study.studycomment.StudyCommentNotFoundException;
 import com.example.bookclub.common.exception.study.studycommentlike.StudyCommentLikeAlreadyExistedException;
 import com.example.bookclub.common.exception.study.studycommentlike.StudyCommentLikeNotFoundException;
 import com.example.bookclub.security.UserAccount;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -21,65 +21,85 @@ public class StudyCommentLikeService {
 	private final StudyCommentLikeRepository studyCommentLikeRepository;
 	private final AccountService accountService;
 	private final StudyCommentService studyCommentService;
+	private final LikeToggleBufferService likeToggleBufferService;
 
 	public StudyCommentLikeService(StudyCommentLikeRepository studyCommentLikeRepository,
 								   AccountService accountService,
-								   StudyCommentService studyCommentService) {
+								   StudyCommentService studyCommentService,
+								   LikeToggleBufferService likeToggleBufferService) {
 		this.studyCommentLikeRepository = studyCommentLikeRepository;
 		this.accountService = accountService;
 		this.studyCommentService = studyCommentService;
+		this.likeToggleBufferService = likeToggleBufferService;
 	}
 
 	/**
 	 * 주어진 댓글 식별자에 해당하는 스터디 댓글 좋아요를 생성하고 스터디 댓글 식별자를 반환한다.
+	 * 스터디 댓글 좋아요 수를 먼저 증가시켜 댓글이 있는지 확인하고, 댓글과 사용자는 조회하지 않고 참조로 연결한다.
+	 * 같은 좋아요가 동시에 요청되면 유니크 제약조건으로 하나만 저장되고 나머지는 좋아요 수 증가와 함께 롤백된다.
+	 * 좋아요 버퍼를 사용하는 경우 바로 저장하지 않고 버퍼에 모아둔다.
 	 *
 	 * @param userAccount 로그인한 사용자
 	 * @param commentId 스터디 댓글 식별자
 	 * @return 좋아요 누른 스터디 댓글 아이디
+	 * @throws StudyCommentNotFoundException 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글이 없는 경우
 	 * @throws StudyCommentLikeAlreadyExistedException 로그인한 사용자의 스터디 댓글 식별자에 이미 좋아요가 존재하는 경우
 	 */
 	@Transactional
 	public StudyApiDto.StudyLikesCommentResultDto likeComment(UserAccount userAccount, Long commentId) {
 		Long accountId = userAccount.getAccount().getId();
 
-		StudyComment studyComment = studyCommentService.getStudyComment(commentId);
-		Account account = accountService.findAccount(accountId);
+		if (likeToggleBufferService.isEnabled()) {
+			if (!likeToggleBufferService.toggleStudyCommentLike(commentId, accountId, true)) {
+				throw new StudyCommentLikeAlreadyExistedException();
+			}
+			return StudyApiDto.StudyLikesCommentResultDto.of(commentId);
+		}
+
+		studyCommentService.increaseLikesCount(commentId);
 
 		StudyCommentLike studyCommentLike = StudyCommentLike.builder()
-				.account(account)
-				.studyComment(studyComment)
+				.account(accountService.getAccountReference(accountId))
+				.studyComment(studyCommentService.getStudyCommentReference(commentId))
 				.build();
-
-		studyCommentLikeRepository.findByStudyCommentAndAccount(studyComment, account)
-				.ifPresent(study -> {
-					throw new StudyCommentLikeAlreadyExistedException();
-				});
-
-		studyCommentLike.addStudyCommentAndAccount(studyComment, account);
-		studyCommentLikeRepository.save(studyCommentLike);
+		try {
+			studyCommentLikeRepository.saveAndFlush(studyCommentLike);
+		} catch (DataIntegrityViolationException e) {
+			throw new StudyCommentLikeAlreadyExistedException();
+		}
 
 		return StudyApiDto.StudyLikesCommentResultDto.of(commentId);
 	}
 
 	/**
 	 * 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글 좋아요를 삭제하고 댓글 아이디를 반환한다.
+	 * 삭제 쿼리 한 번으로 좋아요를 지우고, 실제로 지운 경우에만 좋아요 수를 감소시킨다.
+	 * 좋아요 버퍼를 사용하는 경우 바로 삭제하지 않고 버퍼에 모아둔다.
 	 *
 	 * @param userAccount 로그인한 사용자
 	 * @param  commentId 스터디 댓글 식별자
 	 * @return 좋아요를 삭제한 스터디 댓글 아이디
+	 * @throws StudyCommentNotFoundException 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글이 없는 경우
 	 * @throws StudyCommentLikeNotFoundException 로그인한 사용자의 스터디 댓글 식별자에 좋아요가 존재하지 않는 경우
 	 */
 	@Transactional
 	public StudyApiDto.StudyLikesCommentResultDto unlikeComment(UserAccount userAccount, Long commentId) {
 		Long accountId = userAccount.getAccount().getId();
 
-		StudyComment studyComment = studyCommentService.getStudyComment(commentId);
-		Account account = accountService.findAccount(accountId);
-		StudyCommentLike savedStudyCommentLike = studyCommentLikeRepository.findByStudyCommentAndAccount(studyComment, account)
-				.orElseThrow(() -> new StudyCommentLikeNotFoundException(commentId));
+		if (likeToggleBufferService.isEnabled()) {
+			if (!likeToggleBufferService.toggleStudyCommentLike(commentId, accountId, false)) {
+				throw new StudyCommentLikeNotFoundException(commentId);
+			}
+			return StudyApiDto.StudyLikesCommentResultDto.of(commentId);
+		}
 
-		studyCommentLikeRepository.delete(savedStudyCommentLike);
+		if (studyCommentLikeRepository.deleteByStudyCommentIdAndAccountId(commentId, accountId) == 0) {
+			studyCommentService.getStudyComment(commentId);
+			throw new StudyCommentLikeNotFoundException(commentId);
+		}
 
-		return StudyApiDto.StudyLikesCommentResultDto.of(savedStudyCommentLike.getId());
+		studyCommentService.decreaseLikesCount(commentId);
+
+		return StudyApiDto.StudyLikesCommentResultDto.of(commentId);
 	}
 }
@@ -3,6 +3,7 @@ package com.example.bookclub.application.study;
 import com.example.bookclub.common.exception.study.studycomment.StudyCommentContentNotExistedException;
 import com.example.bookclub.common.exception.study.studycomment.StudyCommentDeleteBadRequest;
 import com.example.bookclub.common.exception.study.studycomment.StudyCommentNotFoundException;
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
 import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.study.studycomment.StudyComment;
 import com.example.bookclub.domain.study.studycomment.StudyCommentRepository;
@@ -11,19 +12,26 @@ import com.example.bookclub.security.UserAccount;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 
 /**
  * 스터디 댓글 생성, 삭제, 조회한다.
  */
 @Service
 public class StudyCommentService {
+	private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
 	private final StudyCommentRepository studyCommentRepository;
 	private final StudyService studyService;
+	private final LikeToggleBufferService likeToggleBufferService;
 
 	public StudyCommentService(StudyCommentRepository studyCommentRepository,
-							   StudyService studyService) {
+							   StudyService studyService,
+							   LikeToggleBufferService likeToggleBufferService) {
 		this.studyCommentRepository = studyCommentRepository;
 		this.studyService = studyService;
+		this.likeToggleBufferService = likeToggleBufferService;
 	}
 
 	/**
@@ -46,10 +54,37 @@ public class StudyCommentService {
 		StudyComment studyComment = studyCommentCreateDto.toEntity(userAccount.getAccount(), study);
 
 		StudyComment savedStudyComment = studyCommentRepository.save(studyComment);
+		studyService.increaseCommentsCount(studyId);
 
 		return StudyApiDto.StudyCommentResultDto.of(savedStudyComment, userAccount.getAccount());
 	}
 
+	/**
+	 * 주어진 스터디 식별자와 커서에 해당하는 스터디 댓글 페이지를 반환한다.
+	 * 댓글 식별자 오름차순으로 커서 다음 댓글부터 페이지 크기만큼 조회하며, 좋아요 수와 로그인한 사용자의 좋아요, 작성 여부를 포함한다.
+	 * 좋아요 버퍼를 사용하는 경우 아직 반영되지 않은 로그인한 사용자의 좋아요 상태를 덮어쓴다.
+	 *
+	 * @param userAccount 로그인한 사용자
+	 * @param studyId 스터디 식별자
+	 * @param cursor 이 식별자 다음 댓글부터 조회
+	 * @param size 페이지 크기
+	 * @return 커서 기준 스터디 댓글 페이지 정보
+	 * @throws StudyNotFoundException 스터디 식별자에 해당하는 스터디가 존재하지 않는 경우
+	 */
+	@Transactional(readOnly = true)
+	public StudyApiDto.StudyCommentCursorResultDto getStudyComments(UserAccount userAccount, Long studyId,
+																	Long cursor, int size) {
+		studyService.getStudyResult(studyId);
+
+		Long accountId = userAccount.getAccount().getId();
+		int pageSize = Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+		List<StudyApiDto.StudyCommentResultDto> studyCommentResultDtos = studyCommentRepository
+				.findCommentResultsByStudyId(studyId, accountId, cursor, pageSize + 1);
+		likeToggleBufferService.applyStudyCommentLiked(accountId, studyCommentResultDtos);
+
+		return StudyApiDto.StudyCommentCursorResultDto.of(studyCommentResultDtos, pageSize);
+	}
+
 	/**
 	 * 주어진 스터디 댓글 식별자로 스터디 댓글을 삭제하고 스터디 댓글 식별자를 반환한다.
 	 *
@@ -66,6 +101,7 @@ public class StudyCommentService {
 		}
 
 		studyCommentRepository.delete(studyComment);
+		studyService.decreaseCommentsCount(studyComment.getStudy().getId());
 
 		return StudyApiDto.StudyCommentResultDto.of(studyComment, userAccount.getAccount());
 	}
@@ -82,4 +118,38 @@ public class StudyCommentService {
 		return studyCommentRepository.findById(id)
 				.orElseThrow(() -> new StudyCommentNotFoundException(id));
 	}
+
+	/**
+	 * 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글을 조회하지 않고 식별자만 가진 참조로 반환한다.
+	 * 연관관계를 맺을 때만 사용하며, 스터디 댓글이 존재하는지는 확인하지 않는다.
+	 *
+	 * @param id 스터디 댓글 식별자
+	 * @return 스터디 댓글 참조
+	 */
+	public StudyComment getStudyCommentReference(Long id) {
+		return studyCommentRepository.getOne(id);
+	}
+
+	/**
+	 * 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글의 좋아요 수를 1 증가시킨다.
+	 *
+	 * @param id 스터디 댓글 식별자
+	 * @throws StudyCommentNotFoundException 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글이 존재하지 않는 경우
+	 */
+	@Transactional
+	public void increaseLikesCount(Long id) {
+		if (studyCommentRepository.increaseLikesCount(id) == 0) {
+			throw new StudyCommentNotFoundException(id);
+		}
+	}
+
+	/**
+	 * 주어진 스터디 댓글 식별자에 해당하는 스터디 댓글의 좋아요 수를 1 감소시킨다.
+	 *
+	 * @param id 스터디 댓글 식별자
+	 */
+	@Transactional
+	public void decreaseLikesCount(Long id) {
+		studyCommentRepository.decreaseLikesCount(id);
+	}
 }
@@ -0,0 +1,40 @@
+package com.example.bookclub.application.study;
+
+import com.example.bookclub.domain.study.studycomment.StudyCommentRepository;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스터디와 스터디 댓글에 저장된 좋아요, 댓글, 즐겨찾기 수를 실제 데이터 개수와 맞춘다.
+ */
+@Slf4j
+@Service
+public class StudyCountSyncService {
+    private final JpaStudyRepository studyRepository;
+    private final StudyCommentRepository studyCommentRepository;
+
+    public StudyCountSyncService(JpaStudyRepository studyRepository,
+                                 StudyCommentRepository studyCommentRepository) {
+        this.studyRepository = studyRepository;
+        this.studyCommentRepository = studyCommentRepository;
+    }
+
+    /**
+     * 저장된 개수가 실제 개수와 다른 스터디와 스터디 댓글만 찾아 개수를 다시 계산한다.
+     * 매일 새벽 4시에 스케쥴러로 동작한다.
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void syncCounts() {
+        int likes = studyRepository.syncLikesCount();
+        int comments = studyRepository.syncCommentsCount();
+        int favorites = studyRepository.syncFavoritesCount();
+        int commentLikes = studyCommentRepository.syncLikesCount();
+
+        log.info("count sync - study likes: {}, study comments: {}, study favorites: {}, comment likes: {}",
+                likes, comments, favorites, commentLikes);
+    }
+}
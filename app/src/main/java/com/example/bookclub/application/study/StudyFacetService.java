@@ -0,0 +1,161 @@
+package com.example.bookclub.application.study;
+
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.Day;
+import com.example.bookclub.domain.study.StudyFacet;
+import com.example.bookclub.domain.study.StudyFacetChangedEvent;
+import com.example.bookclub.domain.study.StudyFacetIndex;
+import com.example.bookclub.domain.study.StudyFacetSearchResult;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.Zone;
+import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 지역, 요일, 스터디 상태로 스터디를 패싯 검색하고, 스터디 변경 이벤트로 패싯 검색 색인을 갱신하며, 주기적으로 색인을 다시 만든다.
+ */
+@Slf4j
+@Service
+public class StudyFacetService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final StudyFacetIndex studyFacetIndex;
+    private final JpaStudyRepository studyRepository;
+    private final LikeToggleBufferService likeToggleBufferService;
+
+    public StudyFacetService(StudyFacetIndex studyFacetIndex,
+                             JpaStudyRepository studyRepository,
+                             LikeToggleBufferService likeToggleBufferService) {
+        this.studyFacetIndex = studyFacetIndex;
+        this.studyRepository = studyRepository;
+        this.likeToggleBufferService = likeToggleBufferService;
+    }
+
+    /**
+     * 주어진 지역, 요일, 스터디 상태에 해당하는 스터디를 커서 기준으로 반환하고 패싯 값별 스터디 수를 함께 반환한다.
+     * 같은 패싯 안의 값은 하나라도 해당하면, 다른 패싯끼리는 모두 해당해야 검색되며, 비어 있는 패싯은 거르지 않는다.
+     * 식별자와 개수는 색인에서 계산하고, 데이터베이스는 페이지에 들어갈 스터디만 한 번에 조회한다.
+     *
+     * @param account 로그인한 사용자
+     * @param zones 지역
+     * @param days 요일
+     * @param studyStates 스터디 상태
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param size 페이지 크기
+     * @return 커서 기준 스터디 페이지 정보와 패싯 값별 스터디 수
+     */
+    @Transactional(readOnly = true)
+    public StudyApiDto.StudyFacetSearchResultDto searchStudies(Account account, Set<Zone> zones, Set<Day> days,
+                                                               Set<StudyState> studyStates, Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        StudyFacetSearchResult searchResult =
+                studyFacetIndex.search(zones, days, studyStates, afterId, pageSize + 1);
+
+        List<Long> studyIds = searchResult.getStudyIds();
+        boolean hasNext = studyIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? studyIds.subList(0, pageSize) : studyIds;
+
+        List<StudyApiDto.StudyResultDto> studyResultDtos =
+                studyRepository.findStudyResultsByIds(pageIds, account.getId());
+        likeToggleBufferService.applyStudyLiked(account.getId(), studyResultDtos);
+
+        StudyApiDto.StudyCursorResultDto studies = StudyApiDto.StudyCursorResultDto.builder()
+                .studyResultDtos(studyResultDtos)
+                .firstId(pageIds.isEmpty() ? null : pageIds.get(0))
+                .lastId(pageIds.isEmpty() ? null : pageIds.get(pageIds.size() - 1))
+                .hasPrevious(afterId != null)
+                .hasNext(hasNext)
+                .totalCount(searchResult.getTotalCount())
+                .build();
+
+        return StudyApiDto.StudyFacetSearchResultDto.builder()
+                .studies(studies)
+                .zoneCounts(searchResult.getZoneCounts())
+                .dayCounts(searchResult.getDayCounts())
+                .studyStateCounts(searchResult.getStudyStateCounts())
+                .build();
+    }
+
+    /**
+     * 커밋된 스터디 생성, 수정, 삭제를 패싯 검색 색인에 반영한다.
+     * 반영에 실패해도 원래 요청은 이미 커밋되었으므로 예외를 던지지 않고, 다음 재생성에서 맞춘다.
+     *
+     * @param event 패싯 검색 색인 변경
+     */
+    @TransactionalEventListener(fallbackExecution = true, condition = "!#event.rebuildRequired")
+    public void applyChange(StudyFacetChangedEvent event) {
+        try {
+            if (event.getSavedStudyFacet() != null) {
+                studyFacetIndex.put(event.getSavedStudyFacet());
+            }
+            if (event.getDeletedStudyId() != null) {
+                studyFacetIndex.remove(event.getDeletedStudyId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("study facet change not applied - {}", event, e);
+        }
+    }
+
+    /**
+     * 커밋된 스터디 상태 일괄 변경 뒤에 패싯 검색 색인을 다시 만든다.
+     * 원래 트랜잭션은 이미 끝났으므로 새 읽기 전용 트랜잭션에서 읽는다.
+     *
+     * @param event 패싯 검색 색인 변경
+     */
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.rebuildRequired")
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void rebuildOnChange(StudyFacetChangedEvent event) {
+        try {
+            rebuildIndex();
+        } catch (RuntimeException e) {
+            log.warn("study facet index not rebuilt - {}", event, e);
+        }
+    }
+
+    /**
+     * 애플리케이션 기동이 끝나면 패싯 검색 색인을 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 모든 스터디의 지역, 요일, 스터디 상태를 다시 읽어 패싯 검색 색인을 바꾸고 색인된 스터디 수를 반환한다.
+     * 다른 서버에서 일어난 변경도 여기서 반영되며, 기본 10분마다 스케쥴러로 동작한다.
+     *
+     * @return 색인된 스터디 수
+     */
+    @Scheduled(fixedDelayString = "${study.facet.rebuild-delay-millis:600000}",
+            initialDelayString = "${study.facet.rebuild-delay-millis:600000}")
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        return rebuildIndex();
+    }
+
+    private int rebuildIndex() {
+        long startTime = System.currentTimeMillis();
+        int indexedCount = studyFacetIndex.rebuild(consumer -> {
+            try (Stream<StudyFacet> studyFacets = studyRepository.streamStudyFacets(STREAM_FETCH_SIZE)) {
+                studyFacets.forEach(consumer);
+            }
+        });
+
+        log.info("study facet index rebuild - studies: {}, {} ms", indexedCount, System.currentTimeMillis() - startTime);
+        return indexedCount;
+    }
+}
@@ -1,14 +1,14 @@
 package com.example.bookclub.application.study;
 
 import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
 import com.example.bookclub.common.exception.study.favorite.StudyFavoriteAlreadyExistedException;
 import com.example.bookclub.common.exception.study.favorite.StudyFavoriteNotExistedException;
-import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.study.favorite.Favorite;
 import com.example.bookclub.domain.study.favorite.FavoriteRepository;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.security.UserAccount;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,55 +31,54 @@ public class StudyFavoriteService {
 
 	/**
 	 * 주어진 스터디 식별자로 스터디 즐겨찾기를 생성하고 즐겨찾기 식별자를 반환한다.
+	 * 스터디 즐겨찾기 수를 먼저 증가시켜 스터디가 있는지 확인하고, 스터디와 사용자는 조회하지 않고 참조로 연결한다.
+	 * 같은 즐겨찾기가 동시에 요청되면 유니크 제약조건으로 하나만 저장되고 나머지는 즐겨찾기 수 증가와 함께 롤백된다.
 	 *
 	 * @param userAccount 로그인한 사용자
 	 * @param studyId 스터디 식별자
 	 * @return 생성된 스터디 즐겨찾기 식별자
+	 * @throws StudyNotFoundException 주어진 스터디 식별자에 해당하는 스터디가 없는 경우
 	 * @throws StudyFavoriteAlreadyExistedException 주어진 스터디 식별자에 해당하는 즐겨찾기가 존재하는 경우
 	 */
 	@Transactional
 	public StudyApiDto.StudyFavoriteResultDto favoriteStudy(UserAccount userAccount, Long studyId) {
 		Long accountId = userAccount.getAccount().getId();
 
-		Account account = accountService.findAccount(accountId);
-		Study study = studyService.getStudy(studyId);
+		studyService.increaseFavoritesCount(studyId);
 
 		Favorite favorite = Favorite.builder()
-				.account(account)
-				.study(study)
+				.account(accountService.getAccountReference(accountId))
+				.study(studyService.getStudyReference(studyId))
 				.build();
-
-		favoriteRepository.findByStudyAndAccount(study, account)
-				.ifPresent(studyFavorite -> {
-					throw new StudyFavoriteAlreadyExistedException(studyFavorite.getId());
-				});
-
-		favorite.addStudyAndAccount(study, account);
-		Favorite createdFavorite = favoriteRepository.save(favorite);
-
-		return StudyApiDto.StudyFavoriteResultDto.of(createdFavorite.getId());
+		try {
+			Favorite createdFavorite = favoriteRepository.saveAndFlush(favorite);
+			return StudyApiDto.StudyFavoriteResultDto.of(createdFavorite.getId());
+		} catch (DataIntegrityViolationException e) {
+			throw new StudyFavoriteAlreadyExistedException(studyId);
+		}
 	}
 
 	/**
-	 * 주어진 스터디 식별자로 스터디 즐겨찾기를 삭제하고 삭제된 즐겨찾기 식별자를 반환한다.
+	 * 주어진 스터디 식별자로 스터디 즐겨찾기를 삭제하고 스터디 식별자를 반환한다.
+	 * 삭제 쿼리 한 번으로 즐겨찾기를 지우고, 실제로 지운 경우에만 즐겨찾기 수를 감소시킨다.
 	 *
 	 * @param userAccount 로그인한 사용자
 	 * @param studyId 스터디 식별자
-	 * @return 삭제된 스터디 즐겨찾기 아이디
+	 * @return 즐겨찾기를 삭제한 스터디 식별자
+	 * @throws StudyNotFoundException 주어진 스터디 식별자에 해당하는 스터디가 없는 경우
 	 * @throws StudyFavoriteNotExistedException 주어진 스터디 식별자에 해당하는 즐겨찾기가 없는 경우
 	 */
 	@Transactional
 	public StudyApiDto.StudyFavoriteResultDto unFavoriteStudy(UserAccount userAccount, Long studyId) {
 		Long accountId = userAccount.getAccount().getId();
 
-		Study study = studyService.getStudy(studyId);
-		Account account = accountService.findAccount(accountId);
-
-		Favorite savedFavorite = favoriteRepository.findByStudyAndAccount(study, account)
-				.orElseThrow(() -> new StudyFavoriteNotExistedException(studyId));
+		if (favoriteRepository.deleteByStudyIdAndAccountId(studyId, accountId) == 0) {
+			studyService.getStudyResult(studyId);
+			throw new StudyFavoriteNotExistedException(studyId);
+		}
 
-		favoriteRepository.delete(savedFavorite);
+		studyService.decreaseFavoritesCount(studyId);
 
-		return StudyApiDto.StudyFavoriteResultDto.of(savedFavorite.getId());
+		return StudyApiDto.StudyFavoriteResultDto.of(studyId);
 	}
 }
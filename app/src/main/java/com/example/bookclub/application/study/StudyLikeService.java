@@ -1,14 +1,14 @@
 package com.example.bookclub.application.study;
 
 import com.example.bookclub.application.account.AccountService;
-import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.study.studylike.StudyLike;
 import com.example.bookclub.domain.study.studylike.StudyLikeRepository;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.common.exception.study.studylike.StudyLikeAlreadyExistedException;
 import com.example.bookclub.common.exception.study.studylike.StudyLikeNotExistedException;
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
 import com.example.bookclub.security.UserAccount;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -22,64 +22,85 @@ public class StudyLikeService {
 	private final StudyService studyService;
 	private final AccountService accountService;
 	private final StudyLikeRepository studyLikeRepository;
+	private final LikeToggleBufferService likeToggleBufferService;
 
 	public StudyLikeService(StudyService studyService,
 							AccountService accountService,
-							StudyLikeRepository studyLikeRepository) {
+							StudyLikeRepository studyLikeRepository,
+							LikeToggleBufferService likeToggleBufferService) {
 		this.studyService = studyService;
 		this.accountService = accountService;
 		this.studyLikeRepository = studyLikeRepository;
+		this.likeToggleBufferService = likeToggleBufferService;
 	}
 
 	/**
-	 * 주어진 로그인한 사용자와 스터디 식별자에 해당하는 스터디 좋아요를 생성하고 스터디 식별자를 반환한다
+	 * 주어진 로그인한 사용자와 스터디 식별자에 해당하는 스터디 좋아요를 생성하고 스터디 식별자를 반환한다.
+	 * 스터디 좋아요 수를 먼저 증가시켜 스터디가 있는지 확인하고, 스터디와 사용자는 조회하지 않고 참조로 연결한다.
+	 * 같은 좋아요가 동시에 요청되면 유니크 제약조건으로 하나만 저장되고 나머지는 좋아요 수 증가와 함께 롤백된다.
+	 * 좋아요 버퍼를 사용하는 경우 바로 저장하지 않고 버퍼에 모아둔다.
 	 *
 	 * @param userAccount 로그인한 사용자
 	 * @param studyId 스터디 식별자
 	 * @return 생성된 스터디 좋아요 아이디
+	 * @throws StudyNotFoundException 주어진 스터디 식별자에 해당하는 스터디가 없는 경우
 	 * @throws StudyLikeAlreadyExistedException 주어진 스터디 식별자에 해당하는 좋아요가 존재하는 경우
 	 */
 	@Transactional
 	public StudyApiDto.StudyLikeResultDto like(UserAccount userAccount, Long studyId) {
 		Long accountId = userAccount.getAccount().getId();
 
-		Study study = studyService.getStudy(studyId);
-		Account account = accountService.findAccount(accountId);
-		StudyLike studyLike = StudyLike.builder()
-				.study(study)
-				.account(account)
-				.build();
+		if (likeToggleBufferService.isEnabled()) {
+			if (!likeToggleBufferService.toggleStudyLike(studyId, accountId, true)) {
+				throw new StudyLikeAlreadyExistedException();
+			}
+			return StudyApiDto.StudyLikeResultDto.of(studyId);
+		}
 
-		studyLikeRepository.findByStudyAndAccount(study, account)
-				.ifPresent(like -> {
-					throw new StudyLikeAlreadyExistedException();
-				});
+		studyService.increaseLikesCount(studyId);
 
-		studyLike.addStudyAndAccount(study, account);
-		studyLikeRepository.save(studyLike);
+		StudyLike studyLike = StudyLike.builder()
+				.study(studyService.getStudyReference(studyId))
+				.account(accountService.getAccountReference(accountId))
+				.build();
+		try {
+			studyLikeRepository.saveAndFlush(studyLike);
+		} catch (DataIntegrityViolationException e) {
+			throw new StudyLikeAlreadyExistedException();
+		}
 
 		return StudyApiDto.StudyLikeResultDto.of(studyId);
 	}
 
 	/**
 	 * 주어진 로그인한 사용자와 스터디 식별자에 해당하는 스터디 좋아요를 삭제하고 스터디 식별자를 반환한다.
+	 * 삭제 쿼리 한 번으로 좋아요를 지우고, 실제로 지운 경우에만 좋아요 수를 감소시킨다.
+	 * 좋아요 버퍼를 사용하는 경우 바로 삭제하지 않고 버퍼에 모아둔다.
 	 *
 	 * @param userAccount 로그인한 사용자
 	 * @param studyId 스터디 식별자
-	 * @return 삭제된 스터디 좋아요 식별자
+	 * @return 좋아요를 삭제한 스터디 식별자
+	 * @throws StudyNotFoundException 주어진 스터디 식별자에 해당하는 스터디가 없는 경우
 	 * @throws StudyLikeNotExistedException 주어진 스터디 식별자에 해당하는 좋아요가 없는 경우
 	 */
 	@Transactional
 	public StudyApiDto.StudyLikeResultDto unLike(UserAccount userAccount, Long studyId) {
 		Long accountId = userAccount.getAccount().getId();
 
-		Study study = studyService.getStudy(studyId);
-		Account account = accountService.findAccount(accountId);
-		StudyLike savedStudyLike = studyLikeRepository.findByStudyAndAccount(study, account)
-				.orElseThrow(StudyLikeNotExistedException::new);
+		if (likeToggleBufferService.isEnabled()) {
+			if (!likeToggleBufferService.toggleStudyLike(studyId, accountId, false)) {
+				throw new StudyLikeNotExistedException();
+			}
+			return StudyApiDto.StudyLikeResultDto.of(studyId);
+		}
+
+		if (studyLikeRepository.deleteByStudyIdAndAccountId(studyId, accountId) == 0) {
+			studyService.getStudyResult(studyId);
+			throw new StudyLikeNotExistedException();
+		}
 
-		studyLikeRepository.delete(savedStudyLike);
+		studyService.decreaseLikesCount(studyId);
 
-		return StudyApiDto.StudyLikeResultDto.of(savedStudyLike.getId());
+		return StudyApiDto.StudyLikeResultDto.of(studyId);
 	}
 }
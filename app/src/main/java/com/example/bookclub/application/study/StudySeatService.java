@@ -0,0 +1,124 @@
+package com.example.bookclub.application.study;
+
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
+import com.example.bookclub.common.retry.RetryOnConflict;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudySeatCounter;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 카운터로 남은 자리 수를 관리하는 스터디의 모드 전환, 지원자 수 반영, 기동 시 보정을 한다.
+ */
+@Slf4j
+@Service
+public class StudySeatService {
+    private final JpaStudyRepository studyRepository;
+    private final StudySeatCounter studySeatCounter;
+
+    public StudySeatService(JpaStudyRepository studyRepository,
+                            StudySeatCounter studySeatCounter) {
+        this.studyRepository = studyRepository;
+        this.studySeatCounter = studySeatCounter;
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 남은 자리 수 관리 방식을 전환하고 결과를 반환한다.
+     * 전환 시 반영되지 않은 지원자 수 변화량을 먼저 데이터베이스에 반영해 두 방식의 지원자 수가 어긋나지 않게 한다.
+     *
+     * @param id 스터디 식별자
+     * @param enabled Redis 카운터 사용 여부
+     * @return 전환된 스터디 정보
+     * @throws StudyNotFoundException 스터디 식별자에 해당하는 스터디가 존재하지 않는 경우
+     */
+    @RetryOnConflict
+    @Transactional
+    public StudyApiDto.StudySeatCounterResultDto changeSeatCounter(Long id, boolean enabled) {
+        Study study = studyRepository.findById(id)
+                .orElseThrow(() -> new StudyNotFoundException(id));
+
+        int pendingCount = studySeatCounter.takePendingCount(id);
+        if (pendingCount != 0) {
+            restorePendingCountsOnRollback(Map.of(id, pendingCount));
+            studyRepository.addApplyCount(id, pendingCount);
+        }
+
+        int applyCount = study.getApplyCount() + pendingCount;
+        if (enabled) {
+            study.enableSeatCounter();
+            studySeatCounter.reset(id, study.getSize(), applyCount);
+        } else {
+            study.disableSeatCounter();
+            studySeatCounter.remove(id);
+        }
+
+        return StudyApiDto.StudySeatCounterResultDto.of(study);
+    }
+
+    /**
+     * Redis 카운터로 확보하거나 반납한 자리 수를 스터디 지원자 수에 한 번에 반영한다.
+     * 1초마다 스케쥴러로 동작하고, 반영에 실패하면 변화량을 되돌려 다음 주기에 다시 반영한다.
+     *
+     * @return 지원자 수를 반영한 스터디 수
+     */
+    @Scheduled(fixedDelay = 1000)
+    @Transactional
+    public int flushPendingCounts() {
+        Map<Long, Integer> pendingCounts = studySeatCounter.takePendingCounts();
+        if (pendingCounts.isEmpty()) {
+            return 0;
+        }
+
+        restorePendingCountsOnRollback(pendingCounts);
+        pendingCounts.forEach(studyRepository::addApplyCount);
+
+        log.debug("seat counter flush - studies: {}", pendingCounts.size());
+        return pendingCounts.size();
+    }
+
+    /**
+     * 반영되지 않은 지원자 수 변화량을 데이터베이스에 반영한 뒤,
+     * Redis 카운터를 사용하는 모집중 스터디의 남은 자리 수를 데이터베이스의 지원자 수로 다시 계산한다.
+     * 애플리케이션 기동이 끝나면 동작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        flushPendingCounts();
+
+        List<Study> studies = studyRepository.findAllBySeatCounterEnabledTrueAndStudyState(StudyState.OPEN);
+        for (Study study : studies) {
+            studySeatCounter.reset(study.getId(), study.getSize(), study.getApplyCount());
+        }
+
+        log.info("seat counter reconcile - studies: {}", studies.size());
+    }
+
+    private void restorePendingCountsOnRollback(Map<Long, Integer> pendingCounts) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                    pendingCounts.forEach(studySeatCounter::restorePendingCount);
+                }
+            }
+        });
+    }
+}
@@ -12,42 +12,79 @@ import com.example.bookclub.common.exception.study.StudySizeFullException;
 import com.example.bookclub.common.exception.study.StudyStartAndEndDateNotValidException;
 import com.example.bookclub.common.exception.study.StudyStartAndEndTimeNotValidException;
 import com.example.bookclub.common.exception.study.StudyStartDateInThePastException;
+import com.example.bookclub.common.retry.ConflictRetryMetrics;
+import com.example.bookclub.common.retry.RetryOnConflict;
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeaderChangedEvent;
+import com.example.bookclub.domain.statistics.HomeStatisticsChangedEvent;
 import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyCache;
+import com.example.bookclub.domain.study.StudyFacetChangedEvent;
+import com.example.bookclub.domain.study.StudySeatCounter;
 import com.example.bookclub.domain.study.StudySeriesFactory;
 import com.example.bookclub.domain.study.StudyState;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.dto.StudyDto;
 import com.example.bookclub.infrastructure.study.JpaStudyRepository;
 import com.example.bookclub.security.UserAccount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 스터디 생성, 수정, 조회, 지원 생성, 지원 삭제, 검색, 스터디상태 변경, 갯수 조회를 한다.
  */
+@Slf4j
 @Service
 public class StudyService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final JpaStudyRepository studyRepository;
     private final AccountService accountService;
     private final StudySeriesFactory studySeriesFactory;
+    private final StudySeatCounter studySeatCounter;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final LikeToggleBufferService likeToggleBufferService;
+    private final StudyCache studyCache;
+    private final ConflictRetryMetrics conflictRetryMetrics;
 
     public StudyService(JpaStudyRepository studyRepository,
                         AccountService accountService,
-                        StudySeriesFactory studySeriesFactory
+                        StudySeriesFactory studySeriesFactory,
+                        StudySeatCounter studySeatCounter,
+                        ApplicationEventPublisher applicationEventPublisher,
+                        LikeToggleBufferService likeToggleBufferService,
+                        StudyCache studyCache,
+                        ConflictRetryMetrics conflictRetryMetrics
     ) {
         this.studyRepository = studyRepository;
         this.accountService = accountService;
         this.studySeriesFactory = studySeriesFactory;
+        this.studySeatCounter = studySeatCounter;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.likeToggleBufferService = likeToggleBufferService;
+        this.studyCache = studyCache;
+        this.conflictRetryMetrics = conflictRetryMetrics;
     }
 
     /**
@@ -61,6 +98,7 @@ public class StudyService {
      * @throws StudyStartAndEndDateNotValidException 생성하려는 스터디 종료일이 시작일보다 빠른 경우
      * @throws StudyStartAndEndTimeNotValidException 생성하려는 스터디 종료시간이 시작시간보다 빠른 경우
      */
+    @CacheEvict(cacheNames = "StudiesCount", allEntries = true)
     @Transactional
     public StudyApiDto.StudyResultDto createStudy(String email, StudyApiDto.StudyCreateDto studyCreateDto) {
         Account loginAccount = accountService.findAccountByEmail(email);
@@ -91,6 +129,10 @@ public class StudyService {
         Study study = studyCreateDto.toEntity();
         study.addAdmin(loginAccount);
         Study createdStudy = studyRepository.save(study);
+        applicationEventPublisher.publishEvent(
+                HomeStatisticsChangedEvent.studyCreated(createdStudy.getStudyState()));
+        applicationEventPublisher.publishEvent(StudyFacetChangedEvent.studySaved(createdStudy));
+        applicationEventPublisher.publishEvent(AccountHeaderChangedEvent.of(loginAccount.getEmail()));
 
         return StudyApiDto.StudyResultDto.of(createdStudy);
     }
@@ -106,7 +148,9 @@ public class StudyService {
      * @throws StudyStartDateInThePastException 스터디 식별자에 해당하는 스터디 시작일이 과거인 경우
      * @throws StudyStartAndEndDateNotValidException 스터디 식별자에 해당하는 스터디 종료일이 시작일보다 빠른 경우
      * @throws StudyStartAndEndTimeNotValidException 스터디 식별자에 해당하는 스터디 종료시간이 시작시간보다 빠른 경우
+     * @throws OptimisticLockingFailureException 재시도 후에도 다른 수정과 충돌한 경우
      */
+    @RetryOnConflict
     @Transactional
     public StudyApiDto.StudyResultDto updateStudy(String email, Long id, StudyApiDto.StudyUpdateDto studyUpdateDto) {
         Study study = getStudy(id);
@@ -129,7 +173,19 @@ public class StudyService {
             throw new StudyStartAndEndTimeNotValidException();
         }
 
+        int sizeDelta = studyUpdateDto.getSize() - study.getSize();
+        StudyState beforeStudyState = study.getStudyState();
         study.updateWith(studyUpdateDto);
+        if (beforeStudyState != study.getStudyState()) {
+            applicationEventPublisher.publishEvent(
+                    HomeStatisticsChangedEvent.studyStateChanged(beforeStudyState, study.getStudyState(), 1));
+        }
+        if (study.isSeatCounterEnabled() && sizeDelta != 0) {
+            runAfterCommit(() -> studySeatCounter.adjust(id, sizeDelta));
+        }
+        applicationEventPublisher.publishEvent(StudyFacetChangedEvent.studySaved(study));
+        evictStudyCache(id);
+
         return StudyApiDto.StudyResultDto.of(study);
     }
 
@@ -176,12 +232,17 @@ public class StudyService {
 
     /**
      * 주어진 사용자 식별자와 스터디 식별자에 해당하는 스터디를 삭제하고 반환한다.
+     * 참여자, 댓글, 좋아요, 즐겨찾기는 엔티티로 읽지 않고 연관 데이터 수와 관계없이 정해진 횟수의 벌크 쿼리로 정리한다.
+     * 조회한 뒤 다른 요청이 스터디를 수정했다면 삭제하지 않고 낙관적 잠금 충돌로 처리해 다시 시도하게 한다.
      *
      * @param email 사용자 식별자
      * @param id 스터디 식별자
      * @return 삭제된 스터디 식별자
      * @throws AccountNotManagerOfStudyException 스터디 식별자에 해당하는 스터디 이메일과 사용자 식별자가 다른 경우
+     * @throws ObjectOptimisticLockingFailureException 조회한 뒤 스터디가 수정되거나 삭제된 경우
      */
+    @RetryOnConflict
+    @CacheEvict(cacheNames = "StudiesCount", allEntries = true)
     @Transactional
     public StudyApiDto.StudyResultDto deleteStudy(String email, Long id) {
         Study study = getStudy(id);
@@ -190,14 +251,25 @@ public class StudyService {
             throw new AccountNotManagerOfStudyException();
         }
 
-        study.deleteAccounts();
-        studyRepository.delete(study);
+        List<String> memberEmails = accountService.findStudyMemberEmails(id);
+        if (studyRepository.deleteWithAssociations(id, study.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Study.class, id);
+        }
+        if (study.isSeatCounterEnabled()) {
+            runAfterCommit(() -> studySeatCounter.remove(id));
+        }
+        applicationEventPublisher.publishEvent(HomeStatisticsChangedEvent.studyDeleted(study.getStudyState()));
+        applicationEventPublisher.publishEvent(StudyFacetChangedEvent.studyDeleted(id));
+        applicationEventPublisher.publishEvent(AccountHeaderChangedEvent.of(memberEmails));
+        evictStudyCache(id);
 
         return StudyApiDto.StudyResultDto.of(study);
     }
 
     /**
      * 주어진 스터디 식별자로 스터디 지원을 생성하고 아이디를 반환한다.
+     * 행 잠금 없이 정원과 모집 상태를 조건으로 지원자 수를 증가시키는 UPDATE 쿼리로 자리를 확보한다.
+     * Redis 카운터를 사용하는 스터디는 카운터에서 자리를 확보하고 지원자 수는 나중에 한 번에 반영한다.
      *
      * @param userAccount 로그인한 사용자
      * @param id 스터디 식별자
@@ -214,24 +286,122 @@ public class StudyService {
             throw new StudyAlreadyExistedException();
         }
 
-        Study study = getStudyForUpdate(id);
-
-        if(!study.getStudyState().equals(StudyState.OPEN)) {
+        Study study = getStudy(id);
+        if (study.isNotOpened()) {
             throw new StudyNotInOpenStateException();
         }
 
-        study.addAccount(account);
+        if (study.isSeatCounterEnabled()) {
+            reserveSeat(study);
+        } else if (studyRepository.increaseApplyCount(id) == 0) {
+            throw new StudySizeFullException();
+        }
+
+        if (!accountService.joinStudy(account.getId(), study)) {
+            throw new StudyAlreadyExistedException();
+        }
+
+        account.addStudy(study);
+        evictStudyCache(id);
+        applicationEventPublisher.publishEvent(AccountHeaderChangedEvent.of(account.getEmail()));
 
         return StudyApiDto.StudyApplyResultDto.of(id);
     }
 
+    /**
+     * 주어진 스터디의 Redis 카운터에서 자리를 확보한다.
+     * 카운터가 없으면 데이터베이스의 지원자 수로 만든 뒤 다시 확보하고, 트랜잭션이 롤백되면 자리를 반납한다.
+     *
+     * @param study 스터디
+     * @throws StudySizeFullException 스터디 정원이 다 찬 경우
+     */
+    private void reserveSeat(Study study) {
+        Long id = study.getId();
+        StudySeatCounter.Reservation reservation = studySeatCounter.reserve(id);
+        if (reservation == StudySeatCounter.Reservation.NOT_INITIALIZED) {
+            studySeatCounter.initialize(id, study.getSize(), study.getApplyCount());
+            reservation = studySeatCounter.reserve(id);
+        }
+
+        if (reservation != StudySeatCounter.Reservation.RESERVED) {
+            throw new StudySizeFullException();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                        studySeatCounter.release(id);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 주어진 스터디의 Redis 카운터에 자리를 반납한다.
+     * 트랜잭션이 커밋된 뒤에 반납해 취소가 롤백되었는데 자리가 늘어나지 않게 한다.
+     *
+     * @param id 스터디 식별자
+     */
+    private void releaseSeat(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            studySeatCounter.release(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                studySeatCounter.release(id);
+            }
+        });
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디를 캐시에서 지운다.
+     *
+     * @param id 스터디 식별자
+     */
+    private void evictStudyCache(Long id) {
+        runAfterCommit(() -> studyCache.evict(id));
+    }
+
+    /**
+     * 모든 스터디를 캐시에서 지운다.
+     */
+    private void evictAllStudyCache() {
+        runAfterCommit(studyCache::evictAll);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 주어진 작업을 실행하고, 트랜잭션이 없으면 바로 실행한다.
+     * 커밋 전에 캐시를 지우면 다른 요청이 수정 전 스터디를 다시 캐시할 수 있어 커밋 뒤에 지운다.
+     *
+     * @param task 실행할 작업
+     */
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
     /**
      * 주어진 스터디 식별자로 스터디 신청을 취소하고 아이디를 반환한다.
      *
      * @param userAccount 로그인한 사용자
      * @param id 스터디 식별자
      * @return 취소한 스터디 식별자
-     * @throws StudyNotInOpenStateException 스터디 식별자에 해당하는 스터디가 모집중이 아닌 경우
+     * @throws StudyNotInOpenStateException 스터디 식별자에 해당하는 스터디가 모집중이 아니거나, 취소하는 사이 모집이 끝나 지원자 수를 줄이지 못한 경우
      * @throws StudyNotAppliedBefore 스터디 식별자에 해당하는 스터디 신청이 존재하지 않는 경우
      */
     @Transactional
@@ -243,27 +413,65 @@ public class StudyService {
             throw new StudyNotInOpenStateException();
         }
 
-        if(!study.getAccounts().contains(account)) {
+        if(!accountService.leaveStudy(account.getId(), study)) {
             throw new StudyNotAppliedBefore();
         }
 
-        study.cancelAccount(account);
+        if (study.isSeatCounterEnabled()) {
+            releaseSeat(id);
+        } else if (studyRepository.decreaseApplyCount(id) == 0) {
+            throw new StudyNotInOpenStateException();
+        }
+
+        account.cancelStudy();
+        evictStudyCache(id);
+        applicationEventPublisher.publishEvent(AccountHeaderChangedEvent.of(account.getEmail()));
 
         return StudyApiDto.StudyApplyResultDto.of(id);
     }
 
     /**
-     * 모든 스터디 리스트를 반환한다.
+     * 스터디 목록을 식별자 내림차순으로 커서 다음부터 페이지 크기만큼 반환한다.
+     * 엔티티 대신 스터디 컬럼만 조회해 연관관계를 초기화하지 않는다.
      *
-     * @return 스터디 리스트
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param size 페이지 크기
+     * @return 커서 기준 스터디 페이지 정보
      */
     @Transactional(readOnly = true)
-    public List<Study> getStudies() {
-        return studyRepository.findAll();
+    public StudyApiDto.StudyCursorResultDto getStudies(Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<StudyApiDto.StudyResultDto> studyResultDtos =
+                studyRepository.findStudyResultsWithCursor(afterId, pageSize + 1);
+
+        return StudyApiDto.StudyCursorResultDto.of(studyResultDtos, pageSize, afterId, null);
+    }
+
+    /**
+     * 스터디 목록 전체를 식별자 내림차순으로 하나씩 주어진 consumer 에 넘기고 넘긴 스터디 수를 반환한다.
+     * 앞으로만 읽는 커서로 STREAM_FETCH_SIZE 만큼씩 읽으므로 스터디 수와 관계없이 메모리 사용량이 일정하고,
+     * 첫 스터디는 전체를 읽기 전에 넘어간다.
+     *
+     * @param consumer 스터디를 받을 consumer
+     * @return 넘긴 스터디 수
+     */
+    @Transactional(readOnly = true)
+    public int streamStudies(Consumer<StudyApiDto.StudyResultDto> consumer) {
+        int count = 0;
+        try (Stream<StudyApiDto.StudyResultDto> studyResultDtos = studyRepository.streamStudyResults(STREAM_FETCH_SIZE)) {
+            Iterator<StudyApiDto.StudyResultDto> iterator = studyResultDtos.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+
+        return count;
     }
 
     /**
      * 주어진 스터디 식별자에 해당하는 스터디를 반환한다.
+     * 수정, 삭제, 수정 화면처럼 스터디 엔티티가 필요한 곳에서 사용하므로 캐시를 거치지 않고 데이터베이스에서 읽는다.
      *
      * @param id 스터디 식별자
      * @return 스터디 식별자에 해당하는 스터디
@@ -276,21 +484,52 @@ public class StudyService {
     }
 
     /**
-     * 주어진 스터디 식별자에 해당하는 스터디를 반환한다.
+     * 주어진 스터디 식별자에 해당하는 스터디 정보를 캐시에서 반환한다.
+     * 스터디 수정, 삭제, 지원, 지원 취소, 상태 변경 때 캐시에서 지워지며, 좋아요, 댓글, 즐겨찾기 수는 캐시 유지 시간만큼 늦게 반영될 수 있다.
+     * 반환된 정보는 다른 요청과 공유하므로 수정하지 않는다.
      *
      * @param id 스터디 식별자
-     * @return 스터디 식별자에 해당하는 스터디
+     * @return 스터디 식별자에 해당하는 스터디 정보
      * @throws StudyNotFoundException 스터디 식별자에 해당하는 스터디가 존재하지 않는 경우
      */
-    @Transactional(readOnly = true)
-    public Study getStudyForUpdate(Long id) {
-        return studyRepository.findByIdForUpdate(id)
-                .orElseThrow(() -> new StudyNotFoundException(id));
+    public StudyApiDto.StudyResultDto getStudyResult(Long id) {
+        return studyCache.get(id, studyId -> StudyApiDto.StudyResultDto.of(studyRepository.findById(studyId)
+                .orElseThrow(() -> new StudyNotFoundException(studyId))));
+    }
+
+    /**
+     * 낙관적 잠금 충돌로 다시 실행한 횟수와 충돌 비율을 반환한다.
+     *
+     * @return 낙관적 잠금 충돌 재시도 통계
+     */
+    public StudyApiDto.StudyConflictRetryStatsResultDto getConflictRetryStats() {
+        return StudyApiDto.StudyConflictRetryStatsResultDto.of(conflictRetryMetrics);
+    }
+
+    /**
+     * 스터디 캐시의 적중, 실패, 제거, 삭제 횟수를 반환한다.
+     *
+     * @return 스터디 캐시 통계
+     */
+    public StudyApiDto.StudyCacheStatsResultDto getStudyCacheStats() {
+        return studyCache.stats();
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디를 조회하지 않고 식별자만 가진 참조로 반환한다.
+     * 연관관계를 맺을 때만 사용하며, 스터디가 존재하는지는 확인하지 않는다.
+     *
+     * @param id 스터디 식별자
+     * @return 스터디 식별자에 해당하는 스터디 참조
+     */
+    public Study getStudyReference(Long id) {
+        return studyRepository.getOne(id);
     }
 
     /**
      * 주어진 스터디 식별자에 해당하는 스터디 정보를 반환한다.
-     * 로그인한 사용자의 스터디 즐겨찾기 여부, 댓글, 댓글 좋아요 여부를 포함한다.
+     * 스터디 정보는 캐시에서 읽고, 로그인한 사용자의 스터디 즐겨찾기 여부, 댓글, 댓글 좋아요 여부는 데이터베이스에서 읽어 포함한다.
+     * 좋아요 버퍼를 사용하는 경우 아직 반영되지 않은 로그인한 사용자의 댓글 좋아요 상태를 덮어쓴다.
      *
      * @param userAccount 로그인한 사용자
      * @param id 스터디 식별자
@@ -298,8 +537,12 @@ public class StudyService {
      */
     @Transactional(readOnly = true)
     public StudyApiDto.StudyDetailResultDto getDetailedStudy(UserAccount userAccount, Long id) {
-        Study study = getStudy(id);
-        return studySeriesFactory.getDetailedStudy(userAccount.getAccount(), study);
+        StudyApiDto.StudyDetailResultDto studyDetailResultDto =
+                studySeriesFactory.getDetailedStudy(userAccount.getAccount(), getStudyResult(id));
+        likeToggleBufferService.applyStudyCommentLiked(
+                userAccount.getAccount().getId(), studyDetailResultDto.getStudyComments());
+
+        return studyDetailResultDto;
     }
 
     /**
@@ -315,10 +558,37 @@ public class StudyService {
     public List<StudyApiDto.StudyResultDto> getStudiesBySearch(
             String keyword, StudyState studyState, Account account, Pageable pageable
     ) {
-        List<Study> studies = studyRepository.findByBookNameContaining(keyword, studyState, pageable);
-        long total = studyRepository.getStudiesCountByKeyword(keyword, studyState);
+        List<StudyApiDto.StudyResultDto> studyResultDtos =
+                studyRepository.findByBookNameContaining(keyword, studyState, account.getId(), pageable);
+        likeToggleBufferService.applyStudyLiked(account.getId(), studyResultDtos);
 
-        return studySeriesFactory.getStudyLists(account, studies);
+        return studyResultDtos;
+    }
+
+    /**
+     * 주어진 검색어와 스터디 상태에 해당하는 스터디를 커서 기준으로 반환한다.
+     * afterId가 주어지면 그보다 작은 식별자를, beforeId가 주어지면 그보다 큰 식별자를 조회하므로
+     * 페이지 깊이와 관계없이 같은 비용으로 조회한다.
+     *
+     * @param keyword 검색어
+     * @param studyState 스터디 상태
+     * @param account 로그인한 사용자
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param beforeId 이 식별자 이전 스터디까지 조회
+     * @param size 페이지 크기
+     * @return 커서 기준 스터디 페이지 정보
+     */
+    @Transactional(readOnly = true)
+    public StudyApiDto.StudyCursorResultDto getStudiesBySearchWithCursor(
+            String keyword, StudyState studyState, Account account, Long afterId, Long beforeId, int size
+    ) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<StudyApiDto.StudyResultDto> studyResultDtos = studyRepository.findByBookNameContainingWithCursor(
+                keyword, studyState, account.getId(), afterId, beforeId, pageSize + 1
+        );
+        likeToggleBufferService.applyStudyLiked(account.getId(), studyResultDtos);
+
+        return StudyApiDto.StudyCursorResultDto.of(studyResultDtos, pageSize, afterId, beforeId);
     }
 
     /**
@@ -334,41 +604,53 @@ public class StudyService {
     }
 
     /**
-     * 모집중인 스터디의 날짜가 마감되면 스터디 상태를 진행중으로 수정한다.
-     * 매일 밤 12시에 스케쥴러로 동작한다.
+     * 모집중인 스터디의 시작날짜가 되면 스터디 상태를 진행중으로 수정한다.
+     * 매일 밤 12시에 스케쥴러로 동작하며, 한 번의 UPDATE 쿼리로 대상 스터디를 모두 수정한다.
+     *
+     * @return 상태가 수정된 스터디 수
      */
     @Scheduled(cron = "0 0 0 * * *")
-    public void scheduleOpenToClose() {
-        List<Study> lists = getStudies().stream()
-                .filter(s -> s.getStudyState().equals(StudyState.OPEN))
-                .collect(Collectors.toList());
-
-        lists.forEach(study -> {
-            LocalDate studyEndDate = study.getStartDate();
-            LocalDate nowDate = LocalDate.now();
-            if (studyEndDate.isEqual(nowDate)) {
-                study.changeOpenToClose();
-            }
-        });
+    @CacheEvict(cacheNames = "StudiesCount", allEntries = true)
+    @Transactional
+    public int scheduleOpenToClose() {
+        long startTime = System.currentTimeMillis();
+        int updatedCount = studyRepository.updateStudyStateByStartDate(
+                StudyState.OPEN, StudyState.CLOSE, LocalDate.now()
+        );
+        applicationEventPublisher.publishEvent(
+                HomeStatisticsChangedEvent.studyStateChanged(StudyState.OPEN, StudyState.CLOSE, updatedCount));
+        if (updatedCount > 0) {
+            applicationEventPublisher.publishEvent(StudyFacetChangedEvent.studiesChanged());
+            evictAllStudyCache();
+        }
+
+        log.info("study state OPEN -> CLOSE: {} rows, {} ms", updatedCount, System.currentTimeMillis() - startTime);
+        return updatedCount;
     }
 
     /**
-     * 진행중인 스터디의 날짜가 마감되면 스터디 상태를 종료로 수정한다.
-     * 매일 밤 12시에 스케쥴러로 동작한다.
+     * 진행중인 스터디의 종료날짜가 지나면 스터디 상태를 종료로 수정한다.
+     * 매일 밤 12시에 스케쥴러로 동작하며, 한 번의 UPDATE 쿼리로 대상 스터디를 모두 수정한다.
+     *
+     * @return 상태가 수정된 스터디 수
      */
     @Scheduled(cron = "0 0 0 * * *")
-    public void scheduleCloseToEnd() {
-        List<Study> lists = getStudies().stream()
-                .filter(s -> s.getStudyState().equals(StudyState.CLOSE))
-                .collect(Collectors.toList());
-
-        lists.forEach(study -> {
-            LocalDate studyEndDate = study.getEndDate();
-            LocalDate nowDate = LocalDate.now();
-            if (nowDate.isAfter(studyEndDate)) {
-                study.changeCloseToEnd();
-            }
-        });
+    @CacheEvict(cacheNames = "StudiesCount", allEntries = true)
+    @Transactional
+    public int scheduleCloseToEnd() {
+        long startTime = System.currentTimeMillis();
+        int updatedCount = studyRepository.updateStudyStateByEndDate(
+                StudyState.CLOSE, StudyState.END, LocalDate.now()
+        );
+        applicationEventPublisher.publishEvent(
+                HomeStatisticsChangedEvent.studyStateChanged(StudyState.CLOSE, StudyState.END, updatedCount));
+        if (updatedCount > 0) {
+            applicationEventPublisher.publishEvent(StudyFacetChangedEvent.studiesChanged());
+            evictAllStudyCache();
+        }
+
+        log.info("study state CLOSE -> END: {} rows, {} ms", updatedCount, System.currentTimeMillis() - startTime);
+        return updatedCount;
     }
 
     /**
@@ -392,8 +674,83 @@ public class StudyService {
         return studyRepository.getAllStudiesCount();
     }
 
+    /**
+     * 주어진 검색어와 스터디 상태에 해당하는 스터디 갯수를 반환한다.
+     * 페이지마다 COUNT 쿼리가 실행되지 않도록 짧은 시간 동안 캐시한다.
+     *
+     * @param title 검색어
+     * @param studyState 스터디 상태
+     * @return 검색어와 스터디 상태에 해당하는 스터디 갯수
+     */
+    @Cacheable(cacheNames = "StudiesCount", key = "#studyState + ':' + #title")
     @Transactional(readOnly = true)
     public long getStudiesBySearchCount(String title, StudyState studyState) {
         return studyRepository.getStudiesCountByKeyword(title, studyState);
     }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 좋아요 수를 1 증가시킨다.
+     *
+     * @param id 스터디 식별자
+     * @throws StudyNotFoundException 스터디 식별자에 해당하는 스터디가 존재하지 않는 경우
+     */
+    @Transactional
+    public void increaseLikesCount(Long id) {
+        if (studyRepository.increaseLikesCount(id) == 0) {
+            throw new StudyNotFoundException(id);
+        }
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 좋아요 수를 1 감소시킨다.
+     *
+     * @param id 스터디 식별자
+     */
+    @Transactional
+    public void decreaseLikesCount(Long id) {
+        studyRepository.decreaseLikesCount(id);
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 댓글 수를 1 증가시킨다.
+     *
+     * @param id 스터디 식별자
+     */
+    @Transactional
+    public void increaseCommentsCount(Long id) {
+        studyRepository.increaseCommentsCount(id);
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 댓글 수를 1 감소시킨다.
+     *
+     * @param id 스터디 식별자
+     */
+    @Transactional
+    public void decreaseCommentsCount(Long id) {
+        studyRepository.decreaseCommentsCount(id);
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 즐겨찾기 수를 1 증가시킨다.
+     *
+     * @param id 스터디 식별자
+     * @throws StudyNotFoundException 스터디 식별자에 해당하는 스터디가 존재하지 않는 경우
+     */
+    @Transactional
+    public void increaseFavoritesCount(Long id) {
+        if (studyRepository.increaseFavoritesCount(id) == 0) {
+            throw new StudyNotFoundException(id);
+        }
+    }
+
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 즐겨찾기 수를 1 감소시킨다.
+     *
+     * @param id 스터디 식별자
+     */
+    @Transactional
+    public void decreaseFavoritesCount(Long id) {
+        studyRepository.decreaseFavoritesCount(id);
+    }
 }
@@ -1,36 +1,38 @@
 package com.example.bookclub.application.study.query;
 
-import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.favorite.FavoriteRepository;
 import com.example.bookclub.dto.StudyApiDto;
-import com.example.bookclub.infrastructure.study.JpaStudyRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class StudyQueryService {
-	private final JpaStudyRepository studyRepository;
+	private static final int MAX_FAVORITE_PAGE_SIZE = 100;
 
-	public StudyQueryService(JpaStudyRepository jpaStudyRepository) {
-		this.studyRepository = jpaStudyRepository;
+	private final FavoriteRepository favoriteRepository;
+
+	public StudyQueryService(FavoriteRepository favoriteRepository) {
+		this.favoriteRepository = favoriteRepository;
 	}
 
 	/**
-	 * 주어진 스터디 사용자에 해당하는 즐겨찾기 스터디 리스트 정보를 반환한다.
-	 * 즐겨찾기 한 스터디 식별자, 이름, 책 이름, 스터디 상태를 포함한다.
+	 * 주어진 사용자 식별자와 커서에 해당하는 즐겨찾기 스터디 페이지를 반환한다.
+	 * 즐겨찾기 한 스터디 식별자, 이름, 책 이름, 스터디 상태를 포함하며 최근에 즐겨찾기 한 스터디부터 조회한다.
+	 * 즐겨찾기와 스터디를 조인한 쿼리 한 번으로 조회하므로 사용자의 즐겨찾기 수와 관계없이 비용이 같다.
 	 *
-	 * @param account 로그인한 사용자
-	 * @return 스터디 사용자에 해당하는 즐겨찾기 스터디 정보
+	 * @param accountId 로그인한 사용자 식별자
+	 * @param cursor 이 즐겨찾기 식별자 다음부터 조회
+	 * @param size 페이지 크기
+	 * @return 커서 기준 즐겨찾기 스터디 페이지 정보
 	 */
 	@Transactional(readOnly = true)
-	public List<StudyApiDto.StudyFavoriteDto> getFavoriteStudies(Account account) {
-		List<Long> favoriteStudyIds = account.getFavorites()
-				.stream().filter(favorite -> favorite.getAccount().getId().equals(account.getId()))
-				.map(favorite -> favorite.getStudy().getId())
-				.collect(Collectors.toList());
+	public StudyApiDto.StudyFavoriteCursorResultDto getFavoriteStudies(Long accountId, Long cursor, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_FAVORITE_PAGE_SIZE);
+		List<StudyApiDto.StudyFavoriteDto> studyFavoriteDtos =
+				favoriteRepository.findFavoriteStudiesByAccountId(accountId, cursor, pageSize + 1);
 
-		return studyRepository.findByFavoriteStudies(favoriteStudyIds);
+		return StudyApiDto.StudyFavoriteCursorResultDto.of(studyFavoriteDtos, pageSize);
 	}
 }
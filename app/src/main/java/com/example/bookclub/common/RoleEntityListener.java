@@ -0,0 +1,21 @@
+package com.example.bookclub.common;
+
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.domain.account.role.Role;
+import com.example.bookclub.domain.account.role.RoleChangedEvent;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 권한이 생성, 수정, 삭제되면 권한 캐시를 지우도록 이벤트를 발행한다.
+ */
+public class RoleEntityListener {
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void postPersistAndPostUpdateAndPostRemove(Object o) {
+		BeanUtil.publishEvent(RoleChangedEvent.of((Role) o));
+	}
+}
@@ -0,0 +1,12 @@
+package com.example.bookclub.common.exception.account;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 암호화 대기열이 가득 차 요청을 처리할 수 없는 경우
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+    public PasswordHashingBusyException() {
+        super("Password hashing busy");
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.bookclub.common.exception.account.emailauthentication;
+
+/**
+ * 메일 큐에 메일을 넣지 못한 경우
+ */
+public class MailQueueUnavailableException extends RuntimeException {
+    public MailQueueUnavailableException(String email, Throwable cause) {
+        super("Mail queue unavailable: " + email, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.bookclub.common.exception.study.studylike;
+
+/**
+ * 반영하지 못한 좋아요 상태가 가득 차 좋아요 요청을 받을 수 없는 경우
+ */
+public class LikeToggleBufferFullException extends RuntimeException {
+	public LikeToggleBufferFullException() {
+		super("Like toggle buffer is full");
+	}
+}
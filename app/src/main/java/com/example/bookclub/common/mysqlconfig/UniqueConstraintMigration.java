@@ -0,0 +1,132 @@
+package com.example.bookclub.common.mysqlconfig;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티에 새로 추가한 유니크 제약조건을 기존 테이블에 적용한다.
+ * ddl-auto: update 는 중복 행이 있는 테이블에 유니크 제약조건을 추가하지 못하므로,
+ * 엔티티 매니저 팩토리가 만들어지기 전에 같은 키의 중복 행을 가장 먼저 저장된 행만 남기고 지운 뒤 제약조건을 추가한다.
+ * 테이블이 아직 없으면 Hibernate 가 제약조건과 함께 만들므로 건너뛰고, 같은 컬럼의 유니크 인덱스가 이미 있으면 아무것도 하지 않는다.
+ * 지운 행 때문에 어긋난 좋아요 수, 즐겨찾기 수는 수 동기화 작업이 바로잡는다.
+ */
+@Slf4j
+public class UniqueConstraintMigration implements InitializingBean {
+	private static final int DELETE_BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final List<UniqueConstraint> constraints;
+
+	public UniqueConstraintMigration(DataSource dataSource, List<UniqueConstraint> constraints) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.constraints = constraints;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws MetaDataAccessException {
+		for (UniqueConstraint constraint : constraints) {
+			migrate(constraint);
+		}
+	}
+
+	/**
+	 * 주어진 유니크 제약조건의 중복 행을 지우고 제약조건을 추가한다.
+	 *
+	 * @param constraint 적용할 유니크 제약조건
+	 * @return 지운 중복 행 수
+	 * @throws MetaDataAccessException 테이블, 인덱스 정보를 조회하지 못한 경우
+	 */
+	public int migrate(UniqueConstraint constraint) throws MetaDataAccessException {
+		String table = constraint.getTable();
+		Map<String, Set<String>> uniqueIndexes = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+				metaData -> findUniqueIndexes(metaData, table));
+		if (uniqueIndexes == null) {
+			log.info("Unique constraint migration is skipped because table does not exist. table={}", table);
+			return 0;
+		}
+		if (uniqueIndexes.containsValue(constraint.getColumnSet())) {
+			return 0;
+		}
+
+		List<Long> duplicatedIds = jdbcTemplate.queryForList(duplicatedIdsQuery(constraint), Long.class);
+		for (int from = 0; from < duplicatedIds.size(); from += DELETE_BATCH_SIZE) {
+			List<Long> batch = duplicatedIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, duplicatedIds.size()));
+			jdbcTemplate.update("DELETE FROM " + table + " WHERE " + constraint.getIdColumn() + " IN ("
+					+ batch.stream().map(String::valueOf).collect(Collectors.joining(",")) + ")");
+		}
+
+		jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + constraint.getName()
+				+ " UNIQUE (" + String.join(", ", constraint.getColumns()) + ")");
+		log.info("Unique constraint is added. table={}, constraint={}, deletedDuplicates={}",
+				table, constraint.getName(), duplicatedIds.size());
+		return duplicatedIds.size();
+	}
+
+	private Map<String, Set<String>> findUniqueIndexes(DatabaseMetaData metaData, String table)
+			throws SQLException {
+		String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+		try (ResultSet tables = metaData.getTables(null, null, tableName, new String[]{"TABLE"})) {
+			if (!tables.next()) {
+				return null;
+			}
+		}
+
+		Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+		try (ResultSet indexes = metaData.getIndexInfo(null, null, tableName, true, false)) {
+			while (indexes.next()) {
+				String indexName = indexes.getString("INDEX_NAME");
+				String columnName = indexes.getString("COLUMN_NAME");
+				if (indexName != null && columnName != null) {
+					uniqueIndexes.computeIfAbsent(indexName, name -> new HashSet<>()).add(columnName.toLowerCase());
+				}
+			}
+		}
+		return uniqueIndexes;
+	}
+
+	private String duplicatedIdsQuery(UniqueConstraint constraint) {
+		String sameKey = constraint.getColumns().stream()
+				.map(column -> "kept." + column + " = duplicated." + column)
+				.collect(Collectors.joining(" AND "));
+		return "SELECT duplicated." + constraint.getIdColumn() + " FROM " + constraint.getTable() + " duplicated"
+				+ " WHERE EXISTS (SELECT 1 FROM " + constraint.getTable() + " kept WHERE " + sameKey
+				+ " AND kept." + constraint.getIdColumn() + " < duplicated." + constraint.getIdColumn() + ")";
+	}
+
+	/**
+	 * 기존 테이블에 적용할 유니크 제약조건
+	 */
+	@Getter
+	public static class UniqueConstraint {
+		private final String name;
+		private final String table;
+		private final String idColumn;
+		private final List<String> columns;
+
+		public UniqueConstraint(String name, String table, String idColumn, String... columns) {
+			this.name = name;
+			this.table = table;
+			this.idColumn = idColumn;
+			this.columns = List.of(columns);
+		}
+
+		private Set<String> getColumnSet() {
+			return columns.stream().map(String::toLowerCase).collect(Collectors.toSet());
+		}
+	}
+}
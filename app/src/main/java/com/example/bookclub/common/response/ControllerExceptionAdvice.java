@@ -8,8 +8,10 @@ import com.example.bookclub.common.exception.account.AccountNotFoundException;
 import com.example.bookclub.common.exception.account.AccountNotManagerOfStudyException;
 import com.example.bookclub.common.exception.account.AccountPasswordBadRequestException;
 import com.example.bookclub.common.exception.account.AuthenticationBadRequestException;
+import com.example.bookclub.common.exception.account.PasswordHashingBusyException;
 import com.example.bookclub.common.exception.account.emailauthentication.EmailBadRequestException;
 import com.example.bookclub.common.exception.account.emailauthentication.EmailNotAuthenticatedException;
+import com.example.bookclub.common.exception.account.emailauthentication.MailQueueUnavailableException;
 import com.example.bookclub.common.exception.account.emailauthentication.MessageCreateBadRequestException;
 import com.example.bookclub.common.exception.fileupload.FileUploadBadRequestException;
 import com.example.bookclub.common.exception.order.OrderNotFoundException;
@@ -31,6 +33,7 @@ import com.example.bookclub.common.exception.study.studycomment.StudyCommentDele
 import com.example.bookclub.common.exception.study.studycomment.StudyCommentNotFoundException;
 import com.example.bookclub.common.exception.study.studycommentlike.StudyCommentLikeAlreadyExistedException;
 import com.example.bookclub.common.exception.study.studycommentlike.StudyCommentLikeNotFoundException;
+import com.example.bookclub.common.exception.study.studylike.LikeToggleBufferFullException;
 import com.example.bookclub.common.exception.study.studylike.StudyLikeAlreadyExistedException;
 import com.example.bookclub.common.exception.study.studylike.StudyLikeNotExistedException;
 import com.example.bookclub.common.interceptor.CommonHttpRequestInterceptor;
@@ -38,6 +41,7 @@ import io.sentry.Sentry;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -371,4 +375,40 @@ public class ControllerExceptionAdvice {
                 eventId, NestedExceptionUtils.getMostSpecificCause(e), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
         return CommonResponse.fail(e.getMessage(), HttpStatus.NOT_FOUND.value());
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public CommonResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        String eventId = MDC.get(CommonHttpRequestInterceptor.HEADER_REQUEST_UUID_KEY);
+        log.warn("[BaseException] eventId = {}, cause = {}, errorMsg = {}",
+                eventId, NestedExceptionUtils.getMostSpecificCause(e), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        return CommonResponse.fail(e.getMessage(), HttpStatus.CONFLICT.value());
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public CommonResponse handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        String eventId = MDC.get(CommonHttpRequestInterceptor.HEADER_REQUEST_UUID_KEY);
+        log.warn("[BaseException] eventId = {}, cause = {}, errorMsg = {}",
+                eventId, NestedExceptionUtils.getMostSpecificCause(e), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        return CommonResponse.fail(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @ExceptionHandler(MailQueueUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public CommonResponse handleMailQueueUnavailableException(MailQueueUnavailableException e) {
+        String eventId = MDC.get(CommonHttpRequestInterceptor.HEADER_REQUEST_UUID_KEY);
+        log.warn("[BaseException] eventId = {}, cause = {}, errorMsg = {}",
+                eventId, NestedExceptionUtils.getMostSpecificCause(e), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        return CommonResponse.fail(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @ExceptionHandler(LikeToggleBufferFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public CommonResponse handleLikeToggleBufferFullException(LikeToggleBufferFullException e) {
+        String eventId = MDC.get(CommonHttpRequestInterceptor.HEADER_REQUEST_UUID_KEY);
+        log.warn("[BaseException] eventId = {}, cause = {}, errorMsg = {}",
+                eventId, NestedExceptionUtils.getMostSpecificCause(e), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        return CommonResponse.fail(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
 }
@@ -0,0 +1,98 @@
+package com.example.bookclub.common.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.StaleStateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryOnConflict} 가 붙은 메서드가 낙관적 잠금 충돌로 실패하면 최대 횟수까지 다시 실행한다.
+ * 트랜잭션 어드바이스보다 바깥에서 동작해 실행마다 새 트랜잭션으로 최신 데이터를 다시 읽으며,
+ * 대기 시간은 실행 횟수마다 두 배로 늘어나는 상한 안에서 무작위로 정해 충돌한 요청끼리 다시 겹치지 않게 한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+    private final ConflictRetryMetrics conflictRetryMetrics;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public ConflictRetryAspect(ConflictRetryMetrics conflictRetryMetrics,
+                               @Value("${retry.conflict.max-attempts:3}") int maxAttempts,
+                               @Value("${retry.conflict.initial-backoff-millis:20}") long initialBackoffMillis,
+                               @Value("${retry.conflict.max-backoff-millis:200}") long maxBackoffMillis) {
+        this.conflictRetryMetrics = conflictRetryMetrics;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Around("@annotation(com.example.bookclub.common.retry.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        conflictRetryMetrics.recordInvocation();
+        for (int attempt = 1; ; attempt++) {
+            conflictRetryMetrics.recordAttempt();
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+
+                conflictRetryMetrics.recordConflict();
+                if (attempt >= maxAttempts) {
+                    conflictRetryMetrics.recordExhausted();
+                    log.warn("conflict retry exhausted - {}, attempts: {}",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+
+                conflictRetryMetrics.recordRetry();
+                log.debug("conflict retry - {}, attempt: {}", joinPoint.getSignature().toShortString(), attempt);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, RuntimeException conflict) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+        if (ceiling <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private static boolean isConflict(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException
+                    || cause instanceof OptimisticLockException
+                    || cause instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.bookclub.common.retry;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 낙관적 잠금 충돌 재시도의 호출, 실행, 충돌, 재시도, 포기 횟수를 센다.
+ */
+@Component
+public class ConflictRetryMetrics {
+    private final AtomicLong invocationCount = new AtomicLong();
+    private final AtomicLong attemptCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong exhaustedCount = new AtomicLong();
+
+    void recordInvocation() {
+        invocationCount.incrementAndGet();
+    }
+
+    void recordAttempt() {
+        attemptCount.incrementAndGet();
+    }
+
+    void recordConflict() {
+        conflictCount.incrementAndGet();
+    }
+
+    void recordRetry() {
+        retryCount.incrementAndGet();
+    }
+
+    void recordExhausted() {
+        exhaustedCount.incrementAndGet();
+    }
+
+    public long getInvocationCount() {
+        return invocationCount.get();
+    }
+
+    public long getAttemptCount() {
+        return attemptCount.get();
+    }
+
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getExhaustedCount() {
+        return exhaustedCount.get();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.bookclub.common.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 충돌로 트랜잭션이 실패하면 간격을 두고 메서드를 새 트랜잭션으로 다시 실행한다.
+ * 이미 시작된 트랜잭션 안에서 호출되면 다시 실행하지 않고 충돌을 바깥 트랜잭션에 넘긴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
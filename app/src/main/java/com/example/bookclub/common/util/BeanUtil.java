@@ -6,7 +6,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
 
 /**
- * 직접 빈을 조회한다.
+ * 직접 빈을 조회하고 이벤트를 발행한다.
  */
 @Component
 public class BeanUtil implements ApplicationContextAware {
@@ -20,4 +20,8 @@ public class BeanUtil implements ApplicationContextAware {
 	public static <T> T getBean(Class<T> clazz) {
 		return applicationContext.getBean(clazz);
 	}
+
+	public static void publishEvent(Object event) {
+		applicationContext.publishEvent(event);
+	}
 }
@@ -12,6 +12,8 @@ import java.io.BufferedReader;
  */
 @Log4j2
 public class JsonUtil {
+	private static final JsonUtil INSTANCE = new JsonUtil();
+
 	private final ObjectMapper objectMapper;
 
 	private JsonUtil() {
@@ -19,7 +21,7 @@ public class JsonUtil {
 	}
 
 	public static JsonUtil getInstance() {
-		return new JsonUtil();
+		return INSTANCE;
 	}
 
 	private static ObjectMapper getMapper() {
@@ -1,5 +1,8 @@
 package com.example.bookclub.config;
 
+import com.example.bookclub.security.BCryptCostCalibrator;
+import com.example.bookclub.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -11,9 +14,21 @@ import org.springframework.web.multipart.commons.CommonsMultipartResolver;
  */
 @Configuration
 public class AppConfig {
+    /**
+     * 전용 스레드 풀에서 BCrypt 로 암호화하는 비밀번호 검사기를 등록한다.
+     * 비용 값을 정하지 않으면 기동할 때 목표 암호화 시간에 맞춰 비용 값을 고르고,
+     * 스레드 수를 정하지 않으면 CPU 코어 수만큼 만든다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${account.password.cost:0}") int cost,
+                                           @Value("${account.password.target-millis:250}") long targetMillis,
+                                           @Value("${account.password.min-cost:10}") int minCost,
+                                           @Value("${account.password.max-cost:14}") int maxCost,
+                                           @Value("${account.password.pool-size:0}") int poolSize,
+                                           @Value("${account.password.queue-capacity:64}") int queueCapacity) {
+        int strength = cost > 0 ? cost : BCryptCostCalibrator.calibrate(targetMillis, minCost, maxCost);
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity);
     }
 
     @Bean(name = "multipartResolver")
@@ -0,0 +1,69 @@
+package com.example.bookclub.config;
+
+import com.example.bookclub.domain.mail.MailPriority;
+import com.example.bookclub.infrastructure.mail.RabbitMailQueue;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import java.util.Map;
+
+/**
+ * 메일 큐, 데드 레터 큐와 메일 큐 소비자를 등록한다.
+ */
+@Configuration
+public class MailQueueConfig {
+    private static final String DEFAULT_EXCHANGE = "";
+
+    @Bean
+    public Queue mailQueue() {
+        return QueueBuilder.durable(RabbitMailQueue.MAIL_QUEUE)
+                .maxPriority(MailPriority.MAX_PRIORITY)
+                .deadLetterExchange(DEFAULT_EXCHANGE)
+                .deadLetterRoutingKey(RabbitMailQueue.MAIL_DEAD_LETTER_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public Queue mailDeadLetterQueue() {
+        return QueueBuilder.durable(RabbitMailQueue.MAIL_DEAD_LETTER_QUEUE).build();
+    }
+
+    /**
+     * 메일 큐 소비자를 등록한다.
+     * 우선순위가 지켜지도록 한 번에 하나씩만 가져오고, 실패하면 지수 백오프로 다시 시도한다.
+     * 다시 보내도 소용없는 메일은 다시 시도하지 않는다.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory mailListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            RabbitMailQueue rabbitMailQueue,
+            @Value("${mail.queue.concurrency:1}") int concurrency,
+            @Value("${mail.queue.max-attempts:5}") int maxAttempts,
+            @Value("${mail.queue.initial-interval-millis:1000}") long initialIntervalMillis,
+            @Value("${mail.queue.multiplier:2.0}") double multiplier,
+            @Value("${mail.queue.max-interval-millis:30000}") long maxIntervalMillis) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(concurrency);
+        factory.setPrefetchCount(1);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .retryPolicy(new SimpleRetryPolicy(maxAttempts,
+                        Map.of(AmqpRejectAndDontRequeueException.class, false), true, true))
+                .backOffOptions(initialIntervalMillis, multiplier, maxIntervalMillis)
+                .recoverer(rabbitMailQueue)
+                .build());
+        return factory;
+    }
+}
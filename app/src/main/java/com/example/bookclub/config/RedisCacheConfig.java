@@ -8,6 +8,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
@@ -41,6 +42,9 @@ public class RedisCacheConfig {
 
 		Map<String, RedisCacheConfiguration> redisCacheConfigurationMap = new HashMap<>();
 		redisCacheConfigurationMap.put("Interviews", redisCacheConfiguration.entryTtl(Duration.ofMinutes(5)));
+		redisCacheConfigurationMap.put("StudiesCount", redisCacheConfiguration.entryTtl(Duration.ofMinutes(1)));
+		redisCacheConfigurationMap.put("Study", redisCacheConfiguration.entryTtl(Duration.ofMinutes(1)));
+		redisCacheConfigurationMap.put("AccountHeader", redisCacheConfiguration.entryTtl(Duration.ofSeconds(30)));
 
 		return RedisCacheManager.RedisCacheManagerBuilder
 				.fromConnectionFactory(redisCacheConnectionFactory)
@@ -48,4 +52,15 @@ public class RedisCacheConfig {
 				.withInitialCacheConfigurations(redisCacheConfigurationMap)
 				.build();
 	}
+
+	/**
+	 * 애플리케이션 전체가 공유하는 Redis pub/sub 리스너 컨테이너를 등록합니다.
+	 * 스터디 캐시 무효화, 계정 존재 필터 갱신 등 채널을 구독하는 빈은 모두 이 컨테이너에 리스너를 추가합니다.
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		return container;
+	}
 }
@@ -3,7 +3,9 @@ package com.example.bookclub.config;
 import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.boot.web.servlet.ServletListenerRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -33,16 +35,22 @@ public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
     private final AccountAuthenticationService accountAuthenticationService;
     private final CustomEntryPoint customEntryPoint;
     private final CustomDeniedHandler customDeniedHandler;
+    private final CustomLoginFailureHandler customLoginFailureHandler;
     private final PersistTokenRepository persistTokenRepository;
+    private final int rememberMeTokenValiditySeconds;
 
     public SecurityJavaConfig(AccountAuthenticationService accountAuthenticationService,
                               CustomEntryPoint customEntryPoint,
                               CustomDeniedHandler customDeniedHandler,
-                              PersistTokenRepository persistTokenRepository) {
+                              CustomLoginFailureHandler customLoginFailureHandler,
+                              PersistTokenRepository persistTokenRepository,
+                              @Value("${account.remember-me.token-validity-seconds:2678400}") int rememberMeTokenValiditySeconds) {
         this.accountAuthenticationService = accountAuthenticationService;
         this.customEntryPoint = customEntryPoint;
         this.customDeniedHandler = customDeniedHandler;
+        this.customLoginFailureHandler = customLoginFailureHandler;
         this.persistTokenRepository = persistTokenRepository;
+        this.rememberMeTokenValiditySeconds = rememberMeTokenValiditySeconds;
     }
 
     @Bean
@@ -94,12 +102,12 @@ public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
             @Override
             protected Authentication createSuccessfulAuthentication(HttpServletRequest request, UserDetails user) {
                 return new UsernamePasswordAuthenticationToken(
-                        user.getUsername(), user.getPassword(), user.getAuthorities()
+                        user, user.getPassword(), user.getAuthorities()
                 );
             }
         };
 
-        services.setTokenValiditySeconds(60 * 60 * 24 * 31);
+        services.setTokenValiditySeconds(rememberMeTokenValiditySeconds);
         return services;
     }
 
@@ -130,7 +138,7 @@ public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
                                 .loginProcessingUrl("/loginprocess")
                                 .permitAll()
                                 .defaultSuccessUrl("/", false)
-                                .failureUrl("/login-error")
+                                .failureHandler(customLoginFailureHandler)
                 )
                 .logout(logout ->
                         logout
@@ -0,0 +1,38 @@
+package com.example.bookclub.config;
+
+import com.example.bookclub.common.mysqlconfig.UniqueConstraintMigration;
+import com.example.bookclub.common.mysqlconfig.UniqueConstraintMigration.UniqueConstraint;
+import org.springframework.boot.autoconfigure.data.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 좋아요, 댓글 좋아요, 즐겨찾기 테이블의 중복 행을 지우고 유니크 제약조건을 추가하는 작업을 등록합니다.
+ * 엔티티 매니저 팩토리가 이 작업이 끝난 뒤에 만들어지도록 합니다.
+ */
+@Configuration
+public class UniqueConstraintMigrationConfig {
+	private static final String MIGRATION_BEAN_NAME = "uniqueConstraintMigration";
+
+	@Bean(name = MIGRATION_BEAN_NAME)
+	public UniqueConstraintMigration uniqueConstraintMigration(DataSource dataSource) {
+		return new UniqueConstraintMigration(dataSource, List.of(
+				new UniqueConstraint("UK_STUDY_LIKE_STUDY_ACCOUNT",
+						"study_like", "studylike_id", "study_id", "account_id"),
+				new UniqueConstraint("UK_STUDY_COMMENT_LIKE_COMMENT_ACCOUNT",
+						"study_comment_like", "studycommentlike_id", "comment_id", "account_id"),
+				new UniqueConstraint("UK_FAVORITE_STUDY_ACCOUNT",
+						"favorite", "id", "study_id", "account_id")
+		));
+	}
+
+	@Configuration
+	static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+		EntityManagerFactoryDependsOnMigration() {
+			super(MIGRATION_BEAN_NAME);
+		}
+	}
+}
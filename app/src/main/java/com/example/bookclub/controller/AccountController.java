@@ -3,6 +3,7 @@ package com.example.bookclub.controller;
 import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.study.query.StudyQueryService;
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.security.CurrentAccount;
 import com.example.bookclub.security.UserAccount;
@@ -14,8 +15,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * 사용자의 가입, 수정, 즐겨찾기 등 페이지를 요청한다
@@ -23,6 +23,8 @@ import java.util.List;
 @Controller
 @RequestMapping("/users")
 public class AccountController {
+    private static final int FAVORITE_PAGE_SIZE = 20;
+
     private final StudyQueryService studyQueryService;
     private final AccountAuthenticationService accountAuthenticationService;
 
@@ -49,10 +51,11 @@ public class AccountController {
     }
 
     /**
-     * 주어진 로그인한 사용자, 사용자 식별자에 해당하는 스터디 즐겨찾기 페이지로 이동한다
+     * 주어진 로그인한 사용자, 사용자 식별자, 커서에 해당하는 스터디 즐겨찾기 페이지로 이동한다
      *
      * @param userAccount 로그인한 사용자
      * @param id 사용자 식별자
+     * @param cursor 이 즐겨찾기 식별자 다음부터 조회
      * @param model 모델
      * @return 스터디 즐겨찾기 페이지
      * @throws AccessDeniedException 경로에 있는 사용자 식별자가 로그인한 사용자의 식별자가 아닌 경우
@@ -60,13 +63,17 @@ public class AccountController {
     @PreAuthorize("#userAccount.account.id == #id")
     @GetMapping("/{id}/favorite")
     public String accountFavorite(@AuthenticationPrincipal UserAccount userAccount,
-                                @PathVariable Long id, Model model) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+                                @PathVariable Long id,
+                                @RequestParam(required = false) Long cursor,
+                                Model model) {
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
-        List<StudyApiDto.StudyFavoriteDto> studies = studyQueryService.getFavoriteStudies(savedAccount);
+        StudyApiDto.StudyFavoriteCursorResultDto studyFavoriteCursorResultDto =
+                studyQueryService.getFavoriteStudies(accountHeader.getId(), cursor, FAVORITE_PAGE_SIZE);
 
-        model.addAttribute("StudyFavoriteDto", studies);
+        model.addAttribute("StudyFavoriteDto", studyFavoriteCursorResultDto.getStudyFavorites());
+        model.addAttribute("favoriteCursor", studyFavoriteCursorResultDto);
 
         return "users/users-favorite";
     }
@@ -85,7 +92,8 @@ public class AccountController {
     public String accountUpdate(@AuthenticationPrincipal UserAccount userAccount,
                               @PathVariable Long id, Model model) {
         Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        checkTopMenu(AccountHeader.of(savedAccount), model);
+        model.addAttribute("account", savedAccount);
 
         return "users/users-update";
     }
@@ -104,7 +112,8 @@ public class AccountController {
     public String usersPasswordUpdate(@AuthenticationPrincipal UserAccount userAccount,
                                       @PathVariable Long id, Model model) {
         Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        checkTopMenu(AccountHeader.of(savedAccount), model);
+        model.addAttribute("account", savedAccount);
 
         return "users/users-update-password";
     }
@@ -112,16 +121,16 @@ public class AccountController {
     /**
      * 로그인한 사용자의 스터디 개설, 참여 여부를 확인한다
      *
-     * @param account 로그인한 사용자
+     * @param accountHeader 로그인한 사용자 상단 메뉴 정보
      * @param model 모델
      */
-    private void checkTopMenu(Account account, Model model) {
-        if (account.isMangerOf(account.getStudy()))
-            model.addAttribute("studyManager", account.getStudy());
+    private void checkTopMenu(AccountHeader accountHeader, Model model) {
+        if (accountHeader.isManagerOfStudy())
+            model.addAttribute("studyManager", accountHeader.getStudy());
 
-        if (account.isApplierOf(account.getStudy()))
-            model.addAttribute("studyApply", account.getStudy());
+        if (accountHeader.isApplierOfStudy())
+            model.addAttribute("studyApply", accountHeader.getStudy());
 
-        model.addAttribute("account", account);
+        model.addAttribute("account", accountHeader);
     }
 }
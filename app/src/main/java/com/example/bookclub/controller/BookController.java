@@ -2,7 +2,7 @@ package com.example.bookclub.controller;
 
 import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.interview.BookService;
-import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
 import com.example.bookclub.domain.study.BookType;
 import com.example.bookclub.security.UserAccount;
 import org.json.simple.JSONArray;
@@ -37,8 +37,8 @@ public class BookController {
      */
     @GetMapping("/bestseller")
     public String booksBestSellerLists(@AuthenticationPrincipal UserAccount userAccount, Model model) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         return getBookList(model, BookType.BESTSELLER, "");
     }
@@ -52,8 +52,8 @@ public class BookController {
      */
     @GetMapping("/recommend")
     public String booksRecommendLists(@AuthenticationPrincipal UserAccount userAccount, Model model) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         return getBookList(model, BookType.RECOMMEND, "");
     }
@@ -67,8 +67,8 @@ public class BookController {
      */
     @GetMapping("/new")
     public String booksNewLists(@AuthenticationPrincipal UserAccount userAccount, Model model) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         return getBookList(model, BookType.NEW, "");
     }
@@ -83,8 +83,8 @@ public class BookController {
     @GetMapping("/search")
     public String booksSearchLists(@AuthenticationPrincipal UserAccount userAccount,
                                    Model model, @RequestParam String search) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
         
         return getBookList(model, BookType.SEARCH, search);
     }
@@ -107,16 +107,16 @@ public class BookController {
     /**
      * 로그인한 사용자의 스터디 개설, 참여 여부를 확인한다
      *
-     * @param account 로그인한 사용자
+     * @param accountHeader 로그인한 사용자 상단 메뉴 정보
      * @param model 모델
      */
-    private void checkTopMenu(Account account, Model model) {
-        if (account.isMangerOf(account.getStudy()))
-            model.addAttribute("studyManager", account.getStudy());
+    private void checkTopMenu(AccountHeader accountHeader, Model model) {
+        if (accountHeader.isManagerOfStudy())
+            model.addAttribute("studyManager", accountHeader.getStudy());
 
-        if (account.isApplierOf(account.getStudy()))
-            model.addAttribute("studyApply", account.getStudy());
+        if (accountHeader.isApplierOfStudy())
+            model.addAttribute("studyApply", accountHeader.getStudy());
 
-        model.addAttribute("account", account);
+        model.addAttribute("account", accountHeader);
     }
 }
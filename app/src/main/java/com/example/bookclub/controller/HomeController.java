@@ -1,29 +1,30 @@
 package com.example.bookclub.controller;
 
 import com.example.bookclub.application.account.AccountAuthenticationService;
-import com.example.bookclub.application.account.AccountService;
-import com.example.bookclub.application.study.StudyService;
+import com.example.bookclub.application.statistics.HomeStatisticsService;
 import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.account.AccountHeader;
+import com.example.bookclub.domain.statistics.HomeStatistics;
 import com.example.bookclub.security.CurrentAccount;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import java.time.format.DateTimeFormatter;
+
 /**
  * 루트 페이지를 요청한다
  */
 @Controller
 public class HomeController {
-    private final AccountService accountService;
-    private final StudyService studyService;
+    private static final DateTimeFormatter STATISTICS_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final HomeStatisticsService homeStatisticsService;
     private final AccountAuthenticationService accountAuthenticationService;
 
-    public HomeController(AccountService accountService,
-                          StudyService studyService,
+    public HomeController(HomeStatisticsService homeStatisticsService,
                           AccountAuthenticationService accountAuthenticationService) {
-        this.accountService = accountService;
-        this.studyService = studyService;
+        this.homeStatisticsService = homeStatisticsService;
         this.accountAuthenticationService = accountAuthenticationService;
     }
 
@@ -37,21 +38,18 @@ public class HomeController {
     @GetMapping("/")
     public String home(@CurrentAccount Account account, Model model) {
         if(account != null) {
-            Account savedAccount = accountAuthenticationService.getAccountByEmail(account.getEmail());
-            checkTopMenu(savedAccount, model);
+            AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(account.getEmail());
+            checkTopMenu(accountHeader, model);
         }
 
-        long allAccountsCount = accountService.getAllAccountsCount();
-        model.addAttribute("allAccountsCount", allAccountsCount);
-
-        long allStudiesCount = studyService.getAllStudiesCount();
-        model.addAttribute("allStudiesCount", allStudiesCount);
-
-        long allCloseStudiesCount = studyService.getStudiesCount(StudyState.CLOSE);
-        model.addAttribute("allCloseStudiesCount", allCloseStudiesCount);
-
-        long allEndStudiesCount = studyService.getStudiesCount(StudyState.END);
-        model.addAttribute("allEndStudiesCount", allEndStudiesCount);
+        HomeStatistics homeStatistics = homeStatisticsService.getHomeStatistics();
+        model.addAttribute("allAccountsCount", homeStatistics.getAllAccountsCount());
+        model.addAttribute("allStudiesCount", homeStatistics.getAllStudiesCount());
+        model.addAttribute("allCloseStudiesCount", homeStatistics.getAllCloseStudiesCount());
+        model.addAttribute("allEndStudiesCount", homeStatistics.getAllEndStudiesCount());
+        if (homeStatistics.getUpdatedAt() != null) {
+            model.addAttribute("statisticsUpdatedAt", homeStatistics.getUpdatedAt().format(STATISTICS_TIME_FORMATTER));
+        }
 
         return "index";
     }
@@ -59,16 +57,16 @@ public class HomeController {
     /**
      * 로그인한 사용자의 스터디 개설, 참여 여부를 확인한다
      *
-     * @param account 로그인한 사용자
+     * @param accountHeader 로그인한 사용자 상단 메뉴 정보
      * @param model 모델
      */
-    private void checkTopMenu(Account account, Model model) {
-        if (account.isMangerOf(account.getStudy()))
-            model.addAttribute("studyManager", account.getStudy());
+    private void checkTopMenu(AccountHeader accountHeader, Model model) {
+        if (accountHeader.isManagerOfStudy())
+            model.addAttribute("studyManager", accountHeader.getStudy());
 
-        if (account.isApplierOf(account.getStudy()))
-            model.addAttribute("studyApply", account.getStudy());
+        if (accountHeader.isApplierOfStudy())
+            model.addAttribute("studyApply", accountHeader.getStudy());
 
-        model.addAttribute("account", account);
+        model.addAttribute("account", accountHeader);
     }
 }
@@ -2,7 +2,7 @@ package com.example.bookclub.controller;
 
 import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.interview.InterviewService;
-import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
 import com.example.bookclub.dto.InterviewDto;
 import com.example.bookclub.dto.PageResultDto;
 import com.example.bookclub.security.UserAccount;
@@ -47,8 +47,8 @@ public class InterviewController {
     public String interviewLists(@AuthenticationPrincipal UserAccount userAccount, Model model,
                                  @PageableDefault(size=10, sort="id", direction= Sort.Direction.ASC) Pageable pageable,
                                  @RequestParam(defaultValue = "") String search) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         Page<InterviewDto.InterviewResultDto> page = null;
         if(isEmpty(search)) {
@@ -72,16 +72,16 @@ public class InterviewController {
     /**
      * 로그인한 사용자의 스터디 개설, 참여 여부를 확인한다
      *
-     * @param account 로그인한 사용자
+     * @param accountHeader 로그인한 사용자 상단 메뉴 정보
      * @param model 모델
      */
-    private void checkTopMenu(Account account, Model model) {
-        if (account.isMangerOf(account.getStudy()))
-            model.addAttribute("studyManager", account.getStudy());
+    private void checkTopMenu(AccountHeader accountHeader, Model model) {
+        if (accountHeader.isManagerOfStudy())
+            model.addAttribute("studyManager", accountHeader.getStudy());
 
-        if (account.isApplierOf(account.getStudy()))
-            model.addAttribute("studyApply", account.getStudy());
+        if (accountHeader.isApplierOfStudy())
+            model.addAttribute("studyApply", accountHeader.getStudy());
 
-        model.addAttribute("account", account);
+        model.addAttribute("account", accountHeader);
     }
 }
@@ -1,8 +1,8 @@
 package com.example.bookclub.controller;
 
-import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.item.ItemService;
-import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
 import com.example.bookclub.dto.ItemDto;
 import com.example.bookclub.security.UserAccount;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,17 +16,18 @@ import org.springframework.web.bind.annotation.RequestParam;
 @RequestMapping("/items")
 public class ItemController {
 	private final ItemService itemService;
-	private final AccountService accountService;
+	private final AccountAuthenticationService accountAuthenticationService;
 
-	public ItemController(ItemService itemService, AccountService accountService) {
+	public ItemController(ItemService itemService, AccountAuthenticationService accountAuthenticationService) {
 		this.itemService = itemService;
-		this.accountService = accountService;
+		this.accountAuthenticationService = accountAuthenticationService;
 	}
 
 	@GetMapping
 	public String itemDetail(@AuthenticationPrincipal UserAccount userAccount, Model model,
 							 @RequestParam(name = "title") String title) {
-		checkTopMenu(userAccount.getAccount(), model);
+		AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+		checkTopMenu(accountHeader, model);
 
 		ItemDto.ItemResultDto item = itemService.detailItem(title);
 		model.addAttribute("item", item);
@@ -34,15 +35,15 @@ public class ItemController {
 		return "items/items-detail";
 	}
 
-	private void checkTopMenu(Account account, Model model) {
-		if (account.isMangerOf(account.getStudy())) {
-			model.addAttribute("studyManager", account.getStudy());
+	private void checkTopMenu(AccountHeader accountHeader, Model model) {
+		if (accountHeader.isManagerOfStudy()) {
+			model.addAttribute("studyManager", accountHeader.getStudy());
 		}
 
-		if (account.isApplierOf(account.getStudy())) {
-			model.addAttribute("studyApply", account.getStudy());
+		if (accountHeader.isApplierOfStudy()) {
+			model.addAttribute("studyApply", accountHeader.getStudy());
 		}
 
-		model.addAttribute("account", account);
+		model.addAttribute("account", accountHeader);
 	}
 }
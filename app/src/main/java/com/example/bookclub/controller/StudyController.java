@@ -4,18 +4,14 @@ import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.common.exception.account.AccountNotManagerOfStudyException;
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
 import com.example.bookclub.domain.study.Day;
 import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.study.StudyState;
 import com.example.bookclub.domain.study.Zone;
-import com.example.bookclub.dto.PageResultDto;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.dto.StudyDto;
 import com.example.bookclub.security.UserAccount;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -25,14 +21,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 /**
  * 스터디 조회, 생성, 수정 페이지를 요청한다
  */
 @Controller
 @RequestMapping("/studies")
 public class StudyController {
+    private static final int STUDY_LIST_PAGE_SIZE = 10;
+
     private final StudyService studyService;
     private final AccountAuthenticationService accountAuthenticationService;
 
@@ -53,7 +49,8 @@ public class StudyController {
     @GetMapping("/{id}")
     public String studyDetail(@AuthenticationPrincipal UserAccount userAccount,
                               @PathVariable Long id, Model model) {
-        checkTopMenu(userAccount.getAccount(), model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         StudyApiDto.StudyDetailResultDto detailedStudy = studyService.getDetailedStudy(userAccount, id);
         model.addAttribute("detailedStudy", detailedStudy);
@@ -75,7 +72,8 @@ public class StudyController {
                             @RequestParam(defaultValue = "") String bookName,
                             @RequestParam(defaultValue = "") String bookImage,
                             Model model) {
-        checkTopMenu(userAccount.getAccount(), model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         StudyDto.StudyCreateInfoDto studyCreateInfoDto = StudyDto.StudyCreateInfoDto.of(
                 bookName, bookImage, Day.getAllDays(), StudyState.getAllStudyStates(), Zone.getAllZones()
@@ -99,8 +97,8 @@ public class StudyController {
     @GetMapping("/update/{id}")
     public String studyUpdate(@AuthenticationPrincipal UserAccount userAccount,
                               @PathVariable Long id, Model model) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         Study study = studyService.getStudy(id);
 
@@ -115,60 +113,66 @@ public class StudyController {
     }
 
     /**
-     * 주어진 로그인한 사용자, 페이징 정보에 해당하는 모집중 스터디 조회 페이지로 이동한다
+     * 주어진 로그인한 사용자, 커서 정보에 해당하는 모집중 스터디 조회 페이지로 이동한다
      *
      * @param userAccount 로그인한 사용자
      * @param model 모델
-     * @param pageable 페이징
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param beforeId 이 식별자 이전 스터디까지 조회
      * @param search 검색 제목
      * @return 모집중 스터디 조회 페이지
      */
     @GetMapping("/open")
     public String studyOpenList(@AuthenticationPrincipal UserAccount userAccount, Model model,
-                                @PageableDefault(size=10, sort="id", direction= Sort.Direction.ASC) Pageable pageable,
+                                @RequestParam(required = false) Long afterId,
+                                @RequestParam(required = false) Long beforeId,
                                 @RequestParam(required = false) String search) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
-        return getStudyList(savedAccount, pageable, model, search, StudyState.OPEN);
+        return getStudyList(userAccount.getAccount(), afterId, beforeId, model, search, StudyState.OPEN);
     }
 
     /**
-     * 주어진 로그인한 사용자, 페이징 정보에 해당하는 진행중 스터디 조회 페이지로 이동한다
+     * 주어진 로그인한 사용자, 커서 정보에 해당하는 진행중 스터디 조회 페이지로 이동한다
      *
      * @param userAccount 로그인한 사용자
      * @param model 모델
-     * @param pageable 페이징
-     * @param title 검색 제목
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param beforeId 이 식별자 이전 스터디까지 조회
+     * @param search 검색 제목
      * @return 진행중 스터디 조회 페이지
      */
     @GetMapping("/close")
     public String studyCloseList(@AuthenticationPrincipal UserAccount userAccount, Model model,
-                                 @PageableDefault(size=10, sort="id", direction= Sort.Direction.ASC) Pageable pageable,
-                                 @RequestParam(required = false) String title) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+                                 @RequestParam(required = false) Long afterId,
+                                 @RequestParam(required = false) Long beforeId,
+                                 @RequestParam(required = false) String search) {
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
-        return getStudyList(savedAccount, pageable, model, title, StudyState.CLOSE);
+        return getStudyList(userAccount.getAccount(), afterId, beforeId, model, search, StudyState.CLOSE);
     }
 
     /**
-     *  주어진 로그인한 사용자, 페이징 정보에 해당하는 종료 스터디 조회 페이지로 이동한다
+     * 주어진 로그인한 사용자, 커서 정보에 해당하는 종료 스터디 조회 페이지로 이동한다
      *
      * @param userAccount 로그인한 사용자
      * @param model 모델
-     * @param pageable 페이징
-     * @param title 검색 제목
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param beforeId 이 식별자 이전 스터디까지 조회
+     * @param search 검색 제목
      * @return 종료 스터디 조회 페이지
      */
     @GetMapping("/end")
     public String studyEndList(@AuthenticationPrincipal UserAccount userAccount, Model model,
-                               @PageableDefault(size=10, sort="id", direction= Sort.Direction.ASC) Pageable pageable,
-                               @RequestParam(required = false) String title) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+                               @RequestParam(required = false) Long afterId,
+                               @RequestParam(required = false) Long beforeId,
+                               @RequestParam(required = false) String search) {
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
-        return getStudyList(savedAccount, pageable, model, title, StudyState.END);
+        return getStudyList(userAccount.getAccount(), afterId, beforeId, model, search, StudyState.END);
     }
 
     /**
@@ -182,8 +186,8 @@ public class StudyController {
     @GetMapping("/{id}/users")
     public String studyApplyUserList(@AuthenticationPrincipal UserAccount userAccount,
                                      @PathVariable Long id, Model model) {
-        Account savedAccount = accountAuthenticationService.getAccountByEmail(userAccount.getAccount().getEmail());
-        checkTopMenu(savedAccount, model);
+        AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(userAccount.getAccount().getEmail());
+        checkTopMenu(accountHeader, model);
 
         StudyDto.StudyInfoResultDto studyInfo = studyService.getStudyInfo(id);
         model.addAttribute("StudyInfoResultDto", studyInfo);
@@ -192,25 +196,29 @@ public class StudyController {
     }
 
     /**
-     * 주어진 로그인한 사용자, 페이징 정보, 제목, 스터디 상태에 해당하는 스터디 검색 페이지로 이동한다
+     * 주어진 로그인한 사용자, 커서 정보, 제목, 스터디 상태에 해당하는 스터디 검색 페이지로 이동한다
+     * 전체 갯수를 세지 않고 커서로 이전, 다음 페이지만 이동한다
      *
      * @param account 로그인한 사용자
-     * @param pageable 페이징
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param beforeId 이 식별자 이전 스터디까지 조회
      * @param model 모델
      * @param title 검색 제목
      * @param studyState 스터디 상태
      * @return 검색한 스터디 조회 페이지
      */
-    private String getStudyList(Account account, Pageable pageable,
+    private String getStudyList(Account account, Long afterId, Long beforeId,
                                 Model model, String title, StudyState studyState) {
-        List<StudyApiDto.StudyResultDto> studyResultDto =
-                studyService.getStudiesBySearch(title, studyState, account, pageable);
+        StudyApiDto.StudyCursorResultDto studyCursorResultDto = studyService.getStudiesBySearchWithCursor(
+                title, studyState, account, afterId, beforeId, STUDY_LIST_PAGE_SIZE
+        );
 
-        StudyDto.StudyListInfoDto studyListInfoDto = StudyDto.StudyListInfoDto.of(studyResultDto, studyState, title);
-        long total = studyService.getStudiesBySearchCount(title, studyState);
+        StudyDto.StudyListInfoDto studyListInfoDto = StudyDto.StudyListInfoDto.of(
+                studyCursorResultDto.getStudyResultDtos(), studyState, title
+        );
 
         model.addAttribute("StudyListInfoDto", studyListInfoDto);
-        model.addAttribute("page", PageResultDto.of(new PageImpl<>(studyResultDto, pageable, total)));
+        model.addAttribute("cursor", studyCursorResultDto);
 
         return "studies/studies-list";
     }
@@ -218,16 +226,16 @@ public class StudyController {
     /**
      * 로그인한 사용자의 스터디 개설, 참여 여부를 확인한다
      *
-     * @param account 로그인한 사용자
+     * @param accountHeader 로그인한 사용자 상단 메뉴 정보
      * @param model 모델
      */
-    private void checkTopMenu(Account account, Model model) {
-        if (account.isMangerOf(account.getStudy()))
-            model.addAttribute("studyManager", account.getStudy());
+    private void checkTopMenu(AccountHeader accountHeader, Model model) {
+        if (accountHeader.isManagerOfStudy())
+            model.addAttribute("studyManager", accountHeader.getStudy());
 
-        if (account.isApplierOf(account.getStudy()))
-            model.addAttribute("studyApply", account.getStudy());
+        if (accountHeader.isApplierOfStudy())
+            model.addAttribute("studyApply", accountHeader.getStudy());
 
-        model.addAttribute("account", account);
+        model.addAttribute("account", accountHeader);
     }
 }
@@ -1,5 +1,7 @@
 package com.example.bookclub.controller.api;
 
+import com.example.bookclub.application.account.AccountExistenceFilterService;
+import com.example.bookclub.application.account.AccountHistoryService;
 import com.example.bookclub.application.account.AccountService;
 import com.example.bookclub.application.uploadfile.UploadFileService;
 import com.example.bookclub.common.response.CommonResponse;
@@ -32,11 +34,43 @@ import javax.validation.Valid;
 public class AccountApiController {
     private final AccountService accountService;
     private final UploadFileService uploadFileService;
+    private final AccountHistoryService accountHistoryService;
+    private final AccountExistenceFilterService accountExistenceFilterService;
 
     public AccountApiController(AccountService accountService,
-                                UploadFileService uploadFileService) {
+                                UploadFileService uploadFileService,
+                                AccountHistoryService accountHistoryService,
+                                AccountExistenceFilterService accountExistenceFilterService) {
         this.accountService = accountService;
         this.uploadFileService = uploadFileService;
+        this.accountHistoryService = accountHistoryService;
+        this.accountExistenceFilterService = accountExistenceFilterService;
+    }
+
+    /**
+     * 계정 히스토리 저장 큐 크기와 저장, 직접 저장, 실패 횟수를 반환한다
+     *
+     * @return 계정 히스토리 저장 통계
+     * @throws AccessDeniedException ADMIN 권한이 아닌 경우
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/history-stats")
+    public CommonResponse<AccountDto.AccountHistoryStatsResultDto> historyStats() {
+        AccountDto.AccountHistoryStatsResultDto response = accountHistoryService.getStats();
+        return CommonResponse.success(response);
+    }
+
+    /**
+     * 이메일, 닉네임 중복 검사 색인의 크기, 메모리, 오탐률과 데이터베이스 조회 횟수를 반환한다
+     *
+     * @return 중복 검사 색인 통계
+     * @throws AccessDeniedException ADMIN 권한이 아닌 경우
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/existence-filter-stats")
+    public CommonResponse<AccountDto.AccountExistenceFilterStatsResultDto> existenceFilterStats() {
+        AccountDto.AccountExistenceFilterStatsResultDto response = accountExistenceFilterService.getStats();
+        return CommonResponse.success(response);
     }
 
     /**
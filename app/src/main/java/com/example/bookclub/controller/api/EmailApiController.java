@@ -4,6 +4,9 @@ import com.example.bookclub.application.account.EmailService;
 import com.example.bookclub.common.response.CommonResponse;
 import com.example.bookclub.dto.EmailDto;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,7 +14,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * 이메일 인증번호 전송을 요청한다
+ * 이메일 인증번호 전송을 요청하고, 메일 큐 통계를 조회한다
  */
 @RestController
 @RequestMapping("/api/email")
@@ -36,4 +39,17 @@ public class EmailApiController {
         EmailDto.EmailSendResultDto response = emailService.sendAuthenticationNumber(emailRequestDto);
         return CommonResponse.success(response);
     }
+
+    /**
+     * 메일 큐 깊이와 메일 전송 횟수, 걸린 시간을 조회한다
+     *
+     * @return 메일 큐 통계
+     * @throws AccessDeniedException ADMIN 권한이 아닌 경우
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/queue-stats")
+    public CommonResponse<EmailDto.MailQueueStatsResultDto> queueStats() {
+        EmailDto.MailQueueStatsResultDto response = emailService.getMailQueueStats();
+        return CommonResponse.success(response);
+    }
 }
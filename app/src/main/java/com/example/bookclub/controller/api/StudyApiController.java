@@ -2,16 +2,25 @@ package com.example.bookclub.controller.api;
 
 import com.example.bookclub.application.study.StudyCommentLikeService;
 import com.example.bookclub.application.study.StudyCommentService;
+import com.example.bookclub.application.study.StudyFacetService;
 import com.example.bookclub.application.study.StudyFavoriteService;
 import com.example.bookclub.application.study.StudyLikeService;
+import com.example.bookclub.application.study.StudySeatService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.common.response.CommonResponse;
 import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.Day;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.Zone;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.security.CurrentAccount;
 import com.example.bookclub.security.UserAccount;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,53 +29,185 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/study")
 public class StudyApiController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int STREAM_FLUSH_SIZE = 100;
+
     private final StudyService studyService;
     private final StudyLikeService studyLikeService;
     private final StudyCommentService studyCommentService;
     private final StudyCommentLikeService studyCommentLikeService;
     private final StudyFavoriteService studyFavoriteService;
+    private final StudySeatService studySeatService;
+    private final StudyFacetService studyFacetService;
+    private final ObjectMapper objectMapper;
 
     public StudyApiController(StudyService studyService,
                               StudyLikeService studyLikeService,
                               StudyCommentService studyCommentService,
                               StudyCommentLikeService studyCommentLikeService,
-                              StudyFavoriteService studyFavoriteService) {
+                              StudyFavoriteService studyFavoriteService,
+                              StudySeatService studySeatService,
+                              StudyFacetService studyFacetService,
+                              ObjectMapper objectMapper) {
         this.studyService = studyService;
         this.studyLikeService = studyLikeService;
         this.studyCommentService = studyCommentService;
         this.studyCommentLikeService = studyCommentLikeService;
         this.studyFavoriteService = studyFavoriteService;
+        this.studySeatService = studySeatService;
+        this.studyFacetService = studyFacetService;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * 스터디 리스트를 조회하고 반환한다
+     * 주어진 커서에 해당하는 스터디 리스트를 조회하고 반환한다
      *
-     * @return 스터디 리스트
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param size 페이지 크기
+     * @return 커서 기준 스터디 페이지 정보
      */
     @GetMapping
-    public CommonResponse<List<Study>> list() {
-        List<Study> response = studyService.getStudies();
+    public CommonResponse<StudyApiDto.StudyCursorResultDto> list(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        StudyApiDto.StudyCursorResultDto response = studyService.getStudies(afterId, size);
+        return CommonResponse.success(response);
+    }
+
+    /**
+     * 스터디 리스트 전체를 한 줄에 스터디 하나씩 NDJSON 으로 내려준다
+     * 스터디를 읽는 대로 쓰므로 전체를 읽기 전에 응답이 시작된다
+     *
+     * @return 스터디 리스트 스트림
+     */
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = outputStream -> {
+            int[] written = {0};
+            studyService.streamStudies(studyResultDto -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(studyResultDto));
+                    outputStream.write('\n');
+                    if (++written[0] % STREAM_FLUSH_SIZE == 1) {
+                        outputStream.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * 주어진 검색어, 스터디 상태, 커서에 해당하는 스터디 리스트를 조회하고 반환한다
+     *
+     * @param account 로그인한 사용자
+     * @param studyState 스터디 상태
+     * @param keyword 검색어
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param beforeId 이 식별자 이전 스터디까지 조회
+     * @param size 페이지 크기
+     * @param withTotal 전체 갯수 포함 여부
+     * @return 커서 기준 스터디 페이지 정보
+     */
+    @GetMapping("/search")
+    public CommonResponse<StudyApiDto.StudyCursorResultDto> search(
+            @CurrentAccount Account account,
+            @RequestParam StudyState studyState,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        StudyApiDto.StudyCursorResultDto response = studyService.getStudiesBySearchWithCursor(
+                keyword, studyState, account, afterId, beforeId, size
+        );
+        if (withTotal) {
+            response.setTotalCount(studyService.getStudiesBySearchCount(keyword, studyState));
+        }
+
         return CommonResponse.success(response);
     }
 
     /**
-     * 주어진 스터디 식별자에 대항하는 스터디를 조회하고 반환한다
+     * 주어진 지역, 요일, 스터디 상태, 커서에 해당하는 스터디 리스트와 패싯 값별 스터디 수를 조회하고 반환한다
+     *
+     * @param account 로그인한 사용자
+     * @param zone 지역
+     * @param day 요일
+     * @param studyState 스터디 상태
+     * @param afterId 이 식별자 다음 스터디부터 조회
+     * @param size 페이지 크기
+     * @return 커서 기준 스터디 페이지 정보와 패싯 값별 스터디 수
+     */
+    @GetMapping("/facets")
+    public CommonResponse<StudyApiDto.StudyFacetSearchResultDto> facetSearch(
+            @CurrentAccount Account account,
+            @RequestParam(required = false) Set<Zone> zone,
+            @RequestParam(required = false) Set<Day> day,
+            @RequestParam(required = false) Set<StudyState> studyState,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        StudyApiDto.StudyFacetSearchResultDto response =
+                studyFacetService.searchStudies(account, zone, day, studyState, afterId, size);
+        return CommonResponse.success(response);
+    }
+
+    /**
+     * 주어진 스터디 식별자에 대항하는 스터디를 캐시에서 조회하고 반환한다
      *
      * @param id 스터디 식별자
      * @return 조회한 스터디 정보
      */
     @GetMapping("/{id}")
     public CommonResponse<StudyApiDto.StudyResultDto> detail(@PathVariable Long id) {
-        Study study = studyService.getStudy(id);
-        StudyApiDto.StudyResultDto response = StudyApiDto.StudyResultDto.of(study);
+        StudyApiDto.StudyResultDto response = studyService.getStudyResult(id);
+        return CommonResponse.success(response);
+    }
+
+    /**
+     * 스터디 캐시의 적중, 실패, 제거, 삭제 횟수를 반환한다
+     *
+     * @return 스터디 캐시 통계
+     * @throws AccessDeniedException ADMIN 권한이 아닌 경우
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/cache-stats")
+    public CommonResponse<StudyApiDto.StudyCacheStatsResultDto> cacheStats() {
+        StudyApiDto.StudyCacheStatsResultDto response = studyService.getStudyCacheStats();
+        return CommonResponse.success(response);
+    }
+
+    /**
+     * 스터디 수정의 낙관적 잠금 충돌 재시도 횟수와 충돌 비율을 반환한다
+     *
+     * @return 낙관적 잠금 충돌 재시도 통계
+     * @throws AccessDeniedException ADMIN 권한이 아닌 경우
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/retry-stats")
+    public CommonResponse<StudyApiDto.StudyConflictRetryStatsResultDto> retryStats() {
+        StudyApiDto.StudyConflictRetryStatsResultDto response = studyService.getConflictRetryStats();
         return CommonResponse.success(response);
     }
 
@@ -125,6 +266,24 @@ public class StudyApiController {
         return CommonResponse.success(response);
     }
 
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디의 남은 자리 수 관리 방식을 전환하고 결과를 반환한다
+     *
+     * @param id 스터디 식별자
+     * @param enabled Redis 카운터 사용 여부
+     * @return 전환된 스터디 정보
+     * @throws AccessDeniedException ADMIN 권한이 아닌 경우
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PatchMapping("/{id}/seat-counter")
+    public CommonResponse<StudyApiDto.StudySeatCounterResultDto> changeSeatCounter(
+            @PathVariable Long id,
+            @RequestParam boolean enabled
+    ) {
+        StudyApiDto.StudySeatCounterResultDto response = studySeatService.changeSeatCounter(id, enabled);
+        return CommonResponse.success(response);
+    }
+
     /**
      * 주어진 로그인한 사용자, 스터디 식별자에 해당하는 스터디 지원을 생성하고 스터디 식별자 정보를 반환한다
      *
@@ -210,6 +369,27 @@ public class StudyApiController {
         return CommonResponse.success(response);
     }
 
+    /**
+     * 주어진 스터디 식별자와 커서에 해당하는 스터디 댓글 페이지를 조회하고 반환한다
+     *
+     * @param userAccount 로그인한 사용자
+     * @param studyId 스터디 식별자
+     * @param cursor 이 식별자 다음 댓글부터 조회
+     * @param size 페이지 크기
+     * @return 커서 기준 스터디 댓글 페이지 정보
+     */
+    @GetMapping("/{studyId}/comments")
+    public CommonResponse<StudyApiDto.StudyCommentCursorResultDto> studyComments(
+            @AuthenticationPrincipal UserAccount userAccount,
+            @PathVariable Long studyId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        StudyApiDto.StudyCommentCursorResultDto response =
+                studyCommentService.getStudyComments(userAccount, studyId, cursor, size);
+        return CommonResponse.success(response);
+    }
+
     /**
      * 주어진 로그인한 사용자, 스터디 댓글 식별자에 해당하는 스터디 댓글을 삭제하고 반환한다
      *
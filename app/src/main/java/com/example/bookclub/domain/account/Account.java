@@ -176,6 +176,15 @@ public class Account extends BaseTimeEntity implements Serializable {
         this.password = passwordEncoder.encode(password);
     }
 
+    /**
+     * 이미 암호화된 비밀번호로 수정한다. 로그인할 때 바뀐 비용 값으로 다시 암호화한 비밀번호를 저장하는 데 쓴다.
+     *
+     * @param encodedPassword 암호화된 비밀번호
+     */
+    public void updateEncodedPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     /**
      * 주어진 스터디를 사용자에 추가한다.
      *
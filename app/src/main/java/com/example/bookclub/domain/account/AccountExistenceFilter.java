@@ -0,0 +1,40 @@
+package com.example.bookclub.domain.account;
+
+import com.example.bookclub.dto.AccountDto;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 가입된 이메일, 닉네임을 서버 메모리에 확률적으로 담아 두고, 없는 것이 확실하면 데이터베이스를 조회하지 않는다.
+ * 있을 수도 있는 경우에만 데이터베이스로 확인하므로 없는 값을 있다고 잘못 답하지 않는다.
+ * 다른 서버가 넣은 값은 알림을 놓치면 다음 재생성 전까지 없다고 답할 수 있으므로,
+ * 입력 중 닉네임 확인처럼 틀려도 되는 검사에만 쓰고 가입, 수정은 데이터베이스로 다시 확인한다.
+ */
+public interface AccountExistenceFilter {
+    /**
+     * 주어진 이메일이 없는 것이 확실하면 false 를, 아니면 checker 로 확인한 결과를 반환한다.
+     * 색인이 아직 만들어지지 않았으면 항상 checker 로 확인한다.
+     */
+    boolean emailExists(String email, Predicate<String> checker);
+
+    /**
+     * 주어진 닉네임이 없는 것이 확실하면 false 를, 아니면 checker 로 확인한 결과를 반환한다.
+     * 색인이 아직 만들어지지 않았으면 항상 checker 로 확인한다.
+     */
+    boolean nicknameExists(String nickname, Predicate<String> checker);
+
+    /**
+     * 생성, 수정된 사용자의 이메일, 닉네임을 넣고 다른 서버에도 알린다.
+     * 지운 값은 뺄 수 없으므로 다음 재생성 전까지는 데이터베이스로 확인한다.
+     */
+    void put(AccountIdentity accountIdentity);
+
+    /**
+     * loader 가 넘기는 사용자로 새 색인을 만들어 현재 색인과 바꾸고 넣은 사용자 수를 반환한다.
+     * 만드는 동안 들어온 값은 새 색인에도 넣는다.
+     */
+    int rebuild(Consumer<Consumer<AccountIdentity>> loader);
+
+    AccountDto.AccountExistenceFilterStatsResultDto stats();
+}
@@ -0,0 +1,74 @@
+package com.example.bookclub.domain.account;
+
+import com.example.bookclub.domain.study.Study;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 상단 메뉴를 그리는 데 필요한 사용자 식별자, 이메일, 닉네임과 참여 스터디의 식별자, 개설 여부
+ */
+@Getter
+@ToString
+public class AccountHeader implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+
+    private final String email;
+
+    private final String nickname;
+
+    /* 참여중인 스터디, 없으면 null */
+    private final StudyHeader study;
+
+    public AccountHeader(Long id, String email, String nickname, Long studyId, String studyEmail) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname;
+        this.study = studyId == null ? null : new StudyHeader(studyId, email.equals(studyEmail));
+    }
+
+    public static AccountHeader of(Account account) {
+        Study study = account.getStudy();
+        return new AccountHeader(account.getId(), account.getEmail(), account.getNickname(),
+                study == null ? null : study.getId(), study == null ? null : study.getEmail());
+    }
+
+    /**
+     * 참여중인 스터디를 사용자가 개설했는지 여부를 반환한다.
+     *
+     * @return 참여중인 스터디를 사용자가 개설했는지 여부
+     */
+    public boolean isManagerOfStudy() {
+        return study != null && study.isManaged();
+    }
+
+    /**
+     * 사용자가 개설하지 않은 스터디에 참여중인지 여부를 반환한다.
+     *
+     * @return 사용자가 개설하지 않은 스터디에 참여중인지 여부
+     */
+    public boolean isApplierOfStudy() {
+        return study != null && !study.isManaged();
+    }
+
+    /**
+     * 사용자가 참여중인 스터디 식별자와 사용자의 개설 여부
+     */
+    @Getter
+    @ToString
+    public static class StudyHeader implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Long id;
+
+        private final boolean managed;
+
+        public StudyHeader(Long id, boolean managed) {
+            this.id = id;
+            this.managed = managed;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.bookclub.domain.account;
+
+import java.util.function.Function;
+
+/**
+ * 사용자 상단 메뉴 정보를 요청 안에서는 한 번만 읽고, 요청 사이에서는 Redis 에 짧게 캐시한다.
+ */
+public interface AccountHeaderCache {
+    /**
+     * 주어진 이메일에 해당하는 사용자 상단 메뉴 정보를 반환한다.
+     * 현재 요청과 Redis 에 모두 없으면 loader 로 읽어 두 곳에 저장한다.
+     */
+    AccountHeader get(String email, Function<String, AccountHeader> loader);
+
+    void evict(String email);
+}
@@ -0,0 +1,28 @@
+package com.example.bookclub.domain.account;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 닉네임 수정, 스터디 개설, 참여, 취소, 삭제 등으로 생긴 사용자 상단 메뉴 정보 변경
+ */
+@Getter
+@ToString
+public class AccountHeaderChangedEvent {
+    private final List<String> emails;
+
+    private AccountHeaderChangedEvent(List<String> emails) {
+        this.emails = emails;
+    }
+
+    public static AccountHeaderChangedEvent of(String email) {
+        return new AccountHeaderChangedEvent(Collections.singletonList(email));
+    }
+
+    public static AccountHeaderChangedEvent of(List<String> emails) {
+        return new AccountHeaderChangedEvent(List.copyOf(emails));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.bookclub.domain.account;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 중복 검사에 필요한 사용자 이메일, 닉네임
+ */
+@Getter
+@ToString
+public class AccountIdentity {
+    private final String email;
+
+    private final String nickname;
+
+    public AccountIdentity(String email, String nickname) {
+        this.email = email;
+        this.nickname = nickname;
+    }
+
+    public static AccountIdentity of(Account account) {
+        return new AccountIdentity(account.getEmail(), account.getNickname());
+    }
+}
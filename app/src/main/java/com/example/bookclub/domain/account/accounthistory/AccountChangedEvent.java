@@ -0,0 +1,66 @@
+package com.example.bookclub.domain.account.accounthistory;
+
+import com.example.bookclub.domain.account.Account;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 계정 생성, 수정 시점의 계정 정보
+ * 커밋된 뒤 계정 히스토리로 저장된다.
+ */
+@Getter
+@ToString
+public class AccountChangedEvent {
+	private final Long accountId;
+
+	private final String name;
+
+	private final String email;
+
+	private final String nickname;
+
+	@ToString.Exclude
+	private final String password;
+
+	private final boolean deleted;
+
+	private AccountChangedEvent(Long accountId, String name, String email, String nickname,
+								String password, boolean deleted) {
+		this.accountId = accountId;
+		this.name = name;
+		this.email = email;
+		this.nickname = nickname;
+		this.password = password;
+		this.deleted = deleted;
+	}
+
+	public static AccountChangedEvent of(Account account) {
+		return new AccountChangedEvent(account.getId(), account.getName(), account.getEmail(),
+				account.getNickname(), account.getPassword(), account.isDeleted());
+	}
+
+	/**
+	 * 보관했던 계정 변경을 되살린다.
+	 */
+	public static AccountChangedEvent of(Long accountId, String name, String email, String nickname,
+										 String password, boolean deleted) {
+		return new AccountChangedEvent(accountId, name, email, nickname, password, deleted);
+	}
+
+	/**
+	 * 주어진 계정 참조로 저장할 계정 히스토리를 만든다.
+	 *
+	 * @param account 계정 참조
+	 * @return 계정 히스토리
+	 */
+	public AccountHistory toAccountHistory(Account account) {
+		return AccountHistory.builder()
+				.name(name)
+				.email(email)
+				.nickname(nickname)
+				.password(password)
+				.deleted(deleted)
+				.account(account)
+				.build();
+	}
+}
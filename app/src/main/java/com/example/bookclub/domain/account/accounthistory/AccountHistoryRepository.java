@@ -8,4 +8,6 @@ public interface AccountHistoryRepository {
 	Optional<AccountHistory> findById(Long id);
 
 	AccountHistory saveAndFlush(AccountHistory accountHistory);
+
+	<S extends AccountHistory> Iterable<S> saveAll(Iterable<S> accountHistories);
 }
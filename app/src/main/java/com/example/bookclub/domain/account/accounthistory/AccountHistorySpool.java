@@ -0,0 +1,24 @@
+package com.example.bookclub.domain.account.accounthistory;
+
+import java.util.List;
+
+/**
+ * 메모리 큐에 넣지 못했거나 저장에 실패한 계정 변경을 프로세스 밖에 보관한다.
+ * 보관한 계정 변경은 여러 서버가 나눠 꺼내도 한 번씩만 꺼내진다.
+ */
+public interface AccountHistorySpool {
+    /**
+     * 주어진 계정 변경을 뒤에 보관한다.
+     */
+    void push(List<AccountChangedEvent> events);
+
+    /**
+     * 앞에서부터 최대 count 개를 꺼내 지우고 반환한다.
+     */
+    List<AccountChangedEvent> pop(int count);
+
+    /**
+     * 꺼냈지만 저장하지 못한 계정 변경을 원래 순서대로 앞에 되돌린다.
+     */
+    void pushFirst(List<AccountChangedEvent> events);
+}
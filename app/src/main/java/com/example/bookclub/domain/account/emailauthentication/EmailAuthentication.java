@@ -13,6 +13,7 @@ import javax.persistence.Id;
 
 /**
  * 이메일 인증
+ * 인증번호는 EmailAuthenticationCodeStore 에 저장하며, 이 테이블은 남아 있는 이메일 인증을 옮길 때만 읽는다.
  */
 @Entity
 @Getter
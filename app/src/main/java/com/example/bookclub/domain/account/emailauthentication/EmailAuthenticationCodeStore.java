@@ -0,0 +1,41 @@
+package com.example.bookclub.domain.account.emailauthentication;
+
+import java.util.Optional;
+
+/**
+ * 이메일 인증번호를 만료 시간과 함께 저장하고, 틀린 횟수를 세며 한 번만 확인되도록 한다.
+ */
+public interface EmailAuthenticationCodeStore {
+    /**
+     * 인증번호 확인 결과
+     */
+    enum Verification {
+        /* 인증번호가 일치한 경우 */
+        MATCHED,
+        /* 인증번호가 일치하지 않은 경우 */
+        MISMATCHED,
+        /* 틀린 횟수가 최대 시도 횟수에 이르러 인증번호를 삭제한 경우 */
+        EXHAUSTED,
+        /* 인증번호가 없거나 만료된 경우 */
+        NOT_FOUND
+    }
+
+    /**
+     * 주어진 이메일의 인증번호를 저장하고 틀린 횟수와 만료 시간을 새로 시작한다.
+     */
+    void save(String email, String authenticationNumber);
+
+    Optional<String> find(String email);
+
+    /**
+     * 주어진 인증번호를 저장된 인증번호와 비교하고, 틀리면 틀린 횟수를 늘린다. 일치해도 삭제하지 않는다.
+     */
+    Verification verify(String email, String authenticationNumber);
+
+    /**
+     * 저장된 인증번호가 주어진 인증번호와 같을 때만 삭제하고, 삭제했는지 여부를 반환한다.
+     */
+    boolean consume(String email, String authenticationNumber);
+
+    boolean delete(String email);
+}
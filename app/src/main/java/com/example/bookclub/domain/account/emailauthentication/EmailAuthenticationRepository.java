@@ -1,11 +1,15 @@
 package com.example.bookclub.domain.account.emailauthentication;
 
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 
-public interface EmailAuthenticationRepository {
-    EmailAuthentication save(EmailAuthentication emailAuthentication);
+import java.util.Collection;
+import java.util.List;
 
-    Optional<EmailAuthentication> findByEmail(String email);
+/**
+ * 인증번호를 Redis 로 옮기기 전에 데이터베이스에 저장된 이메일 인증을 읽고 지운다.
+ */
+public interface EmailAuthenticationRepository {
+    List<EmailAuthentication> findAllByOrderByIdDesc(Pageable pageable);
 
-    void delete(EmailAuthentication emailAuthentication);
+    int deleteByIdIn(Collection<Long> ids);
 }
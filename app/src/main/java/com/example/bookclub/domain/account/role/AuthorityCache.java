@@ -0,0 +1,16 @@
+package com.example.bookclub.domain.account.role;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 사용자 이메일별 권한 이름을 크기가 제한된 서버 메모리에 캐시한다.
+ */
+public interface AuthorityCache {
+    /**
+     * 주어진 이메일에 해당하는 권한 이름을 반환한다. 캐시에 없으면 loader 로 읽어 저장한다.
+     */
+    List<String> get(String email, Function<String, List<String>> loader);
+
+    void evict(String email);
+}
@@ -1,6 +1,7 @@
 package com.example.bookclub.domain.account.role;
 
 import com.example.bookclub.common.BaseTimeEntity;
+import com.example.bookclub.common.RoleEntityListener;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 
@@ -15,6 +17,7 @@ import javax.persistence.Id;
  * 권한
  */
 @Entity
+@EntityListeners(value = { RoleEntityListener.class })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Role extends BaseTimeEntity {
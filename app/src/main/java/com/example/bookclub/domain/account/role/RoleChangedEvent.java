@@ -0,0 +1,21 @@
+package com.example.bookclub.domain.account.role;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 권한 생성, 수정, 삭제로 생긴 사용자 권한 변경
+ */
+@Getter
+@ToString
+public class RoleChangedEvent {
+    private final String email;
+
+    private RoleChangedEvent(String email) {
+        this.email = email;
+    }
+
+    public static RoleChangedEvent of(Role role) {
+        return new RoleChangedEvent(role.getEmail());
+    }
+}
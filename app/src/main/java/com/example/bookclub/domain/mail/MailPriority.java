@@ -0,0 +1,21 @@
+package com.example.bookclub.domain.mail;
+
+/**
+ * 메일 큐 우선순위. 값이 클수록 먼저 보낸다.
+ */
+public enum MailPriority {
+    AUTHENTICATION(9),
+    BULK(1);
+
+    public static final int MAX_PRIORITY = 9;
+
+    private final int value;
+
+    MailPriority(int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.bookclub.domain.mail;
+
+import com.example.bookclub.dto.EmailDto;
+
+/**
+ * 보낼 메일을 우선순위 메일 큐에 넣고, 큐를 소비하는 쪽이 요청 스레드 밖에서 메일을 보낸다.
+ */
+public interface MailQueue {
+    /**
+     * 주어진 메일을 메일 큐에 넣는다. 메시지 브로커가 저장을 확인한 뒤에 반환한다.
+     */
+    void enqueue(QueuedMail queuedMail);
+
+    EmailDto.MailQueueStatsResultDto stats();
+}
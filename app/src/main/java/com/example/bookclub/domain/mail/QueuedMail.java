@@ -0,0 +1,44 @@
+package com.example.bookclub.domain.mail;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 메일 큐에 넣을 수신자, 제목, 본문과 우선순위, 큐에 넣은 시각
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "text")
+public class QueuedMail {
+    private String to;
+
+    private String subject;
+
+    private String text;
+
+    private MailPriority priority;
+
+    private long queuedAtMillis;
+
+    @Builder
+    public QueuedMail(String to, String subject, String text, MailPriority priority, long queuedAtMillis) {
+        this.to = to;
+        this.subject = subject;
+        this.text = text;
+        this.priority = priority;
+        this.queuedAtMillis = queuedAtMillis;
+    }
+
+    public static QueuedMail of(String to, String subject, String text, MailPriority priority) {
+        return QueuedMail.builder()
+                .to(to)
+                .subject(subject)
+                .text(text)
+                .priority(priority)
+                .queuedAtMillis(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.bookclub.domain.statistics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 화면에 보여주는 회원 수, 스터디 수와 그 값이 마지막으로 반영, 보정된 시각
+ */
+@Getter
+public class HomeStatistics {
+    private final long allAccountsCount;
+
+    private final long allStudiesCount;
+
+    private final long allCloseStudiesCount;
+
+    private final long allEndStudiesCount;
+
+    private final LocalDateTime updatedAt;
+
+    private final LocalDateTime reconciledAt;
+
+    @Builder
+    public HomeStatistics(long allAccountsCount, long allStudiesCount, long allCloseStudiesCount,
+                          long allEndStudiesCount, LocalDateTime updatedAt, LocalDateTime reconciledAt) {
+        this.allAccountsCount = allAccountsCount;
+        this.allStudiesCount = allStudiesCount;
+        this.allCloseStudiesCount = allCloseStudiesCount;
+        this.allEndStudiesCount = allEndStudiesCount;
+        this.updatedAt = updatedAt;
+        this.reconciledAt = reconciledAt;
+    }
+}
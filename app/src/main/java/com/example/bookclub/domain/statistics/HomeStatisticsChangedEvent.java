@@ -0,0 +1,56 @@
+package com.example.bookclub.domain.statistics;
+
+import com.example.bookclub.domain.study.StudyState;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사용자 생성, 스터디 생성, 삭제, 상태 변경으로 생긴 홈 화면 통계 변화량
+ */
+@Getter
+@ToString
+public class HomeStatisticsChangedEvent {
+    private final long accountsDelta;
+
+    private final long studiesDelta;
+
+    private final long closeStudiesDelta;
+
+    private final long endStudiesDelta;
+
+    private HomeStatisticsChangedEvent(long accountsDelta, long studiesDelta,
+                                       long closeStudiesDelta, long endStudiesDelta) {
+        this.accountsDelta = accountsDelta;
+        this.studiesDelta = studiesDelta;
+        this.closeStudiesDelta = closeStudiesDelta;
+        this.endStudiesDelta = endStudiesDelta;
+    }
+
+    public static HomeStatisticsChangedEvent accountCreated() {
+        return new HomeStatisticsChangedEvent(1, 0, 0, 0);
+    }
+
+    public static HomeStatisticsChangedEvent studyCreated(StudyState studyState) {
+        return new HomeStatisticsChangedEvent(0, 1,
+                countOf(StudyState.CLOSE, studyState, 1), countOf(StudyState.END, studyState, 1));
+    }
+
+    public static HomeStatisticsChangedEvent studyDeleted(StudyState studyState) {
+        return new HomeStatisticsChangedEvent(0, -1,
+                -countOf(StudyState.CLOSE, studyState, 1), -countOf(StudyState.END, studyState, 1));
+    }
+
+    public static HomeStatisticsChangedEvent studyStateChanged(StudyState from, StudyState to, long count) {
+        return new HomeStatisticsChangedEvent(0, 0,
+                countOf(StudyState.CLOSE, to, count) - countOf(StudyState.CLOSE, from, count),
+                countOf(StudyState.END, to, count) - countOf(StudyState.END, from, count));
+    }
+
+    public boolean isEmpty() {
+        return accountsDelta == 0 && studiesDelta == 0 && closeStudiesDelta == 0 && endStudiesDelta == 0;
+    }
+
+    private static long countOf(StudyState target, StudyState studyState, long count) {
+        return target == studyState ? count : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.bookclub.domain.statistics;
+
+import java.util.Optional;
+
+/**
+ * 홈 화면 통계를 미리 계산해 저장해두고 변화량을 반영한다.
+ */
+public interface HomeStatisticsStore {
+    Optional<HomeStatistics> find();
+
+    boolean add(HomeStatisticsChangedEvent event);
+
+    void reset(HomeStatistics homeStatistics);
+}
@@ -0,0 +1,9 @@
+package com.example.bookclub.domain.study;
+
+/**
+ * 좋아요 대상
+ */
+public enum LikeTarget {
+    STUDY,
+    STUDY_COMMENT
+}
@@ -0,0 +1,25 @@
+package com.example.bookclub.domain.study;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 데이터베이스에 반영할 사용자의 좋아요 대상별 최종 좋아요 상태와 지금까지 반영에 실패한 횟수
+ */
+@Getter
+@ToString
+public class LikeToggle {
+    private final LikeTarget target;
+    private final Long targetId;
+    private final Long accountId;
+    private final boolean liked;
+    private final int failures;
+
+    public LikeToggle(LikeTarget target, Long targetId, Long accountId, boolean liked, int failures) {
+        this.target = target;
+        this.targetId = targetId;
+        this.accountId = accountId;
+        this.liked = liked;
+        this.failures = failures;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.bookclub.domain.study;
+
+import com.example.bookclub.common.exception.study.studylike.LikeToggleBufferFullException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 데이터베이스에 반영되지 않은 좋아요, 좋아요 취소를 사용자와 대상별 최종 상태 하나로 모아둔다.
+ * 좋아요 후 취소처럼 저장된 상태로 되돌아온 경우에는 모아둔 상태를 지운다.
+ */
+public interface LikeToggleBuffer {
+    /**
+     * 주어진 대상의 좋아요 상태를 바꾸고, 이미 그 상태인 경우 false 를 반환한다.
+     * 모아둔 상태가 없으면 persistedLiked 로 저장된 상태를 읽는다.
+     *
+     * @throws LikeToggleBufferFullException 새 상태를 모아둘 자리가 없는 경우
+     */
+    boolean toggle(LikeTarget target, Long targetId, Long accountId, boolean liked, Supplier<Boolean> persistedLiked);
+
+    Optional<Boolean> findLiked(LikeTarget target, Long targetId, Long accountId);
+
+    int size();
+
+    /**
+     * 모아둔 상태를 꺼내 반영 중 상태로 옮긴다. 반영이 끝날 때까지 조회와 변경은 반영 중 상태를 기준으로 한다.
+     */
+    List<LikeToggle> drain();
+
+    /**
+     * 반영 중 상태를 정리한다. retried 는 실패 횟수를 늘려 다음 반영 때 다시 반영되도록 되돌리고,
+     * discarded 는 버려 다음 요청 때 저장된 상태를 다시 읽게 하며, 나머지는 반영된 것으로 본다.
+     */
+    void complete(Collection<LikeToggle> retried, Collection<LikeToggle> discarded);
+}
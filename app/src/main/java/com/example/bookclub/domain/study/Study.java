@@ -1,7 +1,6 @@
 package com.example.bookclub.domain.study;
 
 import com.example.bookclub.common.BaseEntity;
-import com.example.bookclub.common.exception.study.StudySizeFullException;
 import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.favorite.Favorite;
 import com.example.bookclub.domain.study.studycomment.StudyComment;
@@ -15,15 +14,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
-import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -33,6 +34,10 @@ import java.util.List;
  * 스터디
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "IDX_STUDY_STATE_START_DATE", columnList = "studyState, startDate"),
+        @Index(name = "IDX_STUDY_STATE_END_DATE", columnList = "studyState, endDate")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -65,7 +70,8 @@ public class Study extends BaseEntity implements Serializable {
     /* 정원 수 */
     private int size;
 
-    /* 지원 수 */
+    /* 지원 수, 엔티티 수정 시 덮어쓰지 않도록 벌크 연산으로만 수정한다 */
+    @Column(updatable = false)
     @Builder.Default
     private int applyCount = 0;
 
@@ -113,7 +119,7 @@ public class Study extends BaseEntity implements Serializable {
     List<StudyComment> studyComments = new ArrayList<>();
 
     /* 즐겨찾기 리스트 */
-    @OneToMany(mappedBy = "study", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "study")
     @Builder.Default
     @ToString.Exclude
     List<Favorite> favorites = new ArrayList<>();
@@ -122,25 +128,37 @@ public class Study extends BaseEntity implements Serializable {
     @Transient
     private boolean liked;
 
-    /* 좋아요 수 */
-    @Transient
+    /* 좋아요 수, 엔티티 수정 시 덮어쓰지 않도록 벌크 연산으로만 수정한다 */
+    @Column(updatable = false)
     private int likesCount;
 
-    /* 댓글 수 */
-    @Transient
+    /* 댓글 수, 엔티티 수정 시 덮어쓰지 않도록 벌크 연산으로만 수정한다 */
+    @Column(updatable = false)
     private int commentsCount;
 
+    /* 즐겨찾기 수, 엔티티 수정 시 덮어쓰지 않도록 벌크 연산으로만 수정한다 */
+    @Column(updatable = false)
+    private int favoritesCount;
+
     /* 즐겨찾기 여부 */
     @Transient
     private boolean isFavorite;
 
+    /* 남은 자리 수를 Redis 카운터로 관리하는지 여부 */
+    private boolean seatCounterEnabled;
+
+    /* 버전, 엔티티 수정과 스터디 상태 일괄 변경 시 증가해 동시 수정을 감지한다 */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Builder
     @QueryProjection
     public Study(Long id, String name, String bookName, String bookImage, String email, String description, String contact,
                  int size, int applyCount, LocalDate startDate, LocalDate endDate, String startTime, String endTime,
                  Day day, StudyState studyState, Zone zone, List<Account> accounts, List<StudyLike> studyLikes,
                  List<StudyComment> studyComments, List<Favorite> favorites, boolean liked, int likesCount, int commentsCount,
-                 boolean isFavorite) {
+                 int favoritesCount, boolean isFavorite, boolean seatCounterEnabled, Long version) {
         this.id = id;
         this.name = name;
         this.bookName = bookName;
@@ -164,7 +182,10 @@ public class Study extends BaseEntity implements Serializable {
         this.liked = liked;
         this.likesCount = likesCount;
         this.commentsCount = commentsCount;
+        this.favoritesCount = favoritesCount;
         this.isFavorite = isFavorite;
+        this.seatCounterEnabled = seatCounterEnabled;
+        this.version = version;
     }
 
     /**
@@ -186,29 +207,22 @@ public class Study extends BaseEntity implements Serializable {
 
     /**
      * 주어진 사용자를 저장된 스터디에 추가한다.
-     * 지원자 수를 1 증가시킨다.
+     * 지원자 수는 바꾸지 않는다. 지원자 수는 저장소의 벌크 연산으로만 수정한다.
      *
      * @param account 사용자
-     * @throws StudySizeFullException 스터디 식별자에 해당하는 스터디 정원이 다 찬 경우
      */
     public void addAccount(Account account) {
-        if(this.applyCount + 1 > this.size) {
-            throw new StudySizeFullException();
-        }
-
-        this.applyCount += 1;
         accounts.add(account);
         account.addStudy(this);
     }
 
     /**
      * 주어진 사용자를 저장된 스터디에 삭제한다.
-     * 지원자 수를 1 감소시킨다.
+     * 지원자 수는 바꾸지 않는다. 지원자 수는 저장소의 벌크 연산으로만 수정한다.
      *
      * @param account 사용자
      */
     public void cancelAccount(Account account) {
-        this.applyCount -= 1;
         accounts.remove(account);
         account.cancelStudy();
     }
@@ -268,12 +282,17 @@ public class Study extends BaseEntity implements Serializable {
     }
 
     /**
-     * 저장된 스터디의 사용자를 모두 삭제한다.
+     * 저장된 스터디의 남은 자리 수를 Redis 카운터로 관리하도록 수정한다.
+     */
+    public void enableSeatCounter() {
+        this.seatCounterEnabled = true;
+    }
+
+    /**
+     * 저장된 스터디의 남은 자리 수를 데이터베이스로 관리하도록 수정한다.
      */
-    public void deleteAccounts() {
-        for(Account account : accounts) {
-            account.deleteStudy();
-        }
+    public void disableSeatCounter() {
+        this.seatCounterEnabled = false;
     }
 
     /**
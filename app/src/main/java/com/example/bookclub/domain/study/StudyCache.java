@@ -0,0 +1,23 @@
+package com.example.bookclub.domain.study;
+
+import com.example.bookclub.dto.StudyApiDto;
+
+import java.util.function.Function;
+
+/**
+ * 스터디 정보를 서버 메모리와 Redis 에 나누어 캐시한다.
+ * 스터디가 수정되면 모든 서버의 캐시에서 지워지도록 삭제를 전파한다.
+ */
+public interface StudyCache {
+    /**
+     * 주어진 스터디 식별자에 해당하는 스터디 정보를 반환한다.
+     * 서버 메모리와 Redis 에 모두 없으면 loader 로 읽어 두 곳에 저장한다.
+     */
+    StudyApiDto.StudyResultDto get(Long studyId, Function<Long, StudyApiDto.StudyResultDto> loader);
+
+    void evict(Long studyId);
+
+    void evictAll();
+
+    StudyApiDto.StudyCacheStatsResultDto stats();
+}
@@ -0,0 +1,30 @@
+package com.example.bookclub.domain.study;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 패싯 검색 색인에 필요한 스터디 식별자, 지역, 요일, 스터디 상태
+ */
+@Getter
+@ToString
+public class StudyFacet {
+    private final Long id;
+
+    private final Zone zone;
+
+    private final Day day;
+
+    private final StudyState studyState;
+
+    public StudyFacet(Long id, Zone zone, Day day, StudyState studyState) {
+        this.id = id;
+        this.zone = zone;
+        this.day = day;
+        this.studyState = studyState;
+    }
+
+    public static StudyFacet of(Study study) {
+        return new StudyFacet(study.getId(), study.getZone(), study.getDay(), study.getStudyState());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.bookclub.domain.study;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 스터디 생성, 수정, 삭제, 상태 일괄 변경으로 생긴 패싯 검색 색인 변경
+ */
+@Getter
+@ToString
+public class StudyFacetChangedEvent {
+    private final StudyFacet savedStudyFacet;
+
+    private final Long deletedStudyId;
+
+    private final boolean rebuildRequired;
+
+    private StudyFacetChangedEvent(StudyFacet savedStudyFacet, Long deletedStudyId, boolean rebuildRequired) {
+        this.savedStudyFacet = savedStudyFacet;
+        this.deletedStudyId = deletedStudyId;
+        this.rebuildRequired = rebuildRequired;
+    }
+
+    public static StudyFacetChangedEvent studySaved(Study study) {
+        return new StudyFacetChangedEvent(StudyFacet.of(study), null, false);
+    }
+
+    public static StudyFacetChangedEvent studyDeleted(Long studyId) {
+        return new StudyFacetChangedEvent(null, studyId, false);
+    }
+
+    /**
+     * 어떤 스터디가 바뀌었는지 모르는 일괄 수정 뒤에 색인을 다시 만들도록 한다.
+     */
+    public static StudyFacetChangedEvent studiesChanged() {
+        return new StudyFacetChangedEvent(null, null, true);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bookclub.domain.study;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 지역, 요일, 스터디 상태 값마다 스터디 식별자 집합을 서버 메모리에 두고 패싯 검색과 패싯 값별 개수를 계산한다.
+ */
+public interface StudyFacetIndex {
+    /**
+     * 스터디를 색인에 넣는다. 이미 있는 스터디면 이전 지역, 요일, 스터디 상태를 지우고 다시 넣는다.
+     */
+    void put(StudyFacet studyFacet);
+
+    void remove(Long studyId);
+
+    /**
+     * loader 가 넘기는 스터디로 새 색인을 만들어 현재 색인과 바꾸고 색인된 스터디 수를 반환한다.
+     * 만드는 동안 들어온 변경은 새 색인에도 반영한 뒤 바꾼다.
+     * loader 는 스터디를 모아 두지 않고 바로 색인에 넣으므로 식별자 오름차순으로 넘겨야 페이지 조회에서 다시 정렬하지 않는다.
+     */
+    int rebuild(Consumer<Consumer<StudyFacet>> loader);
+
+    /**
+     * 주어진 지역, 요일, 스터디 상태 중 하나에 해당하는 스터디를 식별자 내림차순으로 afterId 다음부터 limit 만큼 찾는다.
+     * 비어 있는 조건은 거르지 않으며, 패싯 값별 개수는 그 패싯을 뺀 나머지 조건으로 센다.
+     */
+    StudyFacetSearchResult search(Set<Zone> zones, Set<Day> days, Set<StudyState> studyStates,
+                                  Long afterId, int limit);
+
+    int size();
+}
@@ -0,0 +1,35 @@
+package com.example.bookclub.domain.study;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 검색 색인에서 찾은 스터디 식별자 페이지와 전체 개수, 패싯 값별 개수
+ */
+@Getter
+@ToString
+public class StudyFacetSearchResult {
+    private final List<Long> studyIds;
+
+    private final long totalCount;
+
+    private final Map<Zone, Long> zoneCounts;
+
+    private final Map<Day, Long> dayCounts;
+
+    private final Map<StudyState, Long> studyStateCounts;
+
+    @Builder
+    public StudyFacetSearchResult(List<Long> studyIds, long totalCount, Map<Zone, Long> zoneCounts,
+                                  Map<Day, Long> dayCounts, Map<StudyState, Long> studyStateCounts) {
+        this.studyIds = studyIds;
+        this.totalCount = totalCount;
+        this.zoneCounts = zoneCounts;
+        this.dayCounts = dayCounts;
+        this.studyStateCounts = studyStateCounts;
+    }
+}
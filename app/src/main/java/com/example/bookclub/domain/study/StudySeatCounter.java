@@ -0,0 +1,38 @@
+package com.example.bookclub.domain.study;
+
+import java.util.Map;
+
+/**
+ * 스터디의 남은 자리 수를 관리하고 데이터베이스에 반영되지 않은 지원자 수 변화량을 모아둔다.
+ */
+public interface StudySeatCounter {
+    /**
+     * 자리 확보 결과
+     */
+    enum Reservation {
+        /* 자리를 확보한 경우 */
+        RESERVED,
+        /* 남은 자리가 없는 경우 */
+        FULL,
+        /* 남은 자리 수가 아직 저장되지 않은 경우 */
+        NOT_INITIALIZED
+    }
+
+    Reservation reserve(Long studyId);
+
+    void release(Long studyId);
+
+    boolean initialize(Long studyId, int size, int applyCount);
+
+    void reset(Long studyId, int size, int applyCount);
+
+    void adjust(Long studyId, int delta);
+
+    void remove(Long studyId);
+
+    int takePendingCount(Long studyId);
+
+    Map<Long, Integer> takePendingCounts();
+
+    void restorePendingCount(Long studyId, int delta);
+}
@@ -12,8 +12,11 @@ import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.io.Serializable;
 
 /**
@@ -24,6 +27,9 @@ import java.io.Serializable;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @ToString
+@Table(uniqueConstraints = @UniqueConstraint(
+		name = "UK_FAVORITE_STUDY_ACCOUNT", columnNames = {"STUDY_ID", "ACCOUNT_ID"}),
+		indexes = @Index(name = "IDX_FAVORITE_ACCOUNT_ID", columnList = "ACCOUNT_ID, id"))
 public class Favorite implements Serializable {
 	/* 식별자 */
 	@Id
@@ -2,13 +2,23 @@ package com.example.bookclub.domain.study.favorite;
 
 import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.dto.StudyApiDto;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface FavoriteRepository {
 	Favorite save(Favorite favorite);
 
+	Favorite saveAndFlush(Favorite favorite);
+
 	Optional<Favorite> findByStudyAndAccount(Study study, Account account);
 
 	void delete(Favorite favorite);
+
+	int deleteByStudyIdAndAccountId(Long studyId, Long accountId);
+
+	boolean existsByStudyIdAndAccountId(Long studyId, Long accountId);
+
+	List<StudyApiDto.StudyFavoriteDto> findFavoriteStudiesByAccountId(Long accountId, Long cursor, int limit);
 }
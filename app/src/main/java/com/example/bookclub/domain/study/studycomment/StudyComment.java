@@ -54,7 +54,7 @@ public class StudyComment extends BaseEntity {
 	@Transient
 	private boolean liked;
 
-	@Transient
+	@Column(updatable = false)
 	private int likesCount;
 
 	@Builder
@@ -1,5 +1,7 @@
 package com.example.bookclub.domain.study.studycomment;
 
+import com.example.bookclub.dto.StudyApiDto;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +13,19 @@ public interface StudyCommentRepository {
 	void delete(StudyComment studyComment);
 
 	Optional<StudyComment> findById(Long id);
+
+	boolean existsById(Long id);
+
+	StudyComment getOne(Long id);
+
+	List<StudyApiDto.StudyCommentResultDto> findCommentResultsByStudyId(Long studyId, Long accountId,
+																	  Long cursor, int limit);
+
+	int increaseLikesCount(Long id);
+
+	int decreaseLikesCount(Long id);
+
+	int addLikesCount(Long id, int delta);
+
+	int syncLikesCount();
 }
@@ -16,11 +16,15 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
+@Table(uniqueConstraints = @UniqueConstraint(
+		name = "UK_STUDY_COMMENT_LIKE_COMMENT_ACCOUNT", columnNames = {"COMMENT_ID", "ACCOUNT_ID"}))
 public class StudyCommentLike extends BaseTimeEntity {
 	@Id
 	@GeneratedValue
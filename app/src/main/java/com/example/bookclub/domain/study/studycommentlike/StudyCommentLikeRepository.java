@@ -3,14 +3,26 @@ package com.example.bookclub.domain.study.studycommentlike;
 import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.studycomment.StudyComment;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudyCommentLikeRepository {
 	StudyCommentLike save(StudyCommentLike studyLike);
 
+	StudyCommentLike saveAndFlush(StudyCommentLike studyCommentLike);
+
 	Optional<StudyCommentLike> findByStudyCommentAndAccount(StudyComment studyComment, Account account);
 
 	Optional<StudyCommentLike> findById(Long StudyCommentLikeId);
 
 	void delete(StudyCommentLike studyCommentLike);
+
+	int deleteByStudyCommentIdAndAccountId(Long studyCommentId, Long accountId);
+
+	boolean existsByStudyCommentIdAndAccountId(Long studyCommentId, Long accountId);
+
+	List<Long> findAccountIdsByStudyCommentIdAndAccountIdIn(Long studyCommentId, Collection<Long> accountIds);
+
+	int deleteByStudyCommentIdAndAccountIdIn(Long studyCommentId, Collection<Long> accountIds);
 }
@@ -16,11 +16,15 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
+@Table(uniqueConstraints = @UniqueConstraint(
+		name = "UK_STUDY_LIKE_STUDY_ACCOUNT", columnNames = {"STUDY_ID", "ACCOUNT_ID"}))
 public class StudyLike extends BaseTimeEntity {
 	@Id @GeneratedValue
 	@Column(name = "STUDYLIKE_ID")
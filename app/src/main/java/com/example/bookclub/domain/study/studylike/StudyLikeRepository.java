@@ -3,12 +3,24 @@ package com.example.bookclub.domain.study.studylike;
 import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.Study;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudyLikeRepository {
 	StudyLike save(StudyLike studyLike);
 
+	StudyLike saveAndFlush(StudyLike studyLike);
+
 	Optional<StudyLike> findByStudyAndAccount(Study study, Account account);
 
 	void delete(StudyLike studyLike);
+
+	int deleteByStudyIdAndAccountId(Long studyId, Long accountId);
+
+	boolean existsByStudyIdAndAccountId(Long studyId, Long accountId);
+
+	List<Long> findAccountIdsByStudyIdAndAccountIdIn(Long studyId, Collection<Long> accountIds);
+
+	int deleteByStudyIdAndAccountIdIn(Long studyId, Collection<Long> accountIds);
 }
@@ -141,6 +141,107 @@ public class AccountDto {
 		}
 	}
 
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@ToString
+	public static class AccountHistoryStatsResultDto {
+		private int queueSize;
+
+		private int queueCapacity;
+
+		private long enqueuedCount;
+
+		private long writtenCount;
+
+		private long batchCount;
+
+		private long failedBatchCount;
+
+		private long spilledCount;
+
+		private long replayedCount;
+
+		private long droppedCount;
+
+		@Builder
+		public AccountHistoryStatsResultDto(int queueSize, int queueCapacity, long enqueuedCount, long writtenCount,
+											long batchCount, long failedBatchCount, long spilledCount,
+											long replayedCount, long droppedCount) {
+			this.queueSize = queueSize;
+			this.queueCapacity = queueCapacity;
+			this.enqueuedCount = enqueuedCount;
+			this.writtenCount = writtenCount;
+			this.batchCount = batchCount;
+			this.failedBatchCount = failedBatchCount;
+			this.spilledCount = spilledCount;
+			this.replayedCount = replayedCount;
+			this.droppedCount = droppedCount;
+		}
+
+		public double getQueueUsage() {
+			if (queueCapacity == 0) {
+				return 0.0;
+			}
+
+			return queueSize / (double) queueCapacity;
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@ToString
+	public static class AccountExistenceFilterStatsResultDto {
+		private boolean ready;
+
+		private long expectedInsertions;
+
+		private double configuredFpp;
+
+		private long insertedCount;
+
+		private double emailExpectedFpp;
+
+		private double nicknameExpectedFpp;
+
+		private long memoryBytes;
+
+		private long checkCount;
+
+		private long definiteMissCount;
+
+		private long databaseCheckCount;
+
+		private long falsePositiveCount;
+
+		@Builder
+		public AccountExistenceFilterStatsResultDto(boolean ready, long expectedInsertions, double configuredFpp,
+													long insertedCount, double emailExpectedFpp,
+													double nicknameExpectedFpp, long memoryBytes, long checkCount,
+													long definiteMissCount, long databaseCheckCount,
+													long falsePositiveCount) {
+			this.ready = ready;
+			this.expectedInsertions = expectedInsertions;
+			this.configuredFpp = configuredFpp;
+			this.insertedCount = insertedCount;
+			this.emailExpectedFpp = emailExpectedFpp;
+			this.nicknameExpectedFpp = nicknameExpectedFpp;
+			this.memoryBytes = memoryBytes;
+			this.checkCount = checkCount;
+			this.definiteMissCount = definiteMissCount;
+			this.databaseCheckCount = databaseCheckCount;
+			this.falsePositiveCount = falsePositiveCount;
+		}
+
+		public double getObservedFalsePositiveRate() {
+			long negativeCount = definiteMissCount + falsePositiveCount;
+			if (!ready || negativeCount == 0) {
+				return 0.0;
+			}
+
+			return falsePositiveCount / (double) negativeCount;
+		}
+	}
+
 	@Getter
 	@NoArgsConstructor(access = AccessLevel.PROTECTED)
 	@ToString
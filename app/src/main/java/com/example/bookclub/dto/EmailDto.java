@@ -46,4 +46,54 @@ public class EmailDto {
 		}
 	}
 
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@ToString
+	public static class MailQueueStatsResultDto {
+		private long queueDepth;
+
+		private long deadLetterDepth;
+
+		private long consumerCount;
+
+		private long enqueuedCount;
+
+		private long enqueueFailedCount;
+
+		private long sentCount;
+
+		private long failedAttemptCount;
+
+		private long deadLetteredCount;
+
+		private long smtpConnectCount;
+
+		private double averageSendMillis;
+
+		private long maxSendMillis;
+
+		private double averageDeliveryMillis;
+
+		private long maxDeliveryMillis;
+
+		@Builder
+		public MailQueueStatsResultDto(long queueDepth, long deadLetterDepth, long consumerCount, long enqueuedCount,
+									   long enqueueFailedCount, long sentCount, long failedAttemptCount,
+									   long deadLetteredCount, long smtpConnectCount, double averageSendMillis,
+									   long maxSendMillis, double averageDeliveryMillis, long maxDeliveryMillis) {
+			this.queueDepth = queueDepth;
+			this.deadLetterDepth = deadLetterDepth;
+			this.consumerCount = consumerCount;
+			this.enqueuedCount = enqueuedCount;
+			this.enqueueFailedCount = enqueueFailedCount;
+			this.sentCount = sentCount;
+			this.failedAttemptCount = failedAttemptCount;
+			this.deadLetteredCount = deadLetteredCount;
+			this.smtpConnectCount = smtpConnectCount;
+			this.averageSendMillis = averageSendMillis;
+			this.maxSendMillis = maxSendMillis;
+			this.averageDeliveryMillis = averageDeliveryMillis;
+			this.maxDeliveryMillis = maxDeliveryMillis;
+		}
+	}
 }
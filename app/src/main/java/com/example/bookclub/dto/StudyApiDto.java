@@ -1,5 +1,6 @@
 package com.example.bookclub.dto;
 
+import com.example.bookclub.common.retry.ConflictRetryMetrics;
 import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.Day;
 import com.example.bookclub.domain.study.Study;
@@ -20,9 +21,12 @@ import javax.persistence.Enumerated;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Size;
+import java.io.Serializable;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 public class StudyApiDto {
 	@Getter
@@ -106,12 +110,20 @@ public class StudyApiDto {
 
 		private List<StudyCommentResultDto> studyComments;
 
+		private Long nextCommentCursor;
+
+		private boolean hasNextComments;
+
 		@Builder
 		public StudyDetailResultDto(StudyApiDto.StudyResultDto studyResultDto,
-									List<StudyCommentResultDto> studyComments
+									List<StudyCommentResultDto> studyComments,
+									Long nextCommentCursor,
+									boolean hasNextComments
 		) {
 			this.studyResultDto = studyResultDto;
 			this.studyComments = studyComments;
+			this.nextCommentCursor = nextCommentCursor;
+			this.hasNextComments = hasNextComments;
 		}
 
 		public static StudyDetailResultDto of(StudyResultDto studyResultDto,
@@ -126,7 +138,99 @@ public class StudyApiDto {
 	@Getter
 	@NoArgsConstructor(access = AccessLevel.PROTECTED)
 	@ToString
-	public static class StudyResultDto {
+	public static class StudyCommentCursorResultDto {
+		private List<StudyCommentResultDto> studyComments;
+
+		private Long nextCursor;
+
+		private boolean hasNext;
+
+		@Builder
+		public StudyCommentCursorResultDto(List<StudyCommentResultDto> studyComments, Long nextCursor,
+										   boolean hasNext) {
+			this.studyComments = studyComments;
+			this.nextCursor = nextCursor;
+			this.hasNext = hasNext;
+		}
+
+		/**
+		 * 페이지 크기보다 하나 더 조회한 댓글 목록으로 커서 페이지 정보를 만든다.
+		 * 남는 하나는 다음 페이지가 있는지 확인하는 용도로만 사용하고 결과에서 제외한다.
+		 */
+		public static StudyCommentCursorResultDto of(List<StudyCommentResultDto> studyCommentResultDtos, int size) {
+			boolean hasNext = studyCommentResultDtos.size() > size;
+			List<StudyCommentResultDto> page = hasNext
+					? studyCommentResultDtos.subList(0, size)
+					: studyCommentResultDtos;
+
+			return StudyCommentCursorResultDto.builder()
+					.studyComments(page)
+					.nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+					.hasNext(hasNext)
+					.build();
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class StudyCursorResultDto {
+		private List<StudyResultDto> studyResultDtos;
+
+		private Long firstId;
+
+		private Long lastId;
+
+		private boolean hasPrevious;
+
+		private boolean hasNext;
+
+		private Long totalCount;
+
+		@Builder
+		public StudyCursorResultDto(List<StudyResultDto> studyResultDtos, Long firstId, Long lastId,
+									boolean hasPrevious, boolean hasNext, Long totalCount) {
+			this.studyResultDtos = studyResultDtos;
+			this.firstId = firstId;
+			this.lastId = lastId;
+			this.hasPrevious = hasPrevious;
+			this.hasNext = hasNext;
+			this.totalCount = totalCount;
+		}
+
+		/**
+		 * 페이지 크기보다 하나 더 조회한 스터디 목록으로 커서 페이지 정보를 만든다.
+		 * 남는 하나는 다음 페이지가 있는지 확인하는 용도로만 사용하고 결과에서 제외한다.
+		 */
+		public static StudyCursorResultDto of(List<StudyResultDto> studyResultDtos, int size,
+											  Long afterId, Long beforeId) {
+			boolean backward = afterId == null && beforeId != null;
+			boolean hasMore = studyResultDtos.size() > size;
+
+			List<StudyResultDto> page = studyResultDtos;
+			if (hasMore) {
+				page = backward
+						? studyResultDtos.subList(studyResultDtos.size() - size, studyResultDtos.size())
+						: studyResultDtos.subList(0, size);
+			}
+
+			return StudyCursorResultDto.builder()
+					.studyResultDtos(page)
+					.firstId(page.isEmpty() ? null : page.get(0).getId())
+					.lastId(page.isEmpty() ? null : page.get(page.size() - 1).getId())
+					.hasPrevious(backward ? hasMore : afterId != null)
+					.hasNext(backward || hasMore)
+					.build();
+		}
+
+		public void setTotalCount(Long totalCount) {
+			this.totalCount = totalCount;
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@ToString
+	public static class StudyResultDto implements Serializable {
 		private Long id;
 
 		private String name;
@@ -167,6 +271,8 @@ public class StudyApiDto {
 
 		private int commentsCount;
 
+		private int favoritesCount;
+
 		private boolean isFavorite;
 
 		@Builder
@@ -174,7 +280,7 @@ public class StudyApiDto {
 		public StudyResultDto(Long id, String name, String bookName, String bookImage, String email, String description,
 							  String contact, int size, int applyCount, LocalDate startDate, LocalDate endDate, String startTime,
 							  String endTime, Day day, StudyState studyState, Zone zone, int likesCount, boolean liked,
-							  int commentsCount, boolean isFavorite) {
+							  int commentsCount, int favoritesCount, boolean isFavorite) {
 			this.id = id;
 			this.name = name;
 			this.bookName = bookName;
@@ -194,6 +300,7 @@ public class StudyApiDto {
 			this.likesCount = likesCount;
 			this.liked = liked;
 			this.commentsCount = commentsCount;
+			this.favoritesCount = favoritesCount;
 			this.isFavorite = isFavorite;
 		}
 
@@ -241,12 +348,49 @@ public class StudyApiDto {
 					.day(study.getDay())
 					.studyState(study.getStudyState())
 					.zone(study.getZone())
-					.likesCount(study.getStudyLikes() == null ? 0 : study.getStudyLikes().size())
+					.likesCount(study.getLikesCount())
 					.liked(study.isLiked())
 					.commentsCount(study.getCommentsCount())
+					.favoritesCount(study.getFavoritesCount())
 					.isFavorite(study.isFavorite())
 					.build();
 		}
+
+		/**
+		 * 즐겨찾기 여부만 바꾼 복사본을 반환한다. 캐시에서 꺼낸 정보는 다른 요청과 공유하므로 직접 바꾸지 않는다.
+		 */
+		public StudyResultDto withFavorite(boolean isFavorite) {
+			return StudyResultDto.builder()
+					.id(id)
+					.name(name)
+					.bookName(bookName)
+					.bookImage(bookImage)
+					.email(email)
+					.description(description)
+					.contact(contact)
+					.size(size)
+					.applyCount(applyCount)
+					.startDate(startDate)
+					.endDate(endDate)
+					.startTime(startTime)
+					.endTime(endTime)
+					.day(day)
+					.studyState(studyState)
+					.zone(zone)
+					.likesCount(likesCount)
+					.liked(liked)
+					.commentsCount(commentsCount)
+					.favoritesCount(favoritesCount)
+					.isFavorite(isFavorite)
+					.build();
+		}
+
+		public void changeLiked(boolean liked) {
+			if (this.liked != liked) {
+				this.liked = liked;
+				this.likesCount += liked ? 1 : -1;
+			}
+		}
 	}
 
 	@Getter
@@ -324,6 +468,136 @@ public class StudyApiDto {
 		}
 	}
 
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@ToString
+	public static class StudySeatCounterResultDto {
+		private Long id;
+
+		private boolean seatCounterEnabled;
+
+		@Builder
+		public StudySeatCounterResultDto(Long id, boolean seatCounterEnabled) {
+			this.id = id;
+			this.seatCounterEnabled = seatCounterEnabled;
+		}
+
+		public static StudySeatCounterResultDto of(Study study) {
+			return StudySeatCounterResultDto.builder()
+					.id(study.getId())
+					.seatCounterEnabled(study.isSeatCounterEnabled())
+					.build();
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class StudyFacetSearchResultDto {
+		private StudyCursorResultDto studies;
+
+		private Map<Zone, Long> zoneCounts;
+
+		private Map<Day, Long> dayCounts;
+
+		private Map<StudyState, Long> studyStateCounts;
+
+		@Builder
+		public StudyFacetSearchResultDto(StudyCursorResultDto studies, Map<Zone, Long> zoneCounts,
+										 Map<Day, Long> dayCounts, Map<StudyState, Long> studyStateCounts) {
+			this.studies = studies;
+			this.zoneCounts = zoneCounts;
+			this.dayCounts = dayCounts;
+			this.studyStateCounts = studyStateCounts;
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@ToString
+	public static class StudyConflictRetryStatsResultDto {
+		private long invocationCount;
+
+		private long attemptCount;
+
+		private long conflictCount;
+
+		private long retryCount;
+
+		private long exhaustedCount;
+
+		@Builder
+		public StudyConflictRetryStatsResultDto(long invocationCount, long attemptCount, long conflictCount,
+												long retryCount, long exhaustedCount) {
+			this.invocationCount = invocationCount;
+			this.attemptCount = attemptCount;
+			this.conflictCount = conflictCount;
+			this.retryCount = retryCount;
+			this.exhaustedCount = exhaustedCount;
+		}
+
+		public static StudyConflictRetryStatsResultDto of(ConflictRetryMetrics conflictRetryMetrics) {
+			return StudyConflictRetryStatsResultDto.builder()
+					.invocationCount(conflictRetryMetrics.getInvocationCount())
+					.attemptCount(conflictRetryMetrics.getAttemptCount())
+					.conflictCount(conflictRetryMetrics.getConflictCount())
+					.retryCount(conflictRetryMetrics.getRetryCount())
+					.exhaustedCount(conflictRetryMetrics.getExhaustedCount())
+					.build();
+		}
+
+		public double getConflictRate() {
+			if (attemptCount == 0) {
+				return 0.0;
+			}
+
+			return conflictCount / (double) attemptCount;
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@ToString
+	public static class StudyCacheStatsResultDto {
+		private long localHitCount;
+
+		private long localMissCount;
+
+		private long localEvictionCount;
+
+		private long localSize;
+
+		private long redisHitCount;
+
+		private long redisMissCount;
+
+		private long invalidationCount;
+
+		private long remoteInvalidationCount;
+
+		@Builder
+		public StudyCacheStatsResultDto(long localHitCount, long localMissCount, long localEvictionCount,
+										long localSize, long redisHitCount, long redisMissCount,
+										long invalidationCount, long remoteInvalidationCount) {
+			this.localHitCount = localHitCount;
+			this.localMissCount = localMissCount;
+			this.localEvictionCount = localEvictionCount;
+			this.localSize = localSize;
+			this.redisHitCount = redisHitCount;
+			this.redisMissCount = redisMissCount;
+			this.invalidationCount = invalidationCount;
+			this.remoteInvalidationCount = remoteInvalidationCount;
+		}
+
+		public double getHitRate() {
+			long requestCount = localHitCount + localMissCount;
+			if (requestCount == 0) {
+				return 1.0;
+			}
+
+			return (localHitCount + redisHitCount) / (double) requestCount;
+		}
+	}
+
 	@Getter
 	@NoArgsConstructor(access = AccessLevel.PROTECTED)
 	@ToString
@@ -372,6 +646,14 @@ public class StudyApiDto {
 			this.likesCount = likesCount;
 		}
 
+		@QueryProjection
+		public StudyCommentResultDto(Long id, String content, Long studyId, Long accountId, String nickname,
+									 boolean isWrittenByMe, LocalDateTime updatedDate, boolean liked, int likesCount) {
+			this(id, content, studyId, accountId, nickname, isWrittenByMe,
+					updatedDate == null ? null : updatedDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
+					liked, likesCount);
+		}
+
 		public static StudyCommentResultDto of(StudyComment studyComment, Account account) {
 			return StudyCommentResultDto.builder()
 					.id(studyComment.getId())
@@ -385,12 +667,21 @@ public class StudyApiDto {
 					.likesCount(studyComment.getLikesCount())
 					.build();
 		}
+
+		public void changeLiked(boolean liked) {
+			if (this.liked != liked) {
+				this.liked = liked;
+				this.likesCount += liked ? 1 : -1;
+			}
+		}
 	}
 
 	@Getter
 	@NoArgsConstructor(access = AccessLevel.PROTECTED)
 	@ToString
 	public static class StudyFavoriteDto {
+		private Long favoriteId;
+
 		private Long id;
 
 		private String name;
@@ -400,7 +691,8 @@ public class StudyApiDto {
 		private StudyState studyState;
 
 		@QueryProjection
-		public StudyFavoriteDto(Long id, String name, String bookName, StudyState studyState) {
+		public StudyFavoriteDto(Long favoriteId, Long id, String name, String bookName, StudyState studyState) {
+			this.favoriteId = favoriteId;
 			this.id = id;
 			this.name = name;
 			this.bookName = bookName;
@@ -408,6 +700,40 @@ public class StudyApiDto {
 		}
 	}
 
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	public static class StudyFavoriteCursorResultDto {
+		private List<StudyFavoriteDto> studyFavorites;
+
+		private Long nextCursor;
+
+		private boolean hasNext;
+
+		@Builder
+		public StudyFavoriteCursorResultDto(List<StudyFavoriteDto> studyFavorites, Long nextCursor, boolean hasNext) {
+			this.studyFavorites = studyFavorites;
+			this.nextCursor = nextCursor;
+			this.hasNext = hasNext;
+		}
+
+		/**
+		 * 페이지 크기보다 하나 더 조회한 즐겨찾기 스터디 목록으로 커서 페이지 정보를 만든다.
+		 * 남는 하나는 다음 페이지가 있는지 확인하는 용도로만 사용하고 결과에서 제외한다.
+		 */
+		public static StudyFavoriteCursorResultDto of(List<StudyFavoriteDto> studyFavoriteDtos, int size) {
+			boolean hasNext = studyFavoriteDtos.size() > size;
+			List<StudyFavoriteDto> page = hasNext
+					? studyFavoriteDtos.subList(0, size)
+					: studyFavoriteDtos;
+
+			return StudyFavoriteCursorResultDto.builder()
+					.studyFavorites(page)
+					.nextCursor(hasNext ? page.get(page.size() - 1).getFavoriteId() : null)
+					.hasNext(hasNext)
+					.build();
+		}
+	}
+
 	@Getter
 	@NoArgsConstructor(access = AccessLevel.PROTECTED)
 	@ToString
@@ -1,13 +1,22 @@
 package com.example.bookclub.infrastructure.account;
 
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
+import com.example.bookclub.domain.account.AccountIdentity;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AccountRepositoryCustom {
     Optional<Account> findById(Long id);
 
     Optional<Account> findByEmail(String email);
 
+    Optional<AccountHeader> findAccountHeaderByEmail(String email);
+
+    Optional<Account> findAuthenticationAccountByEmail(String email);
+
+    Stream<AccountIdentity> streamAccountIdentities(int fetchSize);
+
 	long getAllAccountsCount();
 }
@@ -0,0 +1,243 @@
+package com.example.bookclub.infrastructure.account;
+
+import com.example.bookclub.domain.account.AccountExistenceFilter;
+import com.example.bookclub.domain.account.AccountIdentity;
+import com.example.bookclub.dto.AccountDto;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 정규화한 이메일, 닉네임을 Guava 블룸 필터에 담는다.
+ * 새로 넣은 값은 Redis 채널로 다른 서버에 알리고, 알림을 놓친 값은 주기적인 재생성에서 맞춘다.
+ * 처음 만들어지기 전에는 모든 검사를 데이터베이스로 넘기며, 검사는 잠금 없이, 넣기는 읽기 잠금, 색인 교체는 쓰기 잠금으로 보호한다.
+ */
+@Slf4j
+@Component
+public class BloomAccountExistenceFilter implements AccountExistenceFilter, MessageListener {
+    public static final String PUT_CHANNEL = "account:existence-filter:put";
+
+    private static final char SEPARATOR = '\n';
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Filters filters;
+    private Filters rebuilding;
+
+    private final AtomicLong checkCount = new AtomicLong();
+    private final AtomicLong definiteMissCount = new AtomicLong();
+    private final AtomicLong databaseCheckCount = new AtomicLong();
+    private final AtomicLong falsePositiveCount = new AtomicLong();
+
+    public BloomAccountExistenceFilter(StringRedisTemplate stringRedisTemplate,
+                                       RedisMessageListenerContainer redisMessageListenerContainer,
+                                       @Value("${account.existence-filter.expected-insertions:1000000}") long expectedInsertions,
+                                       @Value("${account.existence-filter.fpp:0.01}") double fpp) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(PUT_CHANNEL));
+    }
+
+    @Override
+    public boolean emailExists(String email, Predicate<String> checker) {
+        Filters current = filters;
+        return check(email, current == null ? null : current.emails, checker);
+    }
+
+    @Override
+    public boolean nicknameExists(String nickname, Predicate<String> checker) {
+        Filters current = filters;
+        return check(nickname, current == null ? null : current.nicknames, checker);
+    }
+
+    private boolean check(String value, BloomFilter<String> bloomFilter, Predicate<String> checker) {
+        checkCount.incrementAndGet();
+        if (bloomFilter != null && value != null && !bloomFilter.mightContain(normalize(value))) {
+            definiteMissCount.incrementAndGet();
+            return false;
+        }
+
+        databaseCheckCount.incrementAndGet();
+        boolean exists = checker.test(value);
+        if (!exists && bloomFilter != null) {
+            falsePositiveCount.incrementAndGet();
+        }
+        return exists;
+    }
+
+    /**
+     * 지금 넣고, 트랜잭션 안이면 커밋된 뒤에 한 번 더 넣으면서 다른 서버에 알린다.
+     * 커밋 전에 시작한 재생성이 아직 커밋되지 않은 사용자를 읽지 못해도 커밋 뒤에 넣은 값으로 채워진다.
+     */
+    @Override
+    public void put(AccountIdentity accountIdentity) {
+        putLocally(accountIdentity);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(accountIdentity);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putLocally(accountIdentity);
+                publish(accountIdentity);
+            }
+        });
+    }
+
+    private void putLocally(AccountIdentity accountIdentity) {
+        lock.readLock().lock();
+        try {
+            if (filters != null) {
+                filters.put(accountIdentity);
+            }
+            if (rebuilding != null) {
+                rebuilding.put(accountIdentity);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public synchronized int rebuild(Consumer<Consumer<AccountIdentity>> loader) {
+        Filters rebuilt = new Filters(expectedInsertions, fpp);
+        lock.writeLock().lock();
+        try {
+            rebuilding = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            loader.accept(rebuilt::put);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            filters = rebuilt;
+            rebuilding = null;
+            return (int) rebuilt.count.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다른 서버가 넣은 이메일, 닉네임을 받아 넣는다. 자신이 보낸 알림은 이미 넣었으므로 무시한다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+
+        putLocally(new AccountIdentity(emptyToNull(parts[1]), emptyToNull(parts[2])));
+    }
+
+    @Override
+    public AccountDto.AccountExistenceFilterStatsResultDto stats() {
+        Filters current = filters;
+        return AccountDto.AccountExistenceFilterStatsResultDto.builder()
+                .ready(current != null)
+                .expectedInsertions(expectedInsertions)
+                .configuredFpp(fpp)
+                .insertedCount(current == null ? 0 : current.count.get())
+                .emailExpectedFpp(current == null ? 0.0 : current.emails.expectedFpp())
+                .nicknameExpectedFpp(current == null ? 0.0 : current.nicknames.expectedFpp())
+                .memoryBytes(current == null ? 0 : 2 * bitSize(expectedInsertions, fpp) / Byte.SIZE)
+                .checkCount(checkCount.get())
+                .definiteMissCount(definiteMissCount.get())
+                .databaseCheckCount(databaseCheckCount.get())
+                .falsePositiveCount(falsePositiveCount.get())
+                .build();
+    }
+
+    private void publish(AccountIdentity accountIdentity) {
+        try {
+            stringRedisTemplate.convertAndSend(PUT_CHANNEL, nodeId + SEPARATOR
+                    + nullToEmpty(accountIdentity.getEmail()) + SEPARATOR + nullToEmpty(accountIdentity.getNickname()));
+        } catch (DataAccessException e) {
+            log.warn("account existence filter put publish failed: {}", accountIdentity, e);
+        }
+    }
+
+    /**
+     * 대소문자와 앞뒤 공백만 다른 값은 같은 값으로 넣는다. 데이터베이스가 구분하더라도 있을 수도 있다고 답할 뿐이다.
+     */
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Guava 블룸 필터가 주어진 원소 수와 오탐률로 잡는 비트 수를 계산한다.
+     */
+    private static long bitSize(long expectedInsertions, double fpp) {
+        return (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static class Filters {
+        private final BloomFilter<String> emails;
+        private final BloomFilter<String> nicknames;
+        private final AtomicLong count = new AtomicLong();
+
+        private Filters(long expectedInsertions, double fpp) {
+            this.emails = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp);
+            this.nicknames = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp);
+        }
+
+        private void put(AccountIdentity accountIdentity) {
+            if (accountIdentity.getEmail() != null) {
+                emails.put(normalize(accountIdentity.getEmail()));
+            }
+            if (accountIdentity.getNickname() != null) {
+                nicknames.put(normalize(accountIdentity.getNickname()));
+            }
+            count.incrementAndGet();
+        }
+    }
+}
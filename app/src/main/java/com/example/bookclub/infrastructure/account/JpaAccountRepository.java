@@ -1,7 +1,11 @@
 package com.example.bookclub.infrastructure.account;
 
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.Study;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,4 +25,19 @@ public interface JpaAccountRepository
     boolean existsByIdNotAndNickname(Long id, String nickname);
 
     List<Account> findAll();
+
+    @Modifying
+    @Query("update Account a set a.study = :study where a.id = :id and a.study is null")
+    int updateStudyIfAbsent(@Param("id") Long id, @Param("study") Study study);
+
+    @Modifying
+    @Query("update Account a set a.study = null where a.id = :id and a.study = :study")
+    int deleteStudyIfPresent(@Param("id") Long id, @Param("study") Study study);
+
+    @Modifying
+    @Query("update Account a set a.password = :password where a.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+    @Query("select a.email from Account a where a.study.id = :studyId")
+    List<String> findEmailsByStudyId(@Param("studyId") Long studyId);
 }
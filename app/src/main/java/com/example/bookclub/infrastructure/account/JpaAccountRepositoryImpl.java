@@ -1,11 +1,20 @@
 package com.example.bookclub.infrastructure.account;
 
 import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.study.favorite.QFavorite;
+import com.example.bookclub.domain.account.AccountHeader;
+import com.example.bookclub.domain.account.AccountIdentity;
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.example.bookclub.domain.account.QAccount.account;
 import static com.example.bookclub.domain.study.QStudy.study;
@@ -38,7 +47,6 @@ public class JpaAccountRepositoryImpl implements AccountRepositoryCustom {
 				queryFactory
 						.select(account).distinct()
 						.from(account)
-						.leftJoin(account.favorites, QFavorite.favorite).fetchJoin()
 						.leftJoin(account.study, study).fetchJoin()
 						.leftJoin(account.uploadFile, uploadFile).fetchJoin()
 						.where(account.email.eq(email))
@@ -46,6 +54,62 @@ public class JpaAccountRepositoryImpl implements AccountRepositoryCustom {
 		);
 	}
 
+	/**
+	 * 상단 메뉴에 필요한 컬럼만 조회해 즐겨찾기, 업로드 파일을 읽지 않고 엔티티도 만들지 않는다.
+	 */
+	@Override
+	public Optional<AccountHeader> findAccountHeaderByEmail(String email) {
+		return Optional.ofNullable(
+				queryFactory
+						.select(Projections.constructor(AccountHeader.class,
+								account.id, account.email, account.nickname, study.id, study.email))
+						.from(account)
+						.leftJoin(account.study, study)
+						.where(account.email.eq(email))
+						.fetchOne()
+		);
+	}
+
+	/**
+	 * 인증에 필요한 컬럼만 조회해 스터디, 업로드 파일을 읽지 않는 사용자를 만든다.
+	 * 영속성 컨텍스트에 올리지 않으므로 연관관계는 비어 있고, 세션에도 이 값들만 저장된다.
+	 */
+	@Override
+	public Optional<Account> findAuthenticationAccountByEmail(String email) {
+		Tuple tuple = queryFactory
+				.select(account.id, account.name, account.email, account.nickname, account.password, account.deleted)
+				.from(account)
+				.where(account.email.eq(email))
+				.fetchOne();
+
+		return Optional.ofNullable(tuple)
+				.map(row -> Account.builder()
+						.id(row.get(account.id))
+						.name(row.get(account.name))
+						.email(row.get(account.email))
+						.nickname(row.get(account.nickname))
+						.password(row.get(account.password))
+						.deleted(Boolean.TRUE.equals(row.get(account.deleted)))
+						.build());
+	}
+
+	/**
+	 * 중복 검사 색인을 만들 사용자 이메일, 닉네임만 앞으로만 읽는 커서로 조회한다. 삭제된 사용자도 포함한다.
+	 * 반환한 스트림은 트랜잭션 안에서 소비하고 닫아야 커서가 반납된다.
+	 */
+	@Override
+	public Stream<AccountIdentity> streamAccountIdentities(int fetchSize) {
+		CloseableIterator<AccountIdentity> iterator = queryFactory
+				.select(Projections.constructor(AccountIdentity.class, account.email, account.nickname))
+				.from(account)
+				.setHint(QueryHints.FETCH_SIZE, fetchSize)
+				.setHint(QueryHints.READ_ONLY, true)
+				.iterate();
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+				.onClose(iterator::close);
+	}
+
 	@Override
 	public long getAllAccountsCount() {
 		return queryFactory
@@ -0,0 +1,100 @@
+package com.example.bookclub.infrastructure.account;
+
+import com.example.bookclub.domain.account.AccountHeader;
+import com.example.bookclub.domain.account.AccountHeaderCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용자 상단 메뉴 정보를 현재 요청 속성과 Redis 캐시 두 단계로 캐시한다.
+ * 한 요청 안에서 여러 번 조회해도 Redis 와 데이터베이스에는 한 번만 접근하고, 요청이 끝나면 요청 속성과 함께 사라진다.
+ * 웹 요청이 아닌 스레드에서는 Redis 캐시만 사용하고, Redis 에 접근할 수 없으면 loader 만으로 동작한다.
+ */
+@Slf4j
+@Component
+public class TwoTierAccountHeaderCache implements AccountHeaderCache {
+    public static final String CACHE_NAME = "AccountHeader";
+
+    private static final String REQUEST_ATTRIBUTE = TwoTierAccountHeaderCache.class.getName() + ".accountHeaders";
+
+    private final Cache redisCache;
+
+    public TwoTierAccountHeaderCache(RedisCacheManager redisCacheManager) {
+        this.redisCache = redisCacheManager.getCache(CACHE_NAME);
+    }
+
+    @Override
+    public AccountHeader get(String email, Function<String, AccountHeader> loader) {
+        Map<String, AccountHeader> requestAccountHeaders = getRequestAccountHeaders();
+        if (requestAccountHeaders != null && requestAccountHeaders.containsKey(email)) {
+            return requestAccountHeaders.get(email);
+        }
+
+        AccountHeader accountHeader = getFromRedis(email);
+        if (accountHeader == null) {
+            accountHeader = loader.apply(email);
+            putToRedis(email, accountHeader);
+        }
+
+        if (requestAccountHeaders != null) {
+            requestAccountHeaders.put(email, accountHeader);
+        }
+        return accountHeader;
+    }
+
+    @Override
+    public void evict(String email) {
+        Map<String, AccountHeader> requestAccountHeaders = getRequestAccountHeaders();
+        if (requestAccountHeaders != null) {
+            requestAccountHeaders.remove(email);
+        }
+
+        try {
+            redisCache.evict(email);
+        } catch (DataAccessException e) {
+            log.warn("account header cache redis evict failed: {}", email, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, AccountHeader> getRequestAccountHeaders() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Map<String, AccountHeader> requestAccountHeaders = (Map<String, AccountHeader>)
+                requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (requestAccountHeaders == null) {
+            requestAccountHeaders = new HashMap<>();
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE, requestAccountHeaders, RequestAttributes.SCOPE_REQUEST);
+        }
+        return requestAccountHeaders;
+    }
+
+    private AccountHeader getFromRedis(String email) {
+        try {
+            return redisCache.get(email, AccountHeader.class);
+        } catch (DataAccessException e) {
+            log.warn("account header cache redis get failed: {}", email, e);
+            return null;
+        }
+    }
+
+    private void putToRedis(String email, AccountHeader accountHeader) {
+        try {
+            redisCache.put(email, accountHeader);
+        } catch (DataAccessException e) {
+            log.warn("account header cache redis put failed: {}", email, e);
+        }
+    }
+}
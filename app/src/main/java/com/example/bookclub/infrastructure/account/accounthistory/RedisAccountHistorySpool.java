@@ -0,0 +1,111 @@
+package com.example.bookclub.infrastructure.account.accounthistory;
+
+import com.example.bookclub.common.util.JsonUtil;
+import com.example.bookclub.domain.account.accounthistory.AccountChangedEvent;
+import com.example.bookclub.domain.account.accounthistory.AccountHistorySpool;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 계정 변경을 JSON 으로 바꿔 Redis 리스트 하나에 보관한다.
+ * 꺼내기는 읽기와 지우기를 Lua 스크립트로 한 번에 처리하므로, 여러 서버가 동시에 꺼내도 같은 계정 변경을 두 번 꺼내지 않는다.
+ * 읽을 수 없는 항목은 내용을 로그로 남기고 버린다.
+ */
+@Slf4j
+@Component
+public class RedisAccountHistorySpool implements AccountHistorySpool {
+    private static final String SPOOL_KEY = "account-history:spool";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SCRIPT = new DefaultRedisScript<>(
+            "local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+            "if #items > 0 then redis.call('LTRIM', KEYS[1], #items, -1) end " +
+            "return items", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisAccountHistorySpool(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public void push(List<AccountChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.opsForList().rightPushAll(SPOOL_KEY, toPayloads(events));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AccountChangedEvent> pop(int count) {
+        List<String> payloads = stringRedisTemplate.execute(POP_SCRIPT, List.of(SPOOL_KEY), String.valueOf(count));
+        if (payloads == null) {
+            return List.of();
+        }
+
+        List<AccountChangedEvent> events = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            try {
+                events.add(JsonUtil.fromJson(payload, SpooledAccountChange.class).toEvent());
+            } catch (RuntimeException e) {
+                log.error("account history spool entry is not valid and dropped - {}", payload, e);
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public void pushFirst(List<AccountChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<String> payloads = toPayloads(events);
+        List<String> reversed = new ArrayList<>(payloads.size());
+        for (int i = payloads.size() - 1; i >= 0; i--) {
+            reversed.add(payloads.get(i));
+        }
+        stringRedisTemplate.opsForList().leftPushAll(SPOOL_KEY, reversed);
+    }
+
+    private List<String> toPayloads(List<AccountChangedEvent> events) {
+        return events.stream()
+                .map(JsonUtil::toJson)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 보관한 계정 변경
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    static class SpooledAccountChange {
+        private Long accountId;
+
+        private String name;
+
+        private String email;
+
+        private String nickname;
+
+        private String password;
+
+        private boolean deleted;
+
+        AccountChangedEvent toEvent() {
+            return AccountChangedEvent.of(accountId, name, email, nickname, password, deleted);
+        }
+    }
+}
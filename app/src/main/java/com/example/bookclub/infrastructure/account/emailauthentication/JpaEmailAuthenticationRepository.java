@@ -2,15 +2,20 @@ package com.example.bookclub.infrastructure.account.emailauthentication;
 
 import com.example.bookclub.domain.account.emailauthentication.EmailAuthentication;
 import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface JpaEmailAuthenticationRepository
         extends EmailAuthenticationRepository, CrudRepository<EmailAuthentication, Long> {
-    EmailAuthentication save(EmailAuthentication emailAuthentication);
+    List<EmailAuthentication> findAllByOrderByIdDesc(Pageable pageable);
 
-    Optional<EmailAuthentication> findByEmail(String email);
-
-    void delete(EmailAuthentication emailAuthentication);
+    @Modifying
+    @Query("delete from EmailAuthentication e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,104 @@
+package com.example.bookclub.infrastructure.account.emailauthentication;
+
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이메일마다 인증번호와 틀린 횟수를 Redis 해시 하나에 두고 만료 시간을 건다.
+ * 저장, 확인, 사용은 Lua 스크립트로 한 번에 처리한다. 확인은 틀린 횟수만 세고, 사용은 인증번호가 같을 때만 지우므로
+ * 그사이 새로 받은 인증번호는 지우지 않는다.
+ */
+@Component
+public class RedisEmailAuthenticationCodeStore implements EmailAuthenticationCodeStore {
+    private static final String CODE_KEY_PREFIX = "email-authentication:";
+    private static final String CODE_FIELD = "code";
+
+    private static final long MATCHED = 1;
+    private static final long MISMATCHED = 0;
+    private static final long EXHAUSTED = -2;
+
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>(
+            "local code = redis.call('HGET', KEYS[1], 'code') " +
+            "if not code then return -1 end " +
+            "if code == ARGV[1] then return 1 end " +
+            "local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1) " +
+            "if attempts >= tonumber(ARGV[2]) then redis.call('DEL', KEYS[1]) return -2 end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'code') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlSeconds;
+    private final int maxAttempts;
+
+    public RedisEmailAuthenticationCodeStore(StringRedisTemplate stringRedisTemplate,
+                                             @Value("${account.email-authentication.ttl-seconds:600}") long ttlSeconds,
+                                             @Value("${account.email-authentication.max-attempts:5}") int maxAttempts) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlSeconds = ttlSeconds;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void save(String email, String authenticationNumber) {
+        stringRedisTemplate.execute(SAVE_SCRIPT, List.of(keyOf(email)),
+                authenticationNumber, String.valueOf(ttlSeconds));
+    }
+
+    @Override
+    public Optional<String> find(String email) {
+        Object code = stringRedisTemplate.opsForHash().get(keyOf(email), CODE_FIELD);
+        return Optional.ofNullable(code).map(Object::toString);
+    }
+
+    @Override
+    public Verification verify(String email, String authenticationNumber) {
+        Long result = stringRedisTemplate.execute(VERIFY_SCRIPT, List.of(keyOf(email)),
+                authenticationNumber == null ? "" : authenticationNumber, String.valueOf(maxAttempts));
+        if (result == null) {
+            return Verification.NOT_FOUND;
+        }
+        if (result == MATCHED) {
+            return Verification.MATCHED;
+        }
+        if (result == MISMATCHED) {
+            return Verification.MISMATCHED;
+        }
+        if (result == EXHAUSTED) {
+            return Verification.EXHAUSTED;
+        }
+        return Verification.NOT_FOUND;
+    }
+
+    @Override
+    public boolean consume(String email, String authenticationNumber) {
+        Long result = stringRedisTemplate.execute(CONSUME_SCRIPT, List.of(keyOf(email)),
+                authenticationNumber == null ? "" : authenticationNumber);
+        return result != null && result == 1;
+    }
+
+    @Override
+    public boolean delete(String email) {
+        return Boolean.TRUE.equals(stringRedisTemplate.delete(keyOf(email)));
+    }
+
+    private String keyOf(String email) {
+        return CODE_KEY_PREFIX + email;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.bookclub.infrastructure.account.role;
+
+import com.example.bookclub.domain.account.role.AuthorityCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * 사용자 권한 이름을 Guava 캐시에 둔다.
+ * 권한 변경은 이벤트로 지우고, 데이터베이스를 직접 고친 경우는 만료 시간이 지나면 다시 읽는다.
+ */
+@Component
+public class LocalAuthorityCache implements AuthorityCache {
+    private final Cache<String, List<String>> cache;
+
+    public LocalAuthorityCache(@Value("${account.authority-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${account.authority-cache.expire-seconds:600}") long expireSeconds) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .build();
+    }
+
+    @Override
+    public List<String> get(String email, Function<String, List<String>> loader) {
+        try {
+            return cache.get(email, () -> List.copyOf(loader.apply(email)));
+        } catch (UncheckedExecutionException | ExecutionError e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+}
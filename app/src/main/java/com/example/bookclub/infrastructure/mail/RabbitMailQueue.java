@@ -0,0 +1,211 @@
+package com.example.bookclub.infrastructure.mail;
+
+import com.example.bookclub.common.exception.account.emailauthentication.MailQueueUnavailableException;
+import com.example.bookclub.domain.mail.MailQueue;
+import com.example.bookclub.domain.mail.QueuedMail;
+import com.example.bookclub.dto.EmailDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.mail.Message.RecipientType;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RabbitMQ 우선순위 큐로 메일을 주고받는다.
+ * 넣을 때는 브로커의 저장 확인을 기다리고, 꺼낼 때는 열어 둔 SMTP 연결로 보낸다.
+ * 보내지 못한 메일은 백오프로 다시 시도하고, 끝내 보내지 못하거나 다시 보내도 소용없는 메일은 데드 레터 큐로 보낸다.
+ */
+@Slf4j
+@Component
+public class RabbitMailQueue implements MailQueue, MessageRecoverer {
+    public static final String MAIL_QUEUE = "MAIL_QUEUE";
+    public static final String MAIL_DEAD_LETTER_QUEUE = "MAIL_DEAD_LETTER_QUEUE";
+
+    private static final String DEFAULT_EXCHANGE = "";
+    private static final long UNKNOWN_COUNT = -1;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final SmtpMailTransport smtpMailTransport;
+    private final ObjectMapper objectMapper;
+    private final long confirmTimeoutMillis;
+    private final MessageRecoverer deadLetterRecoverer = new RejectAndDontRequeueRecoverer();
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong enqueueFailedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedAttemptCount = new AtomicLong();
+    private final AtomicLong deadLetteredCount = new AtomicLong();
+    private final AtomicLong totalSendMillis = new AtomicLong();
+    private final AtomicLong maxSendMillis = new AtomicLong();
+    private final AtomicLong totalDeliveryMillis = new AtomicLong();
+    private final AtomicLong maxDeliveryMillis = new AtomicLong();
+
+    public RabbitMailQueue(RabbitTemplate rabbitTemplate,
+                           AmqpAdmin amqpAdmin,
+                           SmtpMailTransport smtpMailTransport,
+                           ObjectMapper objectMapper,
+                           @Value("${mail.queue.confirm-timeout-millis:5000}") long confirmTimeoutMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.smtpMailTransport = smtpMailTransport;
+        this.objectMapper = objectMapper;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+    }
+
+    /**
+     * 주어진 메일을 우선순위를 붙여 영속 메시지로 보내고, 브로커가 저장을 확인할 때까지 기다린다.
+     *
+     * @param queuedMail 보낼 메일
+     * @throws MailQueueUnavailableException 브로커에 보내지 못했거나 저장 확인을 받지 못한 경우
+     */
+    @Override
+    public void enqueue(QueuedMail queuedMail) {
+        String payload = write(queuedMail);
+        try {
+            rabbitTemplate.invoke(operations -> {
+                operations.convertAndSend(DEFAULT_EXCHANGE, MAIL_QUEUE, payload, message -> {
+                    message.getMessageProperties().setPriority(queuedMail.getPriority().getValue());
+                    message.getMessageProperties().setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+                    return message;
+                });
+                operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+                return null;
+            });
+        } catch (AmqpException e) {
+            enqueueFailedCount.incrementAndGet();
+            throw new MailQueueUnavailableException(queuedMail.getTo(), e);
+        }
+        enqueuedCount.incrementAndGet();
+    }
+
+    /**
+     * 메일 큐에서 꺼낸 메일을 보낸다.
+     * 읽을 수 없는 메일이나 받는 주소가 잘못된 메일은 다시 시도하지 않고 데드 레터 큐로 보낸다.
+     *
+     * @param payload 큐에서 꺼낸 메일
+     * @throws MessagingException 보내지 못해 다시 시도할 경우
+     */
+    @RabbitListener(queues = MAIL_QUEUE, containerFactory = "mailListenerContainerFactory")
+    public void deliver(String payload) throws MessagingException {
+        QueuedMail queuedMail = read(payload);
+        MimeMessage message = createMessage(queuedMail);
+
+        long startTime = System.nanoTime();
+        try {
+            smtpMailTransport.send(message);
+        } catch (SendFailedException e) {
+            failedAttemptCount.incrementAndGet();
+            if (e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0) {
+                throw new AmqpRejectAndDontRequeueException("invalid mail address: " + queuedMail.getTo(), e);
+            }
+            throw e;
+        } catch (MessagingException e) {
+            failedAttemptCount.incrementAndGet();
+            throw e;
+        }
+
+        long sendMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long deliveryMillis = Math.max(0, System.currentTimeMillis() - queuedMail.getQueuedAtMillis());
+        sentCount.incrementAndGet();
+        totalSendMillis.addAndGet(sendMillis);
+        maxSendMillis.accumulateAndGet(sendMillis, Math::max);
+        totalDeliveryMillis.addAndGet(deliveryMillis);
+        maxDeliveryMillis.accumulateAndGet(deliveryMillis, Math::max);
+    }
+
+    /**
+     * 다시 시도해도 보내지 못한 메일을 데드 레터 큐로 보낸다.
+     */
+    @Override
+    public void recover(Message message, Throwable cause) {
+        deadLetteredCount.incrementAndGet();
+        log.error("mail dead-lettered - {}", message.getMessageProperties(), cause);
+        deadLetterRecoverer.recover(message, cause);
+    }
+
+    /**
+     * 메일 큐와 데드 레터 큐의 깊이, 넣기와 보내기 횟수, 보내는 데 걸린 시간을 반환한다.
+     * 브로커에 연결하지 못하면 큐 깊이는 -1 로 반환한다.
+     *
+     * @return 메일 큐 통계
+     */
+    @Override
+    public EmailDto.MailQueueStatsResultDto stats() {
+        QueueInformation mailQueueInfo = queueInfo(MAIL_QUEUE);
+        QueueInformation deadLetterQueueInfo = queueInfo(MAIL_DEAD_LETTER_QUEUE);
+        long sent = sentCount.get();
+
+        return EmailDto.MailQueueStatsResultDto.builder()
+                .queueDepth(mailQueueInfo == null ? UNKNOWN_COUNT : mailQueueInfo.getMessageCount())
+                .deadLetterDepth(deadLetterQueueInfo == null ? UNKNOWN_COUNT : deadLetterQueueInfo.getMessageCount())
+                .consumerCount(mailQueueInfo == null ? UNKNOWN_COUNT : mailQueueInfo.getConsumerCount())
+                .enqueuedCount(enqueuedCount.get())
+                .enqueueFailedCount(enqueueFailedCount.get())
+                .sentCount(sent)
+                .failedAttemptCount(failedAttemptCount.get())
+                .deadLetteredCount(deadLetteredCount.get())
+                .smtpConnectCount(smtpMailTransport.getConnectCount())
+                .averageSendMillis(sent == 0 ? 0.0 : totalSendMillis.get() / (double) sent)
+                .maxSendMillis(maxSendMillis.get())
+                .averageDeliveryMillis(sent == 0 ? 0.0 : totalDeliveryMillis.get() / (double) sent)
+                .maxDeliveryMillis(maxDeliveryMillis.get())
+                .build();
+    }
+
+    private MimeMessage createMessage(QueuedMail queuedMail) {
+        MimeMessage message = smtpMailTransport.createMimeMessage();
+        try {
+            message.setRecipient(RecipientType.TO, new InternetAddress(queuedMail.getTo(), true));
+            message.setSubject(queuedMail.getSubject(), StandardCharsets.UTF_8.name());
+            message.setText(queuedMail.getText(), StandardCharsets.UTF_8.name());
+        } catch (MessagingException e) {
+            throw new AmqpRejectAndDontRequeueException("mail not created: " + queuedMail, e);
+        }
+        return message;
+    }
+
+    private String write(QueuedMail queuedMail) {
+        try {
+            return objectMapper.writeValueAsString(queuedMail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("mail not serializable: " + queuedMail, e);
+        }
+    }
+
+    private QueuedMail read(String payload) {
+        try {
+            return objectMapper.readValue(payload, QueuedMail.class);
+        } catch (JsonProcessingException e) {
+            throw new AmqpRejectAndDontRequeueException("mail not readable", e);
+        }
+    }
+
+    private QueueInformation queueInfo(String queueName) {
+        try {
+            return amqpAdmin.getQueueInfo(queueName);
+        } catch (AmqpException e) {
+            log.warn("mail queue info not available - {}", queueName, e);
+            return null;
+        }
+    }
+}
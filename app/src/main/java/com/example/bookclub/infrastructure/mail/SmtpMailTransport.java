@@ -0,0 +1,111 @@
+package com.example.bookclub.infrastructure.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SMTP 연결 하나를 열어 두고 여러 메일을 보낼 때 다시 사용한다.
+ * 전송에 실패하면 연결을 닫아 다음 전송에서 새로 연결하고, 일정 시간 쓰지 않은 연결은 스케쥴러가 닫는다.
+ */
+@Slf4j
+@Component
+public class SmtpMailTransport implements DisposableBean {
+    private static final String DEFAULT_PROTOCOL = "smtp";
+
+    private final JavaMailSenderImpl javaMailSender;
+    private final long idleCloseMillis;
+    private final AtomicLong connectCount = new AtomicLong();
+
+    private Transport transport;
+    private long lastUsedMillis;
+
+    public SmtpMailTransport(JavaMailSenderImpl javaMailSender,
+                             @Value("${mail.queue.idle-close-millis:30000}") long idleCloseMillis) {
+        this.javaMailSender = javaMailSender;
+        this.idleCloseMillis = idleCloseMillis;
+    }
+
+    public MimeMessage createMimeMessage() {
+        return javaMailSender.createMimeMessage();
+    }
+
+    /**
+     * 열어 둔 연결로 주어진 메일을 보낸다. 연결이 없거나 끊겼으면 새로 연결한다.
+     *
+     * @param message 보낼 메일
+     * @throws MessagingException 연결하거나 보내지 못한 경우
+     */
+    public synchronized void send(MimeMessage message) throws MessagingException {
+        Transport connected = connect();
+        try {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            connected.sendMessage(message, message.getAllRecipients());
+            lastUsedMillis = System.currentTimeMillis();
+        } catch (MessagingException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * mail.queue.idle-close-millis 동안 쓰지 않은 연결을 닫는다.
+     */
+    @Scheduled(fixedDelayString = "${mail.queue.idle-close-millis:30000}")
+    public synchronized void closeIdle() {
+        if (transport != null && System.currentTimeMillis() - lastUsedMillis >= idleCloseMillis) {
+            close();
+        }
+    }
+
+    public long getConnectCount() {
+        return connectCount.get();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+    }
+
+    private Transport connect() throws MessagingException {
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+
+        close();
+        String protocol = javaMailSender.getProtocol() == null ? DEFAULT_PROTOCOL : javaMailSender.getProtocol();
+        Transport newTransport = javaMailSender.getSession().getTransport(protocol);
+        newTransport.connect(javaMailSender.getHost(), javaMailSender.getPort(),
+                javaMailSender.getUsername(), javaMailSender.getPassword());
+        connectCount.incrementAndGet();
+        transport = newTransport;
+        lastUsedMillis = System.currentTimeMillis();
+        return transport;
+    }
+
+    private void close() {
+        if (transport == null) {
+            return;
+        }
+
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.warn("smtp transport not closed cleanly", e);
+        } finally {
+            transport = null;
+        }
+    }
+}
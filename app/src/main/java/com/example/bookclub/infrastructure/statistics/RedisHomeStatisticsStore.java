@@ -0,0 +1,103 @@
+package com.example.bookclub.infrastructure.statistics;
+
+import com.example.bookclub.domain.statistics.HomeStatistics;
+import com.example.bookclub.domain.statistics.HomeStatisticsChangedEvent;
+import com.example.bookclub.domain.statistics.HomeStatisticsStore;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 홈 화면 통계를 Redis 해시 하나에 저장한다.
+ * 변화량 반영은 Lua 스크립트로 한 번에 처리하고, 해시가 없으면 반영하지 않고 보정을 기다린다.
+ */
+@Component
+public class RedisHomeStatisticsStore implements HomeStatisticsStore {
+    private static final String STATISTICS_KEY = "home:statistics";
+
+    private static final String ACCOUNTS_FIELD = "accounts";
+    private static final String STUDIES_FIELD = "studies";
+    private static final String CLOSE_STUDIES_FIELD = "closeStudies";
+    private static final String END_STUDIES_FIELD = "endStudies";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+    private static final String RECONCILED_AT_FIELD = "reconciledAt";
+
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('HINCRBY', KEYS[1], 'accounts', ARGV[1]) " +
+            "redis.call('HINCRBY', KEYS[1], 'studies', ARGV[2]) " +
+            "redis.call('HINCRBY', KEYS[1], 'closeStudies', ARGV[3]) " +
+            "redis.call('HINCRBY', KEYS[1], 'endStudies', ARGV[4]) " +
+            "redis.call('HSET', KEYS[1], 'updatedAt', ARGV[5]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisHomeStatisticsStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Optional<HomeStatistics> find() {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(STATISTICS_KEY);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(HomeStatistics.builder()
+                .allAccountsCount(toLong(entries.get(ACCOUNTS_FIELD)))
+                .allStudiesCount(toLong(entries.get(STUDIES_FIELD)))
+                .allCloseStudiesCount(toLong(entries.get(CLOSE_STUDIES_FIELD)))
+                .allEndStudiesCount(toLong(entries.get(END_STUDIES_FIELD)))
+                .updatedAt(toDateTime(entries.get(UPDATED_AT_FIELD)))
+                .reconciledAt(toDateTime(entries.get(RECONCILED_AT_FIELD)))
+                .build());
+    }
+
+    @Override
+    public boolean add(HomeStatisticsChangedEvent event) {
+        Long result = stringRedisTemplate.execute(ADD_SCRIPT, List.of(STATISTICS_KEY),
+                String.valueOf(event.getAccountsDelta()),
+                String.valueOf(event.getStudiesDelta()),
+                String.valueOf(event.getCloseStudiesDelta()),
+                String.valueOf(event.getEndStudiesDelta()),
+                String.valueOf(System.currentTimeMillis()));
+        return result != null && result == 1;
+    }
+
+    @Override
+    public void reset(HomeStatistics homeStatistics) {
+        stringRedisTemplate.opsForHash().putAll(STATISTICS_KEY, Map.of(
+                ACCOUNTS_FIELD, String.valueOf(homeStatistics.getAllAccountsCount()),
+                STUDIES_FIELD, String.valueOf(homeStatistics.getAllStudiesCount()),
+                CLOSE_STUDIES_FIELD, String.valueOf(homeStatistics.getAllCloseStudiesCount()),
+                END_STUDIES_FIELD, String.valueOf(homeStatistics.getAllEndStudiesCount()),
+                UPDATED_AT_FIELD, toEpochMilli(homeStatistics.getUpdatedAt()),
+                RECONCILED_AT_FIELD, toEpochMilli(homeStatistics.getReconciledAt())
+        ));
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    private LocalDateTime toDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value.toString())), ZoneId.systemDefault());
+    }
+
+    private String toEpochMilli(LocalDateTime dateTime) {
+        return String.valueOf(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
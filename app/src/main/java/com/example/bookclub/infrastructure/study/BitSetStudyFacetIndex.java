@@ -0,0 +1,269 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.domain.study.Day;
+import com.example.bookclub.domain.study.StudyFacet;
+import com.example.bookclub.domain.study.StudyFacetIndex;
+import com.example.bookclub.domain.study.StudyFacetSearchResult;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.Zone;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 지역, 요일, 스터디 상태 값마다 BitSet 을 두어 패싯 검색 색인을 만든다.
+ * 스터디 식별자는 여러 엔티티가 함께 쓰는 시퀀스 값이라 듬성듬성하므로, 색인에 넣은 순서대로 0부터 매긴 순번을 비트 번호로 쓴다.
+ * 그래서 BitSet 크기는 가장 큰 식별자가 아니라 색인한 스터디 수를 따른다.
+ * 재구성할 때는 식별자 순으로 순번을 매겨 순번 순서가 식별자 순서와 같게 하고, 그 뒤 더 작은 식별자가 들어오면
+ * 다음 재구성 전까지는 일치하는 스터디의 식별자를 정렬해 페이지를 자른다.
+ * 조건 조합과 패싯 값별 개수는 BitSet 의 and, or, cardinality 로 계산하므로 데이터베이스 조회 없이 끝난다.
+ * 검색은 읽기 잠금, 변경은 쓰기 잠금으로 보호한다.
+ */
+@Component
+public class BitSetStudyFacetIndex implements StudyFacetIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object();
+
+    private Bitmaps bitmaps = new Bitmaps();
+    private List<Consumer<Bitmaps>> pendingChanges;
+
+    @Override
+    public void put(StudyFacet studyFacet) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.put(studyFacet);
+            if (pendingChanges != null) {
+                pendingChanges.add(rebuilt -> rebuilt.put(studyFacet));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.remove(studyId);
+            if (pendingChanges != null) {
+                pendingChanges.add(rebuilt -> rebuilt.remove(studyId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int rebuild(Consumer<Consumer<StudyFacet>> loader) {
+        synchronized (rebuildMonitor) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Bitmaps rebuilt = new Bitmaps();
+            try {
+                loader.accept(rebuilt::put);
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                pendingChanges = null;
+                bitmaps = rebuilt;
+                return rebuilt.all.cardinality();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public StudyFacetSearchResult search(Set<Zone> zones, Set<Day> days, Set<StudyState> studyStates,
+                                         Long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet zoneFilter = union(bitmaps.zones, zones);
+            BitSet dayFilter = union(bitmaps.days, days);
+            BitSet studyStateFilter = union(bitmaps.studyStates, studyStates);
+
+            BitSet matched = intersect(bitmaps.all, zoneFilter, dayFilter, studyStateFilter);
+
+            return StudyFacetSearchResult.builder()
+                    .studyIds(bitmaps.page(matched, afterId, limit))
+                    .totalCount(matched.cardinality())
+                    .zoneCounts(counts(Zone.class, bitmaps.zones, intersect(bitmaps.all, dayFilter, studyStateFilter)))
+                    .dayCounts(counts(Day.class, bitmaps.days, intersect(bitmaps.all, zoneFilter, studyStateFilter)))
+                    .studyStateCounts(counts(StudyState.class, bitmaps.studyStates,
+                            intersect(bitmaps.all, zoneFilter, dayFilter)))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.all.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <E extends Enum<E>> BitSet union(Map<E, BitSet> bitSets, Set<E> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        BitSet union = new BitSet();
+        for (E value : values) {
+            BitSet bitSet = bitSets.get(value);
+            if (bitSet != null) {
+                union.or(bitSet);
+            }
+        }
+        return union;
+    }
+
+    private static BitSet intersect(BitSet all, BitSet... filters) {
+        BitSet intersection = (BitSet) all.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                intersection.and(filter);
+            }
+        }
+        return intersection;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> counts(Class<E> type, Map<E, BitSet> bitSets, BitSet base) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            BitSet bitSet = bitSets.get(value);
+            long count = 0;
+            if (bitSet != null) {
+                BitSet counted = (BitSet) bitSet.clone();
+                counted.and(base);
+                count = counted.cardinality();
+            }
+            counts.put(value, count);
+        }
+        return counts;
+    }
+
+    private static class Bitmaps {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final BitSet all = new BitSet();
+        private final Map<Zone, BitSet> zones = new EnumMap<>(Zone.class);
+        private final Map<Day, BitSet> days = new EnumMap<>(Day.class);
+        private final Map<StudyState, BitSet> studyStates = new EnumMap<>(StudyState.class);
+
+        /* 스터디 식별자별 순번과 순번별 스터디 식별자. 지운 스터디의 순번은 재구성 전까지 그대로 둔다. */
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int ordinalCount;
+        private boolean sorted = true;
+
+        private void put(StudyFacet studyFacet) {
+            int bit = ordinalOf(studyFacet.getId());
+            clear(bit);
+
+            all.set(bit);
+            set(zones, studyFacet.getZone(), bit);
+            set(days, studyFacet.getDay(), bit);
+            set(studyStates, studyFacet.getStudyState(), bit);
+        }
+
+        private void remove(Long studyId) {
+            Integer bit = ordinals.get(studyId);
+            if (bit != null) {
+                clear(bit);
+            }
+        }
+
+        private int ordinalOf(Long studyId) {
+            Integer ordinal = ordinals.get(studyId);
+            if (ordinal != null) {
+                return ordinal;
+            }
+
+            if (ordinalCount == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            if (ordinalCount > 0 && ids[ordinalCount - 1] > studyId) {
+                sorted = false;
+            }
+            ids[ordinalCount] = studyId;
+            ordinals.put(studyId, ordinalCount);
+            return ordinalCount++;
+        }
+
+        private void clear(int bit) {
+            all.clear(bit);
+            zones.values().forEach(bitSet -> bitSet.clear(bit));
+            days.values().forEach(bitSet -> bitSet.clear(bit));
+            studyStates.values().forEach(bitSet -> bitSet.clear(bit));
+        }
+
+        private List<Long> page(BitSet matched, Long afterId, int limit) {
+            if (limit <= 0) {
+                return Collections.emptyList();
+            }
+
+            if (!sorted) {
+                return matched.stream()
+                        .mapToLong(bit -> ids[bit])
+                        .filter(studyId -> afterId == null || studyId < afterId)
+                        .boxed()
+                        .sorted(Comparator.reverseOrder())
+                        .limit(limit)
+                        .collect(Collectors.toList());
+            }
+
+            int from = matched.length() - 1;
+            if (afterId != null) {
+                int index = Arrays.binarySearch(ids, 0, ordinalCount, afterId);
+                from = Math.min(from, (index >= 0 ? index : -index - 1) - 1);
+            }
+
+            List<Long> studyIds = new ArrayList<>(Math.min(limit, matched.cardinality()));
+            for (int bit = from < 0 ? -1 : matched.previousSetBit(from);
+                 bit >= 0 && studyIds.size() < limit;
+                 bit = bit == 0 ? -1 : matched.previousSetBit(bit - 1)) {
+                studyIds.add(ids[bit]);
+            }
+            return studyIds;
+        }
+
+        private static <E extends Enum<E>> void set(Map<E, BitSet> bitSets, E value, int bit) {
+            if (value != null) {
+                bitSets.computeIfAbsent(value, key -> new BitSet()).set(bit);
+            }
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.example.bookclub.infrastructure.study;
 
 import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyState;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import javax.persistence.LockModeType;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,15 +15,84 @@ public interface JpaStudyRepository
         extends StudyRepositoryCustom, JpaRepository<Study, Long> {
     Optional<Study> findById(Long id);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select s from Study s where s.id = :id")
-    Optional<Study> findByIdForUpdate(@Param("id") Long id);
-
     Optional<Study> findByEmail(String email);
 
     List<Study> findAll();
 
+    List<Study> findAllBySeatCounterEnabledTrueAndStudyState(StudyState studyState);
+
     Study save(Study study);
 
     void delete(Study study);
+
+    @Modifying
+    @Query("update Study s set s.applyCount = s.applyCount + 1 " +
+            "where s.id = :id and s.applyCount < s.size " +
+            "and s.studyState = com.example.bookclub.domain.study.StudyState.OPEN")
+    int increaseApplyCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.applyCount = s.applyCount - 1 " +
+            "where s.id = :id and s.applyCount > 0 " +
+            "and s.studyState = com.example.bookclub.domain.study.StudyState.OPEN")
+    int decreaseApplyCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.applyCount = s.applyCount + :delta where s.id = :id")
+    int addApplyCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Study s set s.studyState = :to, s.version = s.version + 1 " +
+            "where s.studyState = :from and s.startDate <= :date")
+    int updateStudyStateByStartDate(@Param("from") StudyState from, @Param("to") StudyState to,
+                                    @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("update Study s set s.studyState = :to, s.version = s.version + 1 " +
+            "where s.studyState = :from and s.endDate < :date")
+    int updateStudyStateByEndDate(@Param("from") StudyState from, @Param("to") StudyState to,
+                                  @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("update Study s set s.likesCount = s.likesCount + 1 where s.id = :id")
+    int increaseLikesCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.likesCount = s.likesCount - 1 where s.id = :id and s.likesCount > 0")
+    int decreaseLikesCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.likesCount = s.likesCount + :delta where s.id = :id")
+    int addLikesCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Study s set s.commentsCount = s.commentsCount + 1 where s.id = :id")
+    int increaseCommentsCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.commentsCount = s.commentsCount - 1 where s.id = :id and s.commentsCount > 0")
+    int decreaseCommentsCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.favoritesCount = s.favoritesCount + 1 where s.id = :id")
+    int increaseFavoritesCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.favoritesCount = s.favoritesCount - 1 where s.id = :id and s.favoritesCount > 0")
+    int decreaseFavoritesCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.likesCount = (select count(l) from StudyLike l where l.study = s) " +
+            "where s.likesCount <> (select count(l) from StudyLike l where l.study = s)")
+    int syncLikesCount();
+
+    @Modifying
+    @Query("update Study s set s.commentsCount = (select count(c) from StudyComment c where c.study = s) " +
+            "where s.commentsCount <> (select count(c) from StudyComment c where c.study = s)")
+    int syncCommentsCount();
+
+    @Modifying
+    @Query("update Study s set s.favoritesCount = (select count(f) from Favorite f where f.study = s) " +
+            "where s.favoritesCount <> (select count(f) from Favorite f where f.study = s)")
+    int syncFavoritesCount();
 }
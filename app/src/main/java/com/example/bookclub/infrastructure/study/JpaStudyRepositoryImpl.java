@@ -1,22 +1,40 @@
 package com.example.bookclub.infrastructure.study;
 
-import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyFacet;
 import com.example.bookclub.domain.study.StudyState;
-import com.example.bookclub.dto.QStudyApiDto_StudyFavoriteDto;
+import com.example.bookclub.dto.QStudyApiDto_StudyResultDto;
 import com.example.bookclub.dto.QStudyDto_StudyAccountInfoResultDto;
 import com.example.bookclub.dto.QStudyDto_StudyInfoResultDto;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.dto.StudyDto;
 import com.example.bookclub.common.exception.study.StudyNotFoundException;
+import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.example.bookclub.domain.account.QAccount.account;
 import static com.example.bookclub.domain.study.QStudy.study;
+import static com.example.bookclub.domain.study.favorite.QFavorite.favorite;
+import static com.example.bookclub.domain.study.studycomment.QStudyComment.studyComment;
+import static com.example.bookclub.domain.study.studycommentlike.QStudyCommentLike.studyCommentLike;
+import static com.example.bookclub.domain.study.studylike.QStudyLike.studyLike;
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 
 public class JpaStudyRepositoryImpl implements StudyRepositoryCustom {
@@ -46,9 +64,10 @@ public class JpaStudyRepositoryImpl implements StudyRepositoryCustom {
 	}
 
 	@Override
-	public List<Study> findByBookNameContaining(String keyword, StudyState studyState, Pageable pageable) {
+	public List<StudyApiDto.StudyResultDto> findByBookNameContaining(String keyword, StudyState studyState,
+																	 Long accountId, Pageable pageable) {
 		return queryFactory
-				.select(study)
+				.select(studyResultDto(accountId))
 				.from(study)
 				.where(nameContains(keyword).and(studyStateEq(studyState)))
 				.offset(pageable.getOffset())
@@ -57,6 +76,27 @@ public class JpaStudyRepositoryImpl implements StudyRepositoryCustom {
 				.fetch();
 	}
 
+	@Override
+	public List<StudyApiDto.StudyResultDto> findByBookNameContainingWithCursor(String keyword, StudyState studyState,
+																			   Long accountId, Long afterId,
+																			   Long beforeId, int limit) {
+		boolean backward = afterId == null && beforeId != null;
+
+		List<StudyApiDto.StudyResultDto> studyResultDtos = queryFactory
+				.select(studyResultDto(accountId))
+				.from(study)
+				.where(nameContains(keyword).and(studyStateEq(studyState)).and(cursorOf(afterId, beforeId)))
+				.limit(limit)
+				.orderBy(backward ? study.id.asc() : study.id.desc())
+				.fetch();
+
+		if (backward) {
+			Collections.reverse(studyResultDtos);
+		}
+
+		return studyResultDtos;
+	}
+
 	private Optional<StudyDto.StudyInfoResultDto> getStudyInfoResultDto(Long id) {
 		return Optional.ofNullable(queryFactory
 				.select(new QStudyDto_StudyInfoResultDto(
@@ -70,6 +110,110 @@ public class JpaStudyRepositoryImpl implements StudyRepositoryCustom {
 		);
 	}
 
+	/**
+	 * 스터디 목록을 식별자 내림차순으로 커서 다음부터 조회한다.
+	 * 엔티티 대신 스터디 컬럼만 조회하므로 연관관계를 초기화하지 않고 영속성 컨텍스트에도 남지 않는다.
+	 */
+	@Override
+	public List<StudyApiDto.StudyResultDto> findStudyResultsWithCursor(Long afterId, int limit) {
+		return queryFactory
+				.select(studyListResultDto())
+				.from(study)
+				.where(afterId == null ? null : study.id.lt(afterId))
+				.orderBy(study.id.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	/**
+	 * 스터디 목록 전체를 식별자 내림차순으로 앞으로만 읽는 커서로 조회한다.
+	 * 한 번에 fetchSize 만큼만 가져오므로 스터디 수와 관계없이 메모리 사용량이 일정하며,
+	 * 반환한 스트림은 트랜잭션 안에서 소비하고 닫아야 커서가 반납된다.
+	 */
+	@Override
+	public Stream<StudyApiDto.StudyResultDto> streamStudyResults(int fetchSize) {
+		CloseableIterator<StudyApiDto.StudyResultDto> iterator = queryFactory
+				.select(studyListResultDto())
+				.from(study)
+				.orderBy(study.id.desc())
+				.setHint(QueryHints.FETCH_SIZE, fetchSize)
+				.setHint(QueryHints.READ_ONLY, true)
+				.iterate();
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+				.onClose(iterator::close);
+	}
+
+	/**
+	 * 패싯 검색 색인을 만들 스터디 식별자, 지역, 요일, 스터디 상태만 식별자 오름차순으로 앞으로만 읽는 커서로 조회한다.
+	 * 반환한 스트림은 트랜잭션 안에서 소비하고 닫아야 커서가 반납된다.
+	 */
+	@Override
+	public Stream<StudyFacet> streamStudyFacets(int fetchSize) {
+		CloseableIterator<StudyFacet> iterator = queryFactory
+				.select(Projections.constructor(StudyFacet.class,
+						study.id, study.zone, study.day, study.studyState))
+				.from(study)
+				.orderBy(study.id.asc())
+				.setHint(QueryHints.FETCH_SIZE, fetchSize)
+				.setHint(QueryHints.READ_ONLY, true)
+				.iterate();
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+				.onClose(iterator::close);
+	}
+
+	@Override
+	public List<StudyApiDto.StudyResultDto> findStudyResultsByIds(List<Long> ids, Long accountId) {
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return queryFactory
+				.select(studyResultDto(accountId))
+				.from(study)
+				.where(study.id.in(ids))
+				.orderBy(study.id.desc())
+				.fetch();
+	}
+
+	/**
+	 * 스터디와 스터디에 딸린 데이터를 연관 데이터 수와 관계없이 정해진 횟수의 벌크 쿼리로 지운다.
+	 * 참여자의 스터디를 비우고 댓글 좋아요, 댓글, 좋아요, 즐겨찾기, 스터디 순서로 지우며,
+	 * 스터디는 주어진 버전일 때만 지우므로 그사이 수정된 스터디는 지우지 않고 0 을 반환한다.
+	 * 벌크 쿼리는 영속성 컨텍스트를 거치지 않으므로 이미 읽은 엔티티에는 반영되지 않는다.
+	 */
+	@Override
+	public long deleteWithAssociations(Long id, Long version) {
+		queryFactory.update(account)
+				.setNull(account.study)
+				.where(account.study.id.eq(id))
+				.execute();
+
+		queryFactory.delete(studyCommentLike)
+				.where(studyCommentLike.studyComment.id.in(JPAExpressions
+						.select(studyComment.id)
+						.from(studyComment)
+						.where(studyComment.study.id.eq(id))))
+				.execute();
+
+		queryFactory.delete(studyComment)
+				.where(studyComment.study.id.eq(id))
+				.execute();
+
+		queryFactory.delete(studyLike)
+				.where(studyLike.study.id.eq(id))
+				.execute();
+
+		queryFactory.delete(favorite)
+				.where(favorite.study.id.eq(id))
+				.execute();
+
+		return queryFactory.delete(study)
+				.where(study.id.eq(id), study.version.eq(version))
+				.execute();
+	}
+
 	@Override
 	public long getStudiesCount(StudyState studyState) {
 		return queryFactory
@@ -85,6 +229,21 @@ public class JpaStudyRepositoryImpl implements StudyRepositoryCustom {
 				.fetchCount();
 	}
 
+	@Override
+	public Map<StudyState, Long> getStudiesCountGroupByStudyState() {
+		List<Tuple> tuples = queryFactory
+				.select(study.studyState, study.count())
+				.from(study)
+				.groupBy(study.studyState)
+				.fetch();
+
+		Map<StudyState, Long> studiesCounts = new HashMap<>();
+		for (Tuple tuple : tuples) {
+			studiesCounts.put(tuple.get(study.studyState), tuple.get(study.count()));
+		}
+		return studiesCounts;
+	}
+
 	@Override
 	public long getStudiesCountByKeyword(String keyword, StudyState studyState) {
 		return queryFactory
@@ -93,16 +252,32 @@ public class JpaStudyRepositoryImpl implements StudyRepositoryCustom {
 				.fetchCount();
 	}
 
-	@Override
-	public List<StudyApiDto.StudyFavoriteDto> findByFavoriteStudies(List<Long> studyIds) {
-		return queryFactory
-				.select(new QStudyApiDto_StudyFavoriteDto(
-						study.id, study.name, study.bookName, study.studyState
-				))
-				.from(study)
-				.where(studyIdsIn(studyIds))
-				.orderBy(study.id.asc())
-				.fetch();
+	private QStudyApiDto_StudyResultDto studyResultDto(Long accountId) {
+		return new QStudyApiDto_StudyResultDto(
+				study.id, study.name, study.bookName, study.bookImage, study.email, study.description,
+				study.contact, study.size, study.applyCount, study.startDate, study.endDate,
+				study.startTime, study.endTime, study.day, study.studyState, study.zone,
+				study.likesCount, likedBy(accountId), study.commentsCount, study.favoritesCount,
+				Expressions.FALSE
+		);
+	}
+
+	private QStudyApiDto_StudyResultDto studyListResultDto() {
+		return new QStudyApiDto_StudyResultDto(
+				study.id, study.name, study.bookName, study.bookImage, study.email, study.description,
+				study.contact, study.size, study.applyCount, study.startDate, study.endDate,
+				study.startTime, study.endTime, study.day, study.studyState, study.zone,
+				study.likesCount, Expressions.FALSE, study.commentsCount, study.favoritesCount,
+				Expressions.FALSE
+		);
+	}
+
+	private BooleanExpression likedBy(Long accountId) {
+		return JPAExpressions
+				.selectOne()
+				.from(studyLike)
+				.where(studyLike.study.eq(study), studyLike.account.id.eq(accountId))
+				.exists();
 	}
 
 	private BooleanBuilder nameContains(String name) {
@@ -113,7 +288,11 @@ public class JpaStudyRepositoryImpl implements StudyRepositoryCustom {
 		return isEmpty(studyState) ? new BooleanBuilder() : new BooleanBuilder(study.studyState.eq(studyState));
 	}
 
-	private BooleanBuilder studyIdsIn(List<Long> studyIds) {
-		return studyIds.size() == 0 ? new BooleanBuilder(study.id.eq(0L)) : new BooleanBuilder(study.id.in(studyIds));
+	private BooleanBuilder cursorOf(Long afterId, Long beforeId) {
+		if (afterId != null) {
+			return new BooleanBuilder(study.id.lt(afterId));
+		}
+
+		return beforeId == null ? new BooleanBuilder() : new BooleanBuilder(study.id.gt(beforeId));
 	}
 }
@@ -0,0 +1,141 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.domain.study.StudySeatCounter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스터디별 남은 자리 수를 Redis 문자열로, 반영되지 않은 지원자 수 변화량을 Redis 해시로 관리한다.
+ * 자리 확보와 변화량 기록은 Lua 스크립트로 한 번에 처리해 동시 요청에도 정원을 넘지 않는다.
+ */
+@Component
+public class RedisStudySeatCounter implements StudySeatCounter {
+    private static final String SEATS_KEY_PREFIX = "study:seats:";
+    private static final String PENDING_KEY = "study:pending-seats";
+
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local remaining = redis.call('GET', KEYS[1]) " +
+            "if not remaining then return -1 end " +
+            "if tonumber(remaining) <= 0 then return 0 end " +
+            "redis.call('DECR', KEYS[1]) " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], 1) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCR', KEYS[1]) end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], -1) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[4] == '0' and redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "local remaining = tonumber(ARGV[2]) - tonumber(ARGV[3]) - pending " +
+            "if remaining < 0 then remaining = 0 end " +
+            "redis.call('SET', KEYS[1], remaining) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> TAKE_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local delta = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not delta then return 0 end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "return tonumber(delta)", Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_ALL_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return entries", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisStudySeatCounter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Reservation reserve(Long studyId) {
+        Long result = stringRedisTemplate.execute(RESERVE_SCRIPT,
+                List.of(seatsKey(studyId), PENDING_KEY), String.valueOf(studyId));
+
+        if (result == null || result < 0) {
+            return Reservation.NOT_INITIALIZED;
+        }
+
+        return result == 1 ? Reservation.RESERVED : Reservation.FULL;
+    }
+
+    @Override
+    public void release(Long studyId) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT,
+                List.of(seatsKey(studyId), PENDING_KEY), String.valueOf(studyId));
+    }
+
+    @Override
+    public boolean initialize(Long studyId, int size, int applyCount) {
+        Long result = stringRedisTemplate.execute(INITIALIZE_SCRIPT, List.of(seatsKey(studyId), PENDING_KEY),
+                String.valueOf(studyId), String.valueOf(size), String.valueOf(applyCount), "0");
+        return result != null && result == 1;
+    }
+
+    @Override
+    public void reset(Long studyId, int size, int applyCount) {
+        stringRedisTemplate.execute(INITIALIZE_SCRIPT, List.of(seatsKey(studyId), PENDING_KEY),
+                String.valueOf(studyId), String.valueOf(size), String.valueOf(applyCount), "1");
+    }
+
+    @Override
+    public void adjust(Long studyId, int delta) {
+        stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(seatsKey(studyId)), String.valueOf(delta));
+    }
+
+    @Override
+    public void remove(Long studyId) {
+        stringRedisTemplate.delete(seatsKey(studyId));
+    }
+
+    @Override
+    public int takePendingCount(Long studyId) {
+        Long delta = stringRedisTemplate.execute(TAKE_PENDING_SCRIPT,
+                List.of(PENDING_KEY), String.valueOf(studyId));
+        return delta == null ? 0 : delta.intValue();
+    }
+
+    @Override
+    public Map<Long, Integer> takePendingCounts() {
+        List<?> entries = stringRedisTemplate.execute(TAKE_ALL_PENDING_SCRIPT, List.of(PENDING_KEY));
+
+        Map<Long, Integer> pendingCounts = new HashMap<>();
+        if (entries == null) {
+            return pendingCounts;
+        }
+
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            int delta = Integer.parseInt(String.valueOf(entries.get(i + 1)));
+            if (delta != 0) {
+                pendingCounts.put(Long.valueOf(String.valueOf(entries.get(i))), delta);
+            }
+        }
+
+        return pendingCounts;
+    }
+
+    @Override
+    public void restorePendingCount(Long studyId, int delta) {
+        stringRedisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(studyId), delta);
+    }
+
+    private String seatsKey(Long studyId) {
+        return SEATS_KEY_PREFIX + studyId;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.common.exception.study.studylike.LikeToggleBufferFullException;
+import com.example.bookclub.domain.study.LikeTarget;
+import com.example.bookclub.domain.study.LikeToggle;
+import com.example.bookclub.domain.study.LikeToggleBuffer;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 상태를 사용자와 대상의 해시로 나눈 구간별 맵에 모아둔다.
+ * 구간마다 잠금을 따로 두어 서로 다른 사용자의 요청은 경합하지 않고,
+ * 저장된 상태 조회는 잠금 밖에서 해 데이터베이스 조회가 같은 구간의 다른 요청을 막지 않는다.
+ * 반영한 상태는 다음 반영 전까지 저장된 상태로 남겨 같은 사용자가 이어서 누를 때 다시 조회하지 않는다.
+ * 애플리케이션 메모리에 모으므로 반영 전에 종료되면 종료 시 반영하지 못한 상태는 사라진다.
+ * 모아둔 상태 수는 study.like.buffer.capacity 를 넘지 않으며, 가득 차면 새 사용자와 대상의 상태는 받지 않는다.
+ */
+@Component
+public class StripedLikeToggleBuffer implements LikeToggleBuffer {
+    private static final int STRIPE_COUNT = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+
+    public StripedLikeToggleBuffer(@Value("${study.like.buffer.capacity:100000}") int capacity) {
+        this.capacity = capacity;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public boolean toggle(LikeTarget target, Long targetId, Long accountId, boolean liked,
+                          Supplier<Boolean> persistedLiked) {
+        Key key = new Key(target, targetId, accountId);
+        Stripe stripe = stripeOf(key);
+
+        Boolean loadedLiked = null;
+        while (true) {
+            stripe.lock.lock();
+            try {
+                Entry entry = stripe.pending.get(key);
+                Entry inFlight = stripe.inFlight.getOrDefault(key, stripe.settled.get(key));
+                if (entry != null || inFlight != null || loadedLiked != null) {
+                    boolean persisted = entry != null ? entry.persisted
+                            : inFlight != null ? inFlight.liked : loadedLiked;
+                    boolean current = entry != null ? entry.liked : persisted;
+                    if (current == liked) {
+                        return false;
+                    }
+
+                    if (liked == persisted) {
+                        stripe.pending.remove(key);
+                        size.decrementAndGet();
+                        return true;
+                    }
+
+                    if (entry == null && size.get() >= capacity) {
+                        throw new LikeToggleBufferFullException();
+                    }
+                    int failures = entry != null ? entry.failures : 0;
+                    if (stripe.pending.put(key, new Entry(persisted, liked, failures)) == null) {
+                        size.incrementAndGet();
+                    }
+                    return true;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+
+            loadedLiked = persistedLiked.get();
+        }
+    }
+
+    @Override
+    public Optional<Boolean> findLiked(LikeTarget target, Long targetId, Long accountId) {
+        Key key = new Key(target, targetId, accountId);
+        Stripe stripe = stripeOf(key);
+
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.pending.getOrDefault(key, stripe.inFlight.get(key));
+            return entry == null ? Optional.empty() : Optional.of(entry.liked);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public List<LikeToggle> drain() {
+        List<LikeToggle> likeToggles = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.pending.forEach((key, entry) -> likeToggles.add(
+                        new LikeToggle(key.target, key.targetId, key.accountId, entry.liked, entry.failures)));
+                stripe.settled.clear();
+                stripe.inFlight.putAll(stripe.pending);
+                size.addAndGet(-stripe.pending.size());
+                stripe.pending.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        return likeToggles;
+    }
+
+    @Override
+    public void complete(Collection<LikeToggle> retried, Collection<LikeToggle> discarded) {
+        Set<Key> retriedKeys = keysOf(retried);
+        Set<Key> discardedKeys = keysOf(discarded);
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.inFlight.forEach((key, inFlight) -> {
+                    if (retriedKeys.contains(key)) {
+                        restore(stripe, key, inFlight);
+                    } else if (discardedKeys.contains(key)) {
+                        discard(stripe, key, inFlight);
+                    } else {
+                        stripe.settled.put(key, inFlight);
+                    }
+                });
+                stripe.inFlight.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private void restore(Stripe stripe, Key key, Entry inFlight) {
+        Entry entry = stripe.pending.get(key);
+        if (entry == null) {
+            stripe.pending.put(key, new Entry(inFlight.persisted, inFlight.liked, inFlight.failures + 1));
+            size.incrementAndGet();
+            return;
+        }
+
+        rebase(stripe, key, entry, inFlight.persisted, inFlight.failures + 1);
+    }
+
+    private void discard(Stripe stripe, Key key, Entry inFlight) {
+        Entry entry = stripe.pending.get(key);
+        if (entry != null) {
+            rebase(stripe, key, entry, inFlight.persisted, 0);
+        }
+    }
+
+    /**
+     * 모아둔 상태를 주어진 저장된 상태 기준으로 바꾸고, 저장된 상태와 같아진 경우 지운다.
+     */
+    private void rebase(Stripe stripe, Key key, Entry entry, boolean persisted, int failures) {
+        if (entry.liked == persisted) {
+            stripe.pending.remove(key);
+            size.decrementAndGet();
+        } else {
+            stripe.pending.put(key, new Entry(persisted, entry.liked, failures));
+        }
+    }
+
+    private Set<Key> keysOf(Collection<LikeToggle> likeToggles) {
+        return likeToggles.stream()
+                .map(likeToggle -> new Key(likeToggle.getTarget(), likeToggle.getTargetId(), likeToggle.getAccountId()))
+                .collect(Collectors.toSet());
+    }
+
+    private Stripe stripeOf(Key key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Key, Entry> pending = new HashMap<>();
+        private final Map<Key, Entry> inFlight = new HashMap<>();
+        private final Map<Key, Entry> settled = new HashMap<>();
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final LikeTarget target;
+        private final Long targetId;
+        private final Long accountId;
+
+        private Key(LikeTarget target, Long targetId, Long accountId) {
+            this.target = target;
+            this.targetId = targetId;
+            this.accountId = accountId;
+        }
+    }
+
+    private static class Entry {
+        private final boolean persisted;
+        private final boolean liked;
+        private final int failures;
+
+        private Entry(boolean persisted, boolean liked, int failures) {
+            this.persisted = persisted;
+            this.liked = liked;
+            this.failures = failures;
+        }
+    }
+}
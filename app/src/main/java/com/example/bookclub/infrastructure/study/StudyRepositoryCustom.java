@@ -1,17 +1,34 @@
 package com.example.bookclub.infrastructure.study;
 
-import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyFacet;
 import com.example.bookclub.domain.study.StudyState;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.dto.StudyDto;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface StudyRepositoryCustom {
     StudyDto.StudyInfoResultDto getStudyInfo(Long id);
 
-    List<Study> findByBookNameContaining(String keyword, StudyState studyState, Pageable pageable);
+    List<StudyApiDto.StudyResultDto> findByBookNameContaining(String keyword, StudyState studyState,
+                                                              Long accountId, Pageable pageable);
+
+    List<StudyApiDto.StudyResultDto> findByBookNameContainingWithCursor(String keyword, StudyState studyState,
+                                                                        Long accountId, Long afterId,
+                                                                        Long beforeId, int limit);
+
+    List<StudyApiDto.StudyResultDto> findStudyResultsWithCursor(Long afterId, int limit);
+
+    Stream<StudyApiDto.StudyResultDto> streamStudyResults(int fetchSize);
+
+    Stream<StudyFacet> streamStudyFacets(int fetchSize);
+
+    List<StudyApiDto.StudyResultDto> findStudyResultsByIds(List<Long> ids, Long accountId);
+
+    long deleteWithAssociations(Long id, Long version);
 
     long getStudiesCount(StudyState studyState);
 
@@ -19,5 +36,5 @@ public interface StudyRepositoryCustom {
 
     long getAllStudiesCount();
 
-	List<StudyApiDto.StudyFavoriteDto> findByFavoriteStudies(List<Long> studyIds);
+    Map<StudyState, Long> getStudiesCountGroupByStudyState();
 }
@@ -1,62 +1,51 @@
 package com.example.bookclub.infrastructure.study;
 
 import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.study.StudySeriesFactory;
-import com.example.bookclub.domain.study.studycomment.StudyComment;
+import com.example.bookclub.domain.study.favorite.FavoriteRepository;
+import com.example.bookclub.domain.study.studycomment.StudyCommentRepository;
 import com.example.bookclub.dto.StudyApiDto;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 public class StudySeriesFactoryImpl implements StudySeriesFactory {
-	@Override
-	public StudyApiDto.StudyDetailResultDto getDetailedStudy(Account account, Study study) {
-		Long principalId = account.getId();
-		List<StudyComment> studyComments = study.getStudyComments();
-		study.addCommentsCount(studyComments.size());
-		study.getFavorites().forEach(favorite -> {
-			if(favorite.getAccount().getId().equals(principalId))
-				study.addFavorite();
-		});
-
-		studyComments.forEach(studyComment -> {
-			studyComment.setLikesCount(studyComment.getStudyCommentLikes().size());
-			studyComment.getStudyCommentLikes().forEach(studyCommentLike -> {
-				if(studyCommentLike.getAccount().getId().equals(principalId)) {
-					studyComment.addLiked();
-				}
-			});
-
-			if(studyComment.getAccount().getId().equals(principalId))
-				studyComment.setIsWrittenByMeTrue();
-		});
-
-		List<StudyApiDto.StudyCommentResultDto> studyCommentResultDtos = studyComments.stream()
-				.map(studyComment -> {
-					return StudyApiDto.StudyCommentResultDto.of(studyComment, studyComment.getAccount());
-				})
-				.collect(Collectors.toList());
-
-		return StudyApiDto.StudyDetailResultDto.of(StudyApiDto.StudyResultDto.of(study), studyCommentResultDtos);
+	private static final int COMMENT_PAGE_SIZE = 20;
+
+	private final StudyCommentRepository studyCommentRepository;
+	private final FavoriteRepository favoriteRepository;
+
+	public StudySeriesFactoryImpl(StudyCommentRepository studyCommentRepository,
+								  FavoriteRepository favoriteRepository) {
+		this.studyCommentRepository = studyCommentRepository;
+		this.favoriteRepository = favoriteRepository;
 	}
 
+	/**
+	 * 주어진 사용자와 스터디 정보로 스터디 상세 정보를 만든다.
+	 * 즐겨찾기 여부 조회 1번, 작성자 닉네임과 좋아요 수, 좋아요 여부를 포함한 댓글 첫 페이지 조회 1번으로 끝나며
+	 * 주어진 스터디 정보는 캐시에서 꺼낸 공유 정보일 수 있으므로 바꾸지 않고 즐겨찾기 여부를 넣은 복사본을 사용한다.
+	 * 다음 댓글은 커서로 댓글 API 에서 이어서 조회한다.
+	 */
 	@Override
-	public List<StudyApiDto.StudyResultDto> getStudyLists(Account account, List<Study> studies) {
+	public StudyApiDto.StudyDetailResultDto getDetailedStudy(Account account,
+															StudyApiDto.StudyResultDto studyResultDto) {
 		Long principalId = account.getId();
+		Long studyId = studyResultDto.getId();
+		boolean favorite = favoriteRepository.existsByStudyIdAndAccountId(studyId, principalId);
+
+		List<StudyApiDto.StudyCommentResultDto> studyCommentResultDtos = studyCommentRepository
+				.findCommentResultsByStudyId(studyId, principalId, null, COMMENT_PAGE_SIZE + 1);
+
+		StudyApiDto.StudyCommentCursorResultDto studyCommentCursorResultDto =
+				StudyApiDto.StudyCommentCursorResultDto.of(studyCommentResultDtos, COMMENT_PAGE_SIZE);
 
-		return studies.stream()
-				.map(study -> {
-					study.addLikesCount(study.getStudyLikes().size());
-					study.getStudyLikes().forEach(studyLike -> {
-						if(studyLike.getAccount().getId().equals(principalId)) {
-							study.addLiked();
-						}
-					});
-					return StudyApiDto.StudyResultDto.of(study);
-				})
-				.collect(Collectors.toList());
+		return StudyApiDto.StudyDetailResultDto.builder()
+				.studyResultDto(studyResultDto.withFavorite(favorite))
+				.studyComments(studyCommentCursorResultDto.getStudyComments())
+				.nextCommentCursor(studyCommentCursorResultDto.getNextCursor())
+				.hasNextComments(studyCommentCursorResultDto.isHasNext())
+				.build();
 	}
 }
@@ -0,0 +1,211 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.domain.study.StudyCache;
+import com.example.bookclub.dto.StudyApiDto;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 스터디 정보를 크기가 제한된 서버 메모리 캐시와 Redis 캐시 두 단계로 캐시한다.
+ * 삭제는 Redis 채널로 다른 서버에 알리고, 읽는 도중 같은 스터디가 삭제되면 읽은 값을 저장하지 않아 삭제 전 값이 다시 캐시되지 않는다.
+ * 삭제 여부는 스터디 식별자별로 나눈 버전으로 확인하므로 다른 스터디의 삭제는 읽기에 영향을 주지 않고, 전체 삭제만 모든 읽기를 무효로 한다.
+ * Redis 에 접근할 수 없으면 서버 메모리 캐시와 loader 만으로 동작한다.
+ */
+@Slf4j
+@Component
+public class TwoTierStudyCache implements StudyCache, MessageListener {
+    public static final String CACHE_NAME = "Study";
+    public static final String EVICT_CHANNEL = "study:cache:evict";
+
+    private static final String ALL_STUDIES = "*";
+    private static final int VERSION_STRIPES = 1024;
+
+    private final Cache<Long, StudyApiDto.StudyResultDto> localCache;
+    private final org.springframework.cache.Cache redisCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong redisHitCount = new AtomicLong();
+    private final AtomicLong redisMissCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong remoteInvalidationCount = new AtomicLong();
+
+    public TwoTierStudyCache(RedisCacheManager redisCacheManager,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             @Value("${study.cache.local.maximum-size:10000}") long maximumSize,
+                             @Value("${study.cache.local.expire-seconds:10}") long expireSeconds) {
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        this.redisCache = redisCacheManager.getCache(CACHE_NAME);
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    @Override
+    public StudyApiDto.StudyResultDto get(Long studyId, Function<Long, StudyApiDto.StudyResultDto> loader) {
+        long readEpoch = epoch.get();
+        long readVersion = versionOf(studyId);
+        try {
+            StudyApiDto.StudyResultDto studyResultDto =
+                    localCache.get(studyId, () -> load(studyId, loader, readEpoch, readVersion));
+            if (isChanged(studyId, readEpoch, readVersion)) {
+                localCache.invalidate(studyId);
+            }
+            return studyResultDto;
+        } catch (UncheckedExecutionException | ExecutionError e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private StudyApiDto.StudyResultDto load(Long studyId, Function<Long, StudyApiDto.StudyResultDto> loader,
+                                            long readEpoch, long readVersion) {
+        StudyApiDto.StudyResultDto cached = getFromRedis(studyId);
+        if (cached != null) {
+            redisHitCount.incrementAndGet();
+            return cached;
+        }
+
+        redisMissCount.incrementAndGet();
+        StudyApiDto.StudyResultDto loaded = loader.apply(studyId);
+        if (!isChanged(studyId, readEpoch, readVersion)) {
+            putToRedis(studyId, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void evict(Long studyId) {
+        versions.incrementAndGet(stripeOf(studyId));
+        invalidationCount.incrementAndGet();
+        localCache.invalidate(studyId);
+        try {
+            redisCache.evict(studyId);
+        } catch (DataAccessException e) {
+            log.warn("study cache redis evict failed: {}", studyId, e);
+        }
+        publish(String.valueOf(studyId));
+    }
+
+    @Override
+    public void evictAll() {
+        epoch.incrementAndGet();
+        invalidationCount.incrementAndGet();
+        localCache.invalidateAll();
+        try {
+            redisCache.clear();
+        } catch (DataAccessException e) {
+            log.warn("study cache redis clear failed", e);
+        }
+        publish(ALL_STUDIES);
+    }
+
+    /**
+     * 다른 서버가 보낸 삭제 알림을 받아 서버 메모리 캐시에서 지운다. 자신이 보낸 알림은 이미 지웠으므로 무시한다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        remoteInvalidationCount.incrementAndGet();
+        String target = body.substring(separator + 1);
+        if (ALL_STUDIES.equals(target)) {
+            epoch.incrementAndGet();
+            localCache.invalidateAll();
+        } else {
+            Long studyId = Long.valueOf(target);
+            versions.incrementAndGet(stripeOf(studyId));
+            localCache.invalidate(studyId);
+        }
+    }
+
+    @Override
+    public StudyApiDto.StudyCacheStatsResultDto stats() {
+        CacheStats localStats = localCache.stats();
+        return StudyApiDto.StudyCacheStatsResultDto.builder()
+                .localHitCount(localStats.hitCount())
+                .localMissCount(localStats.missCount())
+                .localEvictionCount(localStats.evictionCount())
+                .localSize(localCache.size())
+                .redisHitCount(redisHitCount.get())
+                .redisMissCount(redisMissCount.get())
+                .invalidationCount(invalidationCount.get())
+                .remoteInvalidationCount(remoteInvalidationCount.get())
+                .build();
+    }
+
+    /**
+     * 주어진 전체 삭제 횟수와 스터디 버전을 읽은 뒤 전체 삭제나 같은 버전 칸의 스터디 삭제가 있었는지 여부를 반환한다.
+     */
+    private boolean isChanged(Long studyId, long readEpoch, long readVersion) {
+        return epoch.get() != readEpoch || versionOf(studyId) != readVersion;
+    }
+
+    private long versionOf(Long studyId) {
+        return versions.get(stripeOf(studyId));
+    }
+
+    private int stripeOf(Long studyId) {
+        return Math.floorMod(Long.hashCode(studyId), VERSION_STRIPES);
+    }
+
+    private StudyApiDto.StudyResultDto getFromRedis(Long studyId) {
+        try {
+            return redisCache.get(studyId, StudyApiDto.StudyResultDto.class);
+        } catch (DataAccessException e) {
+            log.warn("study cache redis get failed: {}", studyId, e);
+            return null;
+        }
+    }
+
+    private void putToRedis(Long studyId, StudyApiDto.StudyResultDto studyResultDto) {
+        try {
+            redisCache.put(studyId, studyResultDto);
+        } catch (DataAccessException e) {
+            log.warn("study cache redis put failed: {}", studyId, e);
+        }
+    }
+
+    private void publish(String target) {
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, nodeId + ":" + target);
+        } catch (DataAccessException e) {
+            log.warn("study cache evict publish failed: {}", target, e);
+        }
+    }
+}
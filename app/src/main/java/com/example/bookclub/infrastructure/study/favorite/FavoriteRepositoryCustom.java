@@ -0,0 +1,9 @@
+package com.example.bookclub.infrastructure.study.favorite;
+
+import com.example.bookclub.dto.StudyApiDto;
+
+import java.util.List;
+
+public interface FavoriteRepositoryCustom {
+	List<StudyApiDto.StudyFavoriteDto> findFavoriteStudiesByAccountId(Long accountId, Long cursor, int limit);
+}
@@ -4,15 +4,26 @@ import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.favorite.Favorite;
 import com.example.bookclub.domain.study.favorite.FavoriteRepository;
 import com.example.bookclub.domain.study.Study;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface JpaFavoriteRepository
-		extends FavoriteRepository, CrudRepository<Favorite, Long> {
+		extends FavoriteRepository, FavoriteRepositoryCustom, JpaRepository<Favorite, Long> {
 	Favorite save(Favorite favorite);
 
+	Favorite saveAndFlush(Favorite favorite);
+
 	Optional<Favorite> findByStudyAndAccount(Study study, Account account);
 
 	void delete(Favorite favorite);
+
+	@Modifying
+	@Query("delete from Favorite f where f.study.id = :studyId and f.account.id = :accountId")
+	int deleteByStudyIdAndAccountId(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+	boolean existsByStudyIdAndAccountId(Long studyId, Long accountId);
 }
@@ -0,0 +1,40 @@
+package com.example.bookclub.infrastructure.study.favorite;
+
+import com.example.bookclub.dto.QStudyApiDto_StudyFavoriteDto;
+import com.example.bookclub.dto.StudyApiDto;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import java.util.List;
+
+import static com.example.bookclub.domain.study.QStudy.study;
+import static com.example.bookclub.domain.study.favorite.QFavorite.favorite;
+
+public class JpaFavoriteRepositoryImpl implements FavoriteRepositoryCustom {
+	private final JPAQueryFactory queryFactory;
+
+	public JpaFavoriteRepositoryImpl(JPAQueryFactory queryFactory) {
+		this.queryFactory = queryFactory;
+	}
+
+	/**
+	 * 주어진 사용자의 즐겨찾기를 최근에 추가한 순서로 커서 다음부터 limit 만큼 스터디와 조인해 조회한다.
+	 * 사용자 식별자와 즐겨찾기 식별자로 범위를 정하므로 즐겨찾기 수와 관계없이 페이지마다 쿼리 한 번으로 끝난다.
+	 */
+	@Override
+	public List<StudyApiDto.StudyFavoriteDto> findFavoriteStudiesByAccountId(Long accountId, Long cursor, int limit) {
+		return queryFactory
+				.select(new QStudyApiDto_StudyFavoriteDto(
+						favorite.id, study.id, study.name, study.bookName, study.studyState))
+				.from(favorite)
+				.join(favorite.study, study)
+				.where(favorite.account.id.eq(accountId), idLt(cursor))
+				.orderBy(favorite.id.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	private BooleanExpression idLt(Long cursor) {
+		return cursor == null ? null : favorite.id.lt(cursor);
+	}
+}
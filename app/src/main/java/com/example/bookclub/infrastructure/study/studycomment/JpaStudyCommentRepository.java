@@ -2,13 +2,17 @@ package com.example.bookclub.infrastructure.study.studycomment;
 
 import com.example.bookclub.domain.study.studycomment.StudyComment;
 import com.example.bookclub.domain.study.studycomment.StudyCommentRepository;
-import org.springframework.data.repository.CrudRepository;
+import com.example.bookclub.dto.StudyApiDto;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface JpaStudyCommentRepository
-		extends StudyCommentRepository, CrudRepository<StudyComment, Long> {
+		extends StudyCommentRepository, StudyCommentRepositoryCustom, JpaRepository<StudyComment, Long> {
 	StudyComment save(StudyComment studyComment);
 
 	List<StudyComment> findByStudyId(Long id);
@@ -16,4 +20,26 @@ public interface JpaStudyCommentRepository
 	void delete(StudyComment studyComment);
 
 	Optional<StudyComment> findById(Long id);
+
+	StudyComment getOne(Long id);
+
+	List<StudyApiDto.StudyCommentResultDto> findCommentResultsByStudyId(Long studyId, Long accountId,
+																	  Long cursor, int limit);
+
+	@Modifying
+	@Query("update StudyComment c set c.likesCount = c.likesCount + 1 where c.id = :id")
+	int increaseLikesCount(@Param("id") Long id);
+
+	@Modifying
+	@Query("update StudyComment c set c.likesCount = c.likesCount - 1 where c.id = :id and c.likesCount > 0")
+	int decreaseLikesCount(@Param("id") Long id);
+
+	@Modifying
+	@Query("update StudyComment c set c.likesCount = c.likesCount + :delta where c.id = :id")
+	int addLikesCount(@Param("id") Long id, @Param("delta") int delta);
+
+	@Modifying
+	@Query("update StudyComment c set c.likesCount = (select count(l) from StudyCommentLike l where l.studyComment = c) " +
+			"where c.likesCount <> (select count(l) from StudyCommentLike l where l.studyComment = c)")
+	int syncLikesCount();
 }
@@ -0,0 +1,63 @@
+package com.example.bookclub.infrastructure.study.studycomment;
+
+import com.example.bookclub.dto.QStudyApiDto_StudyCommentResultDto;
+import com.example.bookclub.dto.StudyApiDto;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import java.util.List;
+
+import static com.example.bookclub.domain.account.QAccount.account;
+import static com.example.bookclub.domain.study.studycomment.QStudyComment.studyComment;
+import static com.example.bookclub.domain.study.studycommentlike.QStudyCommentLike.studyCommentLike;
+
+public class JpaStudyCommentRepositoryImpl implements StudyCommentRepositoryCustom {
+	private final JPAQueryFactory queryFactory;
+
+	public JpaStudyCommentRepositoryImpl(JPAQueryFactory queryFactory) {
+		this.queryFactory = queryFactory;
+	}
+
+	@Override
+	public List<StudyApiDto.StudyCommentResultDto> findCommentResultsByStudyId(Long studyId, Long accountId,
+																			 Long cursor, int limit) {
+		return queryFactory
+				.select(new QStudyApiDto_StudyCommentResultDto(
+						studyComment.id, studyComment.content, studyComment.study.id, account.id, account.nickname,
+						writtenBy(accountId), studyComment.updatedDate, likedBy(accountId), studyComment.likesCount))
+				.from(studyComment)
+				.join(studyComment.account, account)
+				.where(studyComment.study.id.eq(studyId), idGt(cursor))
+				.orderBy(studyComment.id.asc())
+				.limit(limit)
+				.fetch();
+	}
+
+	private BooleanExpression idGt(Long cursor) {
+		return cursor == null ? null : studyComment.id.gt(cursor);
+	}
+
+	private BooleanExpression writtenBy(Long accountId) {
+		if (accountId == null) {
+			return Expressions.FALSE;
+		}
+
+		return new CaseBuilder()
+				.when(account.id.eq(accountId)).then(true)
+				.otherwise(false);
+	}
+
+	private BooleanExpression likedBy(Long accountId) {
+		if (accountId == null) {
+			return Expressions.FALSE;
+		}
+
+		return JPAExpressions.selectOne()
+				.from(studyCommentLike)
+				.where(studyCommentLike.studyComment.eq(studyComment), studyCommentLike.account.id.eq(accountId))
+				.exists();
+	}
+}
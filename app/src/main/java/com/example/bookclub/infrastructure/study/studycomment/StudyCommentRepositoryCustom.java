@@ -0,0 +1,10 @@
+package com.example.bookclub.infrastructure.study.studycomment;
+
+import com.example.bookclub.dto.StudyApiDto;
+
+import java.util.List;
+
+public interface StudyCommentRepositoryCustom {
+	List<StudyApiDto.StudyCommentResultDto> findCommentResultsByStudyId(Long studyId, Long accountId,
+																	  Long cursor, int limit);
+}
@@ -4,17 +4,41 @@ import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.studycomment.StudyComment;
 import com.example.bookclub.domain.study.studycommentlike.StudyCommentLike;
 import com.example.bookclub.domain.study.studycommentlike.StudyCommentLikeRepository;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaStudyCommentLikeRepository
-		extends StudyCommentLikeRepository, CrudRepository<StudyCommentLike, Long> {
+		extends StudyCommentLikeRepository, JpaRepository<StudyCommentLike, Long> {
 	StudyCommentLike save(StudyCommentLike studyLike);
 
+	StudyCommentLike saveAndFlush(StudyCommentLike studyCommentLike);
+
 	Optional<StudyCommentLike> findByStudyCommentAndAccount(StudyComment studyComment, Account account);
 
 	Optional<StudyCommentLike> findById(Long StudyCommentLikeId);
 
 	void delete(StudyCommentLike studyCommentLike);
+
+	@Modifying
+	@Query("delete from StudyCommentLike l where l.studyComment.id = :studyCommentId and l.account.id = :accountId")
+	int deleteByStudyCommentIdAndAccountId(@Param("studyCommentId") Long studyCommentId,
+										   @Param("accountId") Long accountId);
+
+	boolean existsByStudyCommentIdAndAccountId(Long studyCommentId, Long accountId);
+
+	@Query("select l.account.id from StudyCommentLike l " +
+			"where l.studyComment.id = :studyCommentId and l.account.id in :accountIds")
+	List<Long> findAccountIdsByStudyCommentIdAndAccountIdIn(@Param("studyCommentId") Long studyCommentId,
+															@Param("accountIds") Collection<Long> accountIds);
+
+	@Modifying
+	@Query("delete from StudyCommentLike l where l.studyComment.id = :studyCommentId and l.account.id in :accountIds")
+	int deleteByStudyCommentIdAndAccountIdIn(@Param("studyCommentId") Long studyCommentId,
+											 @Param("accountIds") Collection<Long> accountIds);
 }
@@ -4,15 +4,36 @@ import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.study.studylike.StudyLike;
 import com.example.bookclub.domain.study.studylike.StudyLikeRepository;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaStudyLikeRepository
-		extends StudyLikeRepository, CrudRepository<StudyLike, Long> {
+		extends StudyLikeRepository, JpaRepository<StudyLike, Long> {
 	StudyLike save(StudyLike studyLike);
 
+	StudyLike saveAndFlush(StudyLike studyLike);
+
 	Optional<StudyLike> findByStudyAndAccount(Study study, Account account);
 
 	void delete(StudyLike studyLike);
+
+	@Modifying
+	@Query("delete from StudyLike l where l.study.id = :studyId and l.account.id = :accountId")
+	int deleteByStudyIdAndAccountId(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+	boolean existsByStudyIdAndAccountId(Long studyId, Long accountId);
+
+	@Query("select l.account.id from StudyLike l where l.study.id = :studyId and l.account.id in :accountIds")
+	List<Long> findAccountIdsByStudyIdAndAccountIdIn(@Param("studyId") Long studyId,
+													 @Param("accountIds") Collection<Long> accountIds);
+
+	@Modifying
+	@Query("delete from StudyLike l where l.study.id = :studyId and l.account.id in :accountIds")
+	int deleteByStudyIdAndAccountIdIn(@Param("studyId") Long studyId, @Param("accountIds") Collection<Long> accountIds);
 }
@@ -0,0 +1,57 @@
+package com.example.bookclub.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 현재 서버에서 BCrypt 비용 값마다 암호화 시간을 재서 목표 시간 안에 끝나는 가장 큰 비용 값을 고른다.
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLE_COUNT = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * 최소 비용 값부터 하나씩 올려가며 암호화 시간이 목표 시간을 넘기 직전의 비용 값을 반환한다.
+     * 최소 비용 값에서 이미 목표 시간을 넘으면 최소 비용 값을 반환한다.
+     *
+     * @param targetMillis 목표 암호화 시간
+     * @param minCost 최소 비용 값
+     * @param maxCost 최대 비용 값
+     * @return 비용 값
+     */
+    public static int calibrate(long targetMillis, int minCost, int maxCost) {
+        int cost = minCost;
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            double elapsedMillis = measureMillis(candidate);
+            log.info("bcrypt cost calibration - cost: {}, {} ms", candidate, String.format("%.1f", elapsedMillis));
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            cost = candidate;
+        }
+
+        log.info("bcrypt cost calibrated - cost: {}, target: {} ms", cost, targetMillis);
+        return cost;
+    }
+
+    /**
+     * 주어진 비용 값으로 한 번 암호화하는 데 걸리는 평균 시간을 반환한다. 처음 한 번은 예열로 버린다.
+     *
+     * @param cost 비용 값
+     * @return 평균 암호화 시간
+     */
+    public static double measureMillis(int cost) {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(cost);
+        passwordEncoder.encode(SAMPLE_PASSWORD);
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            passwordEncoder.encode(SAMPLE_PASSWORD);
+        }
+        return (System.nanoTime() - startTime) / 1_000_000.0 / SAMPLE_COUNT;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.bookclub.security;
+
+import com.example.bookclub.common.exception.account.PasswordHashingBusyException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 암호화와 검사를 크기가 정해진 전용 스레드 풀에서 실행한다.
+ * 요청 스레드가 한꺼번에 CPU 를 쓰는 해시 계산에 묶이지 않도록 동시에 계산하는 수를 제한하고,
+ * 대기열까지 가득 차면 기다리지 않고 PasswordHashingBusyException 을 던진다.
+ * 저장된 BCrypt 해시의 비용 값이 설정한 비용 값과 다르면 다시 암호화하도록 알린다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int poolSize, int queueCapacity) {
+        this.delegate = delegate;
+        this.strength = strength;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 BCrypt 해시의 비용 값이 설정한 비용 값과 다르면 true 를 반환한다.
+     * 비용 값을 낮춘 경우에도 다음 로그인 때 설정한 비용 값으로 다시 암호화되도록 한다.
+     * BCrypt 해시가 아니면 비용 값을 알 수 없으므로 false 를 반환한다.
+     *
+     * @param encodedPassword 저장된 비밀번호 해시
+     * @return 다시 암호화해야 하는지 여부
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * 해시 계산을 기다리는 작업 수를 반환한다.
+     *
+     * @return 대기열 크기
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.bookclub.security;
+
+import com.example.bookclub.common.exception.account.PasswordHashingBusyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 로그인에 실패하면 로그인 실패 페이지로 이동한다.
+ * 비밀번호 검사 대기열이 가득 차 실패한 경우에는 잠시 뒤 다시 시도하도록 503 으로 응답한다.
+ */
+@Component
+public class CustomLoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	public CustomLoginFailureHandler() {
+		super("/login-error");
+	}
+
+	@Override
+	public void onAuthenticationFailure(HttpServletRequest request,
+										HttpServletResponse response,
+										AuthenticationException exception)
+			throws IOException, ServletException {
+		if (exception instanceof PasswordHashingBusyException) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage());
+			return;
+		}
+
+		super.onAuthenticationFailure(request, response, exception);
+	}
+}
@@ -1,79 +1,191 @@
 package com.example.bookclub.security;
 
 import com.example.bookclub.common.util.JsonUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Objects;
 
 /**
- * remember-me 토큰 생성, 수정, 조회를 한다.
+ * remember-me 토큰 생성, 수정, 조회, 삭제를 한다.
+ * 토큰은 시리즈마다 Redis 해시 하나에 사용자 이메일, 토큰 값, 마지막 사용 시각을 문자열 필드로 저장하고,
+ * 사용자마다 시리즈 집합을 두어 사용자의 토큰을 한 번에 삭제한다.
+ * 저장, 수정, 삭제는 Lua 스크립트로 한 번에 처리한다.
+ * 시리즈 이름 그대로의 키에 JSON 으로 저장된 예전 토큰은 처음 조회할 때 해시로 옮기고 예전 키를 지운다.
  */
 @Log4j2
 @Service
 public class PersistTokenRepository implements PersistentTokenRepository {
+	private static final String SERIES_KEY_PREFIX = "remember-me:series:";
+	private static final String USER_KEY_PREFIX = "remember-me:user:";
+	private static final String USERNAME_FIELD = "username";
+	private static final String TOKEN_FIELD = "token";
+	private static final String LAST_USED_FIELD = "lastUsed";
+	private static final List<Object> TOKEN_FIELDS = List.of(USERNAME_FIELD, TOKEN_FIELD, LAST_USED_FIELD);
+
+	private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('HSET', KEYS[1], 'username', ARGV[1], 'token', ARGV[2], 'lastUsed', ARGV[3]) " +
+			"redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+			"for _, series in ipairs(redis.call('SMEMBERS', KEYS[2])) do " +
+			"  if redis.call('EXISTS', ARGV[5] .. series) == 0 then redis.call('SREM', KEYS[2], series) end " +
+			"end " +
+			"redis.call('SADD', KEYS[2], ARGV[6]) " +
+			"redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+			"return 1", Long.class);
+
+	private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+			"local username = redis.call('HGET', KEYS[1], 'username') " +
+			"if not username then return 0 end " +
+			"redis.call('HSET', KEYS[1], 'token', ARGV[1], 'lastUsed', ARGV[2]) " +
+			"redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+			"redis.call('EXPIRE', ARGV[4] .. username, ARGV[3]) " +
+			"return 1", Long.class);
+
+	private static final RedisScript<Long> REMOVE_USER_SCRIPT = new DefaultRedisScript<>(
+			"local seriesList = redis.call('SMEMBERS', KEYS[1]) " +
+			"for _, series in ipairs(seriesList) do redis.call('DEL', ARGV[1] .. series) end " +
+			"redis.call('DEL', KEYS[1]) " +
+			"return #seriesList", Long.class);
+
 	private final StringRedisTemplate stringRedisTemplate;
+	private final long tokenValiditySeconds;
 
-	public PersistTokenRepository(StringRedisTemplate stringRedisTemplate) {
+	public PersistTokenRepository(StringRedisTemplate stringRedisTemplate,
+								  @Value("${account.remember-me.token-validity-seconds:2678400}") long tokenValiditySeconds) {
 		this.stringRedisTemplate = stringRedisTemplate;
+		this.tokenValiditySeconds = tokenValiditySeconds;
 	}
 
 	@Override
 	public void createNewToken(PersistentRememberMeToken token) {
-		RememberToken rememberToken = RememberToken.builder()
-				.username(token.getUsername())
-				.tokenValue(token.getTokenValue())
-				.series(token.getSeries())
-				.date(token.getDate())
-				.build();
-
-		stringRedisTemplate.opsForValue()
-				.set(token.getSeries(), JsonUtil.toJson(rememberToken), 60 * 60 * 24 * 31, TimeUnit.DAYS);
+		stringRedisTemplate.execute(CREATE_SCRIPT,
+				List.of(seriesKeyOf(token.getSeries()), userKeyOf(token.getUsername())),
+				token.getUsername(),
+				token.getTokenValue(),
+				String.valueOf(token.getDate().getTime()),
+				String.valueOf(tokenValiditySeconds),
+				SERIES_KEY_PREFIX,
+				token.getSeries());
 	}
 
 	@Override
 	public void updateToken(String series, String tokenValue, Date lastUsed) {
-		String payload = stringRedisTemplate.opsForValue().get(series);
+		Long updated = stringRedisTemplate.execute(UPDATE_SCRIPT, List.of(seriesKeyOf(series)),
+				tokenValue,
+				String.valueOf(lastUsed.getTime()),
+				String.valueOf(tokenValiditySeconds),
+				USER_KEY_PREFIX);
 
-		try {
-			RememberToken rememberToken = JsonUtil.fromJson(payload, RememberToken.class);
-			rememberToken.setTokenValue(tokenValue);
-			rememberToken.setDate(lastUsed);
-			stringRedisTemplate.opsForValue()
-					.set(series, JsonUtil.toJson(rememberToken), 60 * 60 * 24 * 31, TimeUnit.DAYS);
-			log.debug("Remember me token is updated. series={}", series);
-		} catch(Exception e) {
-			log.error("Persistent token is not valid. payload={}, error={}", payload, e);
+		if (updated == null || updated == 0) {
+			log.warn("Remember me token is not found. series={}", series);
+			return;
 		}
+		log.debug("Remember me token is updated. series={}", series);
 	}
 
 	@Override
 	public PersistentRememberMeToken getTokenForSeries(String seriesId) {
-		String payload = stringRedisTemplate.opsForValue().get(seriesId);
-		if (payload == null) return null;
+		List<Object> fields = stringRedisTemplate.opsForHash().multiGet(seriesKeyOf(seriesId), TOKEN_FIELDS);
+		if (fields == null || fields.stream().allMatch(Objects::isNull)) {
+			return migrateLegacyToken(seriesId);
+		}
+		if (fields.size() != TOKEN_FIELDS.size() || fields.stream().anyMatch(Objects::isNull)) {
+			return null;
+		}
 
 		try {
-			RememberToken rememberToken = JsonUtil.fromJson(payload, RememberToken.class);
-			PersistentRememberMeToken token = new PersistentRememberMeToken(
-					rememberToken.getUsername()
+			return new PersistentRememberMeToken(
+					fields.get(0).toString()
 					,seriesId
-					,rememberToken.getTokenValue()
-					,rememberToken.getDate()
+					,fields.get(1).toString()
+					,new Date(Long.parseLong(fields.get(2).toString()))
 			);
-
-			return token;
-		} catch (Exception e) {
-			log.error("Persistent token is not valid. payload={}, error={}", payload, e);
+		} catch (NumberFormatException e) {
+			log.error("Persistent token is not valid. series={}, fields={}", seriesId, fields, e);
 			return null;
 		}
 	}
 
 	@Override
 	public void removeUserTokens(String username) {
-		stringRedisTemplate.opsForValue().getOperations().delete(username);
+		Long removedCount = stringRedisTemplate.execute(REMOVE_USER_SCRIPT, List.of(userKeyOf(username)),
+				SERIES_KEY_PREFIX);
+		log.debug("Remember me tokens are removed. username={}, count={}", username, removedCount);
+	}
+
+	/**
+	 * 시리즈 이름 그대로의 키에 JSON 으로 저장된 예전 토큰을 읽어 해시로 저장하고 예전 키를 지운다.
+	 * 쿠키의 시리즈는 사용자가 바꿀 수 있으므로, 문자열 값이 아니거나 저장된 시리즈가 다르면 다른 키로 보고 건드리지 않는다.
+	 *
+	 * @param seriesId 시리즈
+	 * @return 옮긴 토큰, 예전 토큰이 없으면 null
+	 */
+	private PersistentRememberMeToken migrateLegacyToken(String seriesId) {
+		String payload;
+		try {
+			payload = stringRedisTemplate.opsForValue().get(seriesId);
+		} catch (DataAccessException e) {
+			return null;
+		}
+		if (payload == null) {
+			return null;
+		}
+
+		LegacyRememberToken legacyToken;
+		try {
+			legacyToken = JsonUtil.fromJson(payload, LegacyRememberToken.class);
+		} catch (RuntimeException e) {
+			return null;
+		}
+		if (!seriesId.equals(legacyToken.getSeries()) || legacyToken.getUsername() == null
+				|| legacyToken.getTokenValue() == null || legacyToken.getDate() == null) {
+			return null;
+		}
+
+		PersistentRememberMeToken token = new PersistentRememberMeToken(
+				legacyToken.getUsername()
+				,seriesId
+				,legacyToken.getTokenValue()
+				,legacyToken.getDate()
+		);
+		createNewToken(token);
+		stringRedisTemplate.delete(seriesId);
+		log.info("Legacy remember me token is migrated. series={}", seriesId);
+		return token;
+	}
+
+	private String seriesKeyOf(String series) {
+		return SERIES_KEY_PREFIX + series;
+	}
+
+	private String userKeyOf(String username) {
+		return USER_KEY_PREFIX + username;
+	}
+
+	/**
+	 * 예전에 JSON 으로 저장하던 토큰
+	 */
+	@Getter
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	static class LegacyRememberToken {
+		private String series;
+
+		private String username;
+
+		private String tokenValue;
+
+		private Date date;
 	}
 }
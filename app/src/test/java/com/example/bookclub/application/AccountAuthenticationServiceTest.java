@@ -2,7 +2,12 @@ package com.example.bookclub.application;
 
 import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
+import com.example.bookclub.domain.account.AccountHeaderCache;
+import com.example.bookclub.domain.account.AccountHeaderChangedEvent;
+import com.example.bookclub.domain.account.role.AuthorityCache;
 import com.example.bookclub.domain.account.role.Role;
+import com.example.bookclub.domain.account.role.RoleChangedEvent;
 import com.example.bookclub.domain.account.role.RoleRepository;
 import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.uplodfile.UploadFile;
@@ -13,14 +18,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class AccountAuthenticationServiceTest {
 	private final static Long ACCOUNT_SETUP_ID = 1L;
@@ -28,6 +40,7 @@ class AccountAuthenticationServiceTest {
 	private final static String ACCOUNT_SETUP_EMAIL = "accountEmail";
 	private final static String ACCOUNT_SETUP_NICKNAME = "accountNickname";
 	private final static String ACCOUNT_SETUP_PASSWORD = "accountPassword";
+	private final static String ACCOUNT_REHASHED_PASSWORD = "accountRehashedPassword";
 
 	private final static String ACCOUNT_NOT_EXISTED_EMAIL = "accountNotExistedEmail";
 
@@ -46,14 +59,26 @@ class AccountAuthenticationServiceTest {
 
 	private JpaAccountRepository accountRepository;
 	private RoleRepository roleRepository;
+	private AccountHeaderCache accountHeaderCache;
+	private AuthorityCache authorityCache;
 	private AccountAuthenticationService accountAuthenticationService;
 
 	@BeforeEach
 	void setup() {
 		accountRepository = mock(JpaAccountRepository.class);
 		roleRepository = mock(RoleRepository.class);
+		accountHeaderCache = mock(AccountHeaderCache.class);
+		given(accountHeaderCache.get(any(), any())).willAnswer(invocation -> {
+			Function<String, AccountHeader> loader = invocation.getArgument(1);
+			return loader.apply(invocation.getArgument(0));
+		});
+		authorityCache = mock(AuthorityCache.class);
+		given(authorityCache.get(any(), any())).willAnswer(invocation -> {
+			Function<String, List<String>> loader = invocation.getArgument(1);
+			return loader.apply(invocation.getArgument(0));
+		});
 		accountAuthenticationService = new AccountAuthenticationService(
-				roleRepository, accountRepository);
+				roleRepository, accountRepository, accountHeaderCache, authorityCache);
 
 		setupAccount = Account.builder()
 				.id(ACCOUNT_SETUP_ID)
@@ -103,6 +128,71 @@ class AccountAuthenticationServiceTest {
 				.isInstanceOf(AccountEmailNotFoundException.class);
 	}
 
+	@Test
+	void updatePasswordWithRehashedPassword() {
+		given(accountRepository.updatePasswordByEmail(ACCOUNT_SETUP_EMAIL, ACCOUNT_REHASHED_PASSWORD)).willReturn(1);
+		UserAccount userAccount = UserAccount.builder()
+				.account(setupAccount)
+				.authorities(List.of(new SimpleGrantedAuthority(ROLE_SETUP_NAME)))
+				.build();
+
+		UserDetails updatedUserAccount =
+				accountAuthenticationService.updatePassword(userAccount, ACCOUNT_REHASHED_PASSWORD);
+
+		assertThat(updatedUserAccount).isSameAs(userAccount);
+		assertThat(updatedUserAccount.getPassword()).isEqualTo(ACCOUNT_REHASHED_PASSWORD);
+		assertThat(updatedUserAccount.getUsername()).isEqualTo(ACCOUNT_SETUP_EMAIL);
+		assertThat(updatedUserAccount.getAuthorities()).hasSize(1);
+		verify(accountRepository).updatePasswordByEmail(ACCOUNT_SETUP_EMAIL, ACCOUNT_REHASHED_PASSWORD);
+		verify(accountRepository, never()).findByEmail(any());
+	}
+
+	@Test
+	void updatePasswordWithNotExistedEmail() {
+		given(accountRepository.updatePasswordByEmail(ACCOUNT_NOT_EXISTED_EMAIL, ACCOUNT_REHASHED_PASSWORD)).willReturn(0);
+		UserAccount userAccount = UserAccount.builder()
+				.account(Account.builder().email(ACCOUNT_NOT_EXISTED_EMAIL).build())
+				.authorities(List.of(new SimpleGrantedAuthority(ROLE_SETUP_NAME)))
+				.build();
+
+		assertThatThrownBy(() -> accountAuthenticationService.updatePassword(userAccount, ACCOUNT_REHASHED_PASSWORD))
+				.isInstanceOf(AccountEmailNotFoundException.class);
+	}
+
+	@Test
+	void detailAccountHeaderWithExistedEmail() {
+		given(accountRepository.findAccountHeaderByEmail(ACCOUNT_SETUP_EMAIL))
+				.willReturn(Optional.of(AccountHeader.of(setupAccount)));
+
+		AccountHeader accountHeader = accountAuthenticationService.getAccountHeader(ACCOUNT_SETUP_EMAIL);
+
+		assertThat(accountHeader.getId()).isEqualTo(ACCOUNT_SETUP_ID);
+		assertThat(accountHeader.getNickname()).isEqualTo(ACCOUNT_SETUP_NICKNAME);
+		assertThat(accountHeader.getStudy().getId()).isEqualTo(STUDY_SETUP_ID);
+		assertThat(accountHeader.isApplierOfStudy()).isTrue();
+		assertThat(accountHeader.isManagerOfStudy()).isFalse();
+		verify(accountHeaderCache).get(eq(ACCOUNT_SETUP_EMAIL), any());
+	}
+
+	@Test
+	void detailAccountHeaderWithNotExistedEmail() {
+		given(accountRepository.findAccountHeaderByEmail(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(Optional.empty());
+
+		assertThatThrownBy(
+				() -> accountAuthenticationService.getAccountHeader(ACCOUNT_NOT_EXISTED_EMAIL)
+		)
+				.isInstanceOf(AccountEmailNotFoundException.class);
+	}
+
+	@Test
+	void evictAccountHeaders() {
+		accountAuthenticationService.evictAccountHeaders(
+				AccountHeaderChangedEvent.of(List.of(ACCOUNT_SETUP_EMAIL, ACCOUNT_NOT_EXISTED_EMAIL)));
+
+		verify(accountHeaderCache).evict(ACCOUNT_SETUP_EMAIL);
+		verify(accountHeaderCache).evict(ACCOUNT_NOT_EXISTED_EMAIL);
+	}
+
 	@Test
 	void listAllAuthorities() {
 		given(roleRepository.findAllByEmail(ACCOUNT_SETUP_EMAIL)).willReturn(roles);
@@ -115,22 +205,46 @@ class AccountAuthenticationServiceTest {
 		}
 	}
 
+	@Test
+	void listAllAuthoritiesWithCachedAuthorities() {
+		willReturn(List.of(ROLE_SETUP_NAME)).given(authorityCache).get(eq(ACCOUNT_SETUP_EMAIL), any());
+
+		List<GrantedAuthority> grantedAuthorities = accountAuthenticationService.getAllAuthorities(ACCOUNT_SETUP_EMAIL);
+
+		assertThat(grantedAuthorities).containsExactly(new SimpleGrantedAuthority(ROLE_SETUP_NAME));
+		verify(roleRepository, never()).findAllByEmail(any());
+	}
+
+	@Test
+	void evictAuthorities() {
+		accountAuthenticationService.evictAuthorities(RoleChangedEvent.of(setupRole));
+
+		verify(authorityCache).evict(ROLE_SETUP_EMAIL);
+	}
+
 	@Test
 	void detailSecurityDetailsWithExistedEmail() {
-		given(accountRepository.findByEmail(ACCOUNT_SETUP_EMAIL)).willReturn(Optional.of(setupAccount));
+		Account authenticationAccount = Account.builder()
+				.id(ACCOUNT_SETUP_ID)
+				.email(ACCOUNT_SETUP_EMAIL)
+				.password(ACCOUNT_SETUP_PASSWORD)
+				.build();
+		given(accountRepository.findAuthenticationAccountByEmail(ACCOUNT_SETUP_EMAIL))
+				.willReturn(Optional.of(authenticationAccount));
 		given(roleRepository.findAllByEmail(ACCOUNT_SETUP_EMAIL)).willReturn(roles);
 
 		UserAccount userAccount = (UserAccount) accountAuthenticationService.loadUserByUsername(ACCOUNT_SETUP_EMAIL);
 
 		assertThat(userAccount.getAccount().getId()).isEqualTo(setupAccount.getId());
 		assertThat(userAccount.getAuthorities()).contains(new SimpleGrantedAuthority(roles.get(0).getName()));
-		assertThat(userAccount.getAccount().getUploadFile().getId()).isEqualTo(UPLOAD_FILE_SETUP_ID);
-		assertThat(userAccount.getAccount().getStudy().getId()).isEqualTo(STUDY_SETUP_ID);
+		assertThat(userAccount.getAccount().getUploadFile()).isNull();
+		assertThat(userAccount.getAccount().getStudy()).isNull();
+		verify(accountRepository, never()).findByEmail(any());
 	}
 
 	@Test
 	void detailSecurityDetailsWithNotExistedEmail() {
-		given(accountRepository.findByEmail(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(Optional.empty());
+		given(accountRepository.findAuthenticationAccountByEmail(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(Optional.empty());
 		given(roleRepository.findAllByEmail(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(List.of());
 
 		assertThatThrownBy(
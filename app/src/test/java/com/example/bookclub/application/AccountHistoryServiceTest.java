@@ -0,0 +1,212 @@
+package com.example.bookclub.application;
+
+import com.example.bookclub.application.account.AccountHistoryService;
+import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.accounthistory.AccountChangedEvent;
+import com.example.bookclub.domain.account.accounthistory.AccountHistoryRepository;
+import com.example.bookclub.domain.account.accounthistory.AccountHistorySpool;
+import com.example.bookclub.dto.AccountDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AccountHistoryServiceTest {
+	private static final Long ACCOUNT_ID = 1L;
+	private static final String ACCOUNT_NAME = "name";
+	private static final String ACCOUNT_EMAIL = "email";
+	private static final String ACCOUNT_NICKNAME = "nickname";
+	private static final String ACCOUNT_PASSWORD = "password";
+	private static final int QUEUE_CAPACITY = 1000;
+
+	private Account account;
+	private AccountChangedEvent event;
+
+	private AccountHistoryRepository accountHistoryRepository;
+	private AccountHistorySpool accountHistorySpool;
+	private AccountService accountService;
+	private PlatformTransactionManager transactionManager;
+	private AccountHistoryService accountHistoryService;
+
+	@BeforeEach
+	void setUp() {
+		accountHistoryRepository = mock(AccountHistoryRepository.class);
+		accountHistorySpool = mock(AccountHistorySpool.class);
+		accountService = mock(AccountService.class);
+		transactionManager = mock(PlatformTransactionManager.class);
+
+		accountHistoryService = new AccountHistoryService(
+				accountHistoryRepository, accountHistorySpool, accountService, transactionManager, QUEUE_CAPACITY);
+
+		account = Account.builder()
+				.id(ACCOUNT_ID)
+				.name(ACCOUNT_NAME)
+				.email(ACCOUNT_EMAIL)
+				.nickname(ACCOUNT_NICKNAME)
+				.password(ACCOUNT_PASSWORD)
+				.build();
+
+		event = AccountChangedEvent.of(account);
+
+		given(accountService.getAccountReference(anyLong())).willReturn(account);
+	}
+
+	@Test
+	void saveQueuesWithoutWrite() {
+		accountHistoryService.save(event);
+
+		verify(accountHistoryRepository, never()).saveAll(any());
+		verify(accountHistorySpool, never()).push(any());
+		assertThat(accountHistoryService.getStats().getQueueSize()).isEqualTo(1);
+	}
+
+	@Test
+	void flushInBatches() {
+		IntStream.range(0, 250).forEach(i -> accountHistoryService.save(event));
+
+		int flushedCount = accountHistoryService.flush();
+
+		assertThat(flushedCount).isEqualTo(250);
+		verify(accountHistoryRepository, times(3)).saveAll(any());
+
+		AccountDto.AccountHistoryStatsResultDto stats = accountHistoryService.getStats();
+		assertThat(stats.getQueueSize()).isZero();
+		assertThat(stats.getEnqueuedCount()).isEqualTo(250);
+		assertThat(stats.getWrittenCount()).isEqualTo(250);
+		assertThat(stats.getBatchCount()).isEqualTo(3);
+	}
+
+	@Test
+	void saveWithFullQueueSpillsWithoutWrite() {
+		accountHistoryService = new AccountHistoryService(
+				accountHistoryRepository, accountHistorySpool, accountService, transactionManager, 1);
+
+		accountHistoryService.save(event);
+		accountHistoryService.save(event);
+
+		verify(accountHistoryRepository, never()).saveAll(any());
+		verify(accountHistorySpool).push(List.of(event));
+
+		AccountDto.AccountHistoryStatsResultDto stats = accountHistoryService.getStats();
+		assertThat(stats.getQueueSize()).isEqualTo(1);
+		assertThat(stats.getSpilledCount()).isEqualTo(1);
+		assertThat(stats.getDroppedCount()).isZero();
+	}
+
+	@Test
+	void saveWithFullQueueAndFailedSpoolDrops() {
+		accountHistoryService = new AccountHistoryService(
+				accountHistoryRepository, accountHistorySpool, accountService, transactionManager, 1);
+		willThrow(new RedisConnectionFailureException("connection refused")).given(accountHistorySpool).push(any());
+
+		accountHistoryService.save(event);
+		accountHistoryService.save(event);
+
+		AccountDto.AccountHistoryStatsResultDto stats = accountHistoryService.getStats();
+		assertThat(stats.getSpilledCount()).isZero();
+		assertThat(stats.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void flushWithFailedBatchSpills() {
+		IntStream.range(0, 3).forEach(i -> accountHistoryService.save(event));
+		given(accountHistoryRepository.saveAll(any()))
+				.willThrow(new DataAccessResourceFailureException("connection refused"));
+
+		assertThat(accountHistoryService.flush()).isZero();
+
+		verify(accountHistorySpool).push(List.of(event, event, event));
+		verify(accountHistorySpool, never()).pop(anyInt());
+		AccountDto.AccountHistoryStatsResultDto stats = accountHistoryService.getStats();
+		assertThat(stats.getQueueSize()).isZero();
+		assertThat(stats.getFailedBatchCount()).isEqualTo(1);
+		assertThat(stats.getSpilledCount()).isEqualTo(3);
+		assertThat(stats.getWrittenCount()).isZero();
+	}
+
+	@Test
+	void flushWithFailedBatchWritesOneByOne() {
+		IntStream.range(0, 3).forEach(i -> accountHistoryService.save(event));
+		given(accountHistoryRepository.saveAll(any()))
+				.willThrow(new DataAccessResourceFailureException("batch too large"))
+				.willReturn(null);
+
+		assertThat(accountHistoryService.flush()).isEqualTo(3);
+
+		verify(accountHistoryRepository, times(4)).saveAll(any());
+		verify(accountHistorySpool, never()).push(any());
+		AccountDto.AccountHistoryStatsResultDto stats = accountHistoryService.getStats();
+		assertThat(stats.getQueueSize()).isZero();
+		assertThat(stats.getFailedBatchCount()).isEqualTo(1);
+		assertThat(stats.getWrittenCount()).isEqualTo(3);
+	}
+
+	@Test
+	void flushReplaysSpool() {
+		given(accountHistorySpool.pop(anyInt()))
+				.willReturn(List.of(event, event))
+				.willReturn(List.of());
+
+		assertThat(accountHistoryService.flush()).isEqualTo(2);
+
+		verify(accountHistoryRepository).saveAll(any());
+		AccountDto.AccountHistoryStatsResultDto stats = accountHistoryService.getStats();
+		assertThat(stats.getReplayedCount()).isEqualTo(2);
+		assertThat(stats.getWrittenCount()).isEqualTo(2);
+	}
+
+	@Test
+	void flushWithFailedReplayPushesBack() {
+		given(accountHistorySpool.pop(anyInt())).willReturn(List.of(event, event));
+		given(accountHistoryRepository.saveAll(any()))
+				.willThrow(new DataAccessResourceFailureException("connection refused"));
+
+		assertThat(accountHistoryService.flush()).isZero();
+
+		verify(accountHistorySpool).pop(anyInt());
+		verify(accountHistorySpool).pushFirst(List.of(event, event));
+		assertThat(accountHistoryService.getStats().getReplayedCount()).isZero();
+	}
+
+	@Test
+	void flushOnShutdown() {
+		IntStream.range(0, 3).forEach(i -> accountHistoryService.save(event));
+
+		accountHistoryService.flushOnShutdown();
+
+		verify(accountHistoryRepository).saveAll(any());
+		verify(accountHistorySpool, never()).push(any());
+		assertThat(accountHistoryService.getStats().getDroppedCount()).isZero();
+	}
+
+	@Test
+	void flushOnShutdownWithFailedWriteSpills() {
+		IntStream.range(0, 3).forEach(i -> accountHistoryService.save(event));
+		given(accountHistoryRepository.saveAll(any()))
+				.willThrow(new DataAccessResourceFailureException("connection refused"));
+
+		accountHistoryService.flushOnShutdown();
+
+		verify(accountHistorySpool).push(List.of(event, event, event));
+		AccountDto.AccountHistoryStatsResultDto stats = accountHistoryService.getStats();
+		assertThat(stats.getQueueSize()).isZero();
+		assertThat(stats.getSpilledCount()).isEqualTo(3);
+		assertThat(stats.getDroppedCount()).isZero();
+	}
+}
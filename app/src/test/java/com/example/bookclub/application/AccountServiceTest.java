@@ -3,8 +3,9 @@ package com.example.bookclub.application;
 import com.example.bookclub.application.account.AccountService;
 import com.example.bookclub.application.uploadfile.UploadFileService;
 import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.account.emailauthentication.EmailAuthentication;
-import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationRepository;
+import com.example.bookclub.domain.account.AccountExistenceFilter;
+import com.example.bookclub.domain.account.AccountIdentity;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore;
 import com.example.bookclub.domain.account.role.RoleRepository;
 import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.uplodfile.UploadFile;
@@ -20,8 +21,12 @@ import com.example.bookclub.common.exception.account.emailauthentication.EmailNo
 import com.example.bookclub.infrastructure.account.JpaAccountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -30,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class AccountServiceTest {
@@ -74,14 +80,14 @@ class AccountServiceTest {
     private static final String ACCOUNT_DUPLICATED_EMAIL = "accountExistedEmail";
     private static final String ACCOUNT_DUPLICATED_NICKNAME = "accountExistedNickName";
     private static final String ACCOUNT_CREATED_AUTHENTICATION_NUMBER = "existedAuthentication";
-    private static final Long EMAIL_AUTHENTICATION_ID = 5L;
     private static final String AUTHENTICATION_NUMBER_NOT_MATCHED = "notMatchedAuthentication";
 
     private UploadFileService uploadFileService;
     private RoleRepository roleRepository;
+    private AccountExistenceFilter accountExistenceFilter;
     private AccountService accountService;
     private JpaAccountRepository accountRepository;
-    private EmailAuthenticationRepository emailAuthenticationRepository;
+    private EmailAuthenticationCodeStore emailAuthenticationCodeStore;
 
     private UploadFile uploadFile;
     private UploadFile createdUploadFile;
@@ -103,18 +109,22 @@ class AccountServiceTest {
     private AccountDto.AccountUpdatePasswordDto accountUpdatePasswordDto;
     private AccountDto.AccountUpdatePasswordDto newPasswordNotMatchedUpdateDto;
     private AccountDto.AccountUpdatePasswordDto passwordNotMatchedDto;
-    private EmailAuthentication emailAuthentication;
 
     @BeforeEach
     void setUp() {
         accountRepository = mock(JpaAccountRepository.class);
-        emailAuthenticationRepository = mock(EmailAuthenticationRepository.class);
+        emailAuthenticationCodeStore = mock(EmailAuthenticationCodeStore.class);
         passwordEncoder = new BCryptPasswordEncoder();
         uploadFileService = mock(UploadFileService.class);
         roleRepository = mock(RoleRepository.class);
+        accountExistenceFilter = mock(AccountExistenceFilter.class);
+        // 색인이 놓친 값이라도 사용자 생성과 수정은 데이터베이스로 중복을 확인해야 한다.
+        given(accountExistenceFilter.emailExists(any(), any())).willReturn(false);
+        given(accountExistenceFilter.nicknameExists(any(), any())).willReturn(false);
 
-        accountService = new AccountService(accountRepository, emailAuthenticationRepository,
-                passwordEncoder, uploadFileService, roleRepository);
+        accountService = new AccountService(accountRepository, emailAuthenticationCodeStore,
+                passwordEncoder, uploadFileService, roleRepository, mock(ApplicationEventPublisher.class),
+                accountExistenceFilter);
 
         uploadFile = UploadFile.builder()
                 .id(UPLOAD_FILE_ID)
@@ -182,6 +192,10 @@ class AccountServiceTest {
                 .build();
 
         authenticationNumberNotMatchedAccountCreateDto = AccountDto.AccountCreateDto.builder()
+                .name(ACCOUNT_CREATED_NAME)
+                .email(ACCOUNT_CREATED_EMAIL)
+                .nickname(ACCOUNT_CREATED_NICKNAME)
+                .password(ACCOUNT_CREATED_PASSWORD)
                 .authenticationNumber(AUTHENTICATION_NUMBER_NOT_MATCHED)
                 .build();
 
@@ -229,12 +243,6 @@ class AccountServiceTest {
                 .newPassword(ACCOUNT_UPDATED_PASSWORD)
                 .newPasswordConfirmed(ACCOUNT_SETUP_PASSWORD)
                 .build();
-
-        emailAuthentication = EmailAuthentication.builder()
-                .id(EMAIL_AUTHENTICATION_ID)
-                .email(ACCOUNT_CREATED_EMAIL)
-                .authenticationNumber(ACCOUNT_CREATED_AUTHENTICATION_NUMBER)
-                .build();
     }
 
     @Test
@@ -293,8 +301,8 @@ class AccountServiceTest {
     @Test
     public void createWithUploadFile() {
         given(accountRepository.save(any(Account.class))).willReturn(createdAccountWithUploadFile);
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_CREATED_EMAIL))
-                .willReturn(Optional.of(emailAuthentication));
+        given(emailAuthenticationCodeStore.verify(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER))
+                .willReturn(EmailAuthenticationCodeStore.Verification.MATCHED);
 
         AccountDto.AccountCreateResultDto accountCreateResultDto = accountService.createAccount(accountCreateDto, createdUploadFile);
 
@@ -304,16 +312,16 @@ class AccountServiceTest {
         assertThat(accountCreateResultDto.getNickname()).isEqualTo(accountCreateDto.getNickname());
         assertThat(passwordEncoder.matches(accountCreateDto.getPassword(), accountCreateResultDto.getPassword())).isTrue();
         assertThat(accountCreateResultDto.getUploadFileResultDto().getId()).isEqualTo(UPLOAD_FILE_CREATED_ID);
-        assertThat(emailAuthentication.getAuthenticationNumber()).isEqualTo(accountCreateDto.getAuthenticationNumber());
 
-        verify(emailAuthenticationRepository).delete(emailAuthentication);
+        verify(emailAuthenticationCodeStore).verify(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER);
+        verify(emailAuthenticationCodeStore).consume(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER);
     }
 
     @Test
     public void createWithoutUploadFile() {
         given(accountRepository.save(any(Account.class))).willReturn(createdAccountWithoutUploadFile);
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_CREATED_EMAIL))
-                .willReturn(Optional.of(emailAuthentication));
+        given(emailAuthenticationCodeStore.verify(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER))
+                .willReturn(EmailAuthenticationCodeStore.Verification.MATCHED);
 
         AccountDto.AccountCreateResultDto accountCreateResultDto = accountService.createAccount(accountCreateDto, null);
 
@@ -323,9 +331,42 @@ class AccountServiceTest {
         assertThat(accountCreateResultDto.getNickname()).isEqualTo(accountCreateDto.getNickname());
         assertThat(passwordEncoder.matches(accountCreateDto.getPassword(), accountCreateResultDto.getPassword())).isTrue();
         assertThat(accountCreateResultDto.getUploadFileResultDto().getId()).isNull();
-        assertThat(emailAuthentication.getAuthenticationNumber()).isEqualTo(accountCreateDto.getAuthenticationNumber());
 
-        verify(emailAuthenticationRepository).delete(emailAuthentication);
+        verify(emailAuthenticationCodeStore).verify(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER);
+        verify(accountExistenceFilter).put(any(AccountIdentity.class));
+    }
+
+    @Test
+    public void createInTransactionConsumesAuthenticationNumberAfterCommit() {
+        given(accountRepository.save(any(Account.class))).willReturn(createdAccountWithoutUploadFile);
+        given(emailAuthenticationCodeStore.verify(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER))
+                .willReturn(EmailAuthenticationCodeStore.Verification.MATCHED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            accountService.createAccount(accountCreateDto, null);
+
+            verify(emailAuthenticationCodeStore, never()).consume(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(emailAuthenticationCodeStore).consume(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER);
+    }
+
+    @Test
+    public void createWithFailedSaveKeepsAuthenticationNumber() {
+        given(accountRepository.save(any(Account.class)))
+                .willThrow(new DataIntegrityViolationException("duplicated email"));
+        given(emailAuthenticationCodeStore.verify(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER))
+                .willReturn(EmailAuthenticationCodeStore.Verification.MATCHED);
+
+        assertThatThrownBy(() -> accountService.createAccount(accountCreateDto, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(emailAuthenticationCodeStore, never()).consume(any(), any());
     }
 
     @Test
@@ -339,8 +380,8 @@ class AccountServiceTest {
     @Test
     public void createWithDuplicatedNickname() {
         given(accountRepository.existsByNickname(ACCOUNT_DUPLICATED_NICKNAME)).willReturn(true);
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_CREATED_EMAIL))
-                .willReturn(Optional.of(emailAuthentication));
+        given(emailAuthenticationCodeStore.verify(ACCOUNT_CREATED_EMAIL, ACCOUNT_CREATED_AUTHENTICATION_NUMBER))
+                .willReturn(EmailAuthenticationCodeStore.Verification.MATCHED);
 
         assertThatThrownBy(() -> accountService.createAccount(nicknameExistedAccountCreateDto, null))
                 .isInstanceOf(AccountNicknameDuplicatedException.class);
@@ -348,8 +389,8 @@ class AccountServiceTest {
 
     @Test
     public void createWithEmailNotReceivedAuthenticationNumber() {
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_NOT_EXISTED_EMAIL))
-                .willReturn(Optional.empty());
+        given(emailAuthenticationCodeStore.verify(any(), any()))
+                .willReturn(EmailAuthenticationCodeStore.Verification.NOT_FOUND);
 
         assertThatThrownBy(
                 () -> accountService.createAccount(emailNotReceivedAuthenticationNumberAccountCreateDto, null)
@@ -359,8 +400,8 @@ class AccountServiceTest {
 
     @Test
     public void createWithEmailNotMatchedAuthenticationNumber() {
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_CREATED_EMAIL))
-                .willReturn(Optional.of(emailAuthentication));
+        given(emailAuthenticationCodeStore.verify(ACCOUNT_CREATED_EMAIL, AUTHENTICATION_NUMBER_NOT_MATCHED))
+                .willReturn(EmailAuthenticationCodeStore.Verification.MISMATCHED);
 
         assertThatThrownBy(
                 () -> accountService.createAccount(authenticationNumberNotMatchedAccountCreateDto, null)
@@ -508,38 +549,47 @@ class AccountServiceTest {
                 .isInstanceOf(AccountNotFoundException.class);
     }
 
+    @Test
+    public void createWithExhaustedAuthenticationNumber() {
+        given(emailAuthenticationCodeStore.verify(ACCOUNT_CREATED_EMAIL, AUTHENTICATION_NUMBER_NOT_MATCHED))
+                .willReturn(EmailAuthenticationCodeStore.Verification.EXHAUSTED);
+
+        assertThatThrownBy(
+                () -> accountService.createAccount(authenticationNumberNotMatchedAccountCreateDto, null)
+        )
+                .isInstanceOf(EmailNotAuthenticatedException.class);
+    }
+
     @Test
     public void getAuthenticationNumberWithExistedEmail() {
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_CREATED_EMAIL))
-                .willReturn(Optional.of(emailAuthentication));
+        given(emailAuthenticationCodeStore.find(ACCOUNT_CREATED_EMAIL))
+                .willReturn(Optional.of(ACCOUNT_CREATED_AUTHENTICATION_NUMBER));
 
-        EmailAuthentication emailAuthentication = accountService.getAuthenticationNumber(ACCOUNT_CREATED_EMAIL);
+        String authenticationNumber = accountService.getAuthenticationNumber(ACCOUNT_CREATED_EMAIL);
 
-        assertThat(emailAuthentication.getEmail()).isEqualTo(ACCOUNT_CREATED_EMAIL);
-        assertThat(emailAuthentication.getAuthenticationNumber()).isEqualTo(ACCOUNT_CREATED_AUTHENTICATION_NUMBER);
+        assertThat(authenticationNumber).isEqualTo(ACCOUNT_CREATED_AUTHENTICATION_NUMBER);
     }
 
     @Test
     public void getAuthenticationNumberWithNotExistedEmail() {
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(Optional.empty());
+        given(emailAuthenticationCodeStore.find(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(Optional.empty());
 
-        assertThatThrownBy(() -> accountService.getAuthenticationNumber(ACCOUNT_CREATED_EMAIL))
+        assertThatThrownBy(() -> accountService.getAuthenticationNumber(ACCOUNT_NOT_EXISTED_EMAIL))
                 .isInstanceOf(EmailNotAuthenticatedException.class);
     }
 
     @Test
     public void deleteEmailAuthenticationWithExistedEmail() {
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_CREATED_EMAIL))
-                .willReturn(Optional.of(emailAuthentication));
+        given(emailAuthenticationCodeStore.delete(ACCOUNT_CREATED_EMAIL)).willReturn(true);
 
         accountService.deleteEmailAuthentication(ACCOUNT_CREATED_EMAIL);
 
-        verify(emailAuthenticationRepository).delete(emailAuthentication);
+        verify(emailAuthenticationCodeStore).delete(ACCOUNT_CREATED_EMAIL);
     }
 
     @Test
     public void deleteEmailAuthenticationWithNotExistedEmail() {
-        given(emailAuthenticationRepository.findByEmail(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(Optional.empty());
+        given(emailAuthenticationCodeStore.delete(ACCOUNT_NOT_EXISTED_EMAIL)).willReturn(false);
 
         assertThatThrownBy(
                 () -> accountService.deleteEmailAuthentication(ACCOUNT_NOT_EXISTED_EMAIL)
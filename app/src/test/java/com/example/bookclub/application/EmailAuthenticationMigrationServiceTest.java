@@ -0,0 +1,69 @@
+package com.example.bookclub.application;
+
+import com.example.bookclub.application.account.EmailAuthenticationMigrationService;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthentication;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EmailAuthenticationMigrationServiceTest {
+	private static final int BATCH_SIZE = 2;
+	private static final String EMAIL = "migration@example.com";
+	private static final String OTHER_EMAIL = "other@example.com";
+	private static final String AUTHENTICATION_NUMBER = "legacy";
+
+	private EmailAuthenticationRepository emailAuthenticationRepository;
+	private EmailAuthenticationMigrationService emailAuthenticationMigrationService;
+
+	@BeforeEach
+	void setUp() {
+		emailAuthenticationRepository = mock(EmailAuthenticationRepository.class);
+		emailAuthenticationMigrationService = new EmailAuthenticationMigrationService(emailAuthenticationRepository,
+				mock(PlatformTransactionManager.class), BATCH_SIZE);
+	}
+
+	@Test
+	void drainDeletesEachBatch() {
+		given(emailAuthenticationRepository.findAllByOrderByIdDesc(PageRequest.of(0, BATCH_SIZE)))
+				.willReturn(List.of(emailAuthentication(3L, EMAIL, AUTHENTICATION_NUMBER),
+						emailAuthentication(2L, OTHER_EMAIL, AUTHENTICATION_NUMBER)))
+				.willReturn(List.of(emailAuthentication(1L, EMAIL, AUTHENTICATION_NUMBER)));
+
+		int drainedCount = emailAuthenticationMigrationService.drain();
+
+		assertThat(drainedCount).isEqualTo(3);
+		verify(emailAuthenticationRepository).deleteByIdIn(List.of(3L, 2L));
+		verify(emailAuthenticationRepository).deleteByIdIn(List.of(1L));
+		verify(emailAuthenticationRepository, times(2)).findAllByOrderByIdDesc(any());
+	}
+
+	@Test
+	void drainWithEmptyTable() {
+		given(emailAuthenticationRepository.findAllByOrderByIdDesc(any())).willReturn(List.of());
+
+		int drainedCount = emailAuthenticationMigrationService.drain();
+
+		assertThat(drainedCount).isZero();
+		verify(emailAuthenticationRepository, never()).deleteByIdIn(any());
+	}
+
+	private EmailAuthentication emailAuthentication(Long id, String email, String authenticationNumber) {
+		return EmailAuthentication.builder()
+				.id(id)
+				.email(email)
+				.authenticationNumber(authenticationNumber)
+				.build();
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.bookclub.application;
+
+import com.example.bookclub.application.statistics.HomeStatisticsService;
+import com.example.bookclub.domain.statistics.HomeStatistics;
+import com.example.bookclub.domain.statistics.HomeStatisticsChangedEvent;
+import com.example.bookclub.domain.statistics.HomeStatisticsStore;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.infrastructure.account.JpaAccountRepository;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class HomeStatisticsServiceTest {
+	private static final long ALL_ACCOUNTS_COUNT = 10L;
+	private static final long OPEN_STUDIES_COUNT = 3L;
+	private static final long CLOSE_STUDIES_COUNT = 2L;
+	private static final long END_STUDIES_COUNT = 1L;
+
+	private HomeStatistics storedHomeStatistics;
+
+	private HomeStatisticsStore homeStatisticsStore;
+	private JpaAccountRepository accountRepository;
+	private JpaStudyRepository studyRepository;
+	private HomeStatisticsService homeStatisticsService;
+
+	@BeforeEach
+	void setUp() {
+		homeStatisticsStore = mock(HomeStatisticsStore.class);
+		accountRepository = mock(JpaAccountRepository.class);
+		studyRepository = mock(JpaStudyRepository.class);
+
+		homeStatisticsService = new HomeStatisticsService(homeStatisticsStore, accountRepository, studyRepository);
+
+		storedHomeStatistics = HomeStatistics.builder()
+				.allAccountsCount(ALL_ACCOUNTS_COUNT)
+				.allStudiesCount(OPEN_STUDIES_COUNT + CLOSE_STUDIES_COUNT + END_STUDIES_COUNT)
+				.allCloseStudiesCount(CLOSE_STUDIES_COUNT)
+				.allEndStudiesCount(END_STUDIES_COUNT)
+				.updatedAt(LocalDateTime.now())
+				.reconciledAt(LocalDateTime.now())
+				.build();
+
+		given(accountRepository.getAllAccountsCount()).willReturn(ALL_ACCOUNTS_COUNT);
+		given(studyRepository.getStudiesCountGroupByStudyState()).willReturn(Map.of(
+				StudyState.OPEN, OPEN_STUDIES_COUNT,
+				StudyState.CLOSE, CLOSE_STUDIES_COUNT,
+				StudyState.END, END_STUDIES_COUNT
+		));
+	}
+
+	@Test
+	void getStoredHomeStatistics() {
+		given(homeStatisticsStore.find()).willReturn(Optional.of(storedHomeStatistics));
+
+		HomeStatistics homeStatistics = homeStatisticsService.getHomeStatistics();
+
+		assertThat(homeStatistics).isSameAs(storedHomeStatistics);
+		verify(accountRepository, never()).getAllAccountsCount();
+		verify(studyRepository, never()).getStudiesCountGroupByStudyState();
+	}
+
+	@Test
+	void getHomeStatisticsWithoutStoredStatistics() {
+		given(homeStatisticsStore.find()).willReturn(Optional.empty());
+
+		HomeStatistics homeStatistics = homeStatisticsService.getHomeStatistics();
+
+		assertThat(homeStatistics.getAllAccountsCount()).isEqualTo(ALL_ACCOUNTS_COUNT);
+		assertThat(homeStatistics.getAllStudiesCount())
+				.isEqualTo(OPEN_STUDIES_COUNT + CLOSE_STUDIES_COUNT + END_STUDIES_COUNT);
+		assertThat(homeStatistics.getAllCloseStudiesCount()).isEqualTo(CLOSE_STUDIES_COUNT);
+		assertThat(homeStatistics.getAllEndStudiesCount()).isEqualTo(END_STUDIES_COUNT);
+		verify(homeStatisticsStore).reset(homeStatistics);
+	}
+
+	@Test
+	void getHomeStatisticsWithoutUpdatedAt() {
+		given(homeStatisticsStore.find()).willReturn(Optional.of(HomeStatistics.builder()
+				.allAccountsCount(ALL_ACCOUNTS_COUNT)
+				.build()));
+
+		HomeStatistics homeStatistics = homeStatisticsService.getHomeStatistics();
+
+		assertThat(homeStatistics.getUpdatedAt()).isNotNull();
+		assertThat(homeStatistics.getAllStudiesCount())
+				.isEqualTo(OPEN_STUDIES_COUNT + CLOSE_STUDIES_COUNT + END_STUDIES_COUNT);
+		verify(homeStatisticsStore).reset(homeStatistics);
+	}
+
+	@Test
+	void getHomeStatisticsWithStoreUnavailable() {
+		given(homeStatisticsStore.find()).willThrow(new RedisConnectionFailureException("connection refused"));
+
+		HomeStatistics homeStatistics = homeStatisticsService.getHomeStatistics();
+
+		assertThat(homeStatistics.getAllAccountsCount()).isEqualTo(ALL_ACCOUNTS_COUNT);
+		assertThat(homeStatistics.getAllStudiesCount())
+				.isEqualTo(OPEN_STUDIES_COUNT + CLOSE_STUDIES_COUNT + END_STUDIES_COUNT);
+		assertThat(homeStatistics.getUpdatedAt()).isNotNull();
+		verify(homeStatisticsStore, never()).reset(any(HomeStatistics.class));
+	}
+
+	@Test
+	void reconcileWithoutEndStudies() {
+		given(studyRepository.getStudiesCountGroupByStudyState()).willReturn(Map.of(StudyState.OPEN, OPEN_STUDIES_COUNT));
+
+		HomeStatistics homeStatistics = homeStatisticsService.reconcile();
+
+		assertThat(homeStatistics.getAllStudiesCount()).isEqualTo(OPEN_STUDIES_COUNT);
+		assertThat(homeStatistics.getAllCloseStudiesCount()).isZero();
+		assertThat(homeStatistics.getAllEndStudiesCount()).isZero();
+		assertThat(homeStatistics.getReconciledAt()).isEqualTo(homeStatistics.getUpdatedAt());
+	}
+
+	@Test
+	void applyStudyStateChanged() {
+		homeStatisticsService.applyChange(
+				HomeStatisticsChangedEvent.studyStateChanged(StudyState.CLOSE, StudyState.END, 4));
+
+		verify(homeStatisticsStore).add(argThat(event -> event.getStudiesDelta() == 0
+				&& event.getCloseStudiesDelta() == -4
+				&& event.getEndStudiesDelta() == 4));
+	}
+
+	@Test
+	void applyEmptyChange() {
+		homeStatisticsService.applyChange(
+				HomeStatisticsChangedEvent.studyStateChanged(StudyState.OPEN, StudyState.CLOSE, 0));
+
+		verify(homeStatisticsStore, never()).add(any(HomeStatisticsChangedEvent.class));
+	}
+
+	@Test
+	void applyChangeWithStoreFailure() {
+		given(homeStatisticsStore.add(any(HomeStatisticsChangedEvent.class)))
+				.willThrow(new IllegalStateException("redis unavailable"));
+
+		homeStatisticsService.applyChange(HomeStatisticsChangedEvent.accountCreated());
+
+		verify(homeStatisticsStore).add(any(HomeStatisticsChangedEvent.class));
+	}
+}
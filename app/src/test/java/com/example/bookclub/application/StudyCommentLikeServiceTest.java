@@ -1,6 +1,7 @@
 package com.example.bookclub.application;
 
 import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.study.LikeToggleBufferService;
 import com.example.bookclub.application.study.StudyCommentLikeService;
 import com.example.bookclub.application.study.StudyCommentService;
 import com.example.bookclub.domain.account.Account;
@@ -15,19 +16,21 @@ import com.example.bookclub.common.exception.study.studycomment.StudyCommentNotF
 import com.example.bookclub.security.UserAccount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class StudyCommentLikeServiceTest {
 	private static final Long STUDY_COMMENT_EXISTED_ID = 1L;
@@ -48,14 +51,16 @@ class StudyCommentLikeServiceTest {
 	private StudyCommentLikeRepository studyCommentLikeRepository;
 	private AccountService accountService;
 	private StudyCommentService studyCommentService;
+	private LikeToggleBufferService likeToggleBufferService;
 
 	@BeforeEach
 	void setUp() {
 		studyCommentLikeRepository = mock(StudyCommentLikeRepository.class);
 		accountService = mock(AccountService.class);
 		studyCommentService = mock(StudyCommentService.class);
+		likeToggleBufferService = mock(LikeToggleBufferService.class);
 		studyCommentLikeService = new StudyCommentLikeService(
-				studyCommentLikeRepository, accountService, studyCommentService
+				studyCommentLikeRepository, accountService, studyCommentService, likeToggleBufferService
 		);
 
 		account = Account.builder()
@@ -86,30 +91,37 @@ class StudyCommentLikeServiceTest {
 
 	@Test
 	void createLikeCommentWithExistedStudyCommentId() {
-		given(studyCommentLikeRepository.save(any(StudyCommentLike.class))).willReturn(createdStudyCommentLike);
+		given(studyCommentService.getStudyCommentReference(STUDY_COMMENT_EXISTED_ID)).willReturn(setUpStudyComment);
+		given(accountService.getAccountReference(ACCOUNT_EXISTED_ID)).willReturn(account);
+		given(studyCommentLikeRepository.saveAndFlush(any(StudyCommentLike.class))).willReturn(createdStudyCommentLike);
 
-		studyCommentLikeRepository.save(createdStudyCommentLike);
+		StudyApiDto.StudyLikesCommentResultDto studyLikesCommentResultDto =
+				studyCommentLikeService.likeComment(userAccount, STUDY_COMMENT_EXISTED_ID);
 
-		assertThat(createdStudyCommentLike.getId()).isEqualTo(STUDY_COMMENT_LIKE_CREATE_ID);
+		assertThat(studyLikesCommentResultDto.getId()).isEqualTo(STUDY_COMMENT_EXISTED_ID);
+		verify(studyCommentService).increaseLikesCount(STUDY_COMMENT_EXISTED_ID);
+		verify(studyCommentService, never()).getStudyComment(STUDY_COMMENT_EXISTED_ID);
+		verify(accountService, never()).findAccount(ACCOUNT_EXISTED_ID);
 	}
 
 	@Test
 	void createLikeCommentWithNotExistedStudyCommentId() {
-		given(studyCommentService.getStudyComment(STUDY_COMMENT_NOT_EXISTED_ID))
-				.willThrow(StudyCommentNotFoundException.class);
+		willThrow(new StudyCommentNotFoundException(STUDY_COMMENT_NOT_EXISTED_ID))
+				.given(studyCommentService).increaseLikesCount(STUDY_COMMENT_NOT_EXISTED_ID);
 
 		assertThatThrownBy(
 				() -> studyCommentLikeService.likeComment(userAccount, STUDY_COMMENT_NOT_EXISTED_ID)
 		)
 				.isInstanceOf(StudyCommentNotFoundException.class);
+		verify(studyCommentLikeRepository, never()).saveAndFlush(any(StudyCommentLike.class));
 	}
 
 	@Test
 	void createLikeCommentWithAlreadyExisted() {
-		given(studyCommentService.getStudyComment(STUDY_COMMENT_EXISTED_ID)).willReturn(setUpStudyComment);
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyCommentLikeRepository.findByStudyCommentAndAccount(eq(setUpStudyComment), eq(account)))
-				.willReturn(Optional.of(createdStudyCommentLike));
+		given(studyCommentService.getStudyCommentReference(STUDY_COMMENT_EXISTED_ID)).willReturn(setUpStudyComment);
+		given(accountService.getAccountReference(ACCOUNT_EXISTED_ID)).willReturn(account);
+		given(studyCommentLikeRepository.saveAndFlush(any(StudyCommentLike.class)))
+				.willThrow(new DataIntegrityViolationException("UK_STUDY_COMMENT_LIKE_COMMENT_ACCOUNT"));
 
 		assertThatThrownBy(
 				() -> studyCommentLikeService.likeComment(userAccount, STUDY_COMMENT_EXISTED_ID)
@@ -119,19 +131,19 @@ class StudyCommentLikeServiceTest {
 
 	@Test
 	void deleteLikeCommentWithExistedCommentId() {
-		given(studyCommentService.getStudyComment(STUDY_COMMENT_EXISTED_ID))
-				.willReturn(setUpStudyComment);
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyCommentLikeRepository.findByStudyCommentAndAccount(eq(setUpStudyComment), eq(account)))
-				.willReturn(Optional.of(createdStudyCommentLike));
+		given(studyCommentLikeRepository.deleteByStudyCommentIdAndAccountId(STUDY_COMMENT_EXISTED_ID, ACCOUNT_EXISTED_ID))
+				.willReturn(1);
 
 		StudyApiDto.StudyLikesCommentResultDto studyLikesCommentResultDto = studyCommentLikeService.unlikeComment(userAccount, STUDY_COMMENT_EXISTED_ID);
 
-		assertThat(studyLikesCommentResultDto.getId()).isEqualTo(STUDY_COMMENT_LIKE_CREATE_ID);
+		assertThat(studyLikesCommentResultDto.getId()).isEqualTo(STUDY_COMMENT_EXISTED_ID);
+		verify(studyCommentService).decreaseLikesCount(STUDY_COMMENT_EXISTED_ID);
 	}
 
 	@Test
 	void deleteLikeCommentWithNotExistedCommentId() {
+		given(studyCommentLikeRepository.deleteByStudyCommentIdAndAccountId(STUDY_COMMENT_NOT_EXISTED_ID, ACCOUNT_EXISTED_ID))
+				.willReturn(0);
 		given(studyCommentService.getStudyComment(STUDY_COMMENT_NOT_EXISTED_ID))
 				.willThrow(StudyCommentNotFoundException.class);
 
@@ -143,15 +155,28 @@ class StudyCommentLikeServiceTest {
 
 	@Test
 	void deleteLikeCommentWithNotExistedId() {
+		given(studyCommentLikeRepository.deleteByStudyCommentIdAndAccountId(STUDY_COMMENT_EXISTED_ID, ACCOUNT_EXISTED_ID))
+				.willReturn(0);
 		given(studyCommentService.getStudyComment(STUDY_COMMENT_EXISTED_ID))
 				.willReturn(setUpStudyComment);
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyCommentLikeRepository.findByStudyCommentAndAccount(eq(setUpStudyComment), eq(account)))
-				.willReturn(Optional.empty());
 
 		assertThatThrownBy(
 				() -> studyCommentLikeService.unlikeComment(userAccount, STUDY_COMMENT_EXISTED_ID)
 		)
 				.isInstanceOf(StudyCommentLikeNotFoundException.class);
+		verify(studyCommentService, never()).decreaseLikesCount(STUDY_COMMENT_EXISTED_ID);
+	}
+
+	@Test
+	void createLikeCommentWithLikeToggleBufferAlreadyLiked() {
+		given(likeToggleBufferService.isEnabled()).willReturn(true);
+		given(likeToggleBufferService.toggleStudyCommentLike(STUDY_COMMENT_EXISTED_ID, ACCOUNT_EXISTED_ID, true))
+				.willReturn(false);
+
+		assertThatThrownBy(
+				() -> studyCommentLikeService.likeComment(userAccount, STUDY_COMMENT_EXISTED_ID)
+		)
+				.isInstanceOf(StudyCommentLikeAlreadyExistedException.class);
+		verify(studyCommentService, never()).increaseLikesCount(STUDY_COMMENT_EXISTED_ID);
 	}
-}
\ No newline at end of file
+}
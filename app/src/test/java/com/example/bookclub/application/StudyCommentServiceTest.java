@@ -1,5 +1,6 @@
 package com.example.bookclub.application;
 
+import com.example.bookclub.application.study.LikeToggleBufferService;
 import com.example.bookclub.application.study.StudyCommentService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.domain.account.Account;
@@ -10,6 +11,7 @@ import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.common.exception.study.studycomment.StudyCommentContentNotExistedException;
 import com.example.bookclub.common.exception.study.studycomment.StudyCommentDeleteBadRequest;
 import com.example.bookclub.common.exception.study.studycomment.StudyCommentNotFoundException;
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
 import com.example.bookclub.security.UserAccount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class StudyCommentServiceTest {
 	private static final Long STUDY_COMMENT_EXISTED_ID = 1L;
@@ -54,13 +58,15 @@ public class StudyCommentServiceTest {
 	private StudyCommentService studyCommentService;
 	private StudyCommentRepository studyCommentRepository;
 	private StudyService studyService;
+	private LikeToggleBufferService likeToggleBufferService;
 
 	@BeforeEach
 	void setUp() {
 		studyCommentRepository = mock(StudyCommentRepository.class);
 		studyService = mock(StudyService.class);
+		likeToggleBufferService = mock(LikeToggleBufferService.class);
 		studyCommentService = new StudyCommentService(
-				studyCommentRepository, studyService
+				studyCommentRepository, studyService, likeToggleBufferService
 		);
 
 		account = Account.builder()
@@ -127,6 +133,48 @@ public class StudyCommentServiceTest {
 				.isInstanceOf(StudyCommentNotFoundException.class);
 	}
 
+	@Test
+	void getStudyCommentsWithNextPage() {
+		given(studyService.getStudyResult(STUDY_SETUP_ID)).willReturn(StudyApiDto.StudyResultDto.of(study));
+		given(studyCommentRepository.findCommentResultsByStudyId(STUDY_SETUP_ID, ACCOUNT_SETUP_ID, null, 2))
+				.willReturn(List.of(
+						StudyApiDto.StudyCommentResultDto.of(studyComment, account),
+						StudyApiDto.StudyCommentResultDto.of(studyComment, account)
+				));
+
+		StudyApiDto.StudyCommentCursorResultDto studyCommentCursorResultDto =
+				studyCommentService.getStudyComments(userAccount, STUDY_SETUP_ID, null, 1);
+
+		assertThat(studyCommentCursorResultDto.getStudyComments()).hasSize(1);
+		assertThat(studyCommentCursorResultDto.isHasNext()).isTrue();
+		assertThat(studyCommentCursorResultDto.getNextCursor()).isEqualTo(STUDY_COMMENT_EXISTED_ID);
+	}
+
+	@Test
+	void getStudyCommentsWithLastPage() {
+		given(studyService.getStudyResult(STUDY_SETUP_ID)).willReturn(StudyApiDto.StudyResultDto.of(study));
+		given(studyCommentRepository.findCommentResultsByStudyId(
+				STUDY_SETUP_ID, ACCOUNT_SETUP_ID, STUDY_COMMENT_EXISTED_ID, 21))
+				.willReturn(List.of(StudyApiDto.StudyCommentResultDto.of(studyComment, account)));
+
+		StudyApiDto.StudyCommentCursorResultDto studyCommentCursorResultDto =
+				studyCommentService.getStudyComments(userAccount, STUDY_SETUP_ID, STUDY_COMMENT_EXISTED_ID, 20);
+
+		assertThat(studyCommentCursorResultDto.getStudyComments()).hasSize(1);
+		assertThat(studyCommentCursorResultDto.isHasNext()).isFalse();
+		assertThat(studyCommentCursorResultDto.getNextCursor()).isNull();
+	}
+
+	@Test
+	void getStudyCommentsWithNotExistedStudy() {
+		given(studyService.getStudyResult(STUDY_SETUP_ID)).willThrow(new StudyNotFoundException(STUDY_SETUP_ID));
+
+		assertThatThrownBy(
+				() -> studyCommentService.getStudyComments(userAccount, STUDY_SETUP_ID, null, 20)
+		)
+				.isInstanceOf(StudyNotFoundException.class);
+	}
+
 	@Test
 	void createStudyCommentWithValidAttribute() {
 		given(studyService.getStudy(STUDY_SETUP_ID)).willReturn(study);
@@ -136,6 +184,8 @@ public class StudyCommentServiceTest {
 				userAccount, STUDY_SETUP_ID, studyCommentCreateDto);
 
 		assertThat(studyCommentResultDto.getContent()).isEqualTo(STUDY_COMMENT_CONTENT);
+
+		verify(studyService).increaseCommentsCount(STUDY_SETUP_ID);
 	}
 
 	@Test
@@ -156,6 +206,9 @@ public class StudyCommentServiceTest {
 		StudyApiDto.StudyCommentResultDto studyCommentResultDto = studyCommentService.deleteStudyComment(userAccount, STUDY_COMMENT_EXISTED_ID);
 
 		assertThat(studyCommentResultDto.getId()).isEqualTo(STUDY_COMMENT_EXISTED_ID);
+
+		verify(studyCommentRepository).delete(studyComment);
+		verify(studyService).decreaseCommentsCount(study.getId());
 	}
 
 	@Test
@@ -166,6 +219,8 @@ public class StudyCommentServiceTest {
 				() -> studyCommentService.deleteStudyComment(userAccount, STUDY_COMMENT_OTHERS_ID)
 		)
 				.isInstanceOf(StudyCommentDeleteBadRequest.class);
+
+		verify(studyService, never()).decreaseCommentsCount(any());
 	}
 
 	@Test
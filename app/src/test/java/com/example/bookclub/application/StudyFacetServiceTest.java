@@ -0,0 +1,100 @@
+package com.example.bookclub.application;
+
+import com.example.bookclub.application.study.LikeToggleBufferService;
+import com.example.bookclub.application.study.StudyFacetService;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.Day;
+import com.example.bookclub.domain.study.StudyFacet;
+import com.example.bookclub.domain.study.StudyFacetChangedEvent;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.Zone;
+import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.infrastructure.study.BitSetStudyFacetIndex;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StudyFacetServiceTest {
+	private static final Long ACCOUNT_ID = 1L;
+	private static final int PAGE_SIZE = 2;
+
+	private Account account;
+	private BitSetStudyFacetIndex studyFacetIndex;
+	private JpaStudyRepository studyRepository;
+	private LikeToggleBufferService likeToggleBufferService;
+	private StudyFacetService studyFacetService;
+
+	@BeforeEach
+	void setUp() {
+		account = Account.builder()
+				.id(ACCOUNT_ID)
+				.build();
+
+		studyFacetIndex = new BitSetStudyFacetIndex();
+		studyRepository = mock(JpaStudyRepository.class);
+		likeToggleBufferService = mock(LikeToggleBufferService.class);
+
+		studyFacetService = new StudyFacetService(studyFacetIndex, studyRepository, likeToggleBufferService);
+
+		given(studyRepository.streamStudyFacets(anyInt())).willAnswer(invocation -> Stream.of(
+				new StudyFacet(1L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN),
+				new StudyFacet(2L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN),
+				new StudyFacet(3L, Zone.SEOUL, Day.FRIDAY, StudyState.OPEN),
+				new StudyFacet(4L, Zone.BUSAN, Day.MONDAY, StudyState.CLOSE)
+		));
+	}
+
+	@Test
+	void rebuild() {
+		assertThat(studyFacetService.rebuild()).isEqualTo(4);
+		assertThat(studyFacetIndex.size()).isEqualTo(4);
+	}
+
+	@Test
+	void searchStudies() {
+		studyFacetService.rebuild();
+		List<StudyApiDto.StudyResultDto> studyResultDtos = List.of(studyResultDto(3L), studyResultDto(2L));
+		given(studyRepository.findStudyResultsByIds(List.of(3L, 2L), ACCOUNT_ID)).willReturn(studyResultDtos);
+
+		StudyApiDto.StudyFacetSearchResultDto result = studyFacetService.searchStudies(
+				account, Set.of(Zone.SEOUL), null, Set.of(StudyState.OPEN), null, PAGE_SIZE);
+
+		assertThat(result.getStudies().getStudyResultDtos()).isEqualTo(studyResultDtos);
+		assertThat(result.getStudies().getLastId()).isEqualTo(2L);
+		assertThat(result.getStudies().isHasNext()).isTrue();
+		assertThat(result.getStudies().getTotalCount()).isEqualTo(3L);
+		assertThat(result.getZoneCounts().get(Zone.BUSAN)).isZero();
+		assertThat(result.getDayCounts().get(Day.FRIDAY)).isEqualTo(1L);
+		assertThat(result.getStudyStateCounts().get(StudyState.CLOSE)).isZero();
+		verify(likeToggleBufferService).applyStudyLiked(ACCOUNT_ID, studyResultDtos);
+	}
+
+	@Test
+	void applyChange() {
+		studyFacetService.rebuild();
+
+		studyFacetService.applyChange(StudyFacetChangedEvent.studyDeleted(4L));
+
+		assertThat(studyFacetIndex.size()).isEqualTo(3);
+		assertThat(studyFacetIndex.search(Set.of(Zone.BUSAN), null, null, null, PAGE_SIZE).getTotalCount())
+				.isZero();
+	}
+
+	private StudyApiDto.StudyResultDto studyResultDto(Long id) {
+		return StudyApiDto.StudyResultDto.builder()
+				.id(id)
+				.zone(Zone.SEOUL)
+				.studyState(StudyState.OPEN)
+				.build();
+	}
+}
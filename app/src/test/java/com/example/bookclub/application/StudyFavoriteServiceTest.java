@@ -14,18 +14,21 @@ import com.example.bookclub.common.exception.study.StudyNotFoundException;
 import com.example.bookclub.security.UserAccount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class StudyFavoriteServiceTest {
 	private final static Long ACCOUNT_EXISTED_ID = 1L;
@@ -83,20 +86,24 @@ class StudyFavoriteServiceTest {
 
 	@Test
 	void createFavoriteStudyWithValidAttribute() {
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(favoriteRepository.save(any(Favorite.class))).willReturn(createdFavorite);
+		given(accountService.getAccountReference(ACCOUNT_EXISTED_ID)).willReturn(account);
+		given(studyService.getStudyReference(STUDY_EXISTED_ID)).willReturn(study);
+		given(favoriteRepository.saveAndFlush(any(Favorite.class))).willReturn(createdFavorite);
 
 		StudyApiDto.StudyFavoriteResultDto studyFavoriteResultDto = studyFavoriteService.favoriteStudy(userAccount, STUDY_EXISTED_ID);
 
 		assertThat(studyFavoriteResultDto.getId()).isEqualTo(STUDY_FAVORITE_CREATE_ID);
+		verify(studyService).increaseFavoritesCount(STUDY_EXISTED_ID);
+		verify(studyService, never()).getStudyResult(STUDY_EXISTED_ID);
+		verify(accountService, never()).findAccount(ACCOUNT_EXISTED_ID);
 	}
 
 	@Test
 	void createFavoriteStudyWithAlreadyExisted() {
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(favoriteRepository.findByStudyAndAccount(study, account)).willReturn(Optional.of(favorite));
+		given(accountService.getAccountReference(ACCOUNT_EXISTED_ID)).willReturn(account);
+		given(studyService.getStudyReference(STUDY_EXISTED_ID)).willReturn(study);
+		given(favoriteRepository.saveAndFlush(any(Favorite.class)))
+				.willThrow(new DataIntegrityViolationException("UK_FAVORITE_STUDY_ACCOUNT"));
 
 		assertThatThrownBy(
 				() -> studyFavoriteService.favoriteStudy(
@@ -107,31 +114,30 @@ class StudyFavoriteServiceTest {
 
 	@Test
 	void createFavoriteStudyWithNotExistedStudyId() {
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyService.getStudy(STUDY_NOT_EXISTED_ID)).willThrow(StudyNotFoundException.class);
+		willThrow(new StudyNotFoundException(STUDY_NOT_EXISTED_ID))
+				.given(studyService).increaseFavoritesCount(STUDY_NOT_EXISTED_ID);
 
 		assertThatThrownBy(
 				() -> studyFavoriteService.favoriteStudy(userAccount, STUDY_NOT_EXISTED_ID)
 		)
 				.isInstanceOf(StudyNotFoundException.class);
+		verify(favoriteRepository, never()).saveAndFlush(any(Favorite.class));
 	}
 
 	@Test
 	void deleteFavoriteStudyWithExistedId() {
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(favoriteRepository.findByStudyAndAccount(any(Study.class), any(Account.class)))
-				.willReturn(Optional.of(createdFavorite));
+		given(favoriteRepository.deleteByStudyIdAndAccountId(STUDY_EXISTED_ID, ACCOUNT_EXISTED_ID)).willReturn(1);
 
 		StudyApiDto.StudyFavoriteResultDto studyFavoriteResultDto = studyFavoriteService.unFavoriteStudy(userAccount, STUDY_EXISTED_ID);
 
-		assertThat(studyFavoriteResultDto.getId()).isEqualTo(STUDY_FAVORITE_CREATE_ID);
+		assertThat(studyFavoriteResultDto.getId()).isEqualTo(STUDY_EXISTED_ID);
+		verify(studyService).decreaseFavoritesCount(STUDY_EXISTED_ID);
 	}
 
 	@Test
 	void deleteFavoritesStudyWithNotExistedStudyId() {
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyService.getStudy(STUDY_NOT_EXISTED_ID)).willThrow(StudyNotFoundException.class);
+		given(favoriteRepository.deleteByStudyIdAndAccountId(STUDY_NOT_EXISTED_ID, ACCOUNT_EXISTED_ID)).willReturn(0);
+		given(studyService.getStudyResult(STUDY_NOT_EXISTED_ID)).willThrow(StudyNotFoundException.class);
 
 		assertThatThrownBy(
 				() -> studyFavoriteService.unFavoriteStudy(
@@ -142,15 +148,14 @@ class StudyFavoriteServiceTest {
 
 	@Test
 	void deleteFavoritesStudyWithNotExistedFavoritesStudy() {
-		given(accountService.findAccount(ACCOUNT_EXISTED_ID)).willReturn(account);
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(favoriteRepository.findByStudyAndAccount(any(Study.class), any(Account.class)))
-				.willReturn(Optional.empty());
+		given(favoriteRepository.deleteByStudyIdAndAccountId(STUDY_EXISTED_ID, ACCOUNT_EXISTED_ID)).willReturn(0);
+		given(studyService.getStudyResult(STUDY_EXISTED_ID)).willReturn(StudyApiDto.StudyResultDto.of(study));
 
 		assertThatThrownBy(
 				() -> studyFavoriteService.unFavoriteStudy(
 						userAccount, STUDY_EXISTED_ID)
 		)
 				.isInstanceOf(StudyFavoriteNotExistedException.class);
+		verify(studyService, never()).decreaseFavoritesCount(STUDY_EXISTED_ID);
 	}
-}
\ No newline at end of file
+}
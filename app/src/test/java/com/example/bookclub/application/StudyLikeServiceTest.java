@@ -1,6 +1,7 @@
 package com.example.bookclub.application;
 
 import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.study.LikeToggleBufferService;
 import com.example.bookclub.application.study.StudyLikeService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.domain.account.Account;
@@ -14,18 +15,21 @@ import com.example.bookclub.common.exception.study.StudyNotFoundException;
 import com.example.bookclub.security.UserAccount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class StudyLikeServiceTest {
 	private static final Long STUDY_EXISTED_ID = 1L;
@@ -37,6 +41,7 @@ public class StudyLikeServiceTest {
 	private StudyService studyService;
 	private AccountService accountService;
 	private StudyLikeRepository studyLikeRepository;
+	private LikeToggleBufferService likeToggleBufferService;
 	private StudyLikeService studyLikeService;
 
 	private Account account;
@@ -49,9 +54,10 @@ public class StudyLikeServiceTest {
 		studyService = mock(StudyService.class);
 		accountService = mock(AccountService.class);
 		studyLikeRepository = mock(StudyLikeRepository.class);
+		likeToggleBufferService = mock(LikeToggleBufferService.class);
 
 		studyLikeService = new StudyLikeService(
-			studyService, accountService, studyLikeRepository
+			studyService, accountService, studyLikeRepository, likeToggleBufferService
 		);
 
 		account = Account.builder()
@@ -79,32 +85,36 @@ public class StudyLikeServiceTest {
 
 	@Test
 	void createStudyLikeWithExistedStudyId() {
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(accountService.findAccount(ACCOUNT_ID)).willReturn(account);
-		given(studyLikeRepository.save(any(StudyLike.class))).willReturn(createdStudyLike);
+		given(studyService.getStudyReference(STUDY_EXISTED_ID)).willReturn(study);
+		given(accountService.getAccountReference(ACCOUNT_ID)).willReturn(account);
+		given(studyLikeRepository.saveAndFlush(any(StudyLike.class))).willReturn(createdStudyLike);
 
 		StudyApiDto.StudyLikeResultDto studyLikeResultDto = studyLikeService.like(userAccount, STUDY_EXISTED_ID);
 
 		assertThat(studyLikeResultDto.getId()).isEqualTo(STUDY_EXISTED_ID);
+		verify(studyService).increaseLikesCount(STUDY_EXISTED_ID);
+		verify(studyService, never()).getStudyResult(STUDY_EXISTED_ID);
+		verify(accountService, never()).findAccount(ACCOUNT_ID);
 	}
 
 	@Test
 	void createStudyLikeWithNotExistedStudyId() {
-		given(studyService.getStudy(STUDY_NOT_EXISTED_ID)).willThrow(StudyNotFoundException.class);
-		given(accountService.findAccount(ACCOUNT_ID)).willReturn(account);
+		willThrow(new StudyNotFoundException(STUDY_NOT_EXISTED_ID))
+				.given(studyService).increaseLikesCount(STUDY_NOT_EXISTED_ID);
 
 		assertThatThrownBy(
 				() -> studyLikeService.like(userAccount, STUDY_NOT_EXISTED_ID)
 		)
 				.isInstanceOf(StudyNotFoundException.class);
+		verify(studyLikeRepository, never()).saveAndFlush(any(StudyLike.class));
 	}
 
 	@Test
 	void createStudyLikeWithAlreadyExistedStudyId() {
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(accountService.findAccount(ACCOUNT_ID)).willReturn(account);
-		given(studyLikeRepository.findByStudyAndAccount(study, account))
-				.willReturn(Optional.of(createdStudyLike));
+		given(studyService.getStudyReference(STUDY_EXISTED_ID)).willReturn(study);
+		given(accountService.getAccountReference(ACCOUNT_ID)).willReturn(account);
+		given(studyLikeRepository.saveAndFlush(any(StudyLike.class)))
+				.willThrow(new DataIntegrityViolationException("UK_STUDY_LIKE_STUDY_ACCOUNT"));
 
 		assertThatThrownBy(
 				() -> studyLikeService.like(userAccount, STUDY_EXISTED_ID)
@@ -114,20 +124,18 @@ public class StudyLikeServiceTest {
 
 	@Test
 	void deleteStudyLikeWithExistedId() {
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(accountService.findAccount(ACCOUNT_ID)).willReturn(account);
-		given(studyLikeRepository.findByStudyAndAccount(study, account))
-				.willReturn(Optional.of(createdStudyLike));
+		given(studyLikeRepository.deleteByStudyIdAndAccountId(STUDY_EXISTED_ID, ACCOUNT_ID)).willReturn(1);
 
 		StudyApiDto.StudyLikeResultDto studyLikeResultDto = studyLikeService.unLike(userAccount, STUDY_EXISTED_ID);
 
-		assertThat(studyLikeResultDto.getId()).isEqualTo(STUDY_LIKE_CREATE_ID);
+		assertThat(studyLikeResultDto.getId()).isEqualTo(STUDY_EXISTED_ID);
+		verify(studyService).decreaseLikesCount(STUDY_EXISTED_ID);
 	}
 
 	@Test
 	void deleteStudyLikeWithNotExistedStudyId() {
-		given(studyService.getStudy(STUDY_NOT_EXISTED_ID)).willThrow(StudyNotFoundException.class);
-		given(accountService.findAccount(ACCOUNT_ID)).willReturn(account);
+		given(studyLikeRepository.deleteByStudyIdAndAccountId(STUDY_NOT_EXISTED_ID, ACCOUNT_ID)).willReturn(0);
+		given(studyService.getStudyResult(STUDY_NOT_EXISTED_ID)).willThrow(StudyNotFoundException.class);
 
 		assertThatThrownBy(
 				() -> studyLikeService.unLike(userAccount, STUDY_NOT_EXISTED_ID)
@@ -137,14 +145,37 @@ public class StudyLikeServiceTest {
 
 	@Test
 	void deleteStudyLikeWithNotMine() {
-		given(studyService.getStudy(STUDY_EXISTED_ID)).willReturn(study);
-		given(accountService.findAccount(ACCOUNT_ID)).willReturn(account);
-		given(studyLikeRepository.findByStudyAndAccount(study, account))
-				.willReturn(Optional.empty());
+		given(studyLikeRepository.deleteByStudyIdAndAccountId(STUDY_EXISTED_ID, ACCOUNT_ID)).willReturn(0);
+		given(studyService.getStudyResult(STUDY_EXISTED_ID)).willReturn(StudyApiDto.StudyResultDto.of(study));
+
+		assertThatThrownBy(
+				() -> studyLikeService.unLike(userAccount, STUDY_EXISTED_ID)
+		)
+				.isInstanceOf(StudyLikeNotExistedException.class);
+		verify(studyService, never()).decreaseLikesCount(STUDY_EXISTED_ID);
+	}
+
+	@Test
+	void createStudyLikeWithLikeToggleBuffer() {
+		given(likeToggleBufferService.isEnabled()).willReturn(true);
+		given(likeToggleBufferService.toggleStudyLike(STUDY_EXISTED_ID, ACCOUNT_ID, true)).willReturn(true);
+
+		StudyApiDto.StudyLikeResultDto studyLikeResultDto = studyLikeService.like(userAccount, STUDY_EXISTED_ID);
+
+		assertThat(studyLikeResultDto.getId()).isEqualTo(STUDY_EXISTED_ID);
+		verify(studyService, never()).increaseLikesCount(STUDY_EXISTED_ID);
+		verify(studyLikeRepository, never()).saveAndFlush(any(StudyLike.class));
+	}
+
+	@Test
+	void deleteStudyLikeWithLikeToggleBufferNotLiked() {
+		given(likeToggleBufferService.isEnabled()).willReturn(true);
+		given(likeToggleBufferService.toggleStudyLike(STUDY_EXISTED_ID, ACCOUNT_ID, false)).willReturn(false);
 
 		assertThatThrownBy(
 				() -> studyLikeService.unLike(userAccount, STUDY_EXISTED_ID)
 		)
 				.isInstanceOf(StudyLikeNotExistedException.class);
+		verify(studyLikeRepository, never()).deleteByStudyIdAndAccountId(STUDY_EXISTED_ID, ACCOUNT_ID);
 	}
 }
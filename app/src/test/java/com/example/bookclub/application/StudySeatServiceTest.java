@@ -0,0 +1,125 @@
+package com.example.bookclub.application;
+
+import com.example.bookclub.application.study.StudySeatService;
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudySeatCounter;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.infrastructure.study.JpaStudyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class StudySeatServiceTest {
+	private final static Long STUDY_EXISTED_ID = 1L;
+	private final static Long STUDY_SECOND_ID = 2L;
+	private final static Long STUDY_NOT_EXISTED_ID = 999L;
+	private final static int STUDY_SIZE = 10;
+	private final static int STUDY_APPLY_COUNT = 3;
+	private final static int STUDY_PENDING_COUNT = 2;
+
+	private Study study;
+	private Study seatCounterStudy;
+
+	private JpaStudyRepository studyRepository;
+	private StudySeatCounter studySeatCounter;
+	private StudySeatService studySeatService;
+
+	@BeforeEach
+	void setUp() {
+		studyRepository = mock(JpaStudyRepository.class);
+		studySeatCounter = mock(StudySeatCounter.class);
+
+		studySeatService = new StudySeatService(studyRepository, studySeatCounter);
+
+		study = Study.builder()
+				.id(STUDY_EXISTED_ID)
+				.size(STUDY_SIZE)
+				.applyCount(STUDY_APPLY_COUNT)
+				.studyState(StudyState.OPEN)
+				.build();
+
+		seatCounterStudy = Study.builder()
+				.id(STUDY_SECOND_ID)
+				.size(STUDY_SIZE)
+				.applyCount(STUDY_APPLY_COUNT)
+				.studyState(StudyState.OPEN)
+				.seatCounterEnabled(true)
+				.build();
+	}
+
+	@Test
+	void enableSeatCounter() {
+		given(studyRepository.findById(STUDY_EXISTED_ID)).willReturn(Optional.of(study));
+
+		StudyApiDto.StudySeatCounterResultDto result = studySeatService.changeSeatCounter(STUDY_EXISTED_ID, true);
+
+		assertThat(result.isSeatCounterEnabled()).isTrue();
+		verify(studySeatCounter).reset(STUDY_EXISTED_ID, STUDY_SIZE, STUDY_APPLY_COUNT);
+		verify(studyRepository, never()).addApplyCount(anyLong(), anyInt());
+	}
+
+	@Test
+	void disableSeatCounterWithPendingCount() {
+		given(studyRepository.findById(STUDY_SECOND_ID)).willReturn(Optional.of(seatCounterStudy));
+		given(studySeatCounter.takePendingCount(STUDY_SECOND_ID)).willReturn(STUDY_PENDING_COUNT);
+
+		StudyApiDto.StudySeatCounterResultDto result = studySeatService.changeSeatCounter(STUDY_SECOND_ID, false);
+
+		assertThat(result.isSeatCounterEnabled()).isFalse();
+		verify(studyRepository).addApplyCount(STUDY_SECOND_ID, STUDY_PENDING_COUNT);
+		verify(studySeatCounter).remove(STUDY_SECOND_ID);
+	}
+
+	@Test
+	void changeSeatCounterWithNotExistedStudy() {
+		given(studyRepository.findById(STUDY_NOT_EXISTED_ID)).willReturn(Optional.empty());
+
+		assertThatThrownBy(() -> studySeatService.changeSeatCounter(STUDY_NOT_EXISTED_ID, true))
+				.isInstanceOf(StudyNotFoundException.class);
+	}
+
+	@Test
+	void flushPendingCounts() {
+		given(studySeatCounter.takePendingCounts())
+				.willReturn(Map.of(STUDY_EXISTED_ID, STUDY_PENDING_COUNT, STUDY_SECOND_ID, -1));
+
+		int flushedCount = studySeatService.flushPendingCounts();
+
+		assertThat(flushedCount).isEqualTo(2);
+		verify(studyRepository).addApplyCount(STUDY_EXISTED_ID, STUDY_PENDING_COUNT);
+		verify(studyRepository).addApplyCount(STUDY_SECOND_ID, -1);
+	}
+
+	@Test
+	void flushWithoutPendingCounts() {
+		given(studySeatCounter.takePendingCounts()).willReturn(Map.of());
+
+		assertThat(studySeatService.flushPendingCounts()).isZero();
+		verify(studyRepository, never()).addApplyCount(anyLong(), anyInt());
+	}
+
+	@Test
+	void reconcile() {
+		given(studySeatCounter.takePendingCounts()).willReturn(Map.of());
+		given(studyRepository.findAllBySeatCounterEnabledTrueAndStudyState(StudyState.OPEN))
+				.willReturn(List.of(seatCounterStudy));
+
+		studySeatService.reconcile();
+
+		verify(studySeatCounter).reset(STUDY_SECOND_ID, STUDY_SIZE, STUDY_APPLY_COUNT);
+	}
+}
@@ -2,6 +2,7 @@ package com.example.bookclub.application;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.study.LikeToggleBufferService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.application.uploadfile.UploadFileService;
 import com.example.bookclub.common.exception.account.AccountNotManagerOfStudyException;
@@ -14,11 +15,17 @@ import com.example.bookclub.common.exception.study.StudySizeFullException;
 import com.example.bookclub.common.exception.study.StudyStartAndEndDateNotValidException;
 import com.example.bookclub.common.exception.study.StudyStartAndEndTimeNotValidException;
 import com.example.bookclub.common.exception.study.StudyStartDateInThePastException;
+import com.example.bookclub.common.retry.ConflictRetryMetrics;
 import com.example.bookclub.domain.account.Account;
-import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationRepository;
+import com.example.bookclub.domain.account.AccountExistenceFilter;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore;
 import com.example.bookclub.domain.account.role.RoleRepository;
 import com.example.bookclub.domain.study.Day;
+import com.example.bookclub.domain.statistics.HomeStatisticsChangedEvent;
 import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyCache;
+import com.example.bookclub.domain.study.StudyFacetChangedEvent;
+import com.example.bookclub.domain.study.StudySeatCounter;
 import com.example.bookclub.domain.study.StudySeriesFactory;
 import com.example.bookclub.domain.study.StudyState;
 import com.example.bookclub.domain.study.Zone;
@@ -28,8 +35,10 @@ import com.example.bookclub.infrastructure.study.JpaStudyRepository;
 import com.example.bookclub.security.UserAccount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -37,14 +46,24 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class StudyServiceTest {
@@ -114,6 +133,7 @@ public class StudyServiceTest {
     private static final Long STUDY_NOT_EXISTED_ID = 100L;
     private static final Long STUDY_FULL_SIZE_ID = 8L;
 	private static final Long STUDY_CLOSED_ID = 9L;
+	private static final Long STUDY_SEAT_COUNTER_ID = 10L;
 
     private static final Long ACCOUNT_CREATED_WITHOUT_STUDY_ID = ACCOUNT_CREATED_STUDY_ID;
 
@@ -143,6 +163,7 @@ public class StudyServiceTest {
     private Study bookNamePythonStudyOne;
     private Study bookNamePythonStudyTwo;
 	private Study closedStudy;
+	private Study seatCounterStudy;
 
     private StudyApiDto.StudyCreateDto studyCreateDto;
     private StudyApiDto.StudyCreateDto studyStartDateInThePastCreateDto;
@@ -169,26 +190,39 @@ public class StudyServiceTest {
 	private JpaStudyRepository studyRepository;
 	private JpaAccountRepository accountRepository;
 	private PasswordEncoder passwordEncoder;
-	private EmailAuthenticationRepository emailAuthenticationRepository;
+	private EmailAuthenticationCodeStore emailAuthenticationCodeStore;
 	private RoleRepository roleRepository;
 	private AmazonS3 amazonS3;
 	private UploadFileService uploadFileService;
 	private AccountService accountService;
 	private StudySeriesFactory studySeriesFactory;
+	private LikeToggleBufferService likeToggleBufferService;
+	private StudyCache studyCache;
+	private ConflictRetryMetrics conflictRetryMetrics;
+
+	private StudySeatCounter studySeatCounter;
+	private ApplicationEventPublisher applicationEventPublisher;
 
     @BeforeEach
     void setUp() {
         studyRepository = mock(JpaStudyRepository.class);
         accountRepository = mock(JpaAccountRepository.class);
 		studySeriesFactory = mock(StudySeriesFactory.class);
-		emailAuthenticationRepository = mock(EmailAuthenticationRepository.class);
+		studySeatCounter = mock(StudySeatCounter.class);
+		applicationEventPublisher = mock(ApplicationEventPublisher.class);
+		likeToggleBufferService = mock(LikeToggleBufferService.class);
+		studyCache = mock(StudyCache.class);
+		conflictRetryMetrics = new ConflictRetryMetrics();
+		emailAuthenticationCodeStore = mock(EmailAuthenticationCodeStore.class);
 		roleRepository = mock(RoleRepository.class);
 		amazonS3 = mock(AmazonS3.class);
 		uploadFileService = new UploadFileService(amazonS3);
 		passwordEncoder = new BCryptPasswordEncoder();
-		accountService = new AccountService(accountRepository, emailAuthenticationRepository,
-				                            passwordEncoder, uploadFileService, roleRepository);
-        studyService = new StudyService(studyRepository, accountService, studySeriesFactory);
+		accountService = new AccountService(accountRepository, emailAuthenticationCodeStore,
+				                            passwordEncoder, uploadFileService, roleRepository, applicationEventPublisher,
+				                            mock(AccountExistenceFilter.class));
+        studyService = new StudyService(studyRepository, accountService, studySeriesFactory, studySeatCounter,
+				applicationEventPublisher, likeToggleBufferService, studyCache, conflictRetryMetrics);
 
 		setUpStudy = Study.builder()
 				.id(STUDY_SETUP_ID)
@@ -232,6 +266,14 @@ public class StudyServiceTest {
 				.studyState(StudyState.CLOSE)
 				.build();
 
+		seatCounterStudy = Study.builder()
+				.id(STUDY_SEAT_COUNTER_ID)
+				.size(STUDY_SETUP_SIZE)
+				.applyCount(STUDY_SETUP_APPLY_COUNT)
+				.studyState(StudyState.OPEN)
+				.seatCounterEnabled(true)
+				.build();
+
 		managerOfSetUpStudy = Account.builder()
 				.id(ACCOUNT_SETUP_MANAGER_ID)
 				.name(ACCOUNT_SETUP_MANAGER_NAME)
@@ -438,18 +480,36 @@ public class StudyServiceTest {
     }
 
     @Test
-    void listAllStudies() {
-        given(studyRepository.findAll()).willReturn(listAllStudies);
+    void listStudiesWithCursor() {
+        given(studyRepository.findStudyResultsWithCursor(null, 2))
+                .willReturn(toStudyResultDtos(listAllStudies));
 
-        List<Study> lists = studyService.getStudies();
+        StudyApiDto.StudyCursorResultDto studyCursorResultDto = studyService.getStudies(null, 1);
 
-        assertThat(lists).containsExactly(setUpStudy, createdStudy);
+        assertThat(studyCursorResultDto.getStudyResultDtos()).hasSize(1);
+        assertThat(studyCursorResultDto.getLastId()).isEqualTo(setUpStudy.getId());
+        assertThat(studyCursorResultDto.isHasNext()).isTrue();
+        verify(studyRepository, never()).findAll();
+    }
+
+    @Test
+    void streamAllStudies() {
+        given(studyRepository.streamStudyResults(anyInt()))
+                .willReturn(toStudyResultDtos(listAllStudies).stream());
+        List<StudyApiDto.StudyResultDto> streamed = new ArrayList<>();
+
+        int count = studyService.streamStudies(streamed::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(streamed).extracting(StudyApiDto.StudyResultDto::getId)
+                .containsExactly(setUpStudy.getId(), createdStudy.getId());
     }
 
 	@Test
 	void listOpenedStudies() {
 		Pageable pageable = PageRequest.of(0, 5);
-		given(studyRepository.findByBookNameContaining("", StudyState.OPEN, pageable)).willReturn(listOpenedStudies);
+		given(studyRepository.findByBookNameContaining("", StudyState.OPEN, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, pageable))
+				.willReturn(toStudyResultDtos(listOpenedStudies));
 
 		List<StudyApiDto.StudyResultDto> lists = studyService
 				.getStudiesBySearch("", StudyState.OPEN, accountWithoutStudy, pageable);
@@ -462,7 +522,8 @@ public class StudyServiceTest {
 	@Test
 	void listClosedStudies() {
 		Pageable pageable = PageRequest.of(0, 5);
-		given(studyRepository.findByBookNameContaining("", StudyState.CLOSE, pageable)).willReturn(listClosedStudies);
+		given(studyRepository.findByBookNameContaining("", StudyState.CLOSE, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, pageable))
+				.willReturn(toStudyResultDtos(listClosedStudies));
 
 		List<StudyApiDto.StudyResultDto> lists = studyService
 				.getStudiesBySearch("", StudyState.CLOSE, accountWithoutStudy, pageable);
@@ -475,7 +536,8 @@ public class StudyServiceTest {
 	@Test
 	void listEndedStudies() {
 		Pageable pageable = PageRequest.of(0, 5);
-		given(studyRepository.findByBookNameContaining("", StudyState.END, pageable)).willReturn(listEndedStudies);
+		given(studyRepository.findByBookNameContaining("", StudyState.END, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, pageable))
+				.willReturn(toStudyResultDtos(listEndedStudies));
 
 		List<StudyApiDto.StudyResultDto> lists = studyService
 				.getStudiesBySearch("", StudyState.END, accountWithoutStudy, pageable);
@@ -488,12 +550,13 @@ public class StudyServiceTest {
 	@Test
 	void listOpenedStudiesWithKeyword() {
 		Pageable pageable = PageRequest.of(0, 5);
-		given(studyRepository.findByBookNameContaining("Open", StudyState.OPEN, pageable))
-				.willReturn(listOpenedStudies);
+		given(studyRepository.findByBookNameContaining("Open", StudyState.OPEN, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, pageable))
+				.willReturn(toStudyResultDtos(listOpenedStudiesWithOpenKeyword));
 
 		List<StudyApiDto.StudyResultDto> lists = studyService
 				.getStudiesBySearch("Open", StudyState.OPEN, accountWithoutStudy, pageable);
 
+		assertThat(lists).hasSize(1);
 		for(StudyApiDto.StudyResultDto study : lists) {
 			assertThat(study.getStudyState()).isEqualTo(StudyState.OPEN);
 			assertThat(study.getName()).isEqualTo("Open");
@@ -503,14 +566,15 @@ public class StudyServiceTest {
 	@Test
 	void listClosedStudiesWithKeyword() {
 		Pageable pageable = PageRequest.of(0, 5);
-		given(studyRepository.findByBookNameContaining("Close", StudyState.OPEN, pageable))
-				.willReturn(listOpenedStudies);
+		given(studyRepository.findByBookNameContaining("Close", StudyState.CLOSE, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, pageable))
+				.willReturn(toStudyResultDtos(listClosedStudiesWithCloseKeyword));
 
 		List<StudyApiDto.StudyResultDto> lists = studyService
-				.getStudiesBySearch("Close", StudyState.OPEN, accountWithoutStudy, pageable);
+				.getStudiesBySearch("Close", StudyState.CLOSE, accountWithoutStudy, pageable);
 
+		assertThat(lists).hasSize(1);
 		for(StudyApiDto.StudyResultDto study : lists) {
-			assertThat(study.getStudyState()).isEqualTo(StudyState.OPEN);
+			assertThat(study.getStudyState()).isEqualTo(StudyState.CLOSE);
 			assertThat(study.getName()).isEqualTo("Close");
 		}
 	}
@@ -518,18 +582,64 @@ public class StudyServiceTest {
 	@Test
 	void listEndedStudiesWithKeyword() {
 		Pageable pageable = PageRequest.of(0, 5);
-		given(studyRepository.findByBookNameContaining("End", StudyState.OPEN, pageable))
-				.willReturn(listOpenedStudies);
+		given(studyRepository.findByBookNameContaining("End", StudyState.END, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, pageable))
+				.willReturn(toStudyResultDtos(listEndedStudiesWithEndKeyword));
 
 		List<StudyApiDto.StudyResultDto> lists = studyService
-				.getStudiesBySearch("End", StudyState.OPEN, accountWithoutStudy, pageable);
+				.getStudiesBySearch("End", StudyState.END, accountWithoutStudy, pageable);
 
+		assertThat(lists).hasSize(1);
 		for(StudyApiDto.StudyResultDto study : lists) {
-			assertThat(study.getStudyState()).isEqualTo(StudyState.OPEN);
+			assertThat(study.getStudyState()).isEqualTo(StudyState.END);
 			assertThat(study.getName()).isEqualTo("End");
 		}
 	}
 
+	@Test
+	void listOpenedStudiesWithAfterCursor() {
+		given(studyRepository.findByBookNameContainingWithCursor(
+				"", StudyState.OPEN, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, 10L, null, 3
+		)).willReturn(toStudyResultDtos(9L, 8L, 7L));
+
+		StudyApiDto.StudyCursorResultDto cursor = studyService
+				.getStudiesBySearchWithCursor("", StudyState.OPEN, accountWithoutStudy, 10L, null, 2);
+
+		assertThat(cursor.getStudyResultDtos()).extracting(StudyApiDto.StudyResultDto::getId)
+				.containsExactly(9L, 8L);
+		assertThat(cursor.getFirstId()).isEqualTo(9L);
+		assertThat(cursor.getLastId()).isEqualTo(8L);
+		assertThat(cursor.isHasPrevious()).isTrue();
+		assertThat(cursor.isHasNext()).isTrue();
+	}
+
+	@Test
+	void listOpenedStudiesWithBeforeCursor() {
+		given(studyRepository.findByBookNameContainingWithCursor(
+				"", StudyState.OPEN, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, null, 7L, 3
+		)).willReturn(toStudyResultDtos(10L, 9L, 8L));
+
+		StudyApiDto.StudyCursorResultDto cursor = studyService
+				.getStudiesBySearchWithCursor("", StudyState.OPEN, accountWithoutStudy, null, 7L, 2);
+
+		assertThat(cursor.getStudyResultDtos()).extracting(StudyApiDto.StudyResultDto::getId)
+				.containsExactly(9L, 8L);
+		assertThat(cursor.isHasPrevious()).isTrue();
+		assertThat(cursor.isHasNext()).isTrue();
+	}
+
+	@Test
+	void listOpenedStudiesWithLastCursor() {
+		given(studyRepository.findByBookNameContainingWithCursor(
+				"", StudyState.OPEN, ACCOUNT_APPLIER_WITHOUT_STUDY_ID, 8L, null, 3
+		)).willReturn(toStudyResultDtos(7L));
+
+		StudyApiDto.StudyCursorResultDto cursor = studyService
+				.getStudiesBySearchWithCursor("", StudyState.OPEN, accountWithoutStudy, 8L, null, 2);
+
+		assertThat(cursor.getStudyResultDtos()).hasSize(1);
+		assertThat(cursor.isHasNext()).isFalse();
+	}
+
     @Test
     void detailWithExistedId() {
         given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
@@ -624,6 +734,7 @@ public class StudyServiceTest {
         assertThat(studyResultDto.getEmail()).isEqualTo(managerOfCreatedStudy.getEmail());
         assertThat(studyResultDto.getName()).isEqualTo(studyUpdateDto.getName());
         assertThat(studyResultDto.getDescription()).isEqualTo(studyUpdateDto.getDescription());
+		verify(studyCache).evict(STUDY_CREATED_ID);
     }
 
     @Test
@@ -697,11 +808,7 @@ public class StudyServiceTest {
     void deleteWithExistedId() {
         given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
         given(accountRepository.findByEmail(ACCOUNT_SETUP_MANAGER_EMAIL)).willReturn(Optional.of(managerOfSetUpStudy));
-
-		List<Account> listsBeforeDelete = setUpStudy.getAccounts();
-		for(Account account : listsBeforeDelete) {
-			assertThat(account.getStudy().getId()).isEqualTo(STUDY_SETUP_ID);
-		}
+		given(studyRepository.deleteWithAssociations(STUDY_SETUP_ID, setUpStudy.getVersion())).willReturn(1L);
 
         assertThat(managerOfSetUpStudy.getEmail()).isEqualTo(setUpStudy.getEmail());
 
@@ -709,14 +816,29 @@ public class StudyServiceTest {
 
         assertThat(studyResultDto.getId()).isEqualTo(setUpStudy.getId());
 
-		List<Account> listsAfterDelete = setUpStudy.getAccounts();
-        for(Account account : listsAfterDelete) {
-            assertThat(account.getStudy()).isNull();
-        }
-
-        verify(studyRepository).delete(setUpStudy);
+        verify(studyRepository).deleteWithAssociations(STUDY_SETUP_ID, setUpStudy.getVersion());
+        verify(studyRepository, never()).delete(any(Study.class));
+		verify(studyCache).evict(STUDY_SETUP_ID);
+		verify(applicationEventPublisher).publishEvent(homeStatisticsChange(event ->
+				event.getStudiesDelta() == -1));
+		verify(applicationEventPublisher).publishEvent(studyFacetChange(event ->
+				STUDY_SETUP_ID.equals(event.getDeletedStudyId())));
     }
 
+	@Test
+	void deleteWithModifiedStudy() {
+		given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
+		given(accountRepository.findByEmail(ACCOUNT_SETUP_MANAGER_EMAIL)).willReturn(Optional.of(managerOfSetUpStudy));
+		given(studyRepository.deleteWithAssociations(STUDY_SETUP_ID, setUpStudy.getVersion())).willReturn(0L);
+
+		assertThatThrownBy(
+				() -> studyService.deleteStudy(ACCOUNT_SETUP_MANAGER_EMAIL, STUDY_SETUP_ID)
+		)
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+		verify(studyCache, never()).evict(STUDY_SETUP_ID);
+	}
+
 	@Test
 	void deleteWithNotExistedId() {
 		given(studyRepository.findById(STUDY_NOT_EXISTED_ID)).willReturn(Optional.empty());
@@ -729,17 +851,29 @@ public class StudyServiceTest {
 
     @Test
     void applyWithValidAttribute() {
-        given(studyRepository.findByIdForUpdate(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
+        given(studyRepository.increaseApplyCount(STUDY_SETUP_ID)).willReturn(1);
+        given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
+        given(accountRepository.updateStudyIfAbsent(ACCOUNT_APPLIER_WITHOUT_STUDY_ID, setUpStudy)).willReturn(1);
+
+        StudyApiDto.StudyApplyResultDto studyApplyResultDto =
+                studyService.applyStudy(userAccountWithoutStudy, STUDY_SETUP_ID);
 
-        Study study = studyService.getStudyForUpdate(STUDY_SETUP_ID);
-        int beforeApplyCount = study.getApplyCount();
-        studyService.applyStudy(userAccountWithoutStudy, STUDY_SETUP_ID);
-        int afterApplyCount = study.getApplyCount();
-        assertThat(accountWithoutStudy.getStudy()).isEqualTo(study);
+        assertThat(studyApplyResultDto.getId()).isEqualTo(STUDY_SETUP_ID);
+        assertThat(accountWithoutStudy.getStudy()).isEqualTo(setUpStudy);
+        verify(studyRepository).increaseApplyCount(STUDY_SETUP_ID);
+        verify(accountRepository).updateStudyIfAbsent(ACCOUNT_APPLIER_WITHOUT_STUDY_ID, setUpStudy);
+        verify(studyCache).evict(STUDY_SETUP_ID);
+    }
+
+    @Test
+    void applyWithStudyJoinedConcurrently() {
+        given(studyRepository.increaseApplyCount(STUDY_SETUP_ID)).willReturn(1);
+        given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
+        given(accountRepository.updateStudyIfAbsent(ACCOUNT_APPLIER_WITHOUT_STUDY_ID, setUpStudy)).willReturn(0);
 
-        assertThat(beforeApplyCount).isEqualTo(afterApplyCount - 1);
-        assertThat(setUpStudy.getAccounts()).contains(accountWithoutStudy);
-        assertThat(accountWithoutStudy.getStudy()).isNotNull();
+        assertThatThrownBy(() -> studyService.applyStudy(userAccountWithoutStudy, STUDY_SETUP_ID))
+                .isInstanceOf(StudyAlreadyExistedException.class);
+        verify(studyCache, never()).evict(STUDY_SETUP_ID);
     }
 
     @Test
@@ -752,7 +886,8 @@ public class StudyServiceTest {
 
     @Test
     void applyThatSizeIsFull() {
-        given(studyRepository.findByIdForUpdate(STUDY_FULL_SIZE_ID)).willReturn(Optional.of(fullSizeStudy));
+        given(studyRepository.increaseApplyCount(STUDY_FULL_SIZE_ID)).willReturn(0);
+        given(studyRepository.findById(STUDY_FULL_SIZE_ID)).willReturn(Optional.of(fullSizeStudy));
 
         assertThatThrownBy(() -> studyService.applyStudy(userAccountWithoutStudy, STUDY_FULL_SIZE_ID))
                 .isInstanceOf(StudySizeFullException.class);
@@ -760,7 +895,8 @@ public class StudyServiceTest {
 
 	@Test
 	void applyNotOpenedStudy() {
-		given(studyRepository.findByIdForUpdate(STUDY_CLOSED_ID)).willReturn(Optional.of(closedStudy));
+		given(studyRepository.increaseApplyCount(STUDY_CLOSED_ID)).willReturn(0);
+		given(studyRepository.findById(STUDY_CLOSED_ID)).willReturn(Optional.of(closedStudy));
 
 		assertThatThrownBy(
 				() -> studyService.applyStudy(userAccountWithoutStudy, STUDY_CLOSED_ID)
@@ -768,22 +904,84 @@ public class StudyServiceTest {
 				.isInstanceOf(StudyNotInOpenStateException.class);
 	}
 
+	@Test
+	void applyWithSeatCounter() {
+		given(studyRepository.findById(STUDY_SEAT_COUNTER_ID)).willReturn(Optional.of(seatCounterStudy));
+		given(studySeatCounter.reserve(STUDY_SEAT_COUNTER_ID)).willReturn(StudySeatCounter.Reservation.RESERVED);
+		given(accountRepository.updateStudyIfAbsent(ACCOUNT_APPLIER_WITHOUT_STUDY_ID, seatCounterStudy))
+				.willReturn(1);
+
+		StudyApiDto.StudyApplyResultDto studyApplyResultDto =
+				studyService.applyStudy(userAccountWithoutStudy, STUDY_SEAT_COUNTER_ID);
+
+		assertThat(studyApplyResultDto.getId()).isEqualTo(STUDY_SEAT_COUNTER_ID);
+		assertThat(accountWithoutStudy.getStudy()).isEqualTo(seatCounterStudy);
+		verify(studyRepository, never()).increaseApplyCount(STUDY_SEAT_COUNTER_ID);
+	}
+
+	@Test
+	void applyWithSeatCounterNotInitialized() {
+		given(studyRepository.findById(STUDY_SEAT_COUNTER_ID)).willReturn(Optional.of(seatCounterStudy));
+		given(studySeatCounter.reserve(STUDY_SEAT_COUNTER_ID))
+				.willReturn(StudySeatCounter.Reservation.NOT_INITIALIZED, StudySeatCounter.Reservation.RESERVED);
+		given(accountRepository.updateStudyIfAbsent(ACCOUNT_APPLIER_WITHOUT_STUDY_ID, seatCounterStudy))
+				.willReturn(1);
+
+		studyService.applyStudy(userAccountWithoutStudy, STUDY_SEAT_COUNTER_ID);
+
+		verify(studySeatCounter).initialize(STUDY_SEAT_COUNTER_ID, STUDY_SETUP_SIZE, STUDY_SETUP_APPLY_COUNT);
+		verify(studySeatCounter, times(2)).reserve(STUDY_SEAT_COUNTER_ID);
+	}
+
+	@Test
+	void applyWithSeatCounterThatSizeIsFull() {
+		given(studyRepository.findById(STUDY_SEAT_COUNTER_ID)).willReturn(Optional.of(seatCounterStudy));
+		given(studySeatCounter.reserve(STUDY_SEAT_COUNTER_ID)).willReturn(StudySeatCounter.Reservation.FULL);
+
+		assertThatThrownBy(() -> studyService.applyStudy(userAccountWithoutStudy, STUDY_SEAT_COUNTER_ID))
+				.isInstanceOf(StudySizeFullException.class);
+		verify(accountRepository, never()).updateStudyIfAbsent(ACCOUNT_APPLIER_WITHOUT_STUDY_ID, seatCounterStudy);
+	}
+
     @Test
     void cancelWithValidAttribute() {
         given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
+        given(accountRepository.deleteStudyIfPresent(ACCOUNT_APPLIER_ONE_ID, setUpStudy)).willReturn(1);
+        given(studyRepository.decreaseApplyCount(STUDY_SETUP_ID)).willReturn(1);
 
-        Study study = studyService.getStudy(STUDY_SETUP_ID);
-        int beforeApplyCount = study.getApplyCount();
 		StudyApiDto.StudyApplyResultDto studyApplyResultDto =
 				studyService.cancelStudy(userAccountApplierOneOfSetUpStudy, STUDY_SETUP_ID);
-        int afterApplyCount = study.getApplyCount();
 
-        assertThat(beforeApplyCount).isEqualTo(afterApplyCount + 1);
-        assertThat(setUpStudy.getAccounts()).doesNotContain(applierOfSetUpStudyOne);
         assertThat(applierOfSetUpStudyOne.getStudy()).isNull();
 		assertThat(studyApplyResultDto.getId()).isEqualTo(setUpStudy.getId());
+        verify(studyRepository).decreaseApplyCount(STUDY_SETUP_ID);
+		verify(studyCache).evict(STUDY_SETUP_ID);
     }
 
+	@Test
+	void cancelWithSeatCounter() {
+		given(studyRepository.findById(STUDY_SEAT_COUNTER_ID)).willReturn(Optional.of(seatCounterStudy));
+		given(accountRepository.deleteStudyIfPresent(ACCOUNT_APPLIER_ONE_ID, seatCounterStudy)).willReturn(1);
+
+		studyService.cancelStudy(userAccountApplierOneOfSetUpStudy, STUDY_SEAT_COUNTER_ID);
+
+		verify(studySeatCounter).release(STUDY_SEAT_COUNTER_ID);
+		verify(studyRepository, never()).decreaseApplyCount(STUDY_SEAT_COUNTER_ID);
+	}
+
+	@Test
+	void cancelWhenStudyClosedConcurrently() {
+		given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
+		given(accountRepository.deleteStudyIfPresent(ACCOUNT_APPLIER_ONE_ID, setUpStudy)).willReturn(1);
+		given(studyRepository.decreaseApplyCount(STUDY_SETUP_ID)).willReturn(0);
+
+		assertThatThrownBy(
+				() -> studyService.cancelStudy(userAccountApplierOneOfSetUpStudy, STUDY_SETUP_ID)
+		)
+				.isInstanceOf(StudyNotInOpenStateException.class);
+		verify(studyCache, never()).evict(STUDY_SETUP_ID);
+	}
+
 	@Test
 	void cancelNotOpenedStudy() {
 		given(studyRepository.findById(STUDY_CLOSED_ID)).willReturn(Optional.of(closedStudy));
@@ -823,6 +1021,44 @@ public class StudyServiceTest {
 				.isInstanceOf(StudyNotFoundException.class);
 	}
 
+	@Test
+	void getStudyResultWithExistedId() {
+		given(studyCache.get(anyLong(), any())).willAnswer(invocation -> invocation
+				.<Function<Long, StudyApiDto.StudyResultDto>>getArgument(1)
+				.apply(invocation.getArgument(0)));
+		given(studyRepository.findById(STUDY_SETUP_ID)).willReturn(Optional.of(setUpStudy));
+
+		StudyApiDto.StudyResultDto studyResultDto = studyService.getStudyResult(STUDY_SETUP_ID);
+
+		assertThat(studyResultDto.getId()).isEqualTo(STUDY_SETUP_ID);
+		assertThat(studyResultDto.getName()).isEqualTo(STUDY_SETUP_NAME);
+	}
+
+	@Test
+	void getStudyResultWithNotExistedId() {
+		given(studyCache.get(anyLong(), any())).willAnswer(invocation -> invocation
+				.<Function<Long, StudyApiDto.StudyResultDto>>getArgument(1)
+				.apply(invocation.getArgument(0)));
+		given(studyRepository.findById(STUDY_NOT_EXISTED_ID)).willReturn(Optional.empty());
+
+		assertThatThrownBy(
+				() -> studyService.getStudyResult(STUDY_NOT_EXISTED_ID)
+		)
+				.isInstanceOf(StudyNotFoundException.class);
+	}
+
+	@Test
+	void getDetailedStudyReadsStudyFromCache() {
+		StudyApiDto.StudyResultDto cachedStudy = StudyApiDto.StudyResultDto.of(setUpStudy);
+		given(studyCache.get(eq(STUDY_SETUP_ID), any())).willReturn(cachedStudy);
+		StudyApiDto.StudyDetailResultDto detailedStudy = StudyApiDto.StudyDetailResultDto.of(cachedStudy, List.of());
+		given(studySeriesFactory.getDetailedStudy(accountWithoutStudy, cachedStudy)).willReturn(detailedStudy);
+
+		assertThat(studyService.getDetailedStudy(userAccountWithoutStudy, STUDY_SETUP_ID)).isSameAs(detailedStudy);
+
+		verify(studyRepository, never()).findById(STUDY_SETUP_ID);
+	}
+
 //    @Test
 //    void listsStudiesWithKeyword() {
 //        given(studyRepository.findByBookNameContaining(BOOK_PYTHON_KEYWORD)).willReturn(listBookNamePythonKeywordStudies);
@@ -838,31 +1074,53 @@ public class StudyServiceTest {
 
 	@Test
 	void scheduleOpenToClose() {
-		given(studyService.getStudies()).willReturn(listOpenedStudies);
+		given(studyRepository.updateStudyStateByStartDate(StudyState.OPEN, StudyState.CLOSE, TODAY))
+				.willReturn(1);
 
-		studyService.scheduleOpenToClose();
+		int updatedCount = studyService.scheduleOpenToClose();
 
-		for(Study study : listOpenedStudies) {
-			if(study.getStartDate().equals(LocalDate.now())) {
-				assertThat(study.getStudyState()).isEqualTo(StudyState.CLOSE);
-			} else {
-				assertThat(study.getStudyState()).isEqualTo(StudyState.OPEN);
-			}
-		}
+		assertThat(updatedCount).isEqualTo(1);
+		verify(studyRepository).updateStudyStateByStartDate(StudyState.OPEN, StudyState.CLOSE, TODAY);
+		verify(studyCache).evictAll();
+		verify(applicationEventPublisher).publishEvent(studyFacetChange(StudyFacetChangedEvent::isRebuildRequired));
+		verify(applicationEventPublisher).publishEvent(homeStatisticsChange(event ->
+				event.getStudiesDelta() == 0 && event.getCloseStudiesDelta() == 1 && event.getEndStudiesDelta() == 0));
 	}
 
 	@Test
 	void scheduleCloseToOpen() {
-		given(studyService.getStudies()).willReturn(listClosedStudies);
+		given(studyRepository.updateStudyStateByEndDate(StudyState.CLOSE, StudyState.END, TODAY))
+				.willReturn(1);
 
-		studyService.scheduleCloseToEnd();
+		int updatedCount = studyService.scheduleCloseToEnd();
 
-		for(Study study : listClosedStudies) {
-			if(study.getEndDate().equals(LocalDate.now())) {
-				assertThat(study.getStudyState()).isEqualTo(StudyState.CLOSE);
-			} else {
-				assertThat(study.getStudyState()).isEqualTo(StudyState.END);
-			}
-		}
+		assertThat(updatedCount).isEqualTo(1);
+		verify(studyRepository).updateStudyStateByEndDate(StudyState.CLOSE, StudyState.END, TODAY);
+		verify(studyCache).evictAll();
+		verify(applicationEventPublisher).publishEvent(studyFacetChange(StudyFacetChangedEvent::isRebuildRequired));
+		verify(applicationEventPublisher).publishEvent(homeStatisticsChange(event ->
+				event.getStudiesDelta() == 0 && event.getCloseStudiesDelta() == -1 && event.getEndStudiesDelta() == 1));
+	}
+
+	private List<StudyApiDto.StudyResultDto> toStudyResultDtos(List<Study> studies) {
+		return studies.stream()
+				.map(StudyApiDto.StudyResultDto::of)
+				.collect(Collectors.toList());
+	}
+
+	private List<StudyApiDto.StudyResultDto> toStudyResultDtos(Long... ids) {
+		return Arrays.stream(ids)
+				.map(id -> StudyApiDto.StudyResultDto.builder().id(id).build())
+				.collect(Collectors.toList());
+	}
+
+	private static Object homeStatisticsChange(Predicate<HomeStatisticsChangedEvent> predicate) {
+		return argThat(event -> event instanceof HomeStatisticsChangedEvent
+				&& predicate.test((HomeStatisticsChangedEvent) event));
+	}
+
+	private static Object studyFacetChange(Predicate<StudyFacetChangedEvent> predicate) {
+		return argThat(event -> event instanceof StudyFacetChangedEvent
+				&& predicate.test((StudyFacetChangedEvent) event));
 	}
 }
@@ -0,0 +1,85 @@
+package com.example.bookclub.common.mysqlconfig;
+
+import com.example.bookclub.common.mysqlconfig.UniqueConstraintMigration.UniqueConstraint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 중복 행이 있는 기존 테이블에서 가장 먼저 저장된 행만 남기고 유니크 제약조건을 추가하는지 확인한다.
+ */
+class UniqueConstraintMigrationTest {
+	private static final UniqueConstraint STUDY_LIKE_CONSTRAINT = new UniqueConstraint("UK_STUDY_LIKE_STUDY_ACCOUNT",
+			"study_like", "studylike_id", "study_id", "account_id");
+
+	private EmbeddedDatabase dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private UniqueConstraintMigration uniqueConstraintMigration;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		uniqueConstraintMigration = new UniqueConstraintMigration(dataSource, List.of(STUDY_LIKE_CONSTRAINT));
+	}
+
+	@AfterEach
+	void tearDown() {
+		dataSource.shutdown();
+	}
+
+	@Test
+	void migrateDeletesDuplicatesAndAddsConstraint() throws Exception {
+		createStudyLikeTable();
+		insertStudyLike(1L, 10L, 100L);
+		insertStudyLike(2L, 10L, 100L);
+		insertStudyLike(3L, 10L, 200L);
+		insertStudyLike(4L, 10L, 100L);
+		insertStudyLike(5L, 20L, 100L);
+
+		assertThat(uniqueConstraintMigration.migrate(STUDY_LIKE_CONSTRAINT)).isEqualTo(2);
+
+		assertThat(jdbcTemplate.queryForList("SELECT studylike_id FROM study_like ORDER BY studylike_id", Long.class))
+				.containsExactly(1L, 3L, 5L);
+		assertThatThrownBy(() -> insertStudyLike(6L, 10L, 100L))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	void migrateTwiceKeepsExistingConstraint() throws Exception {
+		createStudyLikeTable();
+		insertStudyLike(1L, 10L, 100L);
+		uniqueConstraintMigration.afterPropertiesSet();
+
+		assertThat(uniqueConstraintMigration.migrate(STUDY_LIKE_CONSTRAINT)).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM study_like", Long.class)).isEqualTo(1L);
+	}
+
+	@Test
+	void migrateWithoutTable() throws Exception {
+		assertThat(uniqueConstraintMigration.migrate(STUDY_LIKE_CONSTRAINT)).isZero();
+	}
+
+	private void createStudyLikeTable() {
+		jdbcTemplate.execute("CREATE TABLE study_like (studylike_id BIGINT PRIMARY KEY, "
+				+ "study_id BIGINT, account_id BIGINT)");
+	}
+
+	private void insertStudyLike(Long id, Long studyId, Long accountId) {
+		jdbcTemplate.update("INSERT INTO study_like (studylike_id, study_id, account_id) VALUES (?, ?, ?)",
+				id, studyId, accountId);
+	}
+}
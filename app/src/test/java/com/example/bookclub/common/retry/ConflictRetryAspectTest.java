@@ -0,0 +1,99 @@
+package com.example.bookclub.common.retry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConflictRetryAspectTest {
+	private static final int MAX_ATTEMPTS = 3;
+
+	private ConflictRetryMetrics conflictRetryMetrics;
+	private ConflictingService conflictingService;
+	private ConflictingService proxy;
+
+	@BeforeEach
+	void setUp() {
+		conflictRetryMetrics = new ConflictRetryMetrics();
+		conflictingService = new ConflictingService();
+
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(conflictingService);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(new ConflictRetryAspect(conflictRetryMetrics, MAX_ATTEMPTS, 0, 0));
+		proxy = proxyFactory.getProxy();
+	}
+
+	@Test
+	void retryUntilSucceeded() {
+		conflictingService.conflicts = 2;
+
+		assertThat(proxy.update()).isEqualTo(3);
+
+		assertThat(conflictRetryMetrics.getInvocationCount()).isEqualTo(1);
+		assertThat(conflictRetryMetrics.getAttemptCount()).isEqualTo(3);
+		assertThat(conflictRetryMetrics.getConflictCount()).isEqualTo(2);
+		assertThat(conflictRetryMetrics.getRetryCount()).isEqualTo(2);
+		assertThat(conflictRetryMetrics.getExhaustedCount()).isZero();
+	}
+
+	@Test
+	void retryExhausted() {
+		conflictingService.conflicts = MAX_ATTEMPTS;
+
+		assertThatThrownBy(() -> proxy.update())
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+		assertThat(conflictingService.attempts.get()).isEqualTo(MAX_ATTEMPTS);
+		assertThat(conflictRetryMetrics.getExhaustedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void notRetryOtherException() {
+		assertThatThrownBy(() -> proxy.fail())
+				.isInstanceOf(IllegalStateException.class);
+
+		assertThat(conflictingService.attempts.get()).isEqualTo(1);
+		assertThat(conflictRetryMetrics.getConflictCount()).isZero();
+	}
+
+	@Test
+	void notRetryInsideTransaction() {
+		conflictingService.conflicts = 1;
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			assertThatThrownBy(() -> proxy.update())
+					.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		assertThat(conflictingService.attempts.get()).isEqualTo(1);
+		assertThat(conflictRetryMetrics.getInvocationCount()).isZero();
+	}
+
+	static class ConflictingService {
+		private final AtomicInteger attempts = new AtomicInteger();
+		private int conflicts;
+
+		@RetryOnConflict
+		public int update() {
+			int attempt = attempts.incrementAndGet();
+			if (attempt <= conflicts) {
+				throw new ObjectOptimisticLockingFailureException("Study", 1L);
+			}
+			return attempt;
+		}
+
+		@RetryOnConflict
+		public int fail() {
+			attempts.incrementAndGet();
+			throw new IllegalStateException("not a conflict");
+		}
+	}
+}
@@ -8,6 +8,7 @@ import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.infrastructure.study.JpaStudyRepository;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
 import com.example.bookclub.security.UserAccount;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -77,6 +78,9 @@ public class AccountControllerTest {
 	@MockBean
 	private CustomDeniedHandler customDeniedHandler;
 
+	@MockBean
+	private CustomLoginFailureHandler customLoginFailureHandler;
+
 	@MockBean
 	private PersistTokenRepository persistTokenRepository;
 
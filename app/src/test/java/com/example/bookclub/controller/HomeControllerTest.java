@@ -2,11 +2,15 @@ package com.example.bookclub.controller;
 
 import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.statistics.HomeStatisticsService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
+import com.example.bookclub.domain.statistics.HomeStatistics;
 import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
 import com.example.bookclub.security.UserAccount;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,6 +32,7 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 import javax.sql.DataSource;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,6 +49,9 @@ class HomeControllerTest {
 	private static final String EMAIL = "1234@naver.com";
 	private static final String NAME = "paik";
 	private static final String NICKNAME ="bluesky";
+	private static final long ALL_ACCOUNTS_COUNT = 3L;
+	private static final long ALL_STUDIES_COUNT = 2L;
+	private static final LocalDateTime STATISTICS_UPDATED_AT = LocalDateTime.of(2022, 1, 1, 12, 0, 0);
 
 	private Account account;
 	private UserAccount userAccount;
@@ -72,6 +80,9 @@ class HomeControllerTest {
 	@MockBean
 	private CustomDeniedHandler customDeniedHandler;
 
+	@MockBean
+	private CustomLoginFailureHandler customLoginFailureHandler;
+
 	@MockBean
 	private PersistTokenRepository persistTokenRepository;
 
@@ -81,6 +92,9 @@ class HomeControllerTest {
 	@MockBean
 	private StudyService studyService;
 
+	@MockBean
+	private HomeStatisticsService homeStatisticsService;
+
 	@BeforeEach
 	void setup() {
 		this.mockMvc = MockMvcBuilders.webAppContextSetup(ctx)
@@ -96,6 +110,13 @@ class HomeControllerTest {
 
 		study = Study.builder().id(1L).build();
 
+		given(homeStatisticsService.getHomeStatistics()).willReturn(HomeStatistics.builder()
+				.allAccountsCount(ALL_ACCOUNTS_COUNT)
+				.allStudiesCount(ALL_STUDIES_COUNT)
+				.updatedAt(STATISTICS_UPDATED_AT)
+				.reconciledAt(STATISTICS_UPDATED_AT)
+				.build());
+
 		account.addStudy(study);
 
 		List<GrantedAuthority> ROLE_USER = new ArrayList<GrantedAuthority>();
@@ -120,7 +141,7 @@ class HomeControllerTest {
 			@Test
 			@DisplayName("즐겨찾기, 참여중 스터디 버튼과 홈 화면을 리턴한다")
 			void itReturnsIndexView() throws Exception {
-				given(accountAuthenticationService.getAccountByEmail(EMAIL)).willReturn(account);
+				given(accountAuthenticationService.getAccountHeader(EMAIL)).willReturn(AccountHeader.of(account));
 				SecurityContextHolder.getContext().setAuthentication(accountToken);
 
 				mockMvc.perform(get("/")
@@ -143,9 +164,31 @@ class HomeControllerTest {
 				mockMvc.perform(get("/"))
 						.andExpect(status().isOk())
 						.andExpect(model().attributeDoesNotExist("account"))
+						.andExpect(model().attribute("allAccountsCount", ALL_ACCOUNTS_COUNT))
+						.andExpect(model().attribute("allStudiesCount", ALL_STUDIES_COUNT))
+						.andExpect(model().attribute("statisticsUpdatedAt", "2022-01-01 12:00:00"))
 						.andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
 						.andExpect(view().name("index"));
 			}
 		}
+
+		@Nested
+		@DisplayName("통계 갱신 시각이 없으면")
+		class Context_WithoutStatisticsUpdatedAt {
+			@Test
+			@DisplayName("갱신 시각 없이 홈 화면을 리턴한다")
+			void itReturnsIndexViewWithoutUpdatedAt() throws Exception {
+				given(homeStatisticsService.getHomeStatistics()).willReturn(HomeStatistics.builder()
+						.allAccountsCount(ALL_ACCOUNTS_COUNT)
+						.allStudiesCount(ALL_STUDIES_COUNT)
+						.build());
+
+				mockMvc.perform(get("/"))
+						.andExpect(status().isOk())
+						.andExpect(model().attribute("allAccountsCount", ALL_ACCOUNTS_COUNT))
+						.andExpect(model().attributeDoesNotExist("statisticsUpdatedAt"))
+						.andExpect(view().name("index"));
+			}
+		}
 	}
 }
@@ -6,6 +6,7 @@ import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.dto.InterviewDto;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
 import com.example.bookclub.security.UserAccount;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -75,6 +76,9 @@ public class InterviewControllerTest {
 	@MockBean
 	private CustomDeniedHandler customDeniedHandler;
 
+	@MockBean
+	private CustomLoginFailureHandler customLoginFailureHandler;
+
 	@MockBean
 	private PersistTokenRepository persistTokenRepository;
 
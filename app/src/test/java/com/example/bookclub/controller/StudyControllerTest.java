@@ -4,6 +4,7 @@ import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.application.study.query.StudyQueryService;
 import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountHeader;
 import com.example.bookclub.domain.study.Day;
 import com.example.bookclub.domain.study.Study;
 import com.example.bookclub.domain.study.StudyState;
@@ -11,6 +12,7 @@ import com.example.bookclub.domain.study.Zone;
 import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
 import com.example.bookclub.security.UserAccount;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -105,6 +107,9 @@ public class StudyControllerTest {
 	@MockBean
 	private CustomDeniedHandler customDeniedHandler;
 
+	@MockBean
+	private CustomLoginFailureHandler customLoginFailureHandler;
+
 	@MockBean
 	private PersistTokenRepository persistTokenRepository;
 
@@ -190,6 +195,7 @@ public class StudyControllerTest {
 			@DisplayName("스터디 상세 조회 화면을 리턴한다")
 			void itReturnsStudiesDetail() throws Exception {
 				SecurityContextHolder.getContext().setAuthentication(accountToken);
+				given(accountAuthenticationService.getAccountHeader(ACCOUNT_EMAIL)).willReturn(AccountHeader.of(account));
 				given(studyService.getDetailedStudy(userAccount, EXISTED_ID)).willReturn(detailedStudy);
 
 				mockMvc.perform(get("/studies/{id}", EXISTED_ID)
@@ -230,6 +236,7 @@ public class StudyControllerTest {
 			@DisplayName("스터디 생성 화면을 리턴한다")
 			void itReturnsWithStudiesSaveView() throws Exception {
 				SecurityContextHolder.getContext().setAuthentication(accountToken);
+				given(accountAuthenticationService.getAccountHeader(ACCOUNT_EMAIL)).willReturn(AccountHeader.of(account));
 
 				mockMvc.perform(get("/studies/save")
 								.param("userAccount", objectMapper.writeValueAsString(userAccount))
@@ -1,6 +1,8 @@
 package com.example.bookclub.controller.api;
 
 import com.example.bookclub.application.account.AccountAuthenticationService;
+import com.example.bookclub.application.account.AccountExistenceFilterService;
+import com.example.bookclub.application.account.AccountHistoryService;
 import com.example.bookclub.application.account.AccountService;
 import com.example.bookclub.application.uploadfile.UploadFileService;
 import com.example.bookclub.common.exception.account.AccountEmailDuplicatedException;
@@ -20,6 +22,7 @@ import com.example.bookclub.dto.StudyApiDto;
 import com.example.bookclub.dto.UploadFileDto;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
 import com.example.bookclub.security.UserAccount;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -166,6 +169,7 @@ class AccountApiControllerTest {
 	private UsernamePasswordAuthenticationToken accountWithoutUploadFileToken;
 	private UsernamePasswordAuthenticationToken accountWithUploadFileToken;
 	private UsernamePasswordAuthenticationToken deletedAccountToken;
+	private UsernamePasswordAuthenticationToken adminAccountToken;
 
     private AccountDto.AccountCreateDto accountCreateDto;
     private AccountDto.AccountUpdateDto accountUpdateDto;
@@ -199,6 +203,12 @@ class AccountApiControllerTest {
 	@MockBean
 	UploadFileService uploadFileService;
 
+	@MockBean
+	AccountHistoryService accountHistoryService;
+
+	@MockBean
+	AccountExistenceFilterService accountExistenceFilterService;
+
 	@MockBean
 	private AccountAuthenticationService accountAuthenticationService;
 
@@ -214,6 +224,9 @@ class AccountApiControllerTest {
 	@MockBean
 	private CustomDeniedHandler customDeniedHandler;
 
+	@MockBean
+	private CustomLoginFailureHandler customLoginFailureHandler;
+
 	@MockBean
 	private PersistTokenRepository persistTokenRepository;
 
@@ -340,6 +353,11 @@ class AccountApiControllerTest {
 				deletedAccount.getPassword(),
 				List.of(new SimpleGrantedAuthority("USER")));
 
+		adminAccountToken = new UsernamePasswordAuthenticationToken(
+				new UserAccount(accountWithoutUploadFile, List.of(new SimpleGrantedAuthority("ADMIN"))),
+				accountWithoutUploadFile.getPassword(),
+				List.of(new SimpleGrantedAuthority("ADMIN")));
+
         accountCreateDto = AccountDto.AccountCreateDto.builder()
                 .name(ACCOUNT_CREATED_NAME)
                 .email(ACCOUNT_CREATED_EMAIL)
@@ -505,6 +523,7 @@ class AccountApiControllerTest {
 								fieldWithPath("data.studyResultDto.likesCount").type(NUMBER).description("좋아요 수"),
 								fieldWithPath("data.studyResultDto.liked").type(BOOLEAN).description("좋아요 여부"),
 								fieldWithPath("data.studyResultDto.commentsCount").type(NUMBER).description("댓글 수"),
+								fieldWithPath("data.studyResultDto.favoritesCount").type(NUMBER).description("즐겨찾기 수"),
 								fieldWithPath("data.studyResultDto.favorite").type(BOOLEAN).description("즐겨찾기 여부"),
 								fieldWithPath("message").description("예외 메세지"),
 								fieldWithPath("result").type(STRING).description("결과"),
@@ -1174,4 +1193,94 @@ class AccountApiControllerTest {
 						))
 		);
 	}
+
+	@Test
+	void historyStats() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(adminAccountToken);
+		given(accountHistoryService.getStats())
+				.willReturn(AccountDto.AccountHistoryStatsResultDto.builder()
+						.queueSize(25)
+						.queueCapacity(100)
+						.enqueuedCount(1000)
+						.writtenCount(970)
+						.batchCount(12)
+						.failedBatchCount(1)
+						.spilledCount(5)
+						.replayedCount(5)
+						.droppedCount(0)
+						.build());
+
+		mockMvc.perform(
+						RestDocumentationRequestBuilders.get("/api/users/history-stats")
+				)
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.queueUsage").value(0.25))
+				.andDo(document("user-history-stats",
+						getDocumentRequest(),
+						getDocumentResponse(),
+						responseFields(
+								fieldWithPath("data.queueSize").type(NUMBER).description("저장을 기다리는 계정 히스토리 수"),
+								fieldWithPath("data.queueCapacity").type(NUMBER).description("계정 히스토리 큐 최대 크기"),
+								fieldWithPath("data.queueUsage").type(NUMBER).description("계정 히스토리 큐 사용 비율"),
+								fieldWithPath("data.enqueuedCount").type(NUMBER).description("큐에 넣은 계정 히스토리 수"),
+								fieldWithPath("data.writtenCount").type(NUMBER).description("저장한 계정 히스토리 수"),
+								fieldWithPath("data.batchCount").type(NUMBER).description("계정 히스토리 저장 트랜잭션 수"),
+								fieldWithPath("data.failedBatchCount").type(NUMBER).description("배치 저장에 실패해 하나씩 다시 저장한 배치 수"),
+								fieldWithPath("data.spilledCount").type(NUMBER).description("큐가 가득 찼거나 저장에 실패해 스풀에 보관한 계정 히스토리 수"),
+								fieldWithPath("data.replayedCount").type(NUMBER).description("스풀에서 꺼내 저장한 계정 히스토리 수"),
+								fieldWithPath("data.droppedCount").type(NUMBER).description("스풀에도 보관하지 못하고 버린 계정 히스토리 수"),
+								fieldWithPath("message").description("예외 메세지"),
+								fieldWithPath("result").type(STRING).description("결과"),
+								fieldWithPath("errorCode").description("에러코드")
+						)
+				));
+	}
+
+	@Test
+	void existenceFilterStats() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(adminAccountToken);
+		given(accountExistenceFilterService.getStats())
+				.willReturn(AccountDto.AccountExistenceFilterStatsResultDto.builder()
+						.ready(true)
+						.expectedInsertions(1000000)
+						.configuredFpp(0.01)
+						.insertedCount(12000)
+						.emailExpectedFpp(0.000001)
+						.nicknameExpectedFpp(0.000001)
+						.memoryBytes(2396264)
+						.checkCount(1000)
+						.definiteMissCount(990)
+						.databaseCheckCount(10)
+						.falsePositiveCount(10)
+						.build());
+
+		mockMvc.perform(
+						RestDocumentationRequestBuilders.get("/api/users/existence-filter-stats")
+				)
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.observedFalsePositiveRate").value(0.01))
+				.andDo(document("user-existence-filter-stats",
+						getDocumentRequest(),
+						getDocumentResponse(),
+						responseFields(
+								fieldWithPath("data.ready").type(BOOLEAN).description("색인이 만들어졌는지 여부"),
+								fieldWithPath("data.expectedInsertions").type(NUMBER).description("색인을 만들 때 예상한 사용자 수"),
+								fieldWithPath("data.configuredFpp").type(NUMBER).description("설정한 오탐률"),
+								fieldWithPath("data.insertedCount").type(NUMBER).description("색인에 넣은 사용자 수"),
+								fieldWithPath("data.emailExpectedFpp").type(NUMBER).description("현재 이메일 색인의 예상 오탐률"),
+								fieldWithPath("data.nicknameExpectedFpp").type(NUMBER).description("현재 닉네임 색인의 예상 오탐률"),
+								fieldWithPath("data.memoryBytes").type(NUMBER).description("이메일, 닉네임 색인이 차지하는 메모리 바이트 수"),
+								fieldWithPath("data.checkCount").type(NUMBER).description("중복 검사 수"),
+								fieldWithPath("data.definiteMissCount").type(NUMBER).description("데이터베이스 조회 없이 없다고 답한 수"),
+								fieldWithPath("data.databaseCheckCount").type(NUMBER).description("데이터베이스로 확인한 수"),
+								fieldWithPath("data.falsePositiveCount").type(NUMBER).description("색인에는 있었지만 데이터베이스에는 없었던 수"),
+								fieldWithPath("data.observedFalsePositiveRate").type(NUMBER).description("없는 값을 검사했을 때 실제로 데이터베이스까지 간 비율"),
+								fieldWithPath("message").description("예외 메세지"),
+								fieldWithPath("result").type(STRING).description("결과"),
+								fieldWithPath("errorCode").description("에러코드")
+						)
+				));
+	}
 }
@@ -2,11 +2,14 @@ package com.example.bookclub.controller.api;
 
 import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.account.EmailService;
+import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.dto.EmailDto;
 import com.example.bookclub.common.exception.account.emailauthentication.EmailBadRequestException;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
+import com.example.bookclub.security.UserAccount;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,12 +22,16 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 import javax.sql.DataSource;
+import java.util.List;
 
 import static com.example.bookclub.common.util.ApiDocumentUtils.getDocumentRequest;
 import static com.example.bookclub.common.util.ApiDocumentUtils.getDocumentResponse;
@@ -33,6 +40,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
@@ -69,6 +77,9 @@ class EmailApiControllerTest {
     @MockBean
     private CustomDeniedHandler customDeniedHandler;
 
+    @MockBean
+    private CustomLoginFailureHandler customLoginFailureHandler;
+
     @MockBean
     private PersistTokenRepository tokenRepository;
 
@@ -78,6 +89,7 @@ class EmailApiControllerTest {
     EmailDto.EmailRequestDto emailRequestDto;
     EmailDto.EmailRequestDto emailBadRequestDto;
     EmailDto.EmailSendResultDto emailSendResultDto;
+    UsernamePasswordAuthenticationToken adminAccountToken;
 
     @BeforeEach
     void setup(RestDocumentationContextProvider restDocumentationContextProvider) {
@@ -98,6 +110,16 @@ class EmailApiControllerTest {
         emailSendResultDto = EmailDto.EmailSendResultDto.builder()
                 .email(VALID_EMAIL)
                 .build();
+
+        Account adminAccount = Account.builder()
+                .id(1L)
+                .email(VALID_EMAIL)
+                .build();
+
+        adminAccountToken = new UsernamePasswordAuthenticationToken(
+                new UserAccount(adminAccount, List.of(new SimpleGrantedAuthority("ADMIN"))),
+                null,
+                List.of(new SimpleGrantedAuthority("ADMIN")));
     }
 
     @Test
@@ -155,4 +177,54 @@ class EmailApiControllerTest {
                         )
                 ));
     }
+
+    @Test
+    void queueStats() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(adminAccountToken);
+        given(emailService.getMailQueueStats())
+                .willReturn(EmailDto.MailQueueStatsResultDto.builder()
+                        .queueDepth(3)
+                        .deadLetterDepth(1)
+                        .consumerCount(1)
+                        .enqueuedCount(120)
+                        .enqueueFailedCount(0)
+                        .sentCount(116)
+                        .failedAttemptCount(4)
+                        .deadLetteredCount(1)
+                        .smtpConnectCount(2)
+                        .averageSendMillis(180.5)
+                        .maxSendMillis(1200)
+                        .averageDeliveryMillis(240.0)
+                        .maxDeliveryMillis(7300)
+                        .build());
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/email/queue-stats")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.queueDepth", is(3)))
+                .andDo(document("email-queue-stats",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        responseFields(
+                                fieldWithPath("data.queueDepth").type(NUMBER).description("보내기를 기다리는 메일 수, 브로커에 연결하지 못하면 -1"),
+                                fieldWithPath("data.deadLetterDepth").type(NUMBER).description("데드 레터 큐에 쌓인 메일 수, 브로커에 연결하지 못하면 -1"),
+                                fieldWithPath("data.consumerCount").type(NUMBER).description("메일 큐 소비자 수, 브로커에 연결하지 못하면 -1"),
+                                fieldWithPath("data.enqueuedCount").type(NUMBER).description("메일 큐에 넣은 메일 수"),
+                                fieldWithPath("data.enqueueFailedCount").type(NUMBER).description("메일 큐에 넣지 못한 메일 수"),
+                                fieldWithPath("data.sentCount").type(NUMBER).description("보낸 메일 수"),
+                                fieldWithPath("data.failedAttemptCount").type(NUMBER).description("보내기에 실패한 시도 수"),
+                                fieldWithPath("data.deadLetteredCount").type(NUMBER).description("끝내 보내지 못해 데드 레터 큐로 보낸 메일 수"),
+                                fieldWithPath("data.smtpConnectCount").type(NUMBER).description("SMTP 서버에 새로 연결한 수"),
+                                fieldWithPath("data.averageSendMillis").type(NUMBER).description("SMTP 전송 평균 시간(ms)"),
+                                fieldWithPath("data.maxSendMillis").type(NUMBER).description("SMTP 전송 최대 시간(ms)"),
+                                fieldWithPath("data.averageDeliveryMillis").type(NUMBER).description("큐에 넣은 뒤 보내기까지 평균 시간(ms)"),
+                                fieldWithPath("data.maxDeliveryMillis").type(NUMBER).description("큐에 넣은 뒤 보내기까지 최대 시간(ms)"),
+                                fieldWithPath("message").description("예외 메세지"),
+                                fieldWithPath("result").type(STRING).description("결과"),
+                                fieldWithPath("errorCode").description("에러코드")
+                        )
+                ));
+    }
 }
@@ -6,6 +6,7 @@ import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.interview.Interview;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
 import com.example.bookclub.security.UserAccount;
 import org.hamcrest.core.StringContains;
@@ -98,6 +99,9 @@ class InterviewApiControllerTest {
 	@MockBean
 	private CustomDeniedHandler customDeniedHandler;
 
+	@MockBean
+	private CustomLoginFailureHandler customLoginFailureHandler;
+
 	@MockBean
 	private PersistTokenRepository tokenRepository;
 
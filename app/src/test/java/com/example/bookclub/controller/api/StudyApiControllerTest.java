@@ -4,8 +4,10 @@ import com.example.bookclub.application.account.AccountAuthenticationService;
 import com.example.bookclub.application.account.AccountService;
 import com.example.bookclub.application.study.StudyCommentLikeService;
 import com.example.bookclub.application.study.StudyCommentService;
+import com.example.bookclub.application.study.StudyFacetService;
 import com.example.bookclub.application.study.StudyFavoriteService;
 import com.example.bookclub.application.study.StudyLikeService;
+import com.example.bookclub.application.study.StudySeatService;
 import com.example.bookclub.application.study.StudyService;
 import com.example.bookclub.domain.account.Account;
 import com.example.bookclub.domain.study.Day;
@@ -35,6 +37,7 @@ import com.example.bookclub.common.exception.study.StudyStartAndEndTimeNotValidE
 import com.example.bookclub.common.exception.study.StudyStartDateInThePastException;
 import com.example.bookclub.security.CustomDeniedHandler;
 import com.example.bookclub.security.CustomEntryPoint;
+import com.example.bookclub.security.CustomLoginFailureHandler;
 import com.example.bookclub.security.PersistTokenRepository;
 import com.example.bookclub.security.UserAccount;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,6 +57,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
@@ -62,6 +66,9 @@ import javax.sql.DataSource;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.example.bookclub.common.util.ApiDocumentUtils.getDocumentRequest;
 import static com.example.bookclub.common.util.ApiDocumentUtils.getDocumentResponse;
@@ -69,6 +76,7 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
@@ -77,17 +85,22 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.JsonFieldType.BOOLEAN;
 import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.JsonFieldType.OBJECT;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(StudyApiController.class)
@@ -160,6 +173,10 @@ class StudyApiControllerTest {
     private static final Long STUDY_FAVORITE_CREATE_ID = 11L;
     private static final Long STUDY_FAVORITE_NOT_EXISTED_ID = 12L;
 
+    private static final String STUDY_SEARCH_KEYWORD = "studySearchKeyword";
+    private static final Long STUDY_SEARCH_AFTER_ID = 100L;
+    private static final int STUDY_SEARCH_SIZE = 10;
+
     private static final Long FILE_CREATED_ID = 13L;
     private static final String FILE_CREATED_NAME = "createdFileName.jpg";
     private static final String FILE_CREATED_ORIGINAL_NAME = "createdOriginalName.jpg";
@@ -186,6 +203,12 @@ class StudyApiControllerTest {
     @MockBean
     private StudyFavoriteService studyFavoriteService;
 
+    @MockBean
+    private StudySeatService studySeatService;
+
+    @MockBean
+    private StudyFacetService studyFacetService;
+
     @MockBean
     private AccountService accountService;
 
@@ -204,6 +227,9 @@ class StudyApiControllerTest {
     @MockBean
     private CustomDeniedHandler customDeniedHandler;
 
+    @MockBean
+    private CustomLoginFailureHandler customLoginFailureHandler;
+
     @MockBean
     private PersistTokenRepository tokenRepository;
 
@@ -213,6 +239,7 @@ class StudyApiControllerTest {
     private UsernamePasswordAuthenticationToken accountWithoutStudyToken;
     private UsernamePasswordAuthenticationToken accountWithSetupStudyToken;
     private UsernamePasswordAuthenticationToken accountWithClosedStudyToken;
+    private UsernamePasswordAuthenticationToken adminAccountToken;
     private Study setUpStudy;
     private Study updatedStudy;
     private Study dateNotValidStudy;
@@ -243,7 +270,6 @@ class StudyApiControllerTest {
 
     private UploadFileDto.UploadFileResultDto uploadFileResultDto;
 
-    private List<Study> list;
 
     @BeforeEach
     void setUp(RestDocumentationContextProvider restDocumentationContextProvider) {
@@ -336,6 +362,11 @@ class StudyApiControllerTest {
 
         closedStudy.addAccount(accountWithClosedStudy);
 
+        adminAccountToken = new UsernamePasswordAuthenticationToken(
+                new UserAccount(accountWithoutStudy, List.of(new SimpleGrantedAuthority("ADMIN"))),
+                accountWithoutStudy.getPassword(),
+                List.of(new SimpleGrantedAuthority("ADMIN")));
+
         accountWithoutStudyToken = new UsernamePasswordAuthenticationToken(
                 new UserAccount(accountWithoutStudy, List.of(new SimpleGrantedAuthority("USER"))),
                 accountWithoutStudy.getPassword(),
@@ -406,7 +437,6 @@ class StudyApiControllerTest {
         studyResultDto = StudyApiDto.StudyResultDto.of(setUpStudy);
         updatedStudyResultDto = StudyApiDto.StudyResultDto.of(updatedStudy);
 
-        list = List.of(setUpStudy, updatedStudy);
 
         studyCommentCreateDto = StudyApiDto.StudyCommentCreateDto.builder()
                 .content(STUDY_COMMENT_CONTENT)
@@ -453,48 +483,61 @@ class StudyApiControllerTest {
     }
 
     @Test
-    void listAllStudies() throws Exception {
-        given(studyService.getStudies()).willReturn(list);
+    void listStudiesWithCursor() throws Exception {
+        StudyApiDto.StudyCursorResultDto studyCursorResultDto = StudyApiDto.StudyCursorResultDto.builder()
+                .studyResultDtos(List.of(updatedStudyResultDto, studyResultDto))
+                .firstId(updatedStudyResultDto.getId())
+                .lastId(studyResultDto.getId())
+                .hasPrevious(true)
+                .hasNext(true)
+                .build();
+        given(studyService.getStudies(STUDY_SEARCH_AFTER_ID, STUDY_SEARCH_SIZE)).willReturn(studyCursorResultDto);
 
         this.mockMvc.perform(
                         RestDocumentationRequestBuilders.get("/api/study")
+                                .param("afterId", String.valueOf(STUDY_SEARCH_AFTER_ID))
+                                .param("size", String.valueOf(STUDY_SEARCH_SIZE))
         )
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().string(StringContains.containsString("\"name\":\"" + STUDY_SETUP_NAME)))
                 .andExpect(content().string(StringContains.containsString("\"name\":\"" + STUDY_UPDATE_NAME)))
+                .andExpect(jsonPath("$.data.lastId").value(studyResultDto.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
                 .andDo(document("study-list",
                         getDocumentRequest(),
                         getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("afterId").optional().description("이 식별자 다음 스터디부터 조회"),
+                                parameterWithName("size").optional().description("페이지 크기 (기본 10, 최대 100)")
+                        ),
                         responseFields(
-                                fieldWithPath("data.[].id").type(NUMBER).description("스터디 식별자"),
-                                fieldWithPath("data.[].name").type(STRING).description("이름"),
-                                fieldWithPath("data.[].bookName").type(STRING).description("책 제목"),
-                                fieldWithPath("data.[].bookImage").type(STRING).description("책 사진"),
-                                fieldWithPath("data.[].email").type(STRING).description("이메일"),
-                                fieldWithPath("data.[].description").type(STRING).description("설명"),
-                                fieldWithPath("data.[].contact").type(STRING).description("연락처"),
-                                fieldWithPath("data.[].size").type(NUMBER).description("정원 수"),
-                                fieldWithPath("data.[].applyCount").type(NUMBER).description("지원 수"),
-                                fieldWithPath("data.[].startDate").type(STRING).description("시작날짜"),
-                                fieldWithPath("data.[].endDate").type(STRING).description("종료날짜"),
-                                fieldWithPath("data.[].startTime").type(STRING).description("시작시간"),
-                                fieldWithPath("data.[].endTime").type(STRING).description("종료시간"),
-                                fieldWithPath("data.[].day").type(STRING).description("요일"),
-                                fieldWithPath("data.[].studyState").type(STRING).description("스터디 상태"),
-                                fieldWithPath("data.[].zone").type(STRING).description("지역"),
-                                fieldWithPath("data.[].liked").type(BOOLEAN).description("좋아요 여부"),
-                                fieldWithPath("data.[].likesCount").type(NUMBER).description("좋아요 수"),
-                                fieldWithPath("data.[].commentsCount").type(NUMBER).description("댓글 수"),
-                                fieldWithPath("data.[].favorite").type(BOOLEAN).description("즐겨찾기 여부"),
-                                fieldWithPath("data.[].createdDate").type(STRING).description("생성날짜"),
-                                fieldWithPath("data.[].updatedDate").type(STRING).description("수정날짜"),
-                                fieldWithPath("data.[].createdBy").type(STRING).description("생성자"),
-                                fieldWithPath("data.[].updatedBy").type(STRING).description("수정자"),
-                                fieldWithPath("data.[].sizeFull").type(BOOLEAN).description("정원 만료 여부"),
-                                fieldWithPath("data.[].notOpened").type(BOOLEAN).description("스터디 모집중 여부"),
-                                fieldWithPath("data.[].alreadyStarted").type(BOOLEAN).description("스터디 진행중 여부"),
-                                fieldWithPath("data.[].favorites").description("즐겨찾기 목록"),
+                                fieldWithPath("data.studyResultDtos.[].id").type(NUMBER).description("스터디 식별자"),
+                                fieldWithPath("data.studyResultDtos.[].name").type(STRING).description("이름"),
+                                fieldWithPath("data.studyResultDtos.[].bookName").type(STRING).description("책 제목"),
+                                fieldWithPath("data.studyResultDtos.[].bookImage").type(STRING).description("책 사진"),
+                                fieldWithPath("data.studyResultDtos.[].email").type(STRING).description("이메일"),
+                                fieldWithPath("data.studyResultDtos.[].description").type(STRING).description("설명"),
+                                fieldWithPath("data.studyResultDtos.[].contact").type(STRING).description("연락처"),
+                                fieldWithPath("data.studyResultDtos.[].size").type(NUMBER).description("정원 수"),
+                                fieldWithPath("data.studyResultDtos.[].applyCount").type(NUMBER).description("지원 수"),
+                                fieldWithPath("data.studyResultDtos.[].startDate").type(STRING).description("시작날짜"),
+                                fieldWithPath("data.studyResultDtos.[].endDate").type(STRING).description("종료날짜"),
+                                fieldWithPath("data.studyResultDtos.[].startTime").type(STRING).description("시작시간"),
+                                fieldWithPath("data.studyResultDtos.[].endTime").type(STRING).description("종료시간"),
+                                fieldWithPath("data.studyResultDtos.[].day").type(STRING).description("요일"),
+                                fieldWithPath("data.studyResultDtos.[].studyState").type(STRING).description("스터디 상태"),
+                                fieldWithPath("data.studyResultDtos.[].zone").type(STRING).description("지역"),
+                                fieldWithPath("data.studyResultDtos.[].liked").type(BOOLEAN).description("좋아요 여부"),
+                                fieldWithPath("data.studyResultDtos.[].likesCount").type(NUMBER).description("좋아요 수"),
+                                fieldWithPath("data.studyResultDtos.[].commentsCount").type(NUMBER).description("댓글 수"),
+                                fieldWithPath("data.studyResultDtos.[].favoritesCount").type(NUMBER).description("즐겨찾기 수"),
+                                fieldWithPath("data.studyResultDtos.[].favorite").type(BOOLEAN).description("즐겨찾기 여부"),
+                                fieldWithPath("data.firstId").type(NUMBER).description("현재 페이지 첫 스터디 식별자"),
+                                fieldWithPath("data.lastId").type(NUMBER).description("현재 페이지 마지막 스터디 식별자"),
+                                fieldWithPath("data.hasPrevious").type(BOOLEAN).description("이전 페이지 존재 여부"),
+                                fieldWithPath("data.hasNext").type(BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.totalCount").description("전체 갯수"),
                                 fieldWithPath("message").description("예외 메세지"),
                                 fieldWithPath("result").type(STRING).description("결과"),
                                 fieldWithPath("errorCode").description("에러코드")
@@ -502,9 +545,195 @@ class StudyApiControllerTest {
                     ));
     }
 
+    @Test
+    void streamAllStudies() throws Exception {
+        willAnswer(invocation -> {
+            Consumer<StudyApiDto.StudyResultDto> consumer = invocation.getArgument(0);
+            consumer.accept(updatedStudyResultDto);
+            consumer.accept(studyResultDto);
+            return 2;
+        }).given(studyService).streamStudies(any());
+
+        MvcResult mvcResult = this.mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/study")
+                                .accept("application/x-ndjson")
+        )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(updatedStudyResultDto) + "\n"
+                                + objectMapper.writeValueAsString(studyResultDto) + "\n"))
+                .andDo(document("study-list-stream",
+                        getDocumentRequest(),
+                        getDocumentResponse()
+                ));
+    }
+
+    @Test
+    void searchWithCursor() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(accountWithoutStudyToken);
+        StudyApiDto.StudyCursorResultDto studyCursorResultDto = StudyApiDto.StudyCursorResultDto.builder()
+                .studyResultDtos(List.of(studyResultDto))
+                .firstId(studyResultDto.getId())
+                .lastId(studyResultDto.getId())
+                .hasPrevious(true)
+                .hasNext(false)
+                .build();
+        given(studyService.getStudiesBySearchWithCursor(
+                eq(STUDY_SEARCH_KEYWORD), eq(StudyState.OPEN), any(Account.class),
+                eq(STUDY_SEARCH_AFTER_ID), eq(null), eq(STUDY_SEARCH_SIZE)
+        )).willReturn(studyCursorResultDto);
+        given(studyService.getStudiesBySearchCount(STUDY_SEARCH_KEYWORD, StudyState.OPEN)).willReturn(1L);
+
+        this.mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/study/search")
+                                .param("studyState", StudyState.OPEN.name())
+                                .param("keyword", STUDY_SEARCH_KEYWORD)
+                                .param("afterId", String.valueOf(STUDY_SEARCH_AFTER_ID))
+                                .param("size", String.valueOf(STUDY_SEARCH_SIZE))
+                                .param("withTotal", "true")
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.studyResultDtos[0].id").value(studyResultDto.getId()))
+                .andExpect(jsonPath("$.data.lastId").value(studyResultDto.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.totalCount").value(1))
+                .andDo(document("study-search",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("studyState").description("스터디 상태"),
+                                parameterWithName("keyword").description("검색어"),
+                                parameterWithName("afterId").description("이 식별자 다음 스터디부터 조회"),
+                                parameterWithName("size").description("페이지 크기"),
+                                parameterWithName("withTotal").description("전체 갯수 포함 여부")
+                        ),
+                        responseFields(
+                                fieldWithPath("data.studyResultDtos.[].id").type(NUMBER).description("스터디 식별자"),
+                                fieldWithPath("data.studyResultDtos.[].name").type(STRING).description("이름"),
+                                fieldWithPath("data.studyResultDtos.[].bookName").type(STRING).description("책 제목"),
+                                fieldWithPath("data.studyResultDtos.[].bookImage").type(STRING).description("책 사진"),
+                                fieldWithPath("data.studyResultDtos.[].email").type(STRING).description("이메일"),
+                                fieldWithPath("data.studyResultDtos.[].description").type(STRING).description("설명"),
+                                fieldWithPath("data.studyResultDtos.[].contact").type(STRING).description("연락처"),
+                                fieldWithPath("data.studyResultDtos.[].size").type(NUMBER).description("정원 수"),
+                                fieldWithPath("data.studyResultDtos.[].applyCount").type(NUMBER).description("지원 수"),
+                                fieldWithPath("data.studyResultDtos.[].startDate").type(STRING).description("시작날짜"),
+                                fieldWithPath("data.studyResultDtos.[].endDate").type(STRING).description("종료날짜"),
+                                fieldWithPath("data.studyResultDtos.[].startTime").type(STRING).description("시작시간"),
+                                fieldWithPath("data.studyResultDtos.[].endTime").type(STRING).description("종료시간"),
+                                fieldWithPath("data.studyResultDtos.[].day").type(STRING).description("요일"),
+                                fieldWithPath("data.studyResultDtos.[].studyState").type(STRING).description("스터디 상태"),
+                                fieldWithPath("data.studyResultDtos.[].zone").type(STRING).description("지역"),
+                                fieldWithPath("data.studyResultDtos.[].liked").type(BOOLEAN).description("좋아요 여부"),
+                                fieldWithPath("data.studyResultDtos.[].likesCount").type(NUMBER).description("좋아요 수"),
+                                fieldWithPath("data.studyResultDtos.[].commentsCount").type(NUMBER).description("댓글 수"),
+                                fieldWithPath("data.studyResultDtos.[].favoritesCount").type(NUMBER).description("즐겨찾기 수"),
+                                fieldWithPath("data.studyResultDtos.[].favorite").type(BOOLEAN).description("즐겨찾기 여부"),
+                                fieldWithPath("data.firstId").type(NUMBER).description("현재 페이지 첫 스터디 식별자"),
+                                fieldWithPath("data.lastId").type(NUMBER).description("현재 페이지 마지막 스터디 식별자"),
+                                fieldWithPath("data.hasPrevious").type(BOOLEAN).description("이전 페이지 존재 여부"),
+                                fieldWithPath("data.hasNext").type(BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.totalCount").type(NUMBER).description("전체 갯수"),
+                                fieldWithPath("message").description("예외 메세지"),
+                                fieldWithPath("result").type(STRING).description("결과"),
+                                fieldWithPath("errorCode").description("에러코드")
+                        )
+                ));
+    }
+
+    @Test
+    void facetSearch() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(accountWithoutStudyToken);
+        StudyApiDto.StudyCursorResultDto studyCursorResultDto = StudyApiDto.StudyCursorResultDto.builder()
+                .studyResultDtos(List.of(studyResultDto))
+                .firstId(studyResultDto.getId())
+                .lastId(studyResultDto.getId())
+                .hasPrevious(true)
+                .hasNext(false)
+                .totalCount(1L)
+                .build();
+        StudyApiDto.StudyFacetSearchResultDto studyFacetSearchResultDto = StudyApiDto.StudyFacetSearchResultDto.builder()
+                .studies(studyCursorResultDto)
+                .zoneCounts(Map.of(Zone.SEOUL, 1L, Zone.BUSAN, 2L))
+                .dayCounts(Map.of(Day.MONDAY, 1L))
+                .studyStateCounts(Map.of(StudyState.OPEN, 1L, StudyState.CLOSE, 3L))
+                .build();
+        given(studyFacetService.searchStudies(
+                any(Account.class), eq(Set.of(Zone.SEOUL)), eq(Set.of(Day.MONDAY)), eq(Set.of(StudyState.OPEN)),
+                eq(STUDY_SEARCH_AFTER_ID), eq(STUDY_SEARCH_SIZE)
+        )).willReturn(studyFacetSearchResultDto);
+
+        this.mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/study/facets")
+                                .param("zone", Zone.SEOUL.name())
+                                .param("day", Day.MONDAY.name())
+                                .param("studyState", StudyState.OPEN.name())
+                                .param("afterId", String.valueOf(STUDY_SEARCH_AFTER_ID))
+                                .param("size", String.valueOf(STUDY_SEARCH_SIZE))
+        )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.studies.studyResultDtos[0].id").value(studyResultDto.getId()))
+                .andExpect(jsonPath("$.data.studies.totalCount").value(1))
+                .andExpect(jsonPath("$.data.zoneCounts.BUSAN").value(2))
+                .andExpect(jsonPath("$.data.studyStateCounts.CLOSE").value(3))
+                .andDo(document("study-facet-search",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("zone").description("지역, 여러 개 지정 가능"),
+                                parameterWithName("day").description("요일, 여러 개 지정 가능"),
+                                parameterWithName("studyState").description("스터디 상태, 여러 개 지정 가능"),
+                                parameterWithName("afterId").description("이 식별자 다음 스터디부터 조회"),
+                                parameterWithName("size").description("페이지 크기")
+                        ),
+                        responseFields(
+                                fieldWithPath("data.studies.studyResultDtos.[].id").type(NUMBER).description("스터디 식별자"),
+                                fieldWithPath("data.studies.studyResultDtos.[].name").type(STRING).description("이름"),
+                                fieldWithPath("data.studies.studyResultDtos.[].bookName").type(STRING).description("책 제목"),
+                                fieldWithPath("data.studies.studyResultDtos.[].bookImage").type(STRING).description("책 사진"),
+                                fieldWithPath("data.studies.studyResultDtos.[].email").type(STRING).description("이메일"),
+                                fieldWithPath("data.studies.studyResultDtos.[].description").type(STRING).description("설명"),
+                                fieldWithPath("data.studies.studyResultDtos.[].contact").type(STRING).description("연락처"),
+                                fieldWithPath("data.studies.studyResultDtos.[].size").type(NUMBER).description("정원 수"),
+                                fieldWithPath("data.studies.studyResultDtos.[].applyCount").type(NUMBER).description("지원 수"),
+                                fieldWithPath("data.studies.studyResultDtos.[].startDate").type(STRING).description("시작날짜"),
+                                fieldWithPath("data.studies.studyResultDtos.[].endDate").type(STRING).description("종료날짜"),
+                                fieldWithPath("data.studies.studyResultDtos.[].startTime").type(STRING).description("시작시간"),
+                                fieldWithPath("data.studies.studyResultDtos.[].endTime").type(STRING).description("종료시간"),
+                                fieldWithPath("data.studies.studyResultDtos.[].day").type(STRING).description("요일"),
+                                fieldWithPath("data.studies.studyResultDtos.[].studyState").type(STRING).description("스터디 상태"),
+                                fieldWithPath("data.studies.studyResultDtos.[].zone").type(STRING).description("지역"),
+                                fieldWithPath("data.studies.studyResultDtos.[].liked").type(BOOLEAN).description("좋아요 여부"),
+                                fieldWithPath("data.studies.studyResultDtos.[].likesCount").type(NUMBER).description("좋아요 수"),
+                                fieldWithPath("data.studies.studyResultDtos.[].commentsCount").type(NUMBER).description("댓글 수"),
+                                fieldWithPath("data.studies.studyResultDtos.[].favoritesCount").type(NUMBER).description("즐겨찾기 수"),
+                                fieldWithPath("data.studies.studyResultDtos.[].favorite").type(BOOLEAN).description("즐겨찾기 여부"),
+                                fieldWithPath("data.studies.firstId").type(NUMBER).description("현재 페이지 첫 스터디 식별자"),
+                                fieldWithPath("data.studies.lastId").type(NUMBER).description("현재 페이지 마지막 스터디 식별자"),
+                                fieldWithPath("data.studies.hasPrevious").type(BOOLEAN).description("이전 페이지 존재 여부"),
+                                fieldWithPath("data.studies.hasNext").type(BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.studies.totalCount").type(NUMBER).description("전체 갯수"),
+                                subsectionWithPath("data.zoneCounts").type(OBJECT).description("지역별 스터디 수, 지역 외 조건으로 센다"),
+                                subsectionWithPath("data.dayCounts").type(OBJECT).description("요일별 스터디 수, 요일 외 조건으로 센다"),
+                                subsectionWithPath("data.studyStateCounts").type(OBJECT).description("스터디 상태별 스터디 수, 스터디 상태 외 조건으로 센다"),
+                                fieldWithPath("message").description("예외 메세지"),
+                                fieldWithPath("result").type(STRING).description("결과"),
+                                fieldWithPath("errorCode").description("에러코드")
+                        )
+                ));
+    }
+
     @Test
     void detailWithExistedId() throws Exception {
-        given(studyService.getStudy(STUDY_SETUP_EXISTED_ID)).willReturn(setUpStudy);
+        given(studyService.getStudyResult(STUDY_SETUP_EXISTED_ID)).willReturn(StudyApiDto.StudyResultDto.of(setUpStudy));
 
         this.mockMvc.perform(
                 RestDocumentationRequestBuilders.get("/api/study/{id}", STUDY_SETUP_EXISTED_ID)
@@ -537,6 +766,7 @@ class StudyApiControllerTest {
                                 fieldWithPath("data.liked").type(BOOLEAN).description("좋아요 여부"),
                                 fieldWithPath("data.likesCount").type(NUMBER).description("좋아요 수"),
                                 fieldWithPath("data.commentsCount").type(NUMBER).description("댓글 수"),
+                                fieldWithPath("data.favoritesCount").type(NUMBER).description("즐겨찾기 수"),
                                 fieldWithPath("data.favorite").type(BOOLEAN).description("즐겨찾기 여부"),
                                 fieldWithPath("message").description("예외 메세지"),
                                 fieldWithPath("result").type(STRING).description("결과"),
@@ -547,7 +777,7 @@ class StudyApiControllerTest {
 
     @Test
     void detailWithNotExistedId() throws Exception {
-        given(studyService.getStudy(STUDY_NOT_EXISTED_ID)).willThrow(new StudyNotFoundException(STUDY_NOT_EXISTED_ID));
+        given(studyService.getStudyResult(STUDY_NOT_EXISTED_ID)).willThrow(new StudyNotFoundException(STUDY_NOT_EXISTED_ID));
 
         mockMvc.perform(
                 RestDocumentationRequestBuilders.get("/api/study/{id}", STUDY_NOT_EXISTED_ID)
@@ -569,7 +799,7 @@ class StudyApiControllerTest {
                         )
                 ));
 
-        verify(studyService).getStudy(STUDY_NOT_EXISTED_ID);
+        verify(studyService).getStudyResult(STUDY_NOT_EXISTED_ID);
     }
 
     @Test
@@ -629,6 +859,7 @@ class StudyApiControllerTest {
                                 fieldWithPath("data.liked").type(BOOLEAN).description("좋아요 여부"),
                                 fieldWithPath("data.likesCount").type(NUMBER).description("좋아요 수"),
                                 fieldWithPath("data.commentsCount").type(NUMBER).description("댓글 수"),
+                                fieldWithPath("data.favoritesCount").type(NUMBER).description("즐겨찾기 수"),
                                 fieldWithPath("data.favorite").type(BOOLEAN).description("즐겨찾기 여부"),
                                 fieldWithPath("message").description("예외 메세지"),
                                 fieldWithPath("result").type(STRING).description("결과"),
@@ -870,6 +1101,7 @@ class StudyApiControllerTest {
                                 fieldWithPath("data.liked").type(BOOLEAN).description("좋아요 여부"),
                                 fieldWithPath("data.likesCount").type(NUMBER).description("좋아요 수"),
                                 fieldWithPath("data.commentsCount").type(NUMBER).description("댓글 수"),
+                                fieldWithPath("data.favoritesCount").type(NUMBER).description("즐겨찾기 수"),
                                 fieldWithPath("data.favorite").type(BOOLEAN).description("즐겨찾기 여부"),
                                 fieldWithPath("message").description("예외 메세지"),
                                 fieldWithPath("result").type(STRING).description("결과"),
@@ -1093,6 +1325,7 @@ class StudyApiControllerTest {
                                 fieldWithPath("data.liked").type(BOOLEAN).description("좋아요 여부"),
                                 fieldWithPath("data.likesCount").type(NUMBER).description("좋아요 수"),
                                 fieldWithPath("data.commentsCount").type(NUMBER).description("댓글 수"),
+                                fieldWithPath("data.favoritesCount").type(NUMBER).description("즐겨찾기 수"),
                                 fieldWithPath("data.favorite").type(BOOLEAN).description("즐겨찾기 여부"),
                                 fieldWithPath("message").description("예외 메세지"),
                                 fieldWithPath("result").type(STRING).description("결과"),
@@ -1142,6 +1375,117 @@ class StudyApiControllerTest {
                 ));
     }
 
+    @Test
+    void changeSeatCounter() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(adminAccountToken);
+        given(studySeatService.changeSeatCounter(STUDY_SETUP_EXISTED_ID, true))
+                .willReturn(StudyApiDto.StudySeatCounterResultDto.builder()
+                        .id(STUDY_SETUP_EXISTED_ID)
+                        .seatCounterEnabled(true)
+                        .build());
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.patch("/api/study/{id}/seat-counter", STUDY_SETUP_EXISTED_ID)
+                                .param("enabled", "true")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.seatCounterEnabled").value(true))
+                .andDo(document("study-seat-counter",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        pathParameters(
+                                parameterWithName("id").description("스터디 식별자")
+                        ),
+                        requestParameters(
+                                parameterWithName("enabled").description("Redis 카운터 사용 여부")
+                        ),
+                        responseFields(
+                                fieldWithPath("data.id").type(NUMBER).description("스터디 식별자"),
+                                fieldWithPath("data.seatCounterEnabled").type(BOOLEAN).description("Redis 카운터 사용 여부"),
+                                fieldWithPath("message").description("예외 메세지"),
+                                fieldWithPath("result").type(STRING).description("결과"),
+                                fieldWithPath("errorCode").description("에러코드")
+                        )
+                ));
+    }
+
+    @Test
+    void studyConflictRetryStats() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(adminAccountToken);
+        given(studyService.getConflictRetryStats())
+                .willReturn(StudyApiDto.StudyConflictRetryStatsResultDto.builder()
+                        .invocationCount(95)
+                        .attemptCount(100)
+                        .conflictCount(6)
+                        .retryCount(5)
+                        .exhaustedCount(1)
+                        .build());
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/study/retry-stats")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.conflictRate").value(0.06))
+                .andDo(document("study-retry-stats",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        responseFields(
+                                fieldWithPath("data.invocationCount").type(NUMBER).description("재시도 대상 메서드 호출 횟수"),
+                                fieldWithPath("data.attemptCount").type(NUMBER).description("재시도를 포함한 실행 횟수"),
+                                fieldWithPath("data.conflictCount").type(NUMBER).description("낙관적 잠금 충돌로 실패한 실행 횟수"),
+                                fieldWithPath("data.retryCount").type(NUMBER).description("충돌 후 다시 실행한 횟수"),
+                                fieldWithPath("data.exhaustedCount").type(NUMBER).description("최대 실행 횟수까지 충돌해 실패한 호출 횟수"),
+                                fieldWithPath("data.conflictRate").type(NUMBER).description("실행 중 충돌한 비율"),
+                                fieldWithPath("message").description("예외 메세지"),
+                                fieldWithPath("result").type(STRING).description("결과"),
+                                fieldWithPath("errorCode").description("에러코드")
+                        )
+                ));
+    }
+
+    @Test
+    void studyCacheStats() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(adminAccountToken);
+        given(studyService.getStudyCacheStats())
+                .willReturn(StudyApiDto.StudyCacheStatsResultDto.builder()
+                        .localHitCount(90)
+                        .localMissCount(10)
+                        .localEvictionCount(1)
+                        .localSize(9)
+                        .redisHitCount(6)
+                        .redisMissCount(4)
+                        .invalidationCount(2)
+                        .remoteInvalidationCount(1)
+                        .build());
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/study/cache-stats")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hitRate").value(0.96))
+                .andDo(document("study-cache-stats",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        responseFields(
+                                fieldWithPath("data.localHitCount").type(NUMBER).description("서버 메모리 캐시 적중 횟수"),
+                                fieldWithPath("data.localMissCount").type(NUMBER).description("서버 메모리 캐시 실패 횟수"),
+                                fieldWithPath("data.localEvictionCount").type(NUMBER).description("크기, 유지 시간 초과로 제거된 횟수"),
+                                fieldWithPath("data.localSize").type(NUMBER).description("서버 메모리 캐시 크기"),
+                                fieldWithPath("data.redisHitCount").type(NUMBER).description("Redis 캐시 적중 횟수"),
+                                fieldWithPath("data.redisMissCount").type(NUMBER).description("Redis 캐시 실패 횟수"),
+                                fieldWithPath("data.invalidationCount").type(NUMBER).description("이 서버에서 스터디 변경으로 삭제한 횟수"),
+                                fieldWithPath("data.remoteInvalidationCount").type(NUMBER).description("다른 서버의 알림으로 삭제한 횟수"),
+                                fieldWithPath("data.hitRate").type(NUMBER).description("데이터베이스 조회 없이 반환한 비율"),
+                                fieldWithPath("message").description("예외 메세지"),
+                                fieldWithPath("result").type(STRING).description("결과"),
+                                fieldWithPath("errorCode").description("에러코드")
+                        )
+                ));
+    }
+
     @Test
     void applyStudyByExistedAccount() throws Exception {
         SecurityContextHolder.getContext().setAuthentication(accountWithoutStudyToken);
@@ -1538,6 +1882,56 @@ class StudyApiControllerTest {
                 ));
     }
 
+    @Test
+    void listStudyCommentsWithCursor() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(accountWithSetupStudyToken);
+        given(studyCommentService.getStudyComments(any(UserAccount.class),
+                eq(STUDY_SETUP_EXISTED_ID), eq(STUDY_COMMENT_EXISTED_ID - 1), eq(1)))
+                .willReturn(StudyApiDto.StudyCommentCursorResultDto.builder()
+                        .studyComments(List.of(studyCommentResultDto))
+                        .nextCursor(STUDY_COMMENT_EXISTED_ID)
+                        .hasNext(true)
+                        .build());
+
+        mockMvc.perform(
+                        RestDocumentationRequestBuilders.get("/api/study/{studyId}/comments", STUDY_SETUP_EXISTED_ID)
+                                .param("cursor", String.valueOf(STUDY_COMMENT_EXISTED_ID - 1))
+                                .param("size", "1")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.studyComments[0].content").value(studyCommentResultDto.getContent()))
+                .andExpect(jsonPath("$.data.nextCursor").value(STUDY_COMMENT_EXISTED_ID))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andDo(document("study-comments",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        pathParameters(
+                                parameterWithName("studyId").description("스터디 식별자")
+                        ),
+                        requestParameters(
+                                parameterWithName("cursor").optional().description("이전 페이지의 마지막 댓글 식별자"),
+                                parameterWithName("size").optional().description("페이지 크기 (기본 20, 최대 100)")
+                        ),
+                        responseFields(
+                                fieldWithPath("data.studyComments[].id").type(NUMBER).description("스터디 댓글 식별자"),
+                                fieldWithPath("data.studyComments[].content").type(STRING).description("내용"),
+                                fieldWithPath("data.studyComments[].studyId").type(NUMBER).description("스터디 식별자"),
+                                fieldWithPath("data.studyComments[].accountId").type(NUMBER).description("사용자 식별자"),
+                                fieldWithPath("data.studyComments[].nickname").type(STRING).description("닉네임"),
+                                fieldWithPath("data.studyComments[].writtenByMe").type(BOOLEAN).description("댓글 주인 여부"),
+                                fieldWithPath("data.studyComments[].updatedDate").type(STRING).description("수정 날짜"),
+                                fieldWithPath("data.studyComments[].liked").type(BOOLEAN).description("좋아요 여부"),
+                                fieldWithPath("data.studyComments[].likesCount").type(NUMBER).description("좋아요 수"),
+                                fieldWithPath("data.nextCursor").type(NUMBER).description("다음 페이지 커서"),
+                                fieldWithPath("data.hasNext").type(BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("message").description("예외 메세지"),
+                                fieldWithPath("result").type(STRING).description("결과"),
+                                fieldWithPath("errorCode").description("에러코드")
+                        )
+                ));
+    }
+
     @Test
     void createStudyComment() throws Exception {
         SecurityContextHolder.getContext().setAuthentication(accountWithSetupStudyToken);
@@ -0,0 +1,164 @@
+package com.example.bookclub.infrastructure.account;
+
+import com.example.bookclub.domain.account.AccountIdentity;
+import com.example.bookclub.dto.AccountDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BloomAccountExistenceFilterTest {
+	private static final String EMAIL = "Existed@Email.com";
+	private static final String NICKNAME = "existedNickname";
+	private static final String NOT_EXISTED_EMAIL = "notExisted@email.com";
+	private static final long EXPECTED_INSERTIONS = 1000;
+	private static final double FPP = 0.01;
+
+	private StringRedisTemplate stringRedisTemplate;
+	private BloomAccountExistenceFilter accountExistenceFilter;
+	private AtomicInteger databaseCheckCount;
+	private Predicate<String> checker;
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		accountExistenceFilter = new BloomAccountExistenceFilter(stringRedisTemplate,
+				mock(RedisMessageListenerContainer.class), EXPECTED_INSERTIONS, FPP);
+
+		databaseCheckCount = new AtomicInteger();
+		checker = value -> {
+			databaseCheckCount.incrementAndGet();
+			return value.equalsIgnoreCase(EMAIL) || value.equals(NICKNAME);
+		};
+	}
+
+	@Test
+	void checkWithDatabaseBeforeRebuild() {
+		assertThat(accountExistenceFilter.emailExists(NOT_EXISTED_EMAIL, checker)).isFalse();
+		assertThat(accountExistenceFilter.emailExists(EMAIL, checker)).isTrue();
+
+		assertThat(databaseCheckCount.get()).isEqualTo(2);
+		assertThat(accountExistenceFilter.stats().isReady()).isFalse();
+	}
+
+	@Test
+	void checkWithoutDatabaseForDefiniteMiss() {
+		rebuildWithExistedAccount();
+
+		assertThat(accountExistenceFilter.emailExists(NOT_EXISTED_EMAIL, checker)).isFalse();
+		assertThat(accountExistenceFilter.nicknameExists("notExistedNickname", checker)).isFalse();
+		assertThat(databaseCheckCount.get()).isZero();
+
+		AccountDto.AccountExistenceFilterStatsResultDto stats = accountExistenceFilter.stats();
+		assertThat(stats.isReady()).isTrue();
+		assertThat(stats.getInsertedCount()).isEqualTo(1);
+		assertThat(stats.getDefiniteMissCount()).isEqualTo(2);
+		assertThat(stats.getMemoryBytes()).isPositive();
+	}
+
+	@Test
+	void checkWithDatabaseForPossiblePositive() {
+		rebuildWithExistedAccount();
+
+		assertThat(accountExistenceFilter.emailExists(" existed@email.COM ", value -> {
+			databaseCheckCount.incrementAndGet();
+			return false;
+		})).isFalse();
+		assertThat(accountExistenceFilter.nicknameExists(NICKNAME, checker)).isTrue();
+
+		assertThat(databaseCheckCount.get()).isEqualTo(2);
+		assertThat(accountExistenceFilter.stats().getFalsePositiveCount()).isEqualTo(1);
+	}
+
+	@Test
+	void putAfterRebuild() {
+		rebuildWithExistedAccount();
+
+		accountExistenceFilter.put(new AccountIdentity(NOT_EXISTED_EMAIL, "newNickname"));
+
+		assertThat(accountExistenceFilter.emailExists(NOT_EXISTED_EMAIL, value -> true)).isTrue();
+		assertThat(accountExistenceFilter.nicknameExists("newNickname", value -> true)).isTrue();
+		verify(stringRedisTemplate).convertAndSend(eq(BloomAccountExistenceFilter.PUT_CHANNEL), anyString());
+	}
+
+	@Test
+	void putWhileRebuilding() {
+		rebuildWithExistedAccount();
+
+		accountExistenceFilter.rebuild(consumer -> {
+			consumer.accept(new AccountIdentity(EMAIL, NICKNAME));
+			accountExistenceFilter.put(new AccountIdentity(NOT_EXISTED_EMAIL, "newNickname"));
+		});
+
+		assertThat(accountExistenceFilter.emailExists(NOT_EXISTED_EMAIL, value -> true)).isTrue();
+		assertThat(accountExistenceFilter.stats().getInsertedCount()).isEqualTo(2);
+	}
+
+	@Test
+	void putWithRedisUnavailable() {
+		rebuildWithExistedAccount();
+		willThrow(new RedisConnectionFailureException("connection refused"))
+				.given(stringRedisTemplate).convertAndSend(anyString(), anyString());
+
+		accountExistenceFilter.put(new AccountIdentity(NOT_EXISTED_EMAIL, "newNickname"));
+
+		assertThat(accountExistenceFilter.emailExists(NOT_EXISTED_EMAIL, value -> true)).isTrue();
+	}
+
+	@Test
+	void putFromOtherNode() {
+		rebuildWithExistedAccount();
+
+		accountExistenceFilter.onMessage(new DefaultMessage(
+				BloomAccountExistenceFilter.PUT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+				("otherNode\n" + NOT_EXISTED_EMAIL + "\nnewNickname").getBytes(StandardCharsets.UTF_8)), null);
+
+		assertThat(accountExistenceFilter.emailExists(NOT_EXISTED_EMAIL, value -> true)).isTrue();
+		assertThat(accountExistenceFilter.nicknameExists("newNickname", value -> true)).isTrue();
+	}
+
+	@Test
+	void rebuildFailureKeepsCurrentFilter() {
+		rebuildWithExistedAccount();
+
+		assertThatThrownBy(() -> accountExistenceFilter.rebuild(consumer -> {
+			throw new IllegalStateException("scan failed");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(accountExistenceFilter.stats().isReady()).isTrue();
+		assertThat(accountExistenceFilter.emailExists(NOT_EXISTED_EMAIL, checker)).isFalse();
+		assertThat(databaseCheckCount.get()).isZero();
+	}
+
+	@Test
+	void falsePositiveRateWithinConfiguredRate() {
+		accountExistenceFilter.rebuild(consumer -> IntStream.range(0, (int) EXPECTED_INSERTIONS)
+				.forEach(i -> consumer.accept(new AccountIdentity("user" + i + "@email.com", "user" + i))));
+
+		IntStream.range(0, 10000).forEach(i ->
+				accountExistenceFilter.emailExists("other" + i + "@email.com", value -> false));
+
+		AccountDto.AccountExistenceFilterStatsResultDto stats = accountExistenceFilter.stats();
+		assertThat(stats.getObservedFalsePositiveRate()).isLessThan(FPP * 3);
+		assertThat(stats.getEmailExpectedFpp()).isLessThan(FPP * 1.5);
+	}
+
+	private void rebuildWithExistedAccount() {
+		accountExistenceFilter.rebuild(consumer -> consumer.accept(new AccountIdentity(EMAIL, NICKNAME)));
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.bookclub.infrastructure.account;
+
+import com.example.bookclub.domain.account.accounthistory.AccountChangedEvent;
+import com.example.bookclub.infrastructure.account.accounthistory.RedisAccountHistorySpool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 에서 계정 변경을 보관하고 꺼내, 순서와 내용이 유지되는지 확인한다.
+ */
+class RedisAccountHistorySpoolTest {
+	private static final String SPOOL_KEY = "account-history:spool";
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	private StringRedisTemplate stringRedisTemplate;
+	private RedisAccountHistorySpool accountHistorySpool;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushDb();
+		}
+
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		accountHistorySpool = new RedisAccountHistorySpool(stringRedisTemplate);
+	}
+
+	@Test
+	void pushAndPopInOrder() {
+		accountHistorySpool.push(List.of(event(1L), event(2L)));
+		accountHistorySpool.push(List.of(event(3L)));
+
+		List<AccountChangedEvent> popped = accountHistorySpool.pop(2);
+
+		assertThat(accountIdsOf(popped)).containsExactly(1L, 2L);
+		assertThat(popped.get(0).getName()).isEqualTo("name1");
+		assertThat(popped.get(0).getEmail()).isEqualTo("user1@example.com");
+		assertThat(popped.get(0).getNickname()).isEqualTo("nickname1");
+		assertThat(popped.get(0).getPassword()).isEqualTo("password1");
+		assertThat(popped.get(0).isDeleted()).isTrue();
+		assertThat(accountIdsOf(accountHistorySpool.pop(2))).containsExactly(3L);
+		assertThat(accountHistorySpool.pop(2)).isEmpty();
+	}
+
+	@Test
+	void pushFirstKeepsOrderBeforeRemaining() {
+		accountHistorySpool.push(List.of(event(1L), event(2L), event(3L)));
+		List<AccountChangedEvent> popped = accountHistorySpool.pop(2);
+
+		accountHistorySpool.pushFirst(popped);
+
+		assertThat(accountIdsOf(accountHistorySpool.pop(10))).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	void popDropsInvalidEntry() {
+		stringRedisTemplate.opsForList().rightPush(SPOOL_KEY, "notJson");
+		accountHistorySpool.push(List.of(event(1L)));
+
+		assertThat(accountIdsOf(accountHistorySpool.pop(10))).containsExactly(1L);
+		assertThat(stringRedisTemplate.hasKey(SPOOL_KEY)).isFalse();
+	}
+
+	private AccountChangedEvent event(Long accountId) {
+		return AccountChangedEvent.of(accountId, "name" + accountId, "user" + accountId + "@example.com",
+				"nickname" + accountId, "password" + accountId, true);
+	}
+
+	private List<Long> accountIdsOf(List<AccountChangedEvent> events) {
+		return events.stream()
+				.map(AccountChangedEvent::getAccountId)
+				.collect(Collectors.toList());
+	}
+}
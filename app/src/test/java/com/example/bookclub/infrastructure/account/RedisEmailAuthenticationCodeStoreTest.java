@@ -0,0 +1,100 @@
+package com.example.bookclub.infrastructure.account;
+
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore.Verification;
+import com.example.bookclub.infrastructure.account.emailauthentication.RedisEmailAuthenticationCodeStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 에서 인증번호 확인, 사용 Lua 스크립트를 실행해 인증번호가 언제 지워지는지 확인한다.
+ */
+class RedisEmailAuthenticationCodeStoreTest {
+	private static final String EMAIL = "code@example.com";
+	private static final String AUTHENTICATION_NUMBER = "123456";
+	private static final String OTHER_AUTHENTICATION_NUMBER = "654321";
+	private static final int MAX_ATTEMPTS = 3;
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	private StringRedisTemplate stringRedisTemplate;
+	private RedisEmailAuthenticationCodeStore emailAuthenticationCodeStore;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushDb();
+		}
+
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		emailAuthenticationCodeStore = new RedisEmailAuthenticationCodeStore(stringRedisTemplate, 600, MAX_ATTEMPTS);
+	}
+
+	@Test
+	void verifyMatchedKeepsCode() {
+		emailAuthenticationCodeStore.save(EMAIL, AUTHENTICATION_NUMBER);
+
+		assertThat(emailAuthenticationCodeStore.verify(EMAIL, AUTHENTICATION_NUMBER)).isEqualTo(Verification.MATCHED);
+		assertThat(emailAuthenticationCodeStore.verify(EMAIL, AUTHENTICATION_NUMBER)).isEqualTo(Verification.MATCHED);
+		assertThat(emailAuthenticationCodeStore.find(EMAIL)).contains(AUTHENTICATION_NUMBER);
+	}
+
+	@Test
+	void verifyMismatchedUntilExhausted() {
+		emailAuthenticationCodeStore.save(EMAIL, AUTHENTICATION_NUMBER);
+
+		assertThat(emailAuthenticationCodeStore.verify(EMAIL, OTHER_AUTHENTICATION_NUMBER)).isEqualTo(Verification.MISMATCHED);
+		assertThat(emailAuthenticationCodeStore.verify(EMAIL, OTHER_AUTHENTICATION_NUMBER)).isEqualTo(Verification.MISMATCHED);
+		assertThat(emailAuthenticationCodeStore.verify(EMAIL, OTHER_AUTHENTICATION_NUMBER)).isEqualTo(Verification.EXHAUSTED);
+		assertThat(emailAuthenticationCodeStore.verify(EMAIL, AUTHENTICATION_NUMBER)).isEqualTo(Verification.NOT_FOUND);
+	}
+
+	@Test
+	void consumeDeletesMatchedCodeOnce() {
+		emailAuthenticationCodeStore.save(EMAIL, AUTHENTICATION_NUMBER);
+
+		assertThat(emailAuthenticationCodeStore.consume(EMAIL, AUTHENTICATION_NUMBER)).isTrue();
+		assertThat(emailAuthenticationCodeStore.consume(EMAIL, AUTHENTICATION_NUMBER)).isFalse();
+		assertThat(emailAuthenticationCodeStore.verify(EMAIL, AUTHENTICATION_NUMBER)).isEqualTo(Verification.NOT_FOUND);
+	}
+
+	@Test
+	void consumeKeepsReissuedCode() {
+		emailAuthenticationCodeStore.save(EMAIL, AUTHENTICATION_NUMBER);
+		emailAuthenticationCodeStore.save(EMAIL, OTHER_AUTHENTICATION_NUMBER);
+
+		assertThat(emailAuthenticationCodeStore.consume(EMAIL, AUTHENTICATION_NUMBER)).isFalse();
+		assertThat(emailAuthenticationCodeStore.find(EMAIL)).contains(OTHER_AUTHENTICATION_NUMBER);
+	}
+}
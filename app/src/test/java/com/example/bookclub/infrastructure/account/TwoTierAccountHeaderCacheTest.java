@@ -0,0 +1,116 @@
+package com.example.bookclub.infrastructure.account;
+
+import com.example.bookclub.domain.account.AccountHeader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TwoTierAccountHeaderCacheTest {
+	private static final String EMAIL = "accountHeaderEmail";
+	private static final Long ACCOUNT_ID = 1L;
+	private static final Long STUDY_ID = 2L;
+
+	private Cache redisCache;
+	private TwoTierAccountHeaderCache accountHeaderCache;
+	private AtomicInteger loadCount;
+	private Function<String, AccountHeader> loader;
+
+	@BeforeEach
+	void setUp() {
+		RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+		redisCache = mock(Cache.class);
+		given(redisCacheManager.getCache(TwoTierAccountHeaderCache.CACHE_NAME)).willReturn(redisCache);
+
+		accountHeaderCache = new TwoTierAccountHeaderCache(redisCacheManager);
+
+		loadCount = new AtomicInteger();
+		loader = email -> {
+			loadCount.incrementAndGet();
+			return accountHeader(email);
+		};
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void getLoadsOncePerRequest() {
+		AccountHeader first = accountHeaderCache.get(EMAIL, loader);
+		AccountHeader second = accountHeaderCache.get(EMAIL, loader);
+
+		assertThat(second).isSameAs(first);
+		assertThat(loadCount.get()).isEqualTo(1);
+		verify(redisCache, times(1)).get(EMAIL, AccountHeader.class);
+		verify(redisCache).put(eq(EMAIL), any(AccountHeader.class));
+	}
+
+	@Test
+	void getFromRedisInNextRequest() {
+		accountHeaderCache.get(EMAIL, loader);
+		given(redisCache.get(EMAIL, AccountHeader.class)).willReturn(accountHeader(EMAIL));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		AccountHeader accountHeader = accountHeaderCache.get(EMAIL, loader);
+
+		assertThat(accountHeader.getId()).isEqualTo(ACCOUNT_ID);
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void getWithoutRequestUsesRedisOnly() {
+		RequestContextHolder.resetRequestAttributes();
+
+		accountHeaderCache.get(EMAIL, loader);
+		accountHeaderCache.get(EMAIL, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+		verify(redisCache, times(2)).get(EMAIL, AccountHeader.class);
+	}
+
+	@Test
+	void getWithRedisFailure() {
+		given(redisCache.get(EMAIL, AccountHeader.class))
+				.willThrow(new RedisConnectionFailureException("connection refused"));
+
+		AccountHeader accountHeader = accountHeaderCache.get(EMAIL, loader);
+
+		assertThat(accountHeader.getStudy().getId()).isEqualTo(STUDY_ID);
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void evictRemovesRequestAndRedis() {
+		accountHeaderCache.get(EMAIL, loader);
+
+		accountHeaderCache.evict(EMAIL);
+		accountHeaderCache.get(EMAIL, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+		verify(redisCache).evict(EMAIL);
+	}
+
+	private AccountHeader accountHeader(String email) {
+		return new AccountHeader(ACCOUNT_ID, email, "accountHeaderNickname", STUDY_ID, email);
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.bookclub.infrastructure.account.role;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalAuthorityCacheTest {
+	private static final String EMAIL = "authorityEmail";
+	private static final String OTHER_EMAIL = "otherAuthorityEmail";
+	private static final String ROLE_NAME = "USER";
+
+	private LocalAuthorityCache authorityCache;
+	private AtomicInteger loadCount;
+	private Function<String, List<String>> loader;
+
+	@BeforeEach
+	void setUp() {
+		authorityCache = new LocalAuthorityCache(1, 600);
+		loadCount = new AtomicInteger();
+		loader = email -> {
+			loadCount.incrementAndGet();
+			return List.of(ROLE_NAME);
+		};
+	}
+
+	@Test
+	void getLoadsOnlyOnce() {
+		List<String> first = authorityCache.get(EMAIL, loader);
+		List<String> second = authorityCache.get(EMAIL, loader);
+
+		assertThat(first).containsExactly(ROLE_NAME);
+		assertThat(second).containsExactly(ROLE_NAME);
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void getAfterEvictLoadsAgain() {
+		authorityCache.get(EMAIL, loader);
+		authorityCache.evict(EMAIL);
+		authorityCache.get(EMAIL, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	void getBeyondMaximumSizeEvictsOldEntry() {
+		authorityCache.get(EMAIL, loader);
+		authorityCache.get(OTHER_EMAIL, loader);
+		authorityCache.get(EMAIL, loader);
+
+		assertThat(loadCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	void getWithFailingLoaderRethrowsAndDoesNotCache() {
+		assertThatThrownBy(() -> authorityCache.get(EMAIL, email -> {
+			throw new IllegalArgumentException(email);
+		}))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		authorityCache.get(EMAIL, loader);
+
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+}
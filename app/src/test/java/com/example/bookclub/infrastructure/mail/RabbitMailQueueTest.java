@@ -0,0 +1,183 @@
+package com.example.bookclub.infrastructure.mail;
+
+import com.example.bookclub.common.exception.account.emailauthentication.MailQueueUnavailableException;
+import com.example.bookclub.domain.mail.MailPriority;
+import com.example.bookclub.domain.mail.QueuedMail;
+import com.example.bookclub.dto.EmailDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RabbitMailQueueTest {
+	private static final String EMAIL = "mailQueue@example.com";
+	private static final String SUBJECT = "BookClub 인증번호";
+	private static final String AUTHENTICATION_NUMBER = "12345";
+	private static final long CONFIRM_TIMEOUT_MILLIS = 5000;
+
+	private RabbitTemplate rabbitTemplate;
+	private RabbitOperations rabbitOperations;
+	private AmqpAdmin amqpAdmin;
+	private SmtpMailTransport smtpMailTransport;
+	private ObjectMapper objectMapper;
+	private RabbitMailQueue rabbitMailQueue;
+
+	@BeforeEach
+	void setUp() {
+		rabbitTemplate = mock(RabbitTemplate.class);
+		rabbitOperations = mock(RabbitOperations.class);
+		amqpAdmin = mock(AmqpAdmin.class);
+		smtpMailTransport = mock(SmtpMailTransport.class);
+		objectMapper = new ObjectMapper();
+
+		given(rabbitTemplate.invoke(any())).willAnswer(invocation -> {
+			RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+			return callback.doInRabbit(rabbitOperations);
+		});
+		given(smtpMailTransport.createMimeMessage())
+				.willAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+
+		rabbitMailQueue = new RabbitMailQueue(rabbitTemplate, amqpAdmin, smtpMailTransport, objectMapper,
+				CONFIRM_TIMEOUT_MILLIS);
+	}
+
+	@Test
+	void enqueueWithPriorityAndWaitsForConfirm() {
+		rabbitMailQueue.enqueue(authenticationMail());
+
+		ArgumentCaptor<MessagePostProcessor> postProcessor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+		verify(rabbitOperations).convertAndSend(eq(""), eq(RabbitMailQueue.MAIL_QUEUE), anyString(),
+				postProcessor.capture());
+		verify(rabbitOperations).waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+
+		Message message = postProcessor.getValue().postProcessMessage(new Message(new byte[0], new MessageProperties()));
+		assertThat(message.getMessageProperties().getPriority()).isEqualTo(MailPriority.AUTHENTICATION.getValue());
+		assertThat(rabbitMailQueue.stats().getEnqueuedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void enqueueWithoutConfirmThrowsMailQueueUnavailable() {
+		willThrow(new AmqpTimeoutException("no confirm")).given(rabbitOperations)
+				.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+
+		assertThatThrownBy(() -> rabbitMailQueue.enqueue(authenticationMail()))
+				.isInstanceOf(MailQueueUnavailableException.class);
+
+		EmailDto.MailQueueStatsResultDto stats = rabbitMailQueue.stats();
+		assertThat(stats.getEnqueuedCount()).isZero();
+		assertThat(stats.getEnqueueFailedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deliverSendsMailAndRecordsLatency() throws Exception {
+		rabbitMailQueue.deliver(objectMapper.writeValueAsString(authenticationMail()));
+
+		ArgumentCaptor<MimeMessage> sent = ArgumentCaptor.forClass(MimeMessage.class);
+		verify(smtpMailTransport).send(sent.capture());
+		assertThat(sent.getValue().getAllRecipients()).containsExactly(new InternetAddress(EMAIL));
+		assertThat(sent.getValue().getSubject()).isEqualTo(SUBJECT);
+		assertThat(sent.getValue().getContent()).isEqualTo(AUTHENTICATION_NUMBER);
+
+		EmailDto.MailQueueStatsResultDto stats = rabbitMailQueue.stats();
+		assertThat(stats.getSentCount()).isEqualTo(1);
+		assertThat(stats.getFailedAttemptCount()).isZero();
+	}
+
+	@Test
+	void deliverWithTransientFailureRethrowsForRetry() throws Exception {
+		willThrow(new MessagingException("connection reset")).given(smtpMailTransport).send(any());
+
+		assertThatThrownBy(() -> rabbitMailQueue.deliver(objectMapper.writeValueAsString(authenticationMail())))
+				.isInstanceOf(MessagingException.class);
+
+		EmailDto.MailQueueStatsResultDto stats = rabbitMailQueue.stats();
+		assertThat(stats.getSentCount()).isZero();
+		assertThat(stats.getFailedAttemptCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deliverWithInvalidAddressRejectsWithoutRetry() throws Exception {
+		Address[] invalidAddresses = { new InternetAddress(EMAIL) };
+		willThrow(new SendFailedException("invalid", null, null, null, invalidAddresses))
+				.given(smtpMailTransport).send(any());
+
+		assertThatThrownBy(() -> rabbitMailQueue.deliver(objectMapper.writeValueAsString(authenticationMail())))
+				.isInstanceOf(AmqpRejectAndDontRequeueException.class);
+	}
+
+	@Test
+	void deliverWithUnreadablePayloadRejectsWithoutRetry() {
+		assertThatThrownBy(() -> rabbitMailQueue.deliver("not json"))
+				.isInstanceOf(AmqpRejectAndDontRequeueException.class);
+	}
+
+	@Test
+	void recoverCountsDeadLetterAndRejects() {
+		Message message = new Message(new byte[0], new MessageProperties());
+
+		assertThatThrownBy(() -> rabbitMailQueue.recover(message, new MessagingException("exhausted")))
+				.isInstanceOf(ListenerExecutionFailedException.class)
+				.hasCauseInstanceOf(AmqpRejectAndDontRequeueException.class);
+
+		assertThat(rabbitMailQueue.stats().getDeadLetteredCount()).isEqualTo(1);
+	}
+
+	@Test
+	void statsWithQueueDepths() {
+		given(amqpAdmin.getQueueInfo(RabbitMailQueue.MAIL_QUEUE))
+				.willReturn(new QueueInformation(RabbitMailQueue.MAIL_QUEUE, 3, 1));
+		given(amqpAdmin.getQueueInfo(RabbitMailQueue.MAIL_DEAD_LETTER_QUEUE))
+				.willReturn(new QueueInformation(RabbitMailQueue.MAIL_DEAD_LETTER_QUEUE, 2, 0));
+		given(smtpMailTransport.getConnectCount()).willReturn(1L);
+
+		EmailDto.MailQueueStatsResultDto stats = rabbitMailQueue.stats();
+
+		assertThat(stats.getQueueDepth()).isEqualTo(3);
+		assertThat(stats.getConsumerCount()).isEqualTo(1);
+		assertThat(stats.getDeadLetterDepth()).isEqualTo(2);
+		assertThat(stats.getSmtpConnectCount()).isEqualTo(1);
+	}
+
+	@Test
+	void statsWithoutBrokerReportsUnknownDepth() {
+		given(amqpAdmin.getQueueInfo(any())).willThrow(new AmqpConnectException(new RuntimeException("down")));
+
+		EmailDto.MailQueueStatsResultDto stats = rabbitMailQueue.stats();
+
+		assertThat(stats.getQueueDepth()).isEqualTo(-1);
+		assertThat(stats.getDeadLetterDepth()).isEqualTo(-1);
+	}
+
+	private QueuedMail authenticationMail() {
+		return QueuedMail.of(EMAIL, SUBJECT, AUTHENTICATION_NUMBER, MailPriority.AUTHENTICATION);
+	}
+}
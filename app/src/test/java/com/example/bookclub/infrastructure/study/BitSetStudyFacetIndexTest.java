@@ -0,0 +1,152 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.domain.study.Day;
+import com.example.bookclub.domain.study.StudyFacet;
+import com.example.bookclub.domain.study.StudyFacetSearchResult;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.Zone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BitSetStudyFacetIndexTest {
+	private BitSetStudyFacetIndex studyFacetIndex;
+
+	@BeforeEach
+	void setUp() {
+		studyFacetIndex = new BitSetStudyFacetIndex();
+		studyFacetIndex.put(new StudyFacet(1L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+		studyFacetIndex.put(new StudyFacet(2L, Zone.SEOUL, Day.FRIDAY, StudyState.CLOSE));
+		studyFacetIndex.put(new StudyFacet(3L, Zone.BUSAN, Day.MONDAY, StudyState.OPEN));
+		studyFacetIndex.put(new StudyFacet(4L, Zone.JEJU, Day.SUNDAY, StudyState.END));
+		studyFacetIndex.put(new StudyFacet(5L, Zone.SEOUL, Day.MONDAY, StudyState.END));
+	}
+
+	@Test
+	void searchWithoutConditions() {
+		StudyFacetSearchResult result = studyFacetIndex.search(null, null, null, null, 10);
+
+		assertThat(result.getStudyIds()).containsExactly(5L, 4L, 3L, 2L, 1L);
+		assertThat(result.getTotalCount()).isEqualTo(5);
+		assertThat(result.getZoneCounts().get(Zone.SEOUL)).isEqualTo(3);
+		assertThat(result.getZoneCounts().get(Zone.GYEONGGI)).isZero();
+		assertThat(result.getDayCounts().get(Day.MONDAY)).isEqualTo(3);
+		assertThat(result.getStudyStateCounts().get(StudyState.END)).isEqualTo(2);
+	}
+
+	@Test
+	void searchCountsEachFacetWithOtherConditions() {
+		StudyFacetSearchResult result = studyFacetIndex.search(
+				Set.of(Zone.SEOUL), Set.of(Day.MONDAY), Set.of(StudyState.OPEN, StudyState.END), null, 10);
+
+		assertThat(result.getStudyIds()).containsExactly(5L, 1L);
+		assertThat(result.getTotalCount()).isEqualTo(2);
+		assertThat(result.getZoneCounts().get(Zone.SEOUL)).isEqualTo(2);
+		assertThat(result.getZoneCounts().get(Zone.BUSAN)).isEqualTo(1);
+		assertThat(result.getDayCounts().get(Day.FRIDAY)).isZero();
+		assertThat(result.getStudyStateCounts().get(StudyState.CLOSE)).isZero();
+		assertThat(result.getStudyStateCounts().get(StudyState.OPEN)).isEqualTo(1);
+	}
+
+	@Test
+	void searchWithCursor() {
+		StudyFacetSearchResult firstPage = studyFacetIndex.search(Set.of(Zone.SEOUL), null, null, null, 2);
+		StudyFacetSearchResult secondPage = studyFacetIndex.search(Set.of(Zone.SEOUL), null, null, 2L, 2);
+
+		assertThat(firstPage.getStudyIds()).containsExactly(5L, 2L);
+		assertThat(secondPage.getStudyIds()).containsExactly(1L);
+		assertThat(secondPage.getTotalCount()).isEqualTo(3);
+	}
+
+	@Test
+	void putMovesStudyToChangedFacets() {
+		studyFacetIndex.put(new StudyFacet(1L, Zone.BUSAN, Day.MONDAY, StudyState.CLOSE));
+
+		StudyFacetSearchResult result = studyFacetIndex.search(null, null, null, null, 10);
+
+		assertThat(result.getZoneCounts().get(Zone.SEOUL)).isEqualTo(2);
+		assertThat(result.getZoneCounts().get(Zone.BUSAN)).isEqualTo(2);
+		assertThat(result.getStudyStateCounts().get(StudyState.OPEN)).isEqualTo(1);
+		assertThat(studyFacetIndex.size()).isEqualTo(5);
+	}
+
+	@Test
+	void remove() {
+		studyFacetIndex.remove(5L);
+
+		StudyFacetSearchResult result = studyFacetIndex.search(Set.of(Zone.SEOUL), null, null, null, 10);
+
+		assertThat(result.getStudyIds()).containsExactly(2L, 1L);
+		assertThat(result.getStudyStateCounts().get(StudyState.END)).isZero();
+		assertThat(studyFacetIndex.size()).isEqualTo(4);
+	}
+
+	@Test
+	void rebuildKeepsChangesMadeWhileLoading() {
+		int indexedCount = studyFacetIndex.rebuild(consumer -> {
+			consumer.accept(new StudyFacet(1L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+			consumer.accept(new StudyFacet(2L, Zone.SEOUL, Day.FRIDAY, StudyState.CLOSE));
+			studyFacetIndex.put(new StudyFacet(6L, Zone.DAEGU, Day.TUESDAY, StudyState.OPEN));
+			studyFacetIndex.remove(1L);
+		});
+
+		StudyFacetSearchResult result = studyFacetIndex.search(null, null, null, null, 10);
+
+		assertThat(indexedCount).isEqualTo(2);
+		assertThat(result.getStudyIds()).containsExactly(6L, 2L);
+	}
+
+	@Test
+	void searchWithSparseIdsBeyondIntRange() {
+		long largeId = Integer.MAX_VALUE * 4L;
+		studyFacetIndex.put(new StudyFacet(largeId, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+		studyFacetIndex.put(new StudyFacet(largeId + 1_000_000L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+
+		StudyFacetSearchResult firstPage = studyFacetIndex.search(Set.of(Zone.SEOUL), null, null, null, 2);
+		StudyFacetSearchResult secondPage = studyFacetIndex.search(Set.of(Zone.SEOUL), null, null, largeId, 2);
+
+		assertThat(firstPage.getStudyIds()).containsExactly(largeId + 1_000_000L, largeId);
+		assertThat(firstPage.getTotalCount()).isEqualTo(5);
+		assertThat(secondPage.getStudyIds()).containsExactly(5L, 2L);
+	}
+
+	@Test
+	void searchWithCursorAfterOutOfOrderPut() {
+		studyFacetIndex.remove(3L);
+		studyFacetIndex.put(new StudyFacet(10L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+		studyFacetIndex.put(new StudyFacet(7L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+
+		StudyFacetSearchResult firstPage = studyFacetIndex.search(Set.of(Zone.SEOUL), null, null, null, 3);
+		StudyFacetSearchResult secondPage = studyFacetIndex.search(Set.of(Zone.SEOUL), null, null, 5L, 3);
+
+		assertThat(firstPage.getStudyIds()).containsExactly(10L, 7L, 5L);
+		assertThat(secondPage.getStudyIds()).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void rebuildOrdersStudiesLoadedOutOfOrder() {
+		studyFacetIndex.rebuild(consumer -> {
+			consumer.accept(new StudyFacet(30L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+			consumer.accept(new StudyFacet(10L, Zone.SEOUL, Day.MONDAY, StudyState.OPEN));
+			consumer.accept(new StudyFacet(20L, Zone.BUSAN, Day.MONDAY, StudyState.OPEN));
+		});
+
+		StudyFacetSearchResult result = studyFacetIndex.search(null, null, null, 30L, 10);
+
+		assertThat(result.getStudyIds()).containsExactly(20L, 10L);
+		assertThat(result.getTotalCount()).isEqualTo(3);
+	}
+
+	@Test
+	void rebuildWithFailedLoaderKeepsCurrentIndex() {
+		assertThatThrownBy(() -> studyFacetIndex.rebuild(consumer -> {
+			throw new IllegalStateException("load failed");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(studyFacetIndex.size()).isEqualTo(5);
+	}
+}
@@ -0,0 +1,326 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyFacet;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.favorite.Favorite;
+import com.example.bookclub.domain.study.studycomment.StudyComment;
+import com.example.bookclub.domain.study.studycommentlike.StudyCommentLike;
+import com.example.bookclub.domain.study.studylike.StudyLike;
+import com.example.bookclub.dto.StudyApiDto;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaQueryFactoryConfig.class, BeanUtil.class})
+class JpaStudyRepositoryTest {
+	private static final String BOOK_NAME_PREFIX = "studyBookName";
+	private static final int STUDY_COUNT = 5;
+	private static final int PAGE_SIZE = 3;
+
+	@Autowired
+	private JpaStudyRepository studyRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Account likedAccount;
+	private Account otherAccount;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		likedAccount = entityManager.persist(Account.builder()
+				.email("likedAccountEmail")
+				.nickname("likedAccountNickname")
+				.build());
+		otherAccount = entityManager.persist(Account.builder()
+				.email("otherAccountEmail")
+				.nickname("otherAccountNickname")
+				.build());
+
+		for (int i = 0; i < STUDY_COUNT; i++) {
+			Study study = entityManager.persist(Study.builder()
+					.name("studyName" + i)
+					.bookName(BOOK_NAME_PREFIX + i)
+					.studyState(StudyState.OPEN)
+					.likesCount(i % 2 == 0 ? 1 : 0)
+					.build());
+
+			if (i % 2 == 0) {
+				entityManager.persist(StudyLike.builder()
+						.study(study)
+						.account(likedAccount)
+						.build());
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findByBookNameContainingIssuesSingleQueryPerPage() {
+		List<StudyApiDto.StudyResultDto> studies = studyRepository.findByBookNameContaining(
+				BOOK_NAME_PREFIX, StudyState.OPEN, likedAccount.getId(), PageRequest.of(0, PAGE_SIZE));
+
+		assertThat(studies).hasSize(PAGE_SIZE);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void findByBookNameContainingWithLikedAccount() {
+		List<StudyApiDto.StudyResultDto> studies = studyRepository.findByBookNameContaining(
+				BOOK_NAME_PREFIX, StudyState.OPEN, likedAccount.getId(), PageRequest.of(0, STUDY_COUNT));
+
+		for (StudyApiDto.StudyResultDto study : studies) {
+			assertThat(study.isLiked()).isEqualTo(study.getLikesCount() == 1);
+		}
+	}
+
+	@Test
+	void findByBookNameContainingWithOtherAccount() {
+		List<StudyApiDto.StudyResultDto> studies = studyRepository.findByBookNameContaining(
+				BOOK_NAME_PREFIX, StudyState.OPEN, otherAccount.getId(), PageRequest.of(0, STUDY_COUNT));
+
+		assertThat(studies).hasSize(STUDY_COUNT);
+		assertThat(studies).noneMatch(StudyApiDto.StudyResultDto::isLiked);
+	}
+
+	@Test
+	void findByBookNameContainingWithCursorMovesForwardAndBackward() {
+		List<StudyApiDto.StudyResultDto> firstPage = studyRepository.findByBookNameContainingWithCursor(
+				BOOK_NAME_PREFIX, StudyState.OPEN, likedAccount.getId(), null, null, PAGE_SIZE);
+		Long lastIdOfFirstPage = firstPage.get(PAGE_SIZE - 1).getId();
+
+		List<StudyApiDto.StudyResultDto> secondPage = studyRepository.findByBookNameContainingWithCursor(
+				BOOK_NAME_PREFIX, StudyState.OPEN, likedAccount.getId(), lastIdOfFirstPage, null, PAGE_SIZE);
+
+		assertThat(secondPage).hasSize(STUDY_COUNT - PAGE_SIZE);
+		assertThat(secondPage).allMatch(study -> study.getId() < lastIdOfFirstPage);
+
+		List<StudyApiDto.StudyResultDto> previousPage = studyRepository.findByBookNameContainingWithCursor(
+				BOOK_NAME_PREFIX, StudyState.OPEN, likedAccount.getId(), null, secondPage.get(0).getId(), PAGE_SIZE);
+
+		assertThat(previousPage).extracting(StudyApiDto.StudyResultDto::getId)
+				.containsExactlyElementsOf(firstPage.stream().map(StudyApiDto.StudyResultDto::getId)
+						.collect(Collectors.toList()));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+	@Test
+	void updateStudyStateByStartDate() {
+		LocalDate today = LocalDate.now();
+		Study startToday = persistStudy(StudyState.OPEN, today, today.plusDays(7));
+		Study startTomorrow = persistStudy(StudyState.OPEN, today.plusDays(1), today.plusDays(7));
+		statistics.clear();
+
+		int updatedCount = studyRepository.updateStudyStateByStartDate(StudyState.OPEN, StudyState.CLOSE, today);
+
+		assertThat(updatedCount).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(entityManager.find(Study.class, startToday.getId()).getStudyState()).isEqualTo(StudyState.CLOSE);
+		assertThat(entityManager.find(Study.class, startTomorrow.getId()).getStudyState()).isEqualTo(StudyState.OPEN);
+	}
+
+	@Test
+	void findStudyResultsWithCursorWalksAllPagesInSingleQueryEach() {
+		List<StudyApiDto.StudyResultDto> studies = new ArrayList<>();
+		Long afterId = null;
+		int pageCount = 0;
+		while (true) {
+			List<StudyApiDto.StudyResultDto> page = studyRepository.findStudyResultsWithCursor(afterId, PAGE_SIZE);
+			pageCount++;
+			if (page.isEmpty()) {
+				break;
+			}
+
+			studies.addAll(page);
+			afterId = page.get(page.size() - 1).getId();
+		}
+
+		assertThat(studies).hasSize(STUDY_COUNT);
+		assertThat(studies).extracting(StudyApiDto.StudyResultDto::getId)
+				.isSortedAccordingTo(Comparator.reverseOrder())
+				.doesNotHaveDuplicates();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(pageCount);
+	}
+
+	@Test
+	void streamStudyResultsWithoutManagedEntities() {
+		Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+		List<StudyApiDto.StudyResultDto> studies;
+		try (Stream<StudyApiDto.StudyResultDto> studyResultDtos = studyRepository.streamStudyResults(2)) {
+			studies = studyResultDtos.collect(Collectors.toList());
+		}
+
+		assertThat(studies).hasSize(STUDY_COUNT);
+		assertThat(studies).extracting(StudyApiDto.StudyResultDto::getLikesCount).contains(1);
+		assertThat(session.getStatistics().getEntityCount()).isZero();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void streamStudyFacetsInIdOrder() {
+		List<Long> studyIds;
+		try (Stream<StudyFacet> studyFacets = studyRepository.streamStudyFacets(2)) {
+			studyIds = studyFacets.map(StudyFacet::getId).collect(Collectors.toList());
+		}
+
+		assertThat(studyIds).hasSize(STUDY_COUNT);
+		assertThat(studyIds).isSortedAccordingTo(Comparator.naturalOrder());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void updateStudyStateByEndDate() {
+		LocalDate today = LocalDate.now();
+		Study endYesterday = persistStudy(StudyState.CLOSE, today.minusDays(7), today.minusDays(1));
+		Study endToday = persistStudy(StudyState.CLOSE, today.minusDays(7), today);
+		statistics.clear();
+
+		int updatedCount = studyRepository.updateStudyStateByEndDate(StudyState.CLOSE, StudyState.END, today);
+
+		assertThat(updatedCount).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(entityManager.find(Study.class, endYesterday.getId()).getStudyState()).isEqualTo(StudyState.END);
+		assertThat(entityManager.find(Study.class, endToday.getId()).getStudyState()).isEqualTo(StudyState.CLOSE);
+	}
+
+	@Test
+	void addApplyCountIsNotOverwrittenByDirtyChecking() {
+		LocalDate today = LocalDate.now();
+		Study study = persistStudy(StudyState.OPEN, today.plusDays(1), today.plusDays(7));
+		Study loadedStudy = entityManager.find(Study.class, study.getId());
+
+		studyRepository.addApplyCount(study.getId(), 3);
+		loadedStudy.enableSeatCounter();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(entityManager.find(Study.class, study.getId()).getApplyCount()).isEqualTo(3);
+		assertThat(studyRepository.findAllBySeatCounterEnabledTrueAndStudyState(StudyState.OPEN))
+				.extracting(Study::getId)
+				.containsExactly(study.getId());
+	}
+
+	@Test
+	void getStudiesCountGroupByStudyStateInSingleQuery() {
+		LocalDate today = LocalDate.now();
+		persistStudy(StudyState.CLOSE, today.minusDays(7), today.plusDays(7));
+		persistStudy(StudyState.END, today.minusDays(14), today.minusDays(7));
+		persistStudy(StudyState.END, today.minusDays(14), today.minusDays(7));
+		statistics.clear();
+
+		Map<StudyState, Long> studiesCounts = studyRepository.getStudiesCountGroupByStudyState();
+
+		assertThat(studiesCounts).containsEntry(StudyState.OPEN, (long) STUDY_COUNT)
+				.containsEntry(StudyState.CLOSE, 1L)
+				.containsEntry(StudyState.END, 2L);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deleteWithAssociationsInFixedStatements() {
+		LocalDate today = LocalDate.now();
+		Study study = persistStudy(StudyState.OPEN, today.plusDays(1), today.plusDays(7));
+		Account member = entityManager.persist(Account.builder()
+				.email("memberAccountEmail")
+				.nickname("memberAccountNickname")
+				.study(study)
+				.build());
+		for (int i = 0; i < 3; i++) {
+			StudyComment studyComment = entityManager.persist(StudyComment.builder()
+					.content("studyComment" + i)
+					.study(study)
+					.account(member)
+					.build());
+			entityManager.persist(StudyCommentLike.builder()
+					.studyComment(studyComment)
+					.account(otherAccount)
+					.build());
+		}
+		entityManager.persist(StudyLike.builder()
+				.study(study)
+				.account(otherAccount)
+				.build());
+		entityManager.persist(Favorite.builder()
+				.study(study)
+				.account(otherAccount)
+				.build());
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		long deletedCount = studyRepository.deleteWithAssociations(study.getId(), study.getVersion());
+
+		assertThat(deletedCount).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+		assertThat(entityManager.find(Study.class, study.getId())).isNull();
+		assertThat(entityManager.find(Account.class, member.getId()).getStudy()).isNull();
+		assertThat(countOf(StudyComment.class)).isZero();
+		assertThat(countOf(StudyCommentLike.class)).isZero();
+		assertThat(countOf(Favorite.class)).isZero();
+		assertThat(countOf(StudyLike.class)).isEqualTo(STUDY_COUNT / 2 + 1);
+	}
+
+	@Test
+	void deleteWithAssociationsWithStaleVersion() {
+		LocalDate today = LocalDate.now();
+		Study study = persistStudy(StudyState.OPEN, today.plusDays(1), today.plusDays(7));
+
+		long deletedCount = studyRepository.deleteWithAssociations(study.getId(), study.getVersion() + 1);
+
+		assertThat(deletedCount).isZero();
+		assertThat(entityManager.find(Study.class, study.getId())).isNotNull();
+	}
+
+	private long countOf(Class<?> entityClass) {
+		return entityManager.getEntityManager()
+				.createQuery("select count(e) from " + entityClass.getSimpleName() + " e", Long.class)
+				.getSingleResult();
+	}
+
+	private Study persistStudy(StudyState studyState, LocalDate startDate, LocalDate endDate) {
+		Study study = entityManager.persist(Study.builder()
+				.name("stateStudyName")
+				.bookName("stateStudyBookName")
+				.studyState(studyState)
+				.startDate(startDate)
+				.endDate(endDate)
+				.build());
+		entityManager.flush();
+		entityManager.clear();
+
+		return study;
+	}
+}
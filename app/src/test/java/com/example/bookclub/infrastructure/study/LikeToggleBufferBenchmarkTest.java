@@ -0,0 +1,308 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.study.LikeToggleBufferService;
+import com.example.bookclub.common.exception.study.studylike.LikeToggleBufferFullException;
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.LikeTarget;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.studycomment.StudyComment;
+import com.example.bookclub.domain.study.studylike.StudyLike;
+import com.example.bookclub.infrastructure.account.JpaAccountRepository;
+import com.example.bookclub.infrastructure.study.studycomment.JpaStudyCommentRepository;
+import com.example.bookclub.infrastructure.study.studycommentlike.JpaStudyCommentLikeRepository;
+import com.example.bookclub.infrastructure.study.studylike.JpaStudyLikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 좋아요 버퍼가 사용자와 대상별 마지막 상태만 반영하는지, 반영에 실패한 대상만 되돌리고 최대 시도 후 버리는지 확인하고,
+ * 여러 사용자가 한 스터디에 좋아요, 좋아요 취소를 반복할 때 바로 저장하는 방식과 초당 처리량을 비교한다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:like-buffer;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.jdbc.batch_size=100",
+		"spring.jpa.properties.hibernate.order_inserts=true",
+		"study.like.buffer.enabled=true",
+		"study.like.buffer.poll-millis=3600000",
+		"study.like.buffer.max-attempts=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaQueryFactoryConfig.class, BeanUtil.class, LikeToggleBufferService.class, StripedLikeToggleBuffer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeToggleBufferBenchmarkTest {
+	private static final int ACCOUNT_COUNT = 160;
+	private static final int THREAD_COUNT = 16;
+	private static final int TOGGLE_COUNT_PER_THREAD = 200;
+	private static final long FLUSH_INTERVAL_MILLIS = 100;
+	private static final Long NOT_EXISTED_ACCOUNT_ID = Long.MAX_VALUE;
+
+	@MockBean
+	private AccountService accountService;
+
+	@Autowired
+	private LikeToggleBufferService likeToggleBufferService;
+
+	@Autowired
+	private StripedLikeToggleBuffer likeToggleBuffer;
+
+	@Autowired
+	private JpaStudyRepository studyRepository;
+
+	@Autowired
+	private JpaStudyCommentRepository studyCommentRepository;
+
+	@Autowired
+	private JpaAccountRepository accountRepository;
+
+	@Autowired
+	private JpaStudyLikeRepository studyLikeRepository;
+
+	@Autowired
+	private JpaStudyCommentLikeRepository studyCommentLikeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private TransactionTemplate transactionTemplate;
+	private Statistics statistics;
+	private Long studyId;
+	private Long studyCommentId;
+	private List<Long> accountIds;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		given(accountService.getAccountReference(anyLong()))
+				.willAnswer(invocation -> accountRepository.getOne(invocation.getArgument(0)));
+
+		accountIds = new ArrayList<>();
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			int index = i;
+			accountIds.add(transactionTemplate.execute(status -> accountRepository.save(Account.builder()
+					.email("bufferAccountEmail" + index)
+					.nickname("bufferAccountNickname" + index)
+					.build()).getId()));
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Study study = studyRepository.save(Study.builder()
+					.name("bufferStudyName")
+					.bookName("bufferStudyBookName")
+					.studyState(StudyState.OPEN)
+					.build());
+			studyId = study.getId();
+
+			studyCommentId = studyCommentRepository.save(StudyComment.builder()
+					.content("bufferStudyComment")
+					.account(accountRepository.getOne(accountIds.get(0)))
+					.study(study)
+					.build()).getId();
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		likeToggleBufferService.flush();
+		transactionTemplate.executeWithoutResult(status -> {
+			studyLikeRepository.deleteAll();
+			studyCommentLikeRepository.deleteAll();
+			studyCommentRepository.deleteAll();
+			studyRepository.deleteAll();
+			accountRepository.deleteAll();
+		});
+	}
+
+	@Test
+	void flushOnlyLastStatePerAccount() {
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			Long accountId = accountIds.get(i);
+			assertThat(likeToggleBufferService.toggleStudyLike(studyId, accountId, true)).isTrue();
+			assertThat(likeToggleBufferService.toggleStudyLike(studyId, accountId, true)).isFalse();
+			assertThat(likeToggleBufferService.toggleStudyLike(studyId, accountId, false)).isTrue();
+			if (i % 2 == 0) {
+				assertThat(likeToggleBufferService.toggleStudyLike(studyId, accountId, true)).isTrue();
+				assertThat(likeToggleBufferService.toggleStudyCommentLike(studyCommentId, accountId, true)).isTrue();
+			}
+		}
+
+		statistics.clear();
+		int flushed = likeToggleBufferService.flush();
+		long statements = statistics.getPrepareStatementCount();
+		log.info("buffered flush: {} toggles, {} statements", flushed, statements);
+
+		assertThat(flushed).isEqualTo(ACCOUNT_COUNT);
+		assertThat(statements).isLessThan(3L * flushed);
+		assertLikes(ACCOUNT_COUNT / 2, ACCOUNT_COUNT / 2);
+
+		for (int i = 0; i < ACCOUNT_COUNT; i += 2) {
+			assertThat(likeToggleBufferService.toggleStudyLike(studyId, accountIds.get(i), false)).isTrue();
+		}
+		assertThat(likeToggleBufferService.toggleStudyLike(studyId, accountIds.get(1), false)).isFalse();
+		likeToggleBufferService.flush();
+
+		assertLikes(0, ACCOUNT_COUNT / 2);
+	}
+
+	@Test
+	void flushRetriesFailedTargetOnlyAndDiscardsAfterMaxAttempts() {
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			assertThat(likeToggleBufferService.toggleStudyCommentLike(studyCommentId, accountIds.get(i), true)).isTrue();
+		}
+		assertThat(likeToggleBufferService.toggleStudyLike(studyId, NOT_EXISTED_ACCOUNT_ID, true)).isTrue();
+
+		assertThat(likeToggleBufferService.flush()).isEqualTo(ACCOUNT_COUNT);
+		assertLikes(0, ACCOUNT_COUNT);
+		assertThat(likeToggleBuffer.size()).isEqualTo(1);
+		assertThat(likeToggleBufferService.toggleStudyLike(studyId, NOT_EXISTED_ACCOUNT_ID, true)).isFalse();
+
+		assertThat(likeToggleBufferService.flush()).isZero();
+		assertThat(likeToggleBuffer.size()).isZero();
+		assertLikes(0, ACCOUNT_COUNT);
+	}
+
+	@Test
+	void toggleNewStateWhenBufferIsFull() {
+		StripedLikeToggleBuffer fullBuffer = new StripedLikeToggleBuffer(1);
+		assertThat(fullBuffer.toggle(LikeTarget.STUDY, studyId, accountIds.get(0), true, () -> false)).isTrue();
+
+		assertThatThrownBy(() -> fullBuffer.toggle(LikeTarget.STUDY, studyId, accountIds.get(1), true, () -> false))
+				.isInstanceOf(LikeToggleBufferFullException.class);
+		assertThat(fullBuffer.toggle(LikeTarget.STUDY, studyId, accountIds.get(0), false, () -> false)).isTrue();
+		assertThat(fullBuffer.toggle(LikeTarget.STUDY, studyId, accountIds.get(1), true, () -> false)).isTrue();
+	}
+
+	@Test
+	void sustainedTogglesWithBuffer() throws InterruptedException {
+		ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+		flusher.scheduleWithFixedDelay(likeToggleBufferService::flush,
+				FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+		int likesCount = runToggles("buffered", (accountId, liked) ->
+				likeToggleBufferService.toggleStudyLike(studyId, accountId, liked));
+
+		flusher.shutdown();
+		assertThat(flusher.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+		likeToggleBufferService.flush();
+
+		assertLikes(likesCount, 0);
+	}
+
+	@Test
+	void sustainedTogglesWithoutBuffer() throws InterruptedException {
+		int likesCount = runToggles("direct", this::toggleDirectly);
+
+		assertLikes(likesCount, 0);
+	}
+
+	private int runToggles(String name, BiPredicate<Long, Boolean> toggleOf) throws InterruptedException {
+		// 계정을 스레드별로 나누어 각 계정의 마지막 상태를 알 수 있게 한다.
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		boolean[] liked = new boolean[ACCOUNT_COUNT];
+		int accountsPerThread = ACCOUNT_COUNT / THREAD_COUNT;
+
+		for (int t = 0; t < THREAD_COUNT; t++) {
+			int first = t * accountsPerThread;
+			executorService.execute(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < TOGGLE_COUNT_PER_THREAD; i++) {
+						int index = first + i % accountsPerThread;
+						if (toggleOf.test(accountIds.get(index), !liked[index])) {
+							liked[index] = !liked[index];
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+		long elapsedNanos = System.nanoTime() - startedAt;
+
+		int toggles = THREAD_COUNT * TOGGLE_COUNT_PER_THREAD;
+		log.info("{}: {} toggles in {} ms, {} toggles/s", name, toggles,
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos), toggles * 1_000_000_000L / elapsedNanos);
+
+		int likesCount = 0;
+		for (boolean accountLiked : liked) {
+			likesCount += accountLiked ? 1 : 0;
+		}
+		return likesCount;
+	}
+
+	private boolean toggleDirectly(Long accountId, boolean liked) {
+		return transactionTemplate.execute(status -> {
+			if (!liked) {
+				if (studyLikeRepository.deleteByStudyIdAndAccountId(studyId, accountId) == 0) {
+					return false;
+				}
+				studyRepository.decreaseLikesCount(studyId);
+				return true;
+			}
+
+			studyRepository.increaseLikesCount(studyId);
+			studyLikeRepository.saveAndFlush(StudyLike.builder()
+					.study(studyRepository.getOne(studyId))
+					.account(accountRepository.getOne(accountId))
+					.build());
+			return true;
+		});
+	}
+
+	private void assertLikes(int studyLikesCount, int studyCommentLikesCount) {
+		transactionTemplate.executeWithoutResult(status -> {
+			assertThat(studyRepository.findById(studyId).orElseThrow().getLikesCount()).isEqualTo(studyLikesCount);
+			assertThat(studyLikeRepository.count()).isEqualTo(studyLikesCount);
+			assertThat(studyCommentRepository.findById(studyCommentId).orElseThrow().getLikesCount())
+					.isEqualTo(studyCommentLikesCount);
+			assertThat(studyCommentLikeRepository.count()).isEqualTo(studyCommentLikesCount);
+		});
+	}
+}
@@ -0,0 +1,180 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.domain.study.StudySeatCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 에서 자리 확보, 반환, 초기화, 변화량 가져오기 Lua 스크립트를 실행해 남은 자리 수와 변화량을 확인한다.
+ */
+class RedisStudySeatCounterTest {
+	private static final Long STUDY_ID = 1L;
+	private static final Long OTHER_STUDY_ID = 2L;
+	private static final int STUDY_SIZE = 5;
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	private StringRedisTemplate stringRedisTemplate;
+	private RedisStudySeatCounter studySeatCounter;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushDb();
+		}
+
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		studySeatCounter = new RedisStudySeatCounter(stringRedisTemplate);
+	}
+
+	@Test
+	void reserveBeforeInitialize() {
+		assertThat(studySeatCounter.reserve(STUDY_ID)).isEqualTo(StudySeatCounter.Reservation.NOT_INITIALIZED);
+		assertThat(studySeatCounter.takePendingCount(STUDY_ID)).isZero();
+	}
+
+	@Test
+	void reservePastCapacity() {
+		studySeatCounter.initialize(STUDY_ID, 2, 0);
+
+		assertThat(studySeatCounter.reserve(STUDY_ID)).isEqualTo(StudySeatCounter.Reservation.RESERVED);
+		assertThat(studySeatCounter.reserve(STUDY_ID)).isEqualTo(StudySeatCounter.Reservation.RESERVED);
+		assertThat(studySeatCounter.reserve(STUDY_ID)).isEqualTo(StudySeatCounter.Reservation.FULL);
+
+		assertThat(remainingSeats(STUDY_ID)).isEqualTo("0");
+		assertThat(studySeatCounter.takePendingCount(STUDY_ID)).isEqualTo(2);
+	}
+
+	@Test
+	void releaseReturnsSeat() {
+		studySeatCounter.initialize(STUDY_ID, 1, 0);
+		studySeatCounter.reserve(STUDY_ID);
+
+		studySeatCounter.release(STUDY_ID);
+
+		assertThat(remainingSeats(STUDY_ID)).isEqualTo("1");
+		assertThat(studySeatCounter.takePendingCount(STUDY_ID)).isZero();
+		assertThat(studySeatCounter.reserve(STUDY_ID)).isEqualTo(StudySeatCounter.Reservation.RESERVED);
+	}
+
+	@Test
+	void releaseAfterRemoveRecordsPendingOnly() {
+		studySeatCounter.release(STUDY_ID);
+
+		assertThat(remainingSeats(STUDY_ID)).isNull();
+		assertThat(studySeatCounter.takePendingCount(STUDY_ID)).isEqualTo(-1);
+	}
+
+	@Test
+	void initializeFromApplyCountOnStartup() {
+		assertThat(studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 3)).isTrue();
+		assertThat(remainingSeats(STUDY_ID)).isEqualTo("2");
+
+		assertThat(studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 0)).isFalse();
+		assertThat(remainingSeats(STUDY_ID)).isEqualTo("2");
+	}
+
+	@Test
+	void initializeSubtractsPendingNotYetWritten() {
+		studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 3);
+		studySeatCounter.reserve(STUDY_ID);
+		studySeatCounter.remove(STUDY_ID);
+
+		assertThat(studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 3)).isTrue();
+		assertThat(remainingSeats(STUDY_ID)).isEqualTo("1");
+	}
+
+	@Test
+	void resetOverwritesAndNeverGoesBelowZero() {
+		studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 0);
+
+		studySeatCounter.reset(STUDY_ID, 2, 4);
+
+		assertThat(remainingSeats(STUDY_ID)).isEqualTo("0");
+		assertThat(studySeatCounter.reserve(STUDY_ID)).isEqualTo(StudySeatCounter.Reservation.FULL);
+	}
+
+	@Test
+	void adjustOnlyInitializedCounter() {
+		studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 0);
+
+		studySeatCounter.adjust(STUDY_ID, -2);
+		studySeatCounter.adjust(OTHER_STUDY_ID, 3);
+
+		assertThat(remainingSeats(STUDY_ID)).isEqualTo("3");
+		assertThat(remainingSeats(OTHER_STUDY_ID)).isNull();
+	}
+
+	@Test
+	void takePendingCountClearsStudyEntry() {
+		studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 0);
+		studySeatCounter.initialize(OTHER_STUDY_ID, STUDY_SIZE, 0);
+		studySeatCounter.reserve(STUDY_ID);
+		studySeatCounter.reserve(OTHER_STUDY_ID);
+
+		assertThat(studySeatCounter.takePendingCount(STUDY_ID)).isEqualTo(1);
+		assertThat(studySeatCounter.takePendingCount(STUDY_ID)).isZero();
+		assertThat(studySeatCounter.takePendingCounts()).containsExactly(Map.entry(OTHER_STUDY_ID, 1));
+	}
+
+	@Test
+	void takePendingCountsSkipsZeroAndClearsAll() {
+		studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 0);
+		studySeatCounter.initialize(OTHER_STUDY_ID, STUDY_SIZE, 0);
+		studySeatCounter.reserve(STUDY_ID);
+		studySeatCounter.reserve(STUDY_ID);
+		studySeatCounter.reserve(OTHER_STUDY_ID);
+		studySeatCounter.release(OTHER_STUDY_ID);
+
+		assertThat(studySeatCounter.takePendingCounts()).containsExactly(Map.entry(STUDY_ID, 2));
+		assertThat(studySeatCounter.takePendingCounts()).isEmpty();
+	}
+
+	@Test
+	void restorePendingCountAfterFailedWrite() {
+		studySeatCounter.initialize(STUDY_ID, STUDY_SIZE, 0);
+		studySeatCounter.reserve(STUDY_ID);
+		int pendingCount = studySeatCounter.takePendingCount(STUDY_ID);
+
+		studySeatCounter.restorePendingCount(STUDY_ID, pendingCount);
+
+		assertThat(studySeatCounter.takePendingCounts()).containsExactly(Map.entry(STUDY_ID, 1));
+	}
+
+	private String remainingSeats(Long studyId) {
+		return stringRedisTemplate.opsForValue().get("study:seats:" + studyId);
+	}
+}
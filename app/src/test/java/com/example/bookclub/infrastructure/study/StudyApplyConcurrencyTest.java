@@ -0,0 +1,128 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyState;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스터디 지원 시 조건부 UPDATE 쿼리로 자리를 확보하는 방식을 동시 요청으로 실행해
+ * 초과 지원이 없는지 확인하고 처리량과 응답 시간 분포를 기록한다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:apply-concurrency;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaQueryFactoryConfig.class, BeanUtil.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudyApplyConcurrencyTest {
+	private static final int STUDY_SIZE = 50;
+	private static final int THREAD_COUNT = 16;
+	private static final int REQUEST_COUNT = 200;
+
+	@Autowired
+	private JpaStudyRepository studyRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private Long studyId;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		studyId = transactionTemplate.execute(status -> studyRepository.save(Study.builder()
+				.name("concurrencyStudyName")
+				.bookName("concurrencyStudyBookName")
+				.size(STUDY_SIZE)
+				.studyState(StudyState.OPEN)
+				.build()).getId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> studyRepository.deleteAll());
+	}
+
+	@Test
+	void applyWithConditionalUpdate() throws InterruptedException {
+		int applied = run("conditional update", id -> transactionTemplate.execute(
+				status -> studyRepository.increaseApplyCount(id) == 1
+		));
+
+		assertThat(applied).isEqualTo(STUDY_SIZE);
+		assertThat(studyRepository.findById(studyId).orElseThrow().getApplyCount()).isEqualTo(STUDY_SIZE);
+	}
+
+	private int run(String name, LongPredicate apply) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger applied = new AtomicInteger();
+		List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			executorService.execute(() -> {
+				try {
+					start.await();
+					long requestedAt = System.nanoTime();
+					if (apply.test(studyId)) {
+						applied.incrementAndGet();
+					}
+					latencies.add(System.nanoTime() - requestedAt);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		List<Long> sorted = new ArrayList<>(latencies);
+		Collections.sort(sorted);
+		log.info("{}: {} requests, {} applied, {} ms, {} req/s, p50 {} us, p99 {} us, max {} us",
+				name, sorted.size(), applied.get(), elapsedMillis,
+				elapsedMillis == 0 ? sorted.size() : sorted.size() * 1000L / elapsedMillis,
+				percentile(sorted, 50), percentile(sorted, 99), percentile(sorted, 100));
+
+		assertThat(sorted).hasSize(REQUEST_COUNT);
+		return applied.get();
+	}
+
+	private long percentile(List<Long> sorted, int percentile) {
+		int index = Math.max(0, (int) Math.ceil(sorted.size() * percentile / 100.0) - 1);
+		return TimeUnit.NANOSECONDS.toMicros(sorted.get(index));
+	}
+}
@@ -0,0 +1,208 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.study.LikeToggleBufferService;
+import com.example.bookclub.application.study.StudyCommentLikeService;
+import com.example.bookclub.application.study.StudyCommentService;
+import com.example.bookclub.application.study.StudyFavoriteService;
+import com.example.bookclub.application.study.StudyLikeService;
+import com.example.bookclub.application.study.StudyService;
+import com.example.bookclub.application.uploadfile.UploadFileService;
+import com.example.bookclub.common.exception.study.studylike.StudyLikeAlreadyExistedException;
+import com.example.bookclub.common.retry.ConflictRetryMetrics;
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaAuditingConfig;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountExistenceFilter;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyCache;
+import com.example.bookclub.domain.study.StudySeatCounter;
+import com.example.bookclub.domain.study.StudySeriesFactory;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.studycomment.StudyComment;
+import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.infrastructure.study.studycomment.JpaStudyCommentRepository;
+import com.example.bookclub.security.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좋아요, 좋아요 취소, 댓글 작성과 삭제, 즐겨찾기가 스터디와 댓글에 저장된 수를 바꾸는지,
+ * 어긋난 수를 동기화 쿼리가 바로잡는지 확인한다.
+ */
+@DataJpaTest
+@Import({JpaQueryFactoryConfig.class, JpaAuditingConfig.class, BeanUtil.class, ConflictRetryMetrics.class,
+		AccountService.class, StudyService.class, StudyLikeService.class, StudyCommentService.class,
+		StudyCommentLikeService.class, StudyFavoriteService.class})
+class StudyCounterTest {
+	@Autowired
+	private StudyLikeService studyLikeService;
+
+	@Autowired
+	private StudyCommentService studyCommentService;
+
+	@Autowired
+	private StudyCommentLikeService studyCommentLikeService;
+
+	@Autowired
+	private StudyFavoriteService studyFavoriteService;
+
+	@Autowired
+	private JpaStudyRepository studyRepository;
+
+	@Autowired
+	private JpaStudyCommentRepository studyCommentRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@MockBean
+	private StudySeriesFactory studySeriesFactory;
+
+	@MockBean
+	private StudySeatCounter studySeatCounter;
+
+	@MockBean
+	private LikeToggleBufferService likeToggleBufferService;
+
+	@MockBean
+	private StudyCache studyCache;
+
+	@MockBean
+	private EmailAuthenticationCodeStore emailAuthenticationCodeStore;
+
+	@MockBean
+	private PasswordEncoder passwordEncoder;
+
+	@MockBean
+	private UploadFileService uploadFileService;
+
+	@MockBean
+	private AccountExistenceFilter accountExistenceFilter;
+
+	private UserAccount userAccount;
+	private UserAccount otherUserAccount;
+	private Long studyId;
+
+	@BeforeEach
+	void setUp() {
+		userAccount = userAccountOf(entityManager.persist(Account.builder()
+				.email("counterAccountEmail")
+				.nickname("counterAccountNickname")
+				.build()));
+		otherUserAccount = userAccountOf(entityManager.persist(Account.builder()
+				.email("otherCounterAccountEmail")
+				.nickname("otherCounterAccountNickname")
+				.build()));
+		studyId = entityManager.persist(Study.builder()
+				.name("counterStudyName")
+				.bookName("counterStudyBookName")
+				.studyState(StudyState.OPEN)
+				.build()).getId();
+		entityManager.flush();
+	}
+
+	@Test
+	void likeAndUnlikeChangeStudyLikesCount() {
+		studyLikeService.like(userAccount, studyId);
+		studyLikeService.like(otherUserAccount, studyId);
+		assertThat(study().getLikesCount()).isEqualTo(2);
+
+		studyLikeService.unLike(userAccount, studyId);
+		assertThat(study().getLikesCount()).isEqualTo(1);
+	}
+
+	@Test
+	void duplicatedLikeIsRejected() {
+		studyLikeService.like(userAccount, studyId);
+
+		assertThatThrownBy(() -> studyLikeService.like(userAccount, studyId))
+				.isInstanceOf(StudyLikeAlreadyExistedException.class);
+	}
+
+	@Test
+	void createAndDeleteCommentChangeStudyCommentsCount() {
+		Long commentId = createComment(userAccount);
+		createComment(otherUserAccount);
+		assertThat(study().getCommentsCount()).isEqualTo(2);
+
+		studyCommentService.deleteStudyComment(userAccount, commentId);
+		assertThat(study().getCommentsCount()).isEqualTo(1);
+	}
+
+	@Test
+	void likeAndUnlikeCommentChangeCommentLikesCount() {
+		Long commentId = createComment(userAccount);
+
+		studyCommentLikeService.likeComment(userAccount, commentId);
+		studyCommentLikeService.likeComment(otherUserAccount, commentId);
+		assertThat(comment(commentId).getLikesCount()).isEqualTo(2);
+
+		studyCommentLikeService.unlikeComment(otherUserAccount, commentId);
+		assertThat(comment(commentId).getLikesCount()).isEqualTo(1);
+	}
+
+	@Test
+	void favoriteAndUnfavoriteChangeStudyFavoritesCount() {
+		studyFavoriteService.favoriteStudy(userAccount, studyId);
+		assertThat(study().getFavoritesCount()).isEqualTo(1);
+
+		studyFavoriteService.unFavoriteStudy(userAccount, studyId);
+		assertThat(study().getFavoritesCount()).isZero();
+	}
+
+	@Test
+	void syncFixesDriftedCounts() {
+		Long commentId = createComment(userAccount);
+		studyLikeService.like(userAccount, studyId);
+		studyCommentLikeService.likeComment(userAccount, commentId);
+		studyRepository.addLikesCount(studyId, 5);
+		studyCommentRepository.addLikesCount(commentId, 5);
+		studyRepository.decreaseCommentsCount(studyId);
+
+		assertThat(studyRepository.syncLikesCount()).isEqualTo(1);
+		assertThat(studyRepository.syncCommentsCount()).isEqualTo(1);
+		assertThat(studyRepository.syncFavoritesCount()).isZero();
+		assertThat(studyCommentRepository.syncLikesCount()).isEqualTo(1);
+
+		Study study = study();
+		assertThat(study.getLikesCount()).isEqualTo(1);
+		assertThat(study.getCommentsCount()).isEqualTo(1);
+		assertThat(comment(commentId).getLikesCount()).isEqualTo(1);
+	}
+
+	private Long createComment(UserAccount writer) {
+		return studyCommentService.createStudyComment(writer, studyId, StudyApiDto.StudyCommentCreateDto.builder()
+				.content("counterComment")
+				.build()).getId();
+	}
+
+	private Study study() {
+		entityManager.flush();
+		entityManager.clear();
+		return entityManager.find(Study.class, studyId);
+	}
+
+	private StudyComment comment(Long commentId) {
+		entityManager.flush();
+		entityManager.clear();
+		return entityManager.find(StudyComment.class, commentId);
+	}
+
+	private UserAccount userAccountOf(Account account) {
+		return new UserAccount(account, List.of());
+	}
+}
@@ -0,0 +1,232 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.application.account.AccountService;
+import com.example.bookclub.application.study.LikeToggleBufferService;
+import com.example.bookclub.application.study.StudyLikeService;
+import com.example.bookclub.application.study.StudyService;
+import com.example.bookclub.application.uploadfile.UploadFileService;
+import com.example.bookclub.common.exception.study.studylike.StudyLikeAlreadyExistedException;
+import com.example.bookclub.common.retry.ConflictRetryMetrics;
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaAuditingConfig;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.account.AccountExistenceFilter;
+import com.example.bookclub.domain.account.emailauthentication.EmailAuthenticationCodeStore;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyCache;
+import com.example.bookclub.domain.study.StudySeatCounter;
+import com.example.bookclub.domain.study.StudySeriesFactory;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.infrastructure.account.JpaAccountRepository;
+import com.example.bookclub.infrastructure.study.studylike.JpaStudyLikeRepository;
+import com.example.bookclub.security.UserAccount;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스터디 좋아요 서비스로 좋아요와 좋아요 취소를 반복해 요청당 쿼리 수와 응답 시간을 기록하고,
+ * 같은 좋아요가 동시에 요청되어도 하나만 저장되는지 확인한다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:like-toggle;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaQueryFactoryConfig.class, JpaAuditingConfig.class, BeanUtil.class, ConflictRetryMetrics.class,
+		AccountService.class, StudyService.class, StudyLikeService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudyLikeToggleBenchmarkTest {
+	private static final int ACCOUNT_COUNT = 100;
+	private static final int THREAD_COUNT = 16;
+	private static final int DUPLICATED_REQUEST_COUNT = 100;
+
+	@Autowired
+	private StudyLikeService studyLikeService;
+
+	@Autowired
+	private JpaStudyRepository studyRepository;
+
+	@Autowired
+	private JpaAccountRepository accountRepository;
+
+	@Autowired
+	private JpaStudyLikeRepository studyLikeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockBean
+	private StudySeriesFactory studySeriesFactory;
+
+	@MockBean
+	private StudySeatCounter studySeatCounter;
+
+	@MockBean
+	private LikeToggleBufferService likeToggleBufferService;
+
+	@MockBean
+	private StudyCache studyCache;
+
+	@MockBean
+	private EmailAuthenticationCodeStore emailAuthenticationCodeStore;
+
+	@MockBean
+	private PasswordEncoder passwordEncoder;
+
+	@MockBean
+	private UploadFileService uploadFileService;
+
+	@MockBean
+	private AccountExistenceFilter accountExistenceFilter;
+
+	private TransactionTemplate transactionTemplate;
+	private Statistics statistics;
+	private Long studyId;
+	private List<UserAccount> userAccounts;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		studyId = transactionTemplate.execute(status -> studyRepository.save(Study.builder()
+				.name("likeStudyName")
+				.bookName("likeStudyBookName")
+				.studyState(StudyState.OPEN)
+				.build()).getId());
+
+		userAccounts = new ArrayList<>();
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			int index = i;
+			userAccounts.add(new UserAccount(transactionTemplate.execute(status -> accountRepository.save(Account.builder()
+					.email("likeAccountEmail" + index)
+					.nickname("likeAccountNickname" + index)
+					.build())), List.of()));
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> {
+			studyLikeRepository.deleteAll();
+			studyRepository.deleteAll();
+			accountRepository.deleteAll();
+		});
+	}
+
+	@Test
+	void toggleWithStudyLikeService() {
+		long[] statements = toggleAll();
+
+		assertThat(statements[0]).isLessThanOrEqualTo(3L * ACCOUNT_COUNT);
+		assertThat(statements[1]).isEqualTo(2L * ACCOUNT_COUNT);
+		assertLikesCount(0);
+	}
+
+	@Test
+	void likeWithConcurrentDuplicates() throws InterruptedException {
+		UserAccount userAccount = userAccounts.get(0);
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger liked = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		for (int i = 0; i < DUPLICATED_REQUEST_COUNT; i++) {
+			executorService.execute(() -> {
+				try {
+					start.await();
+					studyLikeService.like(userAccount, studyId);
+					liked.incrementAndGet();
+				} catch (StudyLikeAlreadyExistedException e) {
+					rejected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+
+		start.countDown();
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+		assertThat(liked.get()).isEqualTo(1);
+		assertThat(rejected.get()).isEqualTo(DUPLICATED_REQUEST_COUNT - 1);
+		assertThat(studyLikeRepository.count()).isEqualTo(1);
+		assertLikesCount(1);
+	}
+
+	private long[] toggleAll() {
+		List<Long> likeLatencies = new ArrayList<>();
+		List<Long> unlikeLatencies = new ArrayList<>();
+
+		statistics.clear();
+		for (UserAccount userAccount : userAccounts) {
+			long requestedAt = System.nanoTime();
+			studyLikeService.like(userAccount, studyId);
+			likeLatencies.add(System.nanoTime() - requestedAt);
+		}
+		long likeStatements = statistics.getPrepareStatementCount();
+		assertLikesCount(ACCOUNT_COUNT);
+
+		statistics.clear();
+		for (UserAccount userAccount : userAccounts) {
+			long requestedAt = System.nanoTime();
+			studyLikeService.unLike(userAccount, studyId);
+			unlikeLatencies.add(System.nanoTime() - requestedAt);
+		}
+		long unlikeStatements = statistics.getPrepareStatementCount();
+
+		Collections.sort(likeLatencies);
+		Collections.sort(unlikeLatencies);
+		log.info("study like service: like {} statements/op, p50 {} us, p99 {} us / unlike {} statements/op, p50 {} us, p99 {} us",
+				likeStatements / (double) ACCOUNT_COUNT,
+				percentile(likeLatencies, 50), percentile(likeLatencies, 99),
+				unlikeStatements / (double) ACCOUNT_COUNT,
+				percentile(unlikeLatencies, 50), percentile(unlikeLatencies, 99));
+
+		return new long[]{likeStatements, unlikeStatements};
+	}
+
+	private void assertLikesCount(int likesCount) {
+		assertThat(studyRepository.findById(studyId).orElseThrow().getLikesCount()).isEqualTo(likesCount);
+	}
+
+	private long percentile(List<Long> sorted, int percentile) {
+		int index = Math.max(0, (int) Math.ceil(sorted.size() * percentile / 100.0) - 1);
+		return TimeUnit.NANOSECONDS.toMicros(sorted.get(index));
+	}
+}
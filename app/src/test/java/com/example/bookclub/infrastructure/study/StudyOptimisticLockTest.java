@@ -0,0 +1,106 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.dto.StudyApiDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스터디 버전으로 동시 수정 중 나중에 커밋하는 수정이 먼저 커밋된 수정을 덮어쓰지 못하는지 확인한다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:study-optimistic-lock;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaQueryFactoryConfig.class, BeanUtil.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudyOptimisticLockTest {
+	private static final LocalDate TODAY = LocalDate.now();
+
+	@Autowired
+	private JpaStudyRepository studyRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private TransactionTemplate requiresNewTemplate;
+	private Long studyId;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		requiresNewTemplate = new TransactionTemplate(transactionManager);
+		requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		studyId = transactionTemplate.execute(status -> studyRepository.save(Study.builder()
+				.name("versionStudyName")
+				.bookName("versionStudyBookName")
+				.size(5)
+				.startDate(TODAY)
+				.studyState(StudyState.OPEN)
+				.build()).getId());
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> studyRepository.deleteAll());
+	}
+
+	@Test
+	void updateWithStaleVersionFails() {
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+			Study study = studyRepository.findById(studyId).orElseThrow();
+			requiresNewTemplate.executeWithoutResult(inner ->
+					studyRepository.findById(studyId).orElseThrow().updateWith(updateDto("firstName")));
+
+			study.updateWith(updateDto("secondName"));
+		})).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+		Study study = studyRepository.findById(studyId).orElseThrow();
+		assertThat(study.getName()).isEqualTo("firstName");
+		assertThat(study.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void updateStudyStateIncreasesVersion() {
+		int updatedCount = transactionTemplate.execute(status ->
+				studyRepository.updateStudyStateByStartDate(StudyState.OPEN, StudyState.CLOSE, TODAY));
+
+		Study study = studyRepository.findById(studyId).orElseThrow();
+		assertThat(updatedCount).isEqualTo(1);
+		assertThat(study.getStudyState()).isEqualTo(StudyState.CLOSE);
+		assertThat(study.getVersion()).isEqualTo(1L);
+	}
+
+	private StudyApiDto.StudyUpdateDto updateDto(String name) {
+		return StudyApiDto.StudyUpdateDto.builder()
+				.name(name)
+				.size(5)
+				.startDate(TODAY)
+				.studyState(StudyState.OPEN)
+				.build();
+	}
+}
@@ -0,0 +1,164 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.favorite.Favorite;
+import com.example.bookclub.domain.study.studycomment.StudyComment;
+import com.example.bookclub.domain.study.studycommentlike.StudyCommentLike;
+import com.example.bookclub.dto.StudyApiDto;
+import com.example.bookclub.infrastructure.study.studycomment.JpaStudyCommentRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaQueryFactoryConfig.class, BeanUtil.class, StudySeriesFactoryImpl.class})
+class StudySeriesFactoryImplTest {
+	private static final int COMMENT_COUNT = 300;
+	private static final int AUTHOR_COUNT = 3;
+	private static final int MAX_DETAIL_QUERY_COUNT = 4;
+	private static final int COMMENT_PAGE_SIZE = 20;
+
+	@Autowired
+	private StudySeriesFactoryImpl studySeriesFactory;
+
+	@Autowired
+	private JpaStudyRepository studyRepository;
+
+	@Autowired
+	private JpaStudyCommentRepository studyCommentRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Account viewer;
+	private Long studyId;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		viewer = entityManager.persist(Account.builder()
+				.email("viewerEmail")
+				.nickname("viewerNickname")
+				.build());
+
+		List<Account> authors = new ArrayList<>();
+		authors.add(viewer);
+		for (int i = 1; i < AUTHOR_COUNT; i++) {
+			authors.add(entityManager.persist(Account.builder()
+					.email("authorEmail" + i)
+					.nickname("authorNickname" + i)
+					.build()));
+		}
+
+		Study study = entityManager.persist(Study.builder()
+				.name("detailStudyName")
+				.bookName("detailStudyBookName")
+				.studyState(StudyState.OPEN)
+				.build());
+		studyId = study.getId();
+
+		entityManager.persist(Favorite.builder()
+				.study(study)
+				.account(viewer)
+				.build());
+
+		for (int i = 0; i < COMMENT_COUNT; i++) {
+			StudyComment studyComment = entityManager.persist(StudyComment.builder()
+					.content("content" + i)
+					.account(authors.get(i % AUTHOR_COUNT))
+					.study(study)
+					.likesCount(i % 2 == 0 ? 1 : 0)
+					.build());
+
+			if (i % 2 == 0) {
+				entityManager.persist(StudyCommentLike.builder()
+						.studyComment(studyComment)
+						.account(viewer)
+						.build());
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void getDetailedStudyWithinGroupedQueries() {
+		StudyApiDto.StudyResultDto studyResultDto =
+				StudyApiDto.StudyResultDto.of(studyRepository.findById(studyId).orElseThrow());
+
+		StudyApiDto.StudyDetailResultDto detailedStudy = studySeriesFactory.getDetailedStudy(viewer, studyResultDto);
+
+		assertThat(detailedStudy.getStudyComments()).hasSize(COMMENT_PAGE_SIZE);
+		assertThat(detailedStudy.isHasNextComments()).isTrue();
+		assertThat(detailedStudy.getNextCommentCursor())
+				.isEqualTo(detailedStudy.getStudyComments().get(COMMENT_PAGE_SIZE - 1).getId());
+		assertThat(detailedStudy.getStudyResultDto().isFavorite()).isTrue();
+		assertThat(detailedStudy.getStudyResultDto().getName()).isEqualTo("detailStudyName");
+		assertThat(studyResultDto.isFavorite()).isFalse();
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_DETAIL_QUERY_COUNT);
+	}
+
+	@Test
+	void getDetailedStudyWithViewerFlags() {
+		StudyApiDto.StudyResultDto studyResultDto =
+				StudyApiDto.StudyResultDto.of(studyRepository.findById(studyId).orElseThrow());
+
+		List<StudyApiDto.StudyCommentResultDto> studyComments =
+				studySeriesFactory.getDetailedStudy(viewer, studyResultDto).getStudyComments();
+
+		assertThat(studyComments).hasSize(COMMENT_PAGE_SIZE);
+		for (int i = 0; i < studyComments.size(); i++) {
+			StudyApiDto.StudyCommentResultDto studyComment = studyComments.get(i);
+			assertThat(studyComment.getContent()).isEqualTo("content" + i);
+			assertThat(studyComment.isLiked()).isEqualTo(i % 2 == 0);
+			assertThat(studyComment.getLikesCount()).isEqualTo(i % 2 == 0 ? 1 : 0);
+			assertThat(studyComment.isWrittenByMe()).isEqualTo(i % AUTHOR_COUNT == 0);
+			assertThat(studyComment.getNickname())
+					.isEqualTo(i % AUTHOR_COUNT == 0 ? "viewerNickname" : "authorNickname" + i % AUTHOR_COUNT);
+		}
+	}
+
+	@Test
+	void findCommentResultsByStudyIdWalksAllPagesInKeysetOrder() {
+		List<StudyApiDto.StudyCommentResultDto> studyComments = new ArrayList<>();
+		Long cursor = null;
+		int pageCount = 0;
+		while (true) {
+			List<StudyApiDto.StudyCommentResultDto> page = studyCommentRepository
+					.findCommentResultsByStudyId(studyId, viewer.getId(), cursor, COMMENT_PAGE_SIZE);
+			pageCount++;
+			if (page.isEmpty()) {
+				break;
+			}
+
+			studyComments.addAll(page);
+			cursor = page.get(page.size() - 1).getId();
+		}
+
+		assertThat(studyComments).hasSize(COMMENT_COUNT);
+		assertThat(studyComments).extracting(StudyApiDto.StudyCommentResultDto::getId).isSorted().doesNotHaveDuplicates();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(pageCount);
+	}
+}
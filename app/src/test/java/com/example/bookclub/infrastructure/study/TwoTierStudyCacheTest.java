@@ -0,0 +1,225 @@
+package com.example.bookclub.infrastructure.study;
+
+import com.example.bookclub.common.exception.study.StudyNotFoundException;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.dto.StudyApiDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TwoTierStudyCacheTest {
+	private static final Long STUDY_ID = 1L;
+	private static final Long OTHER_STUDY_ID = 2L;
+	private static final long MAXIMUM_SIZE = 2;
+	private static final long EXPIRE_SECONDS = 60;
+
+	private Cache redisCache;
+	private StringRedisTemplate stringRedisTemplate;
+	private TwoTierStudyCache studyCache;
+	private AtomicInteger loadCount;
+	private Function<Long, StudyApiDto.StudyResultDto> loader;
+
+	@BeforeEach
+	void setUp() {
+		RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+		redisCache = mock(Cache.class);
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		given(redisCacheManager.getCache(TwoTierStudyCache.CACHE_NAME)).willReturn(redisCache);
+
+		studyCache = new TwoTierStudyCache(redisCacheManager, stringRedisTemplate,
+				mock(RedisMessageListenerContainer.class), MAXIMUM_SIZE, EXPIRE_SECONDS);
+
+		loadCount = new AtomicInteger();
+		loader = id -> {
+			loadCount.incrementAndGet();
+			return studyResultDto(id);
+		};
+	}
+
+	@Test
+	void getLoadsOnceAndThenServesFromLocalCache() {
+		assertThat(studyCache.get(STUDY_ID, loader).getId()).isEqualTo(STUDY_ID);
+		assertThat(studyCache.get(STUDY_ID, loader).getId()).isEqualTo(STUDY_ID);
+
+		assertThat(loadCount.get()).isEqualTo(1);
+		verify(redisCache).put(eq(STUDY_ID), any(StudyApiDto.StudyResultDto.class));
+
+		StudyApiDto.StudyCacheStatsResultDto stats = studyCache.stats();
+		assertThat(stats.getLocalHitCount()).isEqualTo(1);
+		assertThat(stats.getLocalMissCount()).isEqualTo(1);
+		assertThat(stats.getRedisMissCount()).isEqualTo(1);
+		assertThat(stats.getHitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	void getFromRedisWithoutLoading() {
+		given(redisCache.get(STUDY_ID, StudyApiDto.StudyResultDto.class)).willReturn(studyResultDto(STUDY_ID));
+
+		assertThat(studyCache.get(STUDY_ID, loader).getId()).isEqualTo(STUDY_ID);
+
+		assertThat(loadCount.get()).isZero();
+		assertThat(studyCache.stats().getRedisHitCount()).isEqualTo(1);
+		verify(redisCache, never()).put(anyLong(), any());
+	}
+
+	@Test
+	void getWithRedisFailure() {
+		given(redisCache.get(STUDY_ID, StudyApiDto.StudyResultDto.class))
+				.willThrow(new RedisConnectionFailureException("connection refused"));
+
+		assertThat(studyCache.get(STUDY_ID, loader).getId()).isEqualTo(STUDY_ID);
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void getWithNotExistedStudy() {
+		Function<Long, StudyApiDto.StudyResultDto> notFoundLoader = id -> {
+			throw new StudyNotFoundException(id);
+		};
+
+		assertThatThrownBy(() -> studyCache.get(STUDY_ID, notFoundLoader))
+				.isInstanceOf(StudyNotFoundException.class);
+		assertThat(studyCache.stats().getLocalSize()).isZero();
+	}
+
+	@Test
+	void getKeepsLocalCacheBounded() {
+		for (long id = 1; id <= MAXIMUM_SIZE + 1; id++) {
+			studyCache.get(id, loader);
+		}
+
+		StudyApiDto.StudyCacheStatsResultDto stats = studyCache.stats();
+		assertThat(stats.getLocalSize()).isLessThanOrEqualTo(MAXIMUM_SIZE);
+		assertThat(stats.getLocalEvictionCount()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	void evictRemovesBothTiersAndNotifiesOtherServers() {
+		studyCache.get(STUDY_ID, loader);
+
+		studyCache.evict(STUDY_ID);
+		studyCache.get(STUDY_ID, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+		assertThat(studyCache.stats().getInvalidationCount()).isEqualTo(1);
+		verify(redisCache).evict(STUDY_ID);
+
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate).convertAndSend(eq(TwoTierStudyCache.EVICT_CHANNEL), message.capture());
+		assertThat(message.getValue()).endsWith(":" + STUDY_ID);
+
+		studyCache.onMessage(message(message.getValue()), null);
+		studyCache.get(STUDY_ID, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+		assertThat(studyCache.stats().getRemoteInvalidationCount()).isZero();
+	}
+
+	@Test
+	void evictAllRemovesBothTiers() {
+		studyCache.get(STUDY_ID, loader);
+		studyCache.get(OTHER_STUDY_ID, loader);
+
+		studyCache.evictAll();
+
+		assertThat(studyCache.stats().getLocalSize()).isZero();
+		verify(redisCache).clear();
+		verify(stringRedisTemplate).convertAndSend(eq(TwoTierStudyCache.EVICT_CHANNEL), any(String.class));
+	}
+
+	@Test
+	void onMessageFromOtherServerRemovesLocalCache() {
+		studyCache.get(STUDY_ID, loader);
+		studyCache.get(OTHER_STUDY_ID, loader);
+
+		studyCache.onMessage(message("other-node:" + STUDY_ID), null);
+		studyCache.get(STUDY_ID, loader);
+		studyCache.get(OTHER_STUDY_ID, loader);
+
+		assertThat(loadCount.get()).isEqualTo(3);
+		assertThat(studyCache.stats().getRemoteInvalidationCount()).isEqualTo(1);
+
+		studyCache.onMessage(message("other-node:*"), null);
+
+		assertThat(studyCache.stats().getLocalSize()).isZero();
+	}
+
+	@Test
+	void evictDuringLoadDoesNotCacheLoadedStudy() {
+		Function<Long, StudyApiDto.StudyResultDto> racingLoader = id -> {
+			StudyApiDto.StudyResultDto loaded = loader.apply(id);
+			studyCache.evict(id);
+			return loaded;
+		};
+
+		studyCache.get(STUDY_ID, racingLoader);
+		studyCache.get(STUDY_ID, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+		verify(redisCache).put(eq(STUDY_ID), any(StudyApiDto.StudyResultDto.class));
+	}
+
+	@Test
+	void evictOfOtherStudyDuringLoadCachesLoadedStudy() {
+		Function<Long, StudyApiDto.StudyResultDto> racingLoader = id -> {
+			StudyApiDto.StudyResultDto loaded = loader.apply(id);
+			studyCache.evict(OTHER_STUDY_ID);
+			studyCache.onMessage(message("other-node:" + OTHER_STUDY_ID), null);
+			return loaded;
+		};
+
+		studyCache.get(STUDY_ID, racingLoader);
+		studyCache.get(STUDY_ID, loader);
+
+		assertThat(loadCount.get()).isEqualTo(1);
+		verify(redisCache).put(eq(STUDY_ID), any(StudyApiDto.StudyResultDto.class));
+	}
+
+	@Test
+	void evictAllDuringLoadDoesNotCacheLoadedStudy() {
+		Function<Long, StudyApiDto.StudyResultDto> racingLoader = id -> {
+			StudyApiDto.StudyResultDto loaded = loader.apply(id);
+			studyCache.onMessage(message("other-node:*"), null);
+			return loaded;
+		};
+
+		studyCache.get(STUDY_ID, racingLoader);
+		studyCache.get(STUDY_ID, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+		verify(redisCache).put(eq(STUDY_ID), any(StudyApiDto.StudyResultDto.class));
+	}
+
+	private StudyApiDto.StudyResultDto studyResultDto(Long id) {
+		return StudyApiDto.StudyResultDto.builder()
+				.id(id)
+				.name("cachedStudyName" + id)
+				.studyState(StudyState.OPEN)
+				.build();
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(TwoTierStudyCache.EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.bookclub.infrastructure.study.favorite;
+
+import com.example.bookclub.common.util.BeanUtil;
+import com.example.bookclub.config.JpaQueryFactoryConfig;
+import com.example.bookclub.domain.account.Account;
+import com.example.bookclub.domain.study.Study;
+import com.example.bookclub.domain.study.StudyState;
+import com.example.bookclub.domain.study.favorite.Favorite;
+import com.example.bookclub.dto.StudyApiDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaQueryFactoryConfig.class, BeanUtil.class})
+class JpaFavoriteRepositoryTest {
+	private static final int STUDY_COUNT = 120;
+	private static final int OTHER_FAVORITE_COUNT = 5;
+	private static final int PAGE_SIZE = 20;
+
+	@Autowired
+	private JpaFavoriteRepository favoriteRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Account viewer;
+	private Account other;
+	private Account withoutFavorite;
+	private List<Long> favoriteStudyIds;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		viewer = persistAccount("viewer");
+		other = persistAccount("other");
+		withoutFavorite = persistAccount("withoutFavorite");
+
+		favoriteStudyIds = new ArrayList<>();
+		for (int i = 0; i < STUDY_COUNT; i++) {
+			Study study = entityManager.persist(Study.builder()
+					.name("favoriteStudyName" + i)
+					.bookName("favoriteStudyBookName" + i)
+					.studyState(StudyState.OPEN)
+					.build());
+
+			entityManager.persist(Favorite.builder()
+					.study(study)
+					.account(viewer)
+					.build());
+			favoriteStudyIds.add(0, study.getId());
+
+			if (i < OTHER_FAVORITE_COUNT) {
+				entityManager.persist(Favorite.builder()
+						.study(study)
+						.account(other)
+						.build());
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findFavoriteStudiesByAccountIdWalksAllPagesInSingleQueryEach() {
+		List<StudyApiDto.StudyFavoriteDto> favorites = new ArrayList<>();
+		Long cursor = null;
+		int pageCount = 0;
+		while (true) {
+			List<StudyApiDto.StudyFavoriteDto> page =
+					favoriteRepository.findFavoriteStudiesByAccountId(viewer.getId(), cursor, PAGE_SIZE);
+			pageCount++;
+			if (page.isEmpty()) {
+				break;
+			}
+
+			favorites.addAll(page);
+			cursor = page.get(page.size() - 1).getFavoriteId();
+		}
+
+		assertThat(favorites).extracting(StudyApiDto.StudyFavoriteDto::getId)
+				.containsExactlyElementsOf(favoriteStudyIds);
+		assertThat(favorites).extracting(StudyApiDto.StudyFavoriteDto::getFavoriteId)
+				.isSortedAccordingTo(Comparator.reverseOrder());
+		assertThat(favorites.get(0).getName()).isEqualTo("favoriteStudyName" + (STUDY_COUNT - 1));
+		assertThat(favorites.get(0).getStudyState()).isEqualTo(StudyState.OPEN);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(pageCount);
+	}
+
+	@Test
+	void findFavoriteStudiesByAccountIdOnlyForGivenAccount() {
+		List<StudyApiDto.StudyFavoriteDto> favorites =
+				favoriteRepository.findFavoriteStudiesByAccountId(other.getId(), null, PAGE_SIZE);
+
+		assertThat(favorites).hasSize(OTHER_FAVORITE_COUNT);
+		assertThat(favoriteRepository.findFavoriteStudiesByAccountId(withoutFavorite.getId(), null, PAGE_SIZE))
+				.isEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	private Account persistAccount(String name) {
+		return entityManager.persist(Account.builder()
+				.email(name + "Email")
+				.nickname(name + "Nickname")
+				.build());
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.bookclub.security;
+
+import com.example.bookclub.common.exception.account.PasswordHashingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BCrypt 비용 값마다 한 번 암호화하는 시간을 재고,
+ * 동시에 몰린 로그인이 전용 스레드 풀에서 처리되거나 대기열이 가득 차 바로 거절되는지 확인한다.
+ */
+@Slf4j
+class BCryptCostBenchmarkTest {
+	private static final int MIN_COST = 4;
+	private static final int MAX_COST = 12;
+	private static final int BURST_COST = 10;
+	private static final int BURST_REQUEST_COUNT = 64;
+	private static final int POOL_SIZE = 2;
+	private static final int QUEUE_CAPACITY = 4;
+
+	@Test
+	void encodeWithEachCost() {
+		double previousMillis = 0;
+		for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+			double elapsedMillis = BCryptCostCalibrator.measureMillis(cost);
+			log.info("bcrypt cost {}: {} ms/hash, {} hashes/s per core", cost,
+					String.format("%.2f", elapsedMillis), String.format("%.1f", 1000 / elapsedMillis));
+			previousMillis = elapsedMillis;
+		}
+
+		assertThat(previousMillis).isGreaterThan(BCryptCostCalibrator.measureMillis(MIN_COST));
+	}
+
+	@Test
+	void calibrateWithinBounds() {
+		int cost = BCryptCostCalibrator.calibrate(50, MIN_COST, MAX_COST);
+
+		assertThat(cost).isBetween(MIN_COST, MAX_COST);
+		assertThat(BCryptCostCalibrator.calibrate(0, MIN_COST, MAX_COST)).isEqualTo(MIN_COST);
+	}
+
+	@Test
+	void burstWithBoundedPool() throws Exception {
+		BoundedPasswordEncoder passwordEncoder =
+				new BoundedPasswordEncoder(new BCryptPasswordEncoder(BURST_COST), BURST_COST, POOL_SIZE, QUEUE_CAPACITY);
+		String encodedPassword = new BCryptPasswordEncoder(BURST_COST).encode("password");
+
+		ExecutorService requestThreads = Executors.newFixedThreadPool(BURST_REQUEST_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger acceptedCount = new AtomicInteger();
+		AtomicInteger rejectedCount = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < BURST_REQUEST_COUNT; i++) {
+			futures.add(requestThreads.submit(() -> {
+				start.await();
+				try {
+					passwordEncoder.matches("password", encodedPassword);
+					acceptedCount.incrementAndGet();
+				} catch (PasswordHashingBusyException e) {
+					rejectedCount.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+
+		long startTime = System.currentTimeMillis();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		long elapsedMillis = System.currentTimeMillis() - startTime;
+		requestThreads.shutdown();
+		passwordEncoder.destroy();
+
+		log.info("bcrypt burst with cost {}: {} accepted, {} rejected with 503 in {} ms",
+				BURST_COST, acceptedCount.get(), rejectedCount.get(), elapsedMillis);
+		assertThat(acceptedCount.get() + rejectedCount.get()).isEqualTo(BURST_REQUEST_COUNT);
+		assertThat(acceptedCount.get()).isGreaterThanOrEqualTo(POOL_SIZE);
+		assertThat(rejectedCount.get()).isPositive();
+	}
+}
@@ -0,0 +1,104 @@
+package com.example.bookclub.security;
+
+import com.example.bookclub.common.exception.account.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BoundedPasswordEncoderTest {
+	private static final String PASSWORD = "password";
+	private static final int COST = 4;
+
+	private BoundedPasswordEncoder passwordEncoder;
+
+	@BeforeEach
+	void setUp() {
+		passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(COST), COST, 2, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		passwordEncoder.destroy();
+	}
+
+	@Test
+	void encodeAndMatches() {
+		String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+		assertThat(encodedPassword).startsWith("$2a$04$");
+		assertThat(passwordEncoder.matches(PASSWORD, encodedPassword)).isTrue();
+		assertThat(passwordEncoder.matches("otherPassword", encodedPassword)).isFalse();
+	}
+
+	@Test
+	void upgradeEncodingWithDifferentCost() {
+		BoundedPasswordEncoder strongerPasswordEncoder =
+				new BoundedPasswordEncoder(new BCryptPasswordEncoder(COST + 1), COST + 1, 1, 1);
+
+		assertThat(strongerPasswordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD))).isTrue();
+		assertThat(strongerPasswordEncoder.upgradeEncoding(strongerPasswordEncoder.encode(PASSWORD))).isFalse();
+		assertThat(passwordEncoder.upgradeEncoding(strongerPasswordEncoder.encode(PASSWORD))).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD))).isFalse();
+
+		strongerPasswordEncoder.destroy();
+	}
+
+	@Test
+	void upgradeEncodingWithoutBCryptCost() {
+		assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+		assertThat(passwordEncoder.upgradeEncoding("notBCryptHash")).isFalse();
+	}
+
+	@Test
+	void encodeWithFullQueue() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blockingPasswordEncoder = mock(PasswordEncoder.class);
+		given(blockingPasswordEncoder.encode(any())).willAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return "encodedPassword";
+		});
+		BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(blockingPasswordEncoder, COST, 1, 1);
+
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		callers.submit(() -> boundedPasswordEncoder.encode(PASSWORD));
+		callers.submit(() -> boundedPasswordEncoder.encode(PASSWORD));
+		long deadline = System.currentTimeMillis() + 5000;
+		while (boundedPasswordEncoder.getQueueSize() < 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		assertThatThrownBy(() -> boundedPasswordEncoder.encode(PASSWORD))
+				.isInstanceOf(PasswordHashingBusyException.class);
+
+		release.countDown();
+		callers.shutdown();
+		assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(boundedPasswordEncoder.encode(PASSWORD)).isEqualTo("encodedPassword");
+		boundedPasswordEncoder.destroy();
+	}
+
+	@Test
+	void encodeWithDelegateFailure() {
+		PasswordEncoder failingPasswordEncoder = mock(PasswordEncoder.class);
+		given(failingPasswordEncoder.encode(any())).willThrow(new IllegalArgumentException("rawPassword cannot be null"));
+		BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(failingPasswordEncoder, COST, 1, 1);
+
+		assertThatThrownBy(() -> boundedPasswordEncoder.encode(PASSWORD))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		boundedPasswordEncoder.destroy();
+	}
+}
@@ -0,0 +1,203 @@
+package com.example.bookclub.security;
+
+import com.example.bookclub.common.util.JsonUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 에서 토큰 저장, 수정, 사용자 토큰 삭제 Lua 스크립트와 예전 JSON 토큰 옮기기를 실행해 저장된 키를 확인한다.
+ */
+class PersistTokenRepositoryTest {
+	private static final long TOKEN_VALIDITY_SECONDS = 3600;
+	private static final String USERNAME = "rememberMe@example.com";
+	private static final String OTHER_USERNAME = "other@example.com";
+	private static final String SERIES = "series";
+	private static final String OTHER_SERIES = "otherSeries";
+	private static final String TOKEN_VALUE = "tokenValue";
+	private static final String UPDATED_TOKEN_VALUE = "updatedTokenValue";
+	private static final long LAST_USED_MILLIS = 1_600_000_000_000L;
+	private static final long UPDATED_LAST_USED_MILLIS = 1_600_000_060_000L;
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	private StringRedisTemplate stringRedisTemplate;
+	private PersistTokenRepository persistTokenRepository;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushDb();
+		}
+
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		persistTokenRepository = new PersistTokenRepository(stringRedisTemplate, TOKEN_VALIDITY_SECONDS);
+	}
+
+	@Test
+	void createNewTokenIndexesSeriesByUsername() {
+		persistTokenRepository.createNewToken(token(USERNAME, SERIES));
+
+		PersistentRememberMeToken token = persistTokenRepository.getTokenForSeries(SERIES);
+
+		assertThat(token.getUsername()).isEqualTo(USERNAME);
+		assertThat(token.getSeries()).isEqualTo(SERIES);
+		assertThat(token.getTokenValue()).isEqualTo(TOKEN_VALUE);
+		assertThat(token.getDate()).isEqualTo(new Date(LAST_USED_MILLIS));
+		assertThat(stringRedisTemplate.opsForSet().members(userKeyOf(USERNAME))).containsExactly(SERIES);
+		assertThat(stringRedisTemplate.getExpire(seriesKeyOf(SERIES), TimeUnit.SECONDS))
+				.isBetween(TOKEN_VALIDITY_SECONDS - 5, TOKEN_VALIDITY_SECONDS);
+		assertThat(stringRedisTemplate.getExpire(userKeyOf(USERNAME), TimeUnit.SECONDS))
+				.isBetween(TOKEN_VALIDITY_SECONDS - 5, TOKEN_VALIDITY_SECONDS);
+	}
+
+	@Test
+	void createNewTokenPrunesExpiredSeries() {
+		persistTokenRepository.createNewToken(token(USERNAME, SERIES));
+		stringRedisTemplate.delete(seriesKeyOf(SERIES));
+
+		persistTokenRepository.createNewToken(token(USERNAME, OTHER_SERIES));
+
+		assertThat(stringRedisTemplate.opsForSet().members(userKeyOf(USERNAME))).containsExactly(OTHER_SERIES);
+	}
+
+	@Test
+	void updateTokenWritesTokenFieldsAndRefreshesExpiry() {
+		persistTokenRepository.createNewToken(token(USERNAME, SERIES));
+		stringRedisTemplate.expire(seriesKeyOf(SERIES), 10, TimeUnit.SECONDS);
+		stringRedisTemplate.expire(userKeyOf(USERNAME), 10, TimeUnit.SECONDS);
+
+		persistTokenRepository.updateToken(SERIES, UPDATED_TOKEN_VALUE, new Date(UPDATED_LAST_USED_MILLIS));
+
+		PersistentRememberMeToken token = persistTokenRepository.getTokenForSeries(SERIES);
+		assertThat(token.getUsername()).isEqualTo(USERNAME);
+		assertThat(token.getTokenValue()).isEqualTo(UPDATED_TOKEN_VALUE);
+		assertThat(token.getDate()).isEqualTo(new Date(UPDATED_LAST_USED_MILLIS));
+		assertThat(stringRedisTemplate.getExpire(seriesKeyOf(SERIES), TimeUnit.SECONDS))
+				.isGreaterThan(TOKEN_VALIDITY_SECONDS - 5);
+		assertThat(stringRedisTemplate.getExpire(userKeyOf(USERNAME), TimeUnit.SECONDS))
+				.isGreaterThan(TOKEN_VALIDITY_SECONDS - 5);
+	}
+
+	@Test
+	void updateTokenForNotExistedSeries() {
+		persistTokenRepository.updateToken(SERIES, UPDATED_TOKEN_VALUE, new Date(UPDATED_LAST_USED_MILLIS));
+
+		assertThat(stringRedisTemplate.hasKey(seriesKeyOf(SERIES))).isFalse();
+		assertThat(persistTokenRepository.getTokenForSeries(SERIES)).isNull();
+	}
+
+	@Test
+	void getTokenForNotExistedSeries() {
+		assertThat(persistTokenRepository.getTokenForSeries(SERIES)).isNull();
+	}
+
+	@Test
+	void getTokenForSeriesWithInvalidLastUsed() {
+		stringRedisTemplate.opsForHash().putAll(seriesKeyOf(SERIES),
+				Map.of("username", USERNAME, "token", TOKEN_VALUE, "lastUsed", "notMillis"));
+
+		assertThat(persistTokenRepository.getTokenForSeries(SERIES)).isNull();
+	}
+
+	@Test
+	void getTokenForLegacySeriesMigratesToHash() {
+		stringRedisTemplate.opsForValue().set(SERIES, legacyPayload(SERIES));
+
+		PersistentRememberMeToken token = persistTokenRepository.getTokenForSeries(SERIES);
+
+		assertThat(token.getUsername()).isEqualTo(USERNAME);
+		assertThat(token.getSeries()).isEqualTo(SERIES);
+		assertThat(token.getTokenValue()).isEqualTo(TOKEN_VALUE);
+		assertThat(token.getDate()).isEqualTo(new Date(LAST_USED_MILLIS));
+		assertThat(stringRedisTemplate.hasKey(SERIES)).isFalse();
+		assertThat(stringRedisTemplate.opsForHash().get(seriesKeyOf(SERIES), "token")).isEqualTo(TOKEN_VALUE);
+		assertThat(stringRedisTemplate.opsForSet().members(userKeyOf(USERNAME))).containsExactly(SERIES);
+	}
+
+	@Test
+	void getTokenForLegacyPayloadOfOtherSeries() {
+		stringRedisTemplate.opsForValue().set(SERIES, legacyPayload(OTHER_SERIES));
+
+		assertThat(persistTokenRepository.getTokenForSeries(SERIES)).isNull();
+		assertThat(stringRedisTemplate.hasKey(SERIES)).isTrue();
+		assertThat(stringRedisTemplate.hasKey(seriesKeyOf(SERIES))).isFalse();
+	}
+
+	@Test
+	void getTokenForSeriesNamedAfterOtherKey() {
+		persistTokenRepository.createNewToken(token(USERNAME, SERIES));
+
+		assertThat(persistTokenRepository.getTokenForSeries(userKeyOf(USERNAME))).isNull();
+		assertThat(stringRedisTemplate.hasKey(userKeyOf(USERNAME))).isTrue();
+	}
+
+	@Test
+	void removeUserTokensByUsernameIndex() {
+		persistTokenRepository.createNewToken(token(USERNAME, SERIES));
+		persistTokenRepository.createNewToken(token(USERNAME, OTHER_SERIES));
+		persistTokenRepository.createNewToken(token(OTHER_USERNAME, "anotherSeries"));
+
+		persistTokenRepository.removeUserTokens(USERNAME);
+
+		assertThat(persistTokenRepository.getTokenForSeries(SERIES)).isNull();
+		assertThat(persistTokenRepository.getTokenForSeries(OTHER_SERIES)).isNull();
+		assertThat(stringRedisTemplate.hasKey(userKeyOf(USERNAME))).isFalse();
+		assertThat(persistTokenRepository.getTokenForSeries("anotherSeries").getUsername()).isEqualTo(OTHER_USERNAME);
+	}
+
+	private PersistentRememberMeToken token(String username, String series) {
+		return new PersistentRememberMeToken(username, series, TOKEN_VALUE, new Date(LAST_USED_MILLIS));
+	}
+
+	private String legacyPayload(String series) {
+		return JsonUtil.toJson(Map.of(
+				"series", series,
+				"username", USERNAME,
+				"tokenValue", TOKEN_VALUE,
+				"date", LAST_USED_MILLIS));
+	}
+
+	private String seriesKeyOf(String series) {
+		return "remember-me:series:" + series;
+	}
+
+	private String userKeyOf(String username) {
+		return "remember-me:user:" + username;
+	}
+}